@@ -0,0 +1,59 @@
+#!/bin/bash
+
+# Benchmark de INSERT em lote: importa um CSV sintético de N atletas e mostra a vazão.
+# Rode no commit anterior às sequences (IDs IDENTITY, um INSERT por vez) e no atual
+# (sequences pooled + reWriteBatchedInserts) contra o mesmo banco e compare "linhas/s".
+#
+# Uso: ./benchmark-importacao.sh <token> <eventoId> <categoriaId> [linhas] [base_url]
+#      A categoria deve ser individual, sem limite de vagas e aceitar atletas M de 30 anos.
+#      Cada execução usa CPFs novos (prefixo aleatório), então pode ser repetida no mesmo evento.
+
+TOKEN="$1"
+EVENTO_ID="$2"
+CATEGORIA_ID="$3"
+LINHAS="${4:-20000}"
+BASE_URL="${5:-http://localhost:8080}"
+
+if [ -z "$TOKEN" ] || [ -z "$EVENTO_ID" ] || [ -z "$CATEGORIA_ID" ]; then
+    echo "Uso: $0 <token> <eventoId> <categoriaId> [linhas] [base_url]"
+    exit 1
+fi
+
+ARQUIVO=$(mktemp --suffix=.csv)
+trap 'rm -f "$ARQUIVO"' EXIT
+PREFIXO=$(printf "%03d" $((RANDOM % 1000)))
+
+echo "📄 Gerando CSV com $LINHAS linha(s)..."
+{
+    echo "nome;cpf;data_nascimento;genero;categoria_id"
+    for ((i = 1; i <= LINHAS; i++)); do
+        printf "Atleta Benchmark %d;%s%08d;1995-01-01;M;%s\n" "$i" "$PREFIXO" "$i" "$CATEGORIA_ID"
+    done
+} > "$ARQUIVO"
+
+echo "🚀 Importando no evento $EVENTO_ID..."
+response=$(curl -s -w "HTTPSTATUS:%{http_code}" \
+    -X POST "$BASE_URL/api/importacoes/eventos/$EVENTO_ID" \
+    -H "Authorization: Bearer $TOKEN" \
+    -H "Content-Type: text/csv" \
+    --data-binary "@$ARQUIVO")
+
+http_code=$(echo "$response" | sed -e 's/.*HTTPSTATUS://')
+body=$(echo "$response" | sed -e 's/HTTPSTATUS:[0-9]*$//')
+
+if [ "$http_code" != "200" ]; then
+    echo "❌ Status $http_code: $body"
+    exit 1
+fi
+
+criadas=$(echo "$body" | sed -n 's/.*"inscricoesCriadas":\([0-9]*\).*/\1/p')
+erros=$(echo "$body" | sed -n 's/.*"linhasComErro":\([0-9]*\).*/\1/p')
+duracao=$(echo "$body" | sed -n 's/.*"duracaoMs":\([0-9]*\).*/\1/p')
+
+echo "📊 Resultado:"
+echo "Inscrições criadas: $criadas (atleta + inscrição por linha)"
+echo "Linhas com erro:    $erros"
+echo "Duração:            ${duracao} ms"
+if [ -n "$duracao" ] && [ "$duracao" -gt 0 ]; then
+    echo "Vazão:              $((criadas * 1000 / duracao)) linhas/s"
+fi
@@ -1,8 +1,9 @@
 import { Injectable } from '@angular/core';
 import { HttpClient, HttpParams, HttpHeaders } from '@angular/common/http';
-import { Observable } from 'rxjs';
+import { Observable, map } from 'rxjs';
 
 import { API_CONFIG } from '../constants/api.constants';
+import { Pagina } from '../../models/pagina.model';
 
 export interface RequestOptions {
   headers?: HttpHeaders;
@@ -20,6 +21,26 @@ export class BaseHttpService {
     return this.http.get<T>(`${API_CONFIG.baseUrl}${endpoint}`, options);
   }
 
+  /**
+   * GET de listagem paginada por cursor: envia after/limit e lê o próximo cursor do header
+   * X-Proximo-Cursor (ou do Link rel="next"); sem próximo cursor, a listagem terminou
+   */
+  protected getPagina<T>(endpoint: string, after?: string | null, limit?: number): Observable<Pagina<T>> {
+    const params = this.buildParams({ after, limit });
+    return this.http.get<T[]>(`${API_CONFIG.baseUrl}${endpoint}`, { params, observe: 'response' })
+      .pipe(
+        map(resposta => ({
+          itens: resposta.body ?? [],
+          proximoCursor: resposta.headers.get('X-Proximo-Cursor') ?? this.cursorDoLink(resposta.headers.get('Link'))
+        }))
+      );
+  }
+
+  private cursorDoLink(link: string | null): string | null {
+    const proxima = link?.match(/<([^>]+)>;\s*rel="next"/)?.[1];
+    return proxima ? new URL(proxima, window.location.origin).searchParams.get('after') : null;
+  }
+
   protected post<T>(endpoint: string, data: any, options?: RequestOptions): Observable<T> {
     return this.http.post<T>(`${API_CONFIG.baseUrl}${endpoint}`, data, options);
   }
@@ -1,9 +1,10 @@
 import { Injectable } from '@angular/core';
-import { Observable, map, catchError, throwError } from 'rxjs';
+import { Observable, catchError, throwError } from 'rxjs';
 
 import { BaseHttpService } from './base-http.service';
 import { API_CONFIG } from '../constants/api.constants';
 import { EventoApiResponse } from '../../models/evento.model';
+import { Pagina } from '../../models/pagina.model';
 
 @Injectable({
   providedIn: 'root'
@@ -11,14 +12,11 @@ import { EventoApiResponse } from '../../models/evento.model';
 export class EventoService extends BaseHttpService {
 
   /**
-   * Lista todos os eventos
+   * Lista uma página de eventos (ordem de cadastro); passe o proximoCursor da página anterior para continuar
    */
-  listarEventos(): Observable<EventoApiResponse[]> {
-    return this.get<EventoApiResponse[]>(API_CONFIG.endpoints.eventos.base)
+  listarEventos(after?: string | null): Observable<Pagina<EventoApiResponse>> {
+    return this.getPagina<EventoApiResponse>(API_CONFIG.endpoints.eventos.base, after)
       .pipe(
-        map(eventos => eventos.sort((a, b) => 
-          new Date(b.createdAt).getTime() - new Date(a.createdAt).getTime()
-        )),
         catchError(error => {
           console.error('Erro ao buscar eventos:', error);
           return throwError(() => error);
@@ -39,15 +37,6 @@ export class EventoService extends BaseHttpService {
       );
   }
 
-  /**
-   * Busca eventos por status
-   */
-  buscarEventosPorStatus(status: string): Observable<EventoApiResponse[]> {
-    return this.listarEventos().pipe(
-      map(eventos => eventos.filter(evento => evento.status === status))
-    );
-  }
-
   /**
    * Formata data para exibição
    */
@@ -6,6 +6,7 @@ import { API_CONFIG } from '../constants/api.constants';
 import { AtletaInscricaoDTO, EquipeInscricaoDTO } from '../../models/inscricao.model';
 import { AtletaResponseDTO } from '../../models/atleta.model';
 import { EquipeResponseDTO } from '../../models/equipe.model';
+import { Pagina } from '../../models/pagina.model';
 
 export interface ParticipanteDTO {
   id: number;
@@ -28,17 +29,17 @@ export class InscricaoService extends BaseHttpService {
   }
 
   /**
-   * Busca todas as inscrições de uma categoria
+   * Busca uma página das inscrições de uma categoria (passe o proximoCursor para a seguinte)
    */
-  getInscricoesByCategoria(categoriaId: number): Observable<any[]> {
-    return this.get<any[]>(`${API_CONFIG.endpoints.inscricoes.base}/categoria/${categoriaId}`);
+  getInscricoesByCategoria(categoriaId: number, after?: string | null): Observable<Pagina<any>> {
+    return this.getPagina<any>(`${API_CONFIG.endpoints.inscricoes.base}/categoria/${categoriaId}`, after);
   }
 
   /**
-   * Busca todas as inscrições de um evento
+   * Busca uma página das inscrições de um evento (passe o proximoCursor para a seguinte)
    */
-  getInscricoesByEvento(eventoId: number): Observable<any[]> {
-    return this.get<any[]>(API_CONFIG.endpoints.inscricoes.byEvento(eventoId));
+  getInscricoesByEvento(eventoId: number, after?: string | null): Observable<Pagina<any>> {
+    return this.getPagina<any>(API_CONFIG.endpoints.inscricoes.byEvento(eventoId), after);
   }
 
   // ===============================================
@@ -120,6 +120,13 @@ import { AuthService } from '../../../core/auth/auth.service';
         </div>
       </div>
 
+      <div class="carregar-mais" *ngIf="!isLoading && !hasError && proximoCursor">
+        <button mat-stroked-button color="primary" (click)="carregarMais()" [disabled]="carregandoMais">
+          <mat-spinner *ngIf="carregandoMais" diameter="20"></mat-spinner>
+          <span *ngIf="!carregandoMais">Carregar mais eventos</span>
+        </button>
+      </div>
+
       <!-- Empty State -->
       <div class="empty-state" *ngIf="!isLoading && !hasError && eventos.length === 0">
         <mat-icon>event_busy</mat-icon>
@@ -490,6 +497,12 @@ import { AuthService } from '../../../core/auth/auth.service';
       line-height: 1.5;
     }
 
+    .carregar-mais {
+      display: flex;
+      justify-content: center;
+      padding: 32px 20px 0;
+    }
+
     .empty-state {
       display: flex;
       flex-direction: column;
@@ -637,6 +650,8 @@ import { AuthService } from '../../../core/auth/auth.service';
 })
 export class EventosListComponent implements OnInit, OnDestroy {
   eventos: EventoApiResponse[] = [];
+  proximoCursor: string | null = null;
+  carregandoMais = false;
   isLoading = false;
   hasError = false;
   isLoggedIn = false;
@@ -681,8 +696,9 @@ export class EventosListComponent implements OnInit, OnDestroy {
     this.hasError = false;
 
     this.eventoService.listarEventos().subscribe({
-      next: (eventos) => {
-        this.eventos = eventos;
+      next: (pagina) => {
+        this.eventos = pagina.itens;
+        this.proximoCursor = pagina.proximoCursor;
         this.isLoading = false;
       },
       error: (error) => {
@@ -700,6 +716,32 @@ export class EventosListComponent implements OnInit, OnDestroy {
     });
   }
 
+  carregarMais(): void {
+    if (!this.proximoCursor || this.carregandoMais) {
+      return;
+    }
+    this.carregandoMais = true;
+
+    this.eventoService.listarEventos(this.proximoCursor).subscribe({
+      next: (pagina) => {
+        this.eventos = [...this.eventos, ...pagina.itens];
+        this.proximoCursor = pagina.proximoCursor;
+        this.carregandoMais = false;
+      },
+      error: (error) => {
+        this.carregandoMais = false;
+        console.error('Erro ao carregar mais eventos:', error);
+
+        this.snackBar.open('Erro ao carregar mais eventos', 'Fechar', {
+          duration: 5000,
+          horizontalPosition: 'center',
+          verticalPosition: 'top',
+          panelClass: ['error-snackbar']
+        });
+      }
+    });
+  }
+
   verDetalhes(eventoId: number): void {
     this.router.navigate(['/eventos', eventoId]);
   }
@@ -0,0 +1,8 @@
+/**
+ * Página de uma listagem paginada por cursor: o corpo da resposta traz os itens e o
+ * header X-Proximo-Cursor (ou Link rel="next") o cursor da próxima página
+ */
+export interface Pagina<T> {
+  itens: T[];
+  proximoCursor: string | null;
+}
@@ -0,0 +1,68 @@
+package br.com.eventsports.minha_inscricao.config;
+
+import br.com.eventsports.minha_inscricao.enums.AcaoArquivoOrfao;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.armazenamento")
+@Data
+public class ArmazenamentoConfig {
+
+    /**
+     * Se novos arquivos devem ser distribuídos em subdiretórios por prefixo de hash
+     * (ex.: uploads/anexos/3f/a2/arquivo). Arquivos no layout plano continuam legíveis.
+     */
+    private boolean layoutFragmentado = true;
+
+    /**
+     * Quantidade de níveis de subdiretórios
+     */
+    private int niveis = 2;
+
+    /**
+     * Quantidade de caracteres hexadecimais por nível (2 = 256 subdiretórios por nível)
+     */
+    private int caracteresPorNivel = 2;
+
+    /**
+     * Quantidade de registros processados por transação na migração de layout
+     */
+    private int tamanhoLoteMigracao = 200;
+
+    /**
+     * Expressão cron da reconciliação entre disco e banco (padrão: diariamente às 04:00; "-" desativa)
+     */
+    private String cronReconciliacao = "0 0 4 * * *";
+
+    /**
+     * O que fazer com arquivos sem referência no banco
+     */
+    private AcaoArquivoOrfao acaoOrfaos = AcaoArquivoOrfao.QUARENTENA;
+
+    /**
+     * Diretório para onde arquivos órfãos são movidos (fora dos diretórios de upload)
+     */
+    private String diretorioQuarentena = "./uploads/quarentena/";
+
+    /**
+     * Quantidade de arquivos/registros consultados no banco por vez na reconciliação
+     */
+    private int tamanhoLoteReconciliacao = 500;
+
+    /**
+     * Pausa entre lotes da reconciliação, para limitar a carga de I/O e de banco (ms)
+     */
+    private long pausaEntreLotesMs = 200;
+
+    /**
+     * Arquivos mais novos que isso não são considerados órfãos (upload ainda em andamento)
+     */
+    private int idadeMinimaOrfaoMinutos = 60;
+
+    /**
+     * Quantidade máxima de itens listados no relatório (os totais são sempre completos)
+     */
+    private int limiteItensRelatorio = 100;
+}
@@ -58,6 +58,11 @@ public class ArquivoConfig {
      */
     private boolean manterNomeOriginal = false;
     
+    /**
+     * Expressão cron da coleta de blobs sem referência (padrão: diariamente às 03:30)
+     */
+    private String cronColetaBlobs = "0 30 3 * * *";
+    
     /**
      * Retorna o tamanho máximo formatado
      */
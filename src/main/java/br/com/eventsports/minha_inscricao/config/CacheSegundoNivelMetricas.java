@@ -0,0 +1,51 @@
+package br.com.eventsports.minha_inscricao.config;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Taxa de acerto do cache de segundo nível por região e do cache de consultas.
+ * Os contadores de acertos e faltas já são publicados pelo hibernate-micrometer
+ * (hibernate.second.level.cache.requests); aqui fica só a razão, pronta para painel e alerta.
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheSegundoNivelMetricas implements MeterBinder {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Statistics estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        for (String regiao : estatisticas.getSecondLevelCacheRegionNames()) {
+            Gauge.builder("hibernate.second.level.cache.hit.ratio", estatisticas,
+                            stats -> taxaAcerto(stats.getCacheRegionStatistics(regiao)))
+                    .tag("region", regiao)
+                    .description("Acertos / (acertos + faltas) na região do cache de segundo nível (entidades, coleções e consultas)")
+                    .register(registry);
+        }
+
+        Gauge.builder("hibernate.query.cache.hit.ratio", estatisticas,
+                        stats -> taxa(stats.getQueryCacheHitCount(), stats.getQueryCacheMissCount()))
+                .description("Acertos / (acertos + faltas) no cache de consultas")
+                .register(registry);
+    }
+
+    private static double taxaAcerto(CacheRegionStatistics regiao) {
+        return regiao != null ? taxa(regiao.getHitCount(), regiao.getMissCount()) : 0;
+    }
+
+    private static double taxa(long acertos, long faltas) {
+        long total = acertos + faltas;
+        return total > 0 ? (double) acertos / total : 0;
+    }
+}
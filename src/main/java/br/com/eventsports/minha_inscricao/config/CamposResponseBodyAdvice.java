@@ -0,0 +1,113 @@
+package br.com.eventsports.minha_inscricao.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import br.com.eventsports.minha_inscricao.util.CamposUtil;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Aplica ?fields= às respostas de sucesso (JSON, CBOR ou Smile): mantém apenas os campos pedidos
+ * em cada objeto (ou em cada item, para listas). Subcampos de objetos aninhados usam ponto (ex.: evento.nome).
+ * Campos desconhecidos são ignorados; respostas de erro não são filtradas.
+ */
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class CamposResponseBodyAdvice implements ResponseBodyAdvice<Object> {
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Árvore de campos pedidos; um nó sem filhos seleciona o objeto inteiro
+     */
+    private static final class Selecao {
+        private final Map<String, Selecao> filhos = new LinkedHashMap<>();
+        private boolean inteiro;
+
+        void adicionar(String caminho) {
+            Selecao atual = this;
+            for (String parte : caminho.split("\\.")) {
+                if (atual.inteiro) {
+                    return;
+                }
+                atual = atual.filhos.computeIfAbsent(parte, p -> new Selecao());
+            }
+            atual.inteiro = true;
+            atual.filhos.clear();
+        }
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request, ServerHttpResponse response) {
+        if (respostaDeErro(response)) {
+            return body;
+        }
+        return aplicarSelecao(body);
+    }
+
+    /**
+     * Corpo filtrado pelos campos da requisição atual (o próprio corpo quando não há seleção).
+     * Usado também por quem serializa a resposta por conta própria (ver RespostaCompactadaService).
+     */
+    public Object aplicarSelecao(Object body) {
+        Optional<Set<String>> campos = CamposUtil.selecionados();
+        if (body == null || campos.isEmpty()) {
+            return body;
+        }
+
+        Selecao selecao = new Selecao();
+        campos.get().forEach(selecao::adicionar);
+        return filtrar(objectMapper.valueToTree(body), selecao);
+    }
+
+    private JsonNode filtrar(JsonNode no, Selecao selecao) {
+        if (selecao.inteiro) {
+            return no;
+        }
+        if (no instanceof ArrayNode lista) {
+            ArrayNode filtrada = objectMapper.createArrayNode();
+            lista.forEach(item -> filtrada.add(filtrar(item, selecao)));
+            return filtrada;
+        }
+        if (no instanceof ObjectNode objeto) {
+            ObjectNode filtrado = objectMapper.createObjectNode();
+            selecao.filhos.forEach((campo, filho) -> {
+                JsonNode valor = objeto.get(campo);
+                if (valor != null) {
+                    filtrado.set(campo, filtrar(valor, filho));
+                }
+            });
+            return filtrado;
+        }
+        return no;
+    }
+
+    private static boolean respostaDeErro(ServerHttpResponse response) {
+        return response instanceof ServletServerHttpResponse servletResponse
+                && servletResponse.getServletResponse().getStatus() >= 400;
+    }
+}
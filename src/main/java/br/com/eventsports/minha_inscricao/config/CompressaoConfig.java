@@ -0,0 +1,21 @@
+package br.com.eventsports.minha_inscricao.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.compressao")
+@Data
+public class CompressaoConfig {
+
+    /**
+     * Corpos menores que isso são enviados sem gzip (o cabeçalho e a CPU não compensam)
+     */
+    private int limiarBytes = 2048;
+
+    /**
+     * Quantidade máxima de corpos pré-compactados mantidos em memória (os menos usados saem primeiro)
+     */
+    private int maxCorposEmCache = 200;
+}
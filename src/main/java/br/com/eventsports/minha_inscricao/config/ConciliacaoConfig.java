@@ -0,0 +1,26 @@
+package br.com.eventsports.minha_inscricao.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.conciliacao")
+@Data
+public class ConciliacaoConfig {
+
+    /**
+     * Linhas do arquivo de liquidação por consulta IN, por transação e por lote JDBC de UPDATE
+     */
+    private int tamanhoLote = 1000;
+
+    /**
+     * Diretório dos relatórios de divergências das conciliações
+     */
+    private String diretorioRelatorios = System.getProperty("java.io.tmpdir") + "/minha-inscricao/conciliacoes";
+
+    /**
+     * Relatórios mais antigos que isso são removidos pela limpeza agendada
+     */
+    private int horasRetencaoRelatorios = 72;
+}
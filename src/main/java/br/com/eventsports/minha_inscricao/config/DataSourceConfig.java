@@ -0,0 +1,79 @@
+package br.com.eventsports.minha_inscricao.config;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Leitura em réplicas (app.replicas.habilitado=true). O DataSource da aplicação passa a ser
+ * LazyConnectionDataSourceProxy sobre RoteamentoDataSource: a conexão real só é obtida no primeiro
+ * comando, quando já se sabe se a transação é readOnly. Sem a propriedade, vale o DataSource padrão do Boot.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.replicas", name = "habilitado", havingValue = "true")
+public class DataSourceConfig {
+
+    /**
+     * Primário, configurado por spring.datasource e spring.datasource.hikari como o pool padrão
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primarioDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public RoteamentoDataSource roteamentoDataSource(HikariDataSource primarioDataSource,
+            DataSourceProperties dataSourceProperties, ReplicasConfig replicasConfig) {
+        Map<String, HikariDataSource> replicas = new LinkedHashMap<>();
+        List<ReplicasConfig.Fonte> fontes = replicasConfig.getFontes();
+        for (int i = 0; i < fontes.size(); i++) {
+            String nome = "replica-" + (i + 1);
+            replicas.put(nome, replica(nome, fontes.get(i), dataSourceProperties, replicasConfig));
+        }
+        return new RoteamentoDataSource(primarioDataSource, replicas, replicasConfig);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(RoteamentoDataSource roteamentoDataSource) {
+        return new LazyConnectionDataSourceProxy(roteamentoDataSource);
+    }
+
+    /**
+     * Devolve a conexão ao fim de cada transação (e não da sessão, que o open-in-view mantém pela
+     * requisição inteira), para que cada transação da requisição seja roteada de novo
+     */
+    @Bean
+    public HibernatePropertiesCustomizer liberarConexaoAoFimDaTransacao() {
+        return propriedades -> propriedades.put("hibernate.connection.handling_mode",
+                "DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION");
+    }
+
+    private static HikariDataSource replica(String nome, ReplicasConfig.Fonte fonte,
+            DataSourceProperties dataSourceProperties, ReplicasConfig replicasConfig) {
+        HikariDataSource replica = new HikariDataSource();
+        replica.setPoolName(nome);
+        replica.setJdbcUrl(fonte.getUrl());
+        replica.setUsername(StringUtils.hasText(fonte.getUsername()) ? fonte.getUsername() : dataSourceProperties.getUsername());
+        replica.setPassword(StringUtils.hasText(fonte.getPassword()) ? fonte.getPassword() : dataSourceProperties.getPassword());
+        replica.setReadOnly(true);
+        replica.setMaximumPoolSize(replicasConfig.getTamanhoPool());
+        replica.setConnectionTimeout(replicasConfig.getTimeoutConexaoMs());
+        return replica;
+    }
+}
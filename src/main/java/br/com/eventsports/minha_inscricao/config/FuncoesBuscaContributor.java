@@ -0,0 +1,22 @@
+package br.com.eventsports.minha_inscricao.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registra no Hibernate as funções SQL usadas pelas buscas por nome em JPQL.
+ * f_unaccent é criada pela migração V20; usar a mesma expressão do índice
+ * (f_unaccent(lower(nome))) permite que o Postgres use o índice GiST de trigramas.
+ * Carregado via META-INF/services/org.hibernate.boot.model.FunctionContributor.
+ */
+public class FuncoesBuscaContributor implements FunctionContributor {
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry().registerPattern(
+                "f_unaccent",
+                "f_unaccent(?1)",
+                functionContributions.getTypeConfiguration().getBasicTypeRegistry().resolve(StandardBasicTypes.STRING));
+    }
+}
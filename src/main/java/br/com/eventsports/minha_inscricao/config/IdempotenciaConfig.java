@@ -0,0 +1,55 @@
+package br.com.eventsports.minha_inscricao.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.idempotencia")
+@Data
+public class IdempotenciaConfig {
+
+    /**
+     * Se o header Idempotency-Key é respeitado nas rotas configuradas
+     */
+    private boolean habilitada = true;
+
+    /**
+     * POSTs que aceitam Idempotency-Key (padrões Ant)
+     */
+    private List<String> rotas = new ArrayList<>(List.of(
+            "/api/workouts/*/resultados",
+            "/api/atletas/evento/*/inscricao/atletas",
+            "/api/equipes/evento/*/inscricao",
+            "/api/inscricoes-assincronas/eventos/*/atletas",
+            "/api/inscricoes-assincronas/eventos/*/equipes"));
+
+    /**
+     * Por quanto tempo a resposta guardada é servida às repetições
+     */
+    private int horasValidade = 24;
+
+    /**
+     * Chave em processamento há mais que isso é considerada abandonada e pode ser retomada
+     */
+    private int segundosProcessamentoMaximo = 120;
+
+    /**
+     * Quanto uma repetição concorrente espera a original terminar antes de receber 409 com Retry-After.
+     * Curto de propósito: a espera segura uma thread do Tomcat
+     */
+    private long esperaMaximaMs = 300;
+
+    /**
+     * Corpo maior que isso recebe 413 sem ser lido (o filtro guarda o corpo em memória para o hash)
+     */
+    private int tamanhoMaximoCorpoBytes = 64 * 1024;
+
+    /**
+     * Chaves vencidas removidas por execução da limpeza
+     */
+    private int tamanhoLoteLimpeza = 1000;
+}
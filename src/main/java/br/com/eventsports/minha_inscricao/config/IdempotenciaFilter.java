@@ -0,0 +1,284 @@
+package br.com.eventsports.minha_inscricao.config;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.eventsports.minha_inscricao.entity.ChaveIdempotenciaEntity;
+import br.com.eventsports.minha_inscricao.service.IdempotenciaService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Idempotency-Key nos POSTs de inscrição e de resultados.
+ * A primeira requisição com a chave é processada normalmente e a resposta é guardada; as repetições
+ * recebem a resposta guardada (header Idempotent-Replayed) com uma consulta pela chave primária, sem
+ * passar pelos controllers e serviços. Repetições simultâneas na mesma instância esperam a original
+ * por poucas centenas de ms (esperaMaximaMs); depois disso, e quando vêm de outra instância, recebem 409
+ * com Retry-After até a original concluir. A chave reaproveitada com outra requisição (query string ou
+ * corpo diferentes) recebe 422; corpo acima de tamanhoMaximoCorpoBytes recebe 413.
+ * Roda depois da cadeia do Spring Security, então a chave é separada por usuário autenticado.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotenciaFilter extends OncePerRequestFilter {
+
+    public static final String HEADER_IDEMPOTENCY_KEY = "Idempotency-Key";
+    public static final String HEADER_REPETIDA = "Idempotent-Replayed";
+
+    private static final int TAMANHO_MAXIMO_CHAVE = 255;
+
+    /**
+     * Respostas que dependem do momento (autorização, conflito, limite) não são guardadas
+     */
+    private static final Set<Integer> STATUS_TRANSITORIOS = Set.of(401, 403, 408, 409, 423, 429);
+
+    private final IdempotenciaService idempotenciaService;
+    private final IdempotenciaConfig idempotenciaConfig;
+    private final ObjectMapper objectMapper;
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Map<String, CountDownLatch> emProcessamento = new ConcurrentHashMap<>();
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        if (!idempotenciaConfig.isHabilitada() || !"POST".equals(request.getMethod())
+                || request.getHeader(HEADER_IDEMPOTENCY_KEY) == null) {
+            return true;
+        }
+        String rota = request.getRequestURI().substring(request.getContextPath().length());
+        return idempotenciaConfig.getRotas().stream().noneMatch(padrao -> pathMatcher.match(padrao, rota));
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+        String idempotencyKey = request.getHeader(HEADER_IDEMPOTENCY_KEY).trim();
+        if (idempotencyKey.isEmpty() || idempotencyKey.length() > TAMANHO_MAXIMO_CHAVE) {
+            responderErro(response, HttpStatus.BAD_REQUEST, "Idempotency-Key inválida",
+                    "Informe uma chave de 1 a " + TAMANHO_MAXIMO_CHAVE + " caracteres");
+            return;
+        }
+
+        Authentication autenticacao = SecurityContextHolder.getContext().getAuthentication();
+        String usuario = autenticacao != null ? autenticacao.getName() : "anonimo";
+        String chave = IdempotenciaService.chave(usuario, request.getMethod(), request.getRequestURI(),
+                request.getHeader(HttpHeaders.ACCEPT), idempotencyKey);
+
+        // Corpo lido uma vez (JSON pequeno) para o hash; o controller lê a cópia em memória
+        int tamanhoMaximo = idempotenciaConfig.getTamanhoMaximoCorpoBytes();
+        if (request.getContentLengthLong() > tamanhoMaximo) {
+            responderCorpoGrande(response, tamanhoMaximo);
+            return;
+        }
+        // Sem Content-Length (chunked) o limite vale na leitura: um byte a mais basta para recusar
+        byte[] corpo = request.getInputStream().readNBytes(tamanhoMaximo + 1);
+        if (corpo.length > tamanhoMaximo) {
+            responderCorpoGrande(response, tamanhoMaximo);
+            return;
+        }
+        String hashRequisicao = IdempotenciaService.hashRequisicao(request.getQueryString(), corpo);
+
+        CountDownLatch minha = new CountDownLatch(1);
+        CountDownLatch original = emProcessamento.putIfAbsent(chave, minha);
+        if (original != null) {
+            aguardarOriginal(chave, hashRequisicao, original, response);
+            return;
+        }
+
+        try {
+            Optional<ChaveIdempotenciaEntity> registro = idempotenciaService.buscar(chave);
+            if (registro.isPresent() && !registro.get().isMesmaRequisicao(hashRequisicao)) {
+                responderRequisicaoDiferente(response);
+                return;
+            }
+            if (registro.isPresent() && registro.get().isConcluida()) {
+                repetir(registro.get(), response);
+                return;
+            }
+            if (registro.isPresent() || !idempotenciaService.reservar(chave, hashRequisicao)) {
+                responderEmProcessamento(response);
+                return;
+            }
+            processar(chave, new RequisicaoComCorpo(request, corpo), response, filterChain);
+        } finally {
+            emProcessamento.remove(chave, minha);
+            minha.countDown();
+        }
+    }
+
+    private void processar(String chave, HttpServletRequest request, HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        ContentCachingResponseWrapper resposta = new ContentCachingResponseWrapper(response);
+        boolean concluida = false;
+        try {
+            filterChain.doFilter(request, resposta);
+            int status = resposta.getStatus();
+            if (status < 500 && !STATUS_TRANSITORIOS.contains(status)) {
+                idempotenciaService.concluir(chave, status, resposta.getContentType(),
+                        resposta.getContentAsByteArray());
+                concluida = true;
+            }
+        } finally {
+            if (!concluida) {
+                liberar(chave);
+            }
+            resposta.copyBodyToResponse();
+        }
+    }
+
+    private void aguardarOriginal(String chave, String hashRequisicao, CountDownLatch original,
+            HttpServletResponse response) throws IOException {
+        try {
+            original.await(idempotenciaConfig.getEsperaMaximaMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        Optional<ChaveIdempotenciaEntity> registro = idempotenciaService.buscar(chave);
+        if (registro.isPresent() && !registro.get().isMesmaRequisicao(hashRequisicao)) {
+            responderRequisicaoDiferente(response);
+        } else if (registro.isPresent() && registro.get().isConcluida()) {
+            repetir(registro.get(), response);
+        } else {
+            responderEmProcessamento(response);
+        }
+    }
+
+    private void repetir(ChaveIdempotenciaEntity registro, HttpServletResponse response) throws IOException {
+        response.setStatus(registro.getStatusHttp());
+        if (registro.getContentType() != null) {
+            response.setContentType(registro.getContentType());
+        }
+        response.setHeader(HEADER_REPETIDA, "true");
+        byte[] corpo = registro.getCorpo() != null ? registro.getCorpo() : new byte[0];
+        response.setContentLength(corpo.length);
+        response.getOutputStream().write(corpo);
+    }
+
+    private void responderEmProcessamento(HttpServletResponse response) throws IOException {
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        responderErro(response, HttpStatus.CONFLICT, "Requisição em processamento",
+                "Uma requisição com esta Idempotency-Key ainda está em processamento; tente novamente");
+    }
+
+    private void responderCorpoGrande(HttpServletResponse response, int tamanhoMaximo) throws IOException {
+        responderErro(response, HttpStatus.CONTENT_TOO_LARGE, "Corpo da requisição muito grande",
+                "Requisições com Idempotency-Key aceitam corpo de até " + tamanhoMaximo + " bytes");
+    }
+
+    private void responderRequisicaoDiferente(HttpServletResponse response) throws IOException {
+        responderErro(response, HttpStatus.UNPROCESSABLE_ENTITY, "Idempotency-Key reaproveitada",
+                "Esta Idempotency-Key já foi usada com outra requisição; gere uma nova chave para outro conteúdo");
+    }
+
+    private void responderErro(HttpServletResponse response, HttpStatus status, String erro, String mensagem)
+            throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), Map.of("error", erro, "message", mensagem));
+    }
+
+    private void liberar(String chave) {
+        try {
+            idempotenciaService.liberar(chave);
+        } catch (RuntimeException e) {
+            // A reserva vence sozinha após o tempo máximo de processamento
+            log.warn("Não foi possível liberar a chave de idempotência {}: {}", chave, e.getMessage());
+        }
+    }
+
+    /**
+     * Requisição com o corpo já lido pelo filtro, servido de novo a partir da memória
+     */
+    private static final class RequisicaoComCorpo extends HttpServletRequestWrapper {
+
+        private final byte[] corpo;
+
+        private RequisicaoComCorpo(HttpServletRequest request, byte[] corpo) {
+            super(request);
+            this.corpo = corpo;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream entrada = new ByteArrayInputStream(corpo);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return entrada.read();
+                }
+
+                @Override
+                public int read(byte[] destino, int inicio, int tamanho) {
+                    return entrada.read(destino, inicio, tamanho);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return entrada.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException("Leitura assíncrona não suportada");
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            Charset charset = getCharacterEncoding() != null
+                    ? Charset.forName(getCharacterEncoding())
+                    : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+
+        @Override
+        public int getContentLength() {
+            return corpo.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return corpo.length;
+        }
+    }
+}
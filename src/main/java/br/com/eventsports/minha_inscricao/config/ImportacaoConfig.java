@@ -0,0 +1,26 @@
+package br.com.eventsports.minha_inscricao.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.importacao")
+@Data
+public class ImportacaoConfig {
+
+    /**
+     * Linhas gravadas por transação (e por lote JDBC); uma equipe nunca é dividida entre lotes
+     */
+    private int tamanhoLote = 500;
+
+    /**
+     * Diretório dos relatórios de erros das importações
+     */
+    private String diretorioRelatorios = System.getProperty("java.io.tmpdir") + "/minha-inscricao/importacoes";
+
+    /**
+     * Relatórios mais antigos que isso são removidos pela limpeza agendada
+     */
+    private int horasRetencaoRelatorios = 24;
+}
@@ -0,0 +1,51 @@
+package br.com.eventsports.minha_inscricao.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.inscricao-assincrona")
+@Data
+public class InscricaoAssincronaConfig {
+
+    /**
+     * Threads que processam intenções; cada evento é processado por uma só, em ordem de chegada
+     */
+    private int threads = 4;
+
+    /**
+     * Intenções processadas por evento antes de ceder a thread a outros eventos
+     */
+    private int maximoPorRodada = 50;
+
+    /**
+     * Intenção em processamento há mais que isso volta para a fila
+     */
+    private int minutosProcessamentoMaximo = 10;
+
+    /**
+     * Espera antes da primeira nova tentativa após falha transitória; dobra a cada falha seguinte
+     */
+    private int segundosEsperaInicial = 2;
+
+    /**
+     * Teto da espera entre tentativas
+     */
+    private int segundosEsperaMaxima = 300;
+
+    /**
+     * Falhas transitórias seguidas toleradas antes de recusar a intenção
+     */
+    private int tentativasMaximas = 10;
+
+    /**
+     * Eventos do outbox publicados por execução
+     */
+    private int tamanhoLoteOutbox = 100;
+
+    /**
+     * Intenções finalizadas e eventos do outbox publicados são removidos após esse prazo
+     */
+    private int diasRetencao = 7;
+}
@@ -0,0 +1,41 @@
+package br.com.eventsports.minha_inscricao.config;
+
+import java.io.IOException;
+import java.util.Set;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Requisições que escrevem (POST, PUT, PATCH, DELETE) fazem todas as leituras no primário: as checagens de
+ * permissão (@PreAuthorize), de existência e de duplicidade que decidem se a escrita acontece rodam em
+ * transações readOnly, que de outro modo iriam para uma réplica possivelmente atrasada.
+ * GET continua lendo das réplicas.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.replicas", name = "habilitado", havingValue = "true")
+public class LeituraNoPrimarioFilter extends OncePerRequestFilter {
+
+    private static final Set<String> METODOS_SEGUROS = Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return METODOS_SEGUROS.contains(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        try (RoteamentoDataSource.Escopo escopo = RoteamentoDataSource.noPrimario()) {
+            filterChain.doFilter(request, response);
+        }
+    }
+}
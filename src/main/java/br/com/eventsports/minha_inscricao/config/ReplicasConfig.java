@@ -0,0 +1,52 @@
+package br.com.eventsports.minha_inscricao.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.replicas")
+@Data
+public class ReplicasConfig {
+
+    /**
+     * Liga o roteamento: transações readOnly vão para as réplicas, o resto para spring.datasource
+     */
+    private boolean habilitado = false;
+
+    /**
+     * Réplicas de leitura; usuário e senha vazios herdam os de spring.datasource
+     */
+    private List<Fonte> fontes = new ArrayList<>();
+
+    /**
+     * Depois de uma transação de escrita, as leituras do mesmo usuário ficam no primário por esse tempo
+     * (lê o que acabou de gravar mesmo com a réplica atrasada)
+     */
+    private int segundosAderenciaPrimario = 5;
+
+    /**
+     * Réplica com atraso de replicação acima disso sai do rodízio até alcançar o primário
+     */
+    private int atrasoMaximoSegundos = 10;
+
+    /**
+     * Conexões por réplica
+     */
+    private int tamanhoPool = 10;
+
+    /**
+     * Espera máxima por uma conexão da réplica (verificação de saúde e consultas)
+     */
+    private long timeoutConexaoMs = 2000;
+
+    @Data
+    public static class Fonte {
+        private String url;
+        private String username;
+        private String password;
+    }
+}
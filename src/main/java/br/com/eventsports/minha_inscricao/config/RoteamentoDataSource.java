@@ -0,0 +1,198 @@
+package br.com.eventsports.minha_inscricao.config;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Escolhe o pool de cada transação: readOnly vai para uma réplica saudável (rodízio), o resto para o
+ * primário. Fica no primário a leitura do usuário que confirmou uma escrita há menos de
+ * segundosAderenciaPrimario (ex.: o juiz vê o resultado que acabou de lançar) e a leitura sem réplica
+ * saudável. A saúde e o atraso de replicação de cada réplica são verificados periodicamente.
+ * A aderência é por instância; com várias instâncias, vale para o usuário que volta à mesma.
+ * Leitura que decide se uma escrita acontece não pode ver dado atrasado: dentro de noPrimario() toda
+ * transação da thread usa o primário, sem marcar o usuário como quem escreveu.
+ */
+@Slf4j
+public class RoteamentoDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARIO = "primario";
+
+    /**
+     * Atraso em segundos; 0 quando a réplica já aplicou tudo que recebeu ou quando o banco não é réplica
+     * (primário usado como réplica em desenvolvimento)
+     */
+    private static final String SQL_ATRASO = """
+        SELECT CASE
+            WHEN NOT pg_is_in_recovery() THEN 0
+            WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+            ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+        END
+        """;
+
+    private static final ThreadLocal<Boolean> LEITURA_NO_PRIMARIO = new ThreadLocal<>();
+
+    private final List<Replica> replicas;
+    private final ReplicasConfig replicasConfig;
+    private final Map<String, Long> ultimaEscrita = new ConcurrentHashMap<>();
+    private final AtomicInteger proxima = new AtomicInteger();
+
+    public RoteamentoDataSource(DataSource primario, Map<String, HikariDataSource> replicas,
+            ReplicasConfig replicasConfig) {
+        Map<Object, Object> destinos = new LinkedHashMap<>();
+        destinos.put(PRIMARIO, primario);
+        destinos.putAll(replicas);
+        setTargetDataSources(destinos);
+        setDefaultTargetDataSource(primario);
+        this.replicas = replicas.entrySet().stream().map(replica -> new Replica(replica.getKey(), replica.getValue())).toList();
+        this.replicasConfig = replicasConfig;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            registrarEscritaAoConfirmar();
+            return PRIMARIO;
+        }
+        if (Boolean.TRUE.equals(LEITURA_NO_PRIMARIO.get())) {
+            return PRIMARIO;
+        }
+        String usuario = usuarioAtual();
+        if (usuario != null && escreveuRecentemente(usuario)) {
+            return PRIMARIO;
+        }
+        return replicaSaudavel();
+    }
+
+    /**
+     * Leituras da thread vão para o primário até o close(). A conexão é escolhida no primeiro comando
+     * (LazyConnectionDataSourceProxy), então vale também para transação aberta antes do escopo e ainda sem comando.
+     */
+    public static Escopo noPrimario() {
+        boolean anterior = Boolean.TRUE.equals(LEITURA_NO_PRIMARIO.get());
+        LEITURA_NO_PRIMARIO.set(Boolean.TRUE);
+        return () -> {
+            if (!anterior) {
+                LEITURA_NO_PRIMARIO.remove();
+            }
+        };
+    }
+
+    @FunctionalInterface
+    public interface Escopo extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    /**
+     * Atualiza saúde e atraso das réplicas e descarta marcas de escrita vencidas
+     */
+    @Scheduled(fixedDelayString = "${app.replicas.intervalo-verificacao-ms:5000}")
+    public void verificarReplicas() {
+        for (Replica replica : replicas) {
+            boolean saudavel = verificar(replica);
+            if (saudavel != replica.saudavel) {
+                log.warn("Réplica {} {}", replica.nome, saudavel ? "de volta ao rodízio de leitura" : "fora do rodízio de leitura");
+            }
+            replica.saudavel = saudavel;
+        }
+
+        long limite = System.currentTimeMillis() - replicasConfig.getSegundosAderenciaPrimario() * 1000L;
+        ultimaEscrita.values().removeIf(momento -> momento < limite);
+    }
+
+    public void close() {
+        replicas.forEach(replica -> replica.dataSource.close());
+    }
+
+    private boolean verificar(Replica replica) {
+        try (Connection conexao = replica.dataSource.getConnection();
+                Statement statement = conexao.createStatement()) {
+            statement.setQueryTimeout((int) Math.max(1, replicasConfig.getTimeoutConexaoMs() / 1000));
+            try (ResultSet resultado = statement.executeQuery(SQL_ATRASO)) {
+                double atraso = resultado.next() ? resultado.getDouble(1) : 0;
+                if (atraso > replicasConfig.getAtrasoMaximoSegundos()) {
+                    log.debug("Réplica {} com {} s de atraso", replica.nome, atraso);
+                    return false;
+                }
+                return true;
+            }
+        } catch (Exception e) {
+            log.debug("Réplica {} indisponível: {}", replica.nome, e.getMessage());
+            return false;
+        }
+    }
+
+    private Object replicaSaudavel() {
+        int total = replicas.size();
+        int inicio = Math.floorMod(proxima.getAndIncrement(), Math.max(total, 1));
+        for (int i = 0; i < total; i++) {
+            Replica replica = replicas.get((inicio + i) % total);
+            if (replica.saudavel) {
+                return replica.nome;
+            }
+        }
+        return PRIMARIO;
+    }
+
+    /**
+     * Marca o usuário só quando a transação de escrita confirma
+     */
+    private void registrarEscritaAoConfirmar() {
+        String usuario = usuarioAtual();
+        if (usuario == null || replicasConfig.getSegundosAderenciaPrimario() <= 0
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ultimaEscrita.put(usuario, System.currentTimeMillis());
+            }
+        });
+    }
+
+    private boolean escreveuRecentemente(String usuario) {
+        Long momento = ultimaEscrita.get(usuario);
+        return momento != null
+                && System.currentTimeMillis() - momento < replicasConfig.getSegundosAderenciaPrimario() * 1000L;
+    }
+
+    private static String usuarioAtual() {
+        Authentication autenticacao = SecurityContextHolder.getContext().getAuthentication();
+        return autenticacao != null && autenticacao.isAuthenticated() ? autenticacao.getName() : null;
+    }
+
+    /**
+     * Começa fora do rodízio: o pool só abre conexões na primeira verificação, e a aplicação sobe mesmo
+     * com a réplica fora do ar
+     */
+    private static final class Replica {
+        private final String nome;
+        private final HikariDataSource dataSource;
+        private volatile boolean saudavel;
+
+        private Replica(String nome, HikariDataSource dataSource) {
+            this.nome = nome;
+            this.dataSource = dataSource;
+        }
+    }
+}
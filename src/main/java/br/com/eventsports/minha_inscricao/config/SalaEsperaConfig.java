@@ -0,0 +1,37 @@
+package br.com.eventsports.minha_inscricao.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.sala-espera")
+@Data
+public class SalaEsperaConfig {
+
+    /**
+     * Se as inscrições exigem token de admissão (false = sala de espera desligada).
+     * Desligada por padrão: o frontend ainda não passa pela fila nem envia o token de admissão
+     */
+    private boolean habilitada = false;
+
+    /**
+     * Clientes admitidos ao mesmo tempo somando todos os eventos (0 = pool de conexões menos as reservadas)
+     */
+    private int admissoesSimultaneas = 0;
+
+    /**
+     * Conexões do pool deixadas fora do orçamento de admissões (leituras, jobs agendados)
+     */
+    private int conexoesReservadas = 2;
+
+    /**
+     * Validade do token de admissão; vencido, a vaga de admissão passa para o próximo da fila
+     */
+    private int validadeAdmissaoSegundos = 120;
+
+    /**
+     * Ticket sem consulta por mais que isso é considerado abandonado e pulado quando chega a vez
+     */
+    private int abandonoSegundos = 60;
+}
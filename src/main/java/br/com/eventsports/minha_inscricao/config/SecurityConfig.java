@@ -64,6 +64,8 @@ public class SecurityConfig {
                         .requestMatchers(GET, "/api/leaderboards/**").permitAll()
                         .requestMatchers(GET, "/api/workouts/**").permitAll()
                         .requestMatchers(GET, "/api/anexos/**").permitAll()
+                        // Sem login, a busca só devolve eventos (BuscaController)
+                        .requestMatchers(GET, "/api/search").permitAll()
                         .requestMatchers(GET, "/api/eventos/imagens/**").permitAll()
 
                         // Todas as outras requisições exigem autenticação
@@ -86,6 +88,9 @@ public class SecurityConfig {
         configuration.setAllowedOriginPatterns(Arrays.asList("*"));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS", "PATCH"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
+        // Paginação por cursor: o próximo cursor é entregue em headers; Retry-After orienta a sala de espera
+        // e as repetições com Idempotency-Key, que voltam marcadas com Idempotent-Replayed
+        configuration.setExposedHeaders(Arrays.asList("X-Proximo-Cursor", "Link", "Retry-After", "Idempotent-Replayed"));
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L);
         
@@ -0,0 +1,21 @@
+package br.com.eventsports.minha_inscricao.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.vagas")
+@Data
+public class VagasConfig {
+
+    /**
+     * Por quanto tempo uma inscrição pendente (sem pagamento) segura a vaga; 0 = não expira
+     */
+    private int minutosReserva = 30;
+
+    /**
+     * Quantidade máxima de reservas vencidas expiradas por execução do agendamento
+     */
+    private int tamanhoLoteExpiracao = 200;
+}
@@ -22,6 +22,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import br.com.eventsports.minha_inscricao.dto.anexo.AnexoResponseDTO;
 import br.com.eventsports.minha_inscricao.dto.anexo.AnexoSummaryDTO;
@@ -109,6 +110,32 @@ public class AnexoController {
         }
     }
     
+    @Operation(
+        summary = "Baixar todos os anexos do evento em ZIP",
+        description = "Gera o ZIP dos anexos ativos do evento em streaming, direto na resposta"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "ZIP gerado"),
+        @ApiResponse(responseCode = "404", description = "Evento sem anexos ativos")
+    })
+    @GetMapping("/evento/{eventoId}/zip")
+    public ResponseEntity<StreamingResponseBody> baixarZipDoEvento(@PathVariable Long eventoId) {
+        List<AnexoEntity> anexos = anexoService.buscarAnexosDoEvento(eventoId);
+        if (anexos.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        log.info("Iniciando download ZIP de {} anexo(s) do evento {}", anexos.size(), eventoId);
+        StreamingResponseBody corpo = saida -> anexoService.escreverZip(anexos, saida);
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType("application/zip"))
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                   "attachment; filename=\"anexos_evento_" + eventoId + ".zip\"")
+            .header(HttpHeaders.CACHE_CONTROL, "no-cache, no-store, must-revalidate")
+            .body(corpo);
+    }
+    
     @PreAuthorize("@anexoSecurityService.canManageAnexo(#id, authentication.name, authentication.authorities)")
     @PutMapping("/{id}/descricao")
     public ResponseEntity<AnexoResponseDTO> atualizarDescricao(@PathVariable Long id, @RequestBody String novaDescricao) {
@@ -0,0 +1,83 @@
+package br.com.eventsports.minha_inscricao.controller;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import br.com.eventsports.minha_inscricao.service.MigracaoLayoutArmazenamentoService;
+import br.com.eventsports.minha_inscricao.service.MigracaoLayoutArmazenamentoService.RelatorioMigracaoLayout;
+import br.com.eventsports.minha_inscricao.service.ReconciliacaoArmazenamentoService;
+import br.com.eventsports.minha_inscricao.service.ReconciliacaoArmazenamentoService.RelatorioReconciliacao;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@RestController
+@RequestMapping("/api/admin/armazenamento")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Armazenamento", description = "Manutenção dos arquivos enviados (somente ADMIN)")
+public class ArmazenamentoController {
+
+    private final MigracaoLayoutArmazenamentoService migracaoLayoutService;
+    private final ReconciliacaoArmazenamentoService reconciliacaoService;
+
+    @Operation(
+        summary = "Migrar layout de armazenamento",
+        description = "Move anexos e imagens do diretório plano para subdiretórios fragmentados, em lotes. " +
+                      "Pode ser executada com o sistema no ar e reexecutada com segurança."
+    )
+    @SecurityRequirement(name = "Bearer Authentication")
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/migrar-layout")
+    public ResponseEntity<RelatorioMigracaoLayout> migrarLayout() throws IOException {
+        log.info("POST /api/admin/armazenamento/migrar-layout - Iniciando migração de layout");
+        return ResponseEntity.ok(migracaoLayoutService.migrar());
+    }
+
+    @Operation(
+        summary = "Reconciliar armazenamento",
+        description = "Compara os diretórios de upload com o banco: trata arquivos órfãos conforme " +
+                      "app.armazenamento.acao-orfaos e reporta registros cujo arquivo não existe"
+    )
+    @SecurityRequirement(name = "Bearer Authentication")
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/reconciliar")
+    public ResponseEntity<RelatorioReconciliacao> reconciliar() {
+        log.info("POST /api/admin/armazenamento/reconciliar - Iniciando reconciliação");
+        return ResponseEntity.ok(reconciliacaoService.reconciliar());
+    }
+
+    @Operation(summary = "Última reconciliação", description = "Retorna o relatório da última reconciliação concluída")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/reconciliacao")
+    public ResponseEntity<RelatorioReconciliacao> ultimaReconciliacao() {
+        RelatorioReconciliacao relatorio = reconciliacaoService.getUltimoRelatorio();
+        return relatorio != null ? ResponseEntity.ok(relatorio) : ResponseEntity.noContent().build();
+    }
+
+    @ExceptionHandler(IllegalStateException.class)
+    public ResponseEntity<Map<String, String>> handleIllegalStateException(IllegalStateException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Map.of("error", "Operação em andamento", "message", e.getMessage()));
+    }
+
+    @ExceptionHandler({IOException.class, UncheckedIOException.class})
+    public ResponseEntity<Map<String, String>> handleIOException(Exception e) {
+        log.error("Erro na manutenção de armazenamento", e);
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("error", "Erro no processamento dos arquivos", "message", String.valueOf(e.getMessage())));
+    }
+}
@@ -4,8 +4,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import org.springframework.dao.DataAccessException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.TransactionException;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -15,6 +17,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -25,7 +28,11 @@ import br.com.eventsports.minha_inscricao.dto.atleta.AtletaResponseDTO;
 import br.com.eventsports.minha_inscricao.dto.atleta.AtletaSummaryDTO;
 import br.com.eventsports.minha_inscricao.dto.atleta.AtletaUpdateDTO;
 import br.com.eventsports.minha_inscricao.enums.Genero;
+import br.com.eventsports.minha_inscricao.exception.AdmissaoNegadaException;
+import br.com.eventsports.minha_inscricao.exception.VagasEsgotadasException;
 import br.com.eventsports.minha_inscricao.service.Interfaces.IAtletaService;
+import br.com.eventsports.minha_inscricao.service.SalaEsperaService;
+import br.com.eventsports.minha_inscricao.util.PaginacaoUtil;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
@@ -41,11 +48,13 @@ public class AtletaController {
 
     private final IAtletaService atletaService;
     private final UsuarioRepository usuarioRepository;
+    private final SalaEsperaService salaEsperaService;
 
     @GetMapping
-    public ResponseEntity<List<AtletaSummaryDTO>> getAllAtletas() {
-        List<AtletaSummaryDTO> atletas = atletaService.findAll();
-        return ResponseEntity.ok(atletas);
+    public ResponseEntity<List<AtletaSummaryDTO>> getAllAtletas(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        return PaginacaoUtil.responder(atletaService.findAll(after, limit));
     }
 
     @GetMapping("/{id}")
@@ -57,8 +66,11 @@ public class AtletaController {
     @PostMapping("/evento/{eventoId}/inscricao/atletas")
     public ResponseEntity<AtletaResponseDTO> createAtletaForInscricao(@PathVariable Long eventoId,
             @Valid @RequestBody AtletaInscricaoDTO atletaInscricaoDTO,
+            @RequestHeader(value = SalaEsperaService.HEADER_TOKEN_ADMISSAO, required = false) String tokenAdmissao,
             Authentication authentication) {
         
+        salaEsperaService.exigirAdmissao(eventoId, tokenAdmissao);
+        boolean concluida = false;
         try {
             // Obter email do usuário autenticado
             String email = authentication.getName();
@@ -79,11 +91,14 @@ public class AtletaController {
             // Criar atleta usando o ID do usuário autenticado
             AtletaResponseDTO createdAtleta = atletaService.criarAtletaParaInscricaoComUsuario(
                 eventoId, atletaInscricaoDTO, usuario.getId());
+            concluida = true;
             return ResponseEntity.status(HttpStatus.CREATED).body(createdAtleta);
             
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+        } catch (VagasEsgotadasException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
                     .body(null);
+        } finally {
+            salaEsperaService.finalizarUso(eventoId, tokenAdmissao, concluida);
         }
     }
 
@@ -186,6 +201,21 @@ public class AtletaController {
         return ResponseEntity.ok(Map.of("count", count));
     }
 
+    @ExceptionHandler(AdmissaoNegadaException.class)
+    public ResponseEntity<Map<String, String>> handleAdmissaoNegadaException(AdmissaoNegadaException e) {
+        return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(Map.of("error", "Admissão necessária", "message", e.getMessage()));
+    }
+
+    /**
+     * Falha de banco ou de transação não é erro do cliente: 500, que não fica guardado para a Idempotency-Key
+     */
+    @ExceptionHandler({DataAccessException.class, TransactionException.class})
+    public ResponseEntity<Map<String, String>> handleDataAccessException(RuntimeException e) {
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("error", "Erro interno do servidor", "message", e.getMessage()));
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<Map<String, String>> handleRuntimeException(RuntimeException e) {
         if (e.getMessage().contains("não encontrado")) {
@@ -0,0 +1,133 @@
+package br.com.eventsports.minha_inscricao.controller;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import br.com.eventsports.minha_inscricao.dto.busca.ResultadoBuscaDTO;
+import br.com.eventsports.minha_inscricao.dto.busca.SugestaoParticipanteDTO;
+import br.com.eventsports.minha_inscricao.enums.TipoResultadoBusca;
+import br.com.eventsports.minha_inscricao.service.BuscaService;
+import br.com.eventsports.minha_inscricao.service.IndiceParticipantesService;
+import br.com.eventsports.minha_inscricao.util.PaginacaoUtil;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/search")
+@CrossOrigin(origins = "*")
+@RequiredArgsConstructor
+@Tag(name = "Busca", description = "Busca unificada por nome")
+public class BuscaController {
+
+    private final BuscaService buscaService;
+    private final IndiceParticipantesService indiceParticipantesService;
+
+    @Operation(
+        summary = "Buscar por nome",
+        description = "Busca eventos, atletas, equipes, categorias e workouts por nome, sem distinção de acentos " +
+                      "e maiúsculas, ordenados por relevância. Sem login, só eventos; usuários só para ADMIN. " +
+                      "O próximo cursor vem nos headers X-Proximo-Cursor e Link"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Resultados da busca"),
+        @ApiResponse(responseCode = "400", description = "Termo com menos de 3 caracteres, cursor ou tipo inválido"),
+        @ApiResponse(responseCode = "401", description = "Tipo diferente de EVENTO pedido sem login")
+    })
+    @GetMapping
+    public ResponseEntity<List<ResultadoBuscaDTO>> buscar(
+            @RequestParam String q,
+            @RequestParam(required = false) Set<TipoResultadoBusca> tipo,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit,
+            Authentication authentication) {
+        Set<TipoResultadoBusca> permitidos = tiposPermitidos(authentication);
+        if (tipo != null && !permitidos.containsAll(tipo) && !isAutenticado(authentication)) {
+            throw new AuthenticationCredentialsNotFoundException("Faça login para buscar atletas, equipes, categorias e workouts");
+        }
+        return PaginacaoUtil.responder(buscaService.buscar(q, tipo, permitidos, after, limit));
+    }
+
+    @Operation(
+        summary = "Sugerir participantes do evento",
+        description = "Autocompletar de atletas e equipes do evento por prefixo de qualquer palavra do nome " +
+                      "(sem acentos) ou do CPF (mínimo 3 dígitos). Atendido por índice em memória do evento. " +
+                      "Expõe dados pessoais, por isso é restrito ao organizador do evento e a administradores"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Sugestões encontradas"),
+        @ApiResponse(responseCode = "401", description = "Token inválido ou não fornecido"),
+        @ApiResponse(responseCode = "403", description = "Acesso negado - apenas o organizador do evento ou administradores"),
+        @ApiResponse(responseCode = "404", description = "Evento não encontrado")
+    })
+    @SecurityRequirement(name = "Bearer Authentication")
+    @PreAuthorize("@eventoSecurityService.canManageEvento(#eventoId, authentication.name, authentication.authorities)")
+    @GetMapping("/eventos/{eventoId}/participantes")
+    public ResponseEntity<List<SugestaoParticipanteDTO>> sugerirParticipantes(
+            @PathVariable Long eventoId,
+            @RequestParam String q,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(indiceParticipantesService.sugerir(eventoId, q, limit));
+    }
+
+    /**
+     * Sem login, só eventos (atletas e equipes expõem dados pessoais); USUARIO só para ADMIN
+     */
+    private Set<TipoResultadoBusca> tiposPermitidos(Authentication authentication) {
+        if (!isAutenticado(authentication)) {
+            return EnumSet.of(TipoResultadoBusca.EVENTO);
+        }
+        return isAdmin(authentication)
+                ? EnumSet.allOf(TipoResultadoBusca.class)
+                : EnumSet.complementOf(EnumSet.of(TipoResultadoBusca.USUARIO));
+    }
+
+    private boolean isAutenticado(Authentication authentication) {
+        return authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken);
+    }
+
+    private boolean isAdmin(Authentication authentication) {
+        return authentication != null && authentication.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+    }
+
+    @ExceptionHandler(AuthenticationCredentialsNotFoundException.class)
+    public ResponseEntity<Map<String, String>> handleAuthenticationCredentialsNotFoundException(
+            AuthenticationCredentialsNotFoundException e) {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of(
+                "error", "Autenticação necessária",
+                "message", e.getMessage()));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleIllegalArgumentException(IllegalArgumentException e) {
+        if (e.getMessage() != null && e.getMessage().contains("não encontrado")) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of(
+                    "error", "Recurso não encontrado",
+                    "message", e.getMessage()));
+        }
+        return ResponseEntity.badRequest().body(Map.of(
+                "error", "Parâmetros de busca inválidos",
+                "message", e.getMessage()));
+    }
+}
@@ -0,0 +1,87 @@
+package br.com.eventsports.minha_inscricao.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import br.com.eventsports.minha_inscricao.dto.conciliacao.ResultadoConciliacaoDTO;
+import br.com.eventsports.minha_inscricao.service.ConciliacaoPagamentoService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/admin/conciliacoes-pagamento")
+@CrossOrigin(origins = "*")
+@RequiredArgsConstructor
+@Tag(name = "Conciliação de pagamentos", description = "Conciliação com o arquivo de liquidação do gateway (somente ADMIN)")
+@SecurityRequirement(name = "Bearer Authentication")
+public class ConciliacaoPagamentoController {
+
+    private static final String TEXT_CSV = "text/csv";
+
+    private final ConciliacaoPagamentoService conciliacaoPagamentoService;
+
+    @Operation(
+        summary = "Conciliar arquivo de liquidação",
+        description = "Lê o corpo da requisição (CSV bruto, não multipart) em streaming e concilia em lotes pelo " +
+                      "transacao_id. Colunas: transacao_id, status e valor e, opcionais, gateway_id, data_pagamento " +
+                      "e motivo. Pagamentos aprovados confirmam a inscrição pendente. " +
+                      "Divergências vão para o relatório indicado na resposta."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Conciliação concluída (com ou sem divergências)"),
+        @ApiResponse(responseCode = "400", description = "Arquivo vazio ou cabeçalho sem as colunas obrigatórias"),
+        @ApiResponse(responseCode = "401", description = "Token inválido ou não fornecido"),
+        @ApiResponse(responseCode = "403", description = "Acesso negado - apenas administradores")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping(consumes = { TEXT_CSV, MediaType.TEXT_PLAIN_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE })
+    public ResponseEntity<ResultadoConciliacaoDTO> conciliar(InputStream corpo) throws IOException {
+        return ResponseEntity.ok(conciliacaoPagamentoService.conciliar(corpo));
+    }
+
+    @Operation(
+        summary = "Baixar relatório de divergências da conciliação",
+        description = "CSV com linha, transação, tipo de divergência e detalhe"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Relatório de divergências"),
+        @ApiResponse(responseCode = "404", description = "Relatório não encontrado ou já removido")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/relatorios/{relatorioId}")
+    public ResponseEntity<Resource> baixarRelatorioDivergencias(@PathVariable String relatorioId) {
+        return conciliacaoPagamentoService.relatorioDivergencias(relatorioId)
+                .map(arquivo -> ResponseEntity.ok()
+                        .contentType(MediaType.parseMediaType(TEXT_CSV + ";charset=UTF-8"))
+                        .header(HttpHeaders.CONTENT_DISPOSITION,
+                                "attachment; filename=\"divergencias_conciliacao_" + relatorioId + ".csv\"")
+                        .<Resource>body(new FileSystemResource(arquivo)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleIllegalArgumentException(IllegalArgumentException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", "Arquivo inválido", "message", e.getMessage()));
+    }
+}
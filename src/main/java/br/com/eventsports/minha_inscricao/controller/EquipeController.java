@@ -3,8 +3,10 @@ package br.com.eventsports.minha_inscricao.controller;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.dao.DataAccessException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.TransactionException;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -13,6 +15,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -22,7 +25,11 @@ import br.com.eventsports.minha_inscricao.dto.equipe.EquipeInscricaoDTO;
 import br.com.eventsports.minha_inscricao.dto.equipe.EquipeResponseDTO;
 import br.com.eventsports.minha_inscricao.dto.equipe.EquipeSummaryDTO;
 import br.com.eventsports.minha_inscricao.dto.equipe.EquipeUpdateDTO;
+import br.com.eventsports.minha_inscricao.exception.AdmissaoNegadaException;
+import br.com.eventsports.minha_inscricao.exception.VagasEsgotadasException;
 import br.com.eventsports.minha_inscricao.service.Interfaces.IEquipeService;
+import br.com.eventsports.minha_inscricao.service.SalaEsperaService;
+import br.com.eventsports.minha_inscricao.util.PaginacaoUtil;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
@@ -33,11 +40,13 @@ import lombok.RequiredArgsConstructor;
 public class EquipeController {
 
     private final IEquipeService equipeService;
+    private final SalaEsperaService salaEsperaService;
 
     @GetMapping
-    public ResponseEntity<List<EquipeSummaryDTO>> getAllEquipes() {
-        List<EquipeSummaryDTO> equipes = equipeService.findAll();
-        return ResponseEntity.ok(equipes);
+    public ResponseEntity<List<EquipeSummaryDTO>> getAllEquipes(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        return PaginacaoUtil.responder(equipeService.findAll(after, limit));
     }
 
     @GetMapping("/{id}")
@@ -50,9 +59,17 @@ public class EquipeController {
     @PostMapping("/evento/{eventoId}/inscricao")
     public ResponseEntity<EquipeResponseDTO> criarEquipeParaInscricao(@PathVariable Long eventoId,
             @Valid @RequestBody EquipeInscricaoDTO equipeInscricaoDTO,
-            @RequestParam(required = false) Long usuarioLogadoId) {
-        EquipeResponseDTO createdEquipe = equipeService.criarEquipeParaInscricao(eventoId, equipeInscricaoDTO, usuarioLogadoId);
-        return ResponseEntity.status(HttpStatus.CREATED).body(createdEquipe);
+            @RequestParam(required = false) Long usuarioLogadoId,
+            @RequestHeader(value = SalaEsperaService.HEADER_TOKEN_ADMISSAO, required = false) String tokenAdmissao) {
+        salaEsperaService.exigirAdmissao(eventoId, tokenAdmissao);
+        boolean concluida = false;
+        try {
+            EquipeResponseDTO createdEquipe = equipeService.criarEquipeParaInscricao(eventoId, equipeInscricaoDTO, usuarioLogadoId);
+            concluida = true;
+            return ResponseEntity.status(HttpStatus.CREATED).body(createdEquipe);
+        } finally {
+            salaEsperaService.finalizarUso(eventoId, tokenAdmissao, concluida);
+        }
     }
 
     @PutMapping("/{id}")
@@ -104,6 +121,27 @@ public class EquipeController {
     }
 
     // Exception Handler for this controller
+    @ExceptionHandler(AdmissaoNegadaException.class)
+    public ResponseEntity<Map<String, String>> handleAdmissaoNegadaException(AdmissaoNegadaException e) {
+        return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(Map.of("error", "Admissão necessária", "message", e.getMessage()));
+    }
+
+    @ExceptionHandler(VagasEsgotadasException.class)
+    public ResponseEntity<Map<String, String>> handleVagasEsgotadasException(VagasEsgotadasException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Map.of("error", "Categoria lotada", "message", e.getMessage()));
+    }
+
+    /**
+     * Falha de banco ou de transação não é erro do cliente: 500, que não fica guardado para a Idempotency-Key
+     */
+    @ExceptionHandler({DataAccessException.class, TransactionException.class})
+    public ResponseEntity<Map<String, String>> handleDataAccessException(RuntimeException e) {
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("error", "Erro interno do servidor", "message", e.getMessage()));
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<Map<String, String>> handleRuntimeException(RuntimeException e) {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
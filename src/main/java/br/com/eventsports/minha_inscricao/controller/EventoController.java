@@ -22,6 +22,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import br.com.eventsports.minha_inscricao.dto.evento.EventoCreateDTO;
+import br.com.eventsports.minha_inscricao.dto.evento.EventoProximoDTO;
 import br.com.eventsports.minha_inscricao.dto.evento.EventoResponseDTO;
 import br.com.eventsports.minha_inscricao.dto.evento.EventoSummaryDTO;
 import br.com.eventsports.minha_inscricao.dto.evento.EventoUpdateDTO;
@@ -29,6 +30,7 @@ import br.com.eventsports.minha_inscricao.dto.evento.StatusChangeDTO;
 import br.com.eventsports.minha_inscricao.exception.EventoNotFoundException;
 import br.com.eventsports.minha_inscricao.exception.InvalidDateRangeException;
 import br.com.eventsports.minha_inscricao.service.Interfaces.IEventoService;
+import br.com.eventsports.minha_inscricao.util.PaginacaoUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -48,9 +50,10 @@ public class EventoController {
     private final IEventoService eventoService;
 
     @GetMapping
-    public ResponseEntity<List<EventoSummaryDTO>> getAllEventos() {
-        List<EventoSummaryDTO> eventos = eventoService.findAll();
-        return ResponseEntity.ok(eventos);
+    public ResponseEntity<List<EventoSummaryDTO>> getAllEventos(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        return PaginacaoUtil.responder(eventoService.findAll(after, limit));
     }
 
     @GetMapping("/{id}")
@@ -120,15 +123,32 @@ public class EventoController {
     }
 
     @GetMapping("/upcoming")
-    public ResponseEntity<List<EventoSummaryDTO>> getUpcomingEventos() {
-        List<EventoSummaryDTO> eventos = eventoService.findEventosUpcoming();
-        return ResponseEntity.ok(eventos);
+    public ResponseEntity<List<EventoSummaryDTO>> getUpcomingEventos(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        return PaginacaoUtil.responder(eventoService.findEventosUpcoming(after, limit));
+    }
+
+    @Operation(
+        summary = "Listar eventos próximos",
+        description = "Eventos futuros a até radiusKm (padrão 50, máximo 500) da localização informada, " +
+                      "ordenados por data de início. O próximo cursor vem nos headers X-Proximo-Cursor e Link"
+    )
+    @GetMapping("/nearby")
+    public ResponseEntity<List<EventoProximoDTO>> getEventosProximos(
+            @RequestParam Double lat,
+            @RequestParam Double lng,
+            @RequestParam(required = false) Double radiusKm,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        return PaginacaoUtil.responder(eventoService.findProximos(lat, lng, radiusKm, after, limit));
     }
 
     @GetMapping("/past")
-    public ResponseEntity<List<EventoSummaryDTO>> getPastEventos() {
-        List<EventoSummaryDTO> eventos = eventoService.findEventosPast();
-        return ResponseEntity.ok(eventos);
+    public ResponseEntity<List<EventoSummaryDTO>> getPastEventos(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        return PaginacaoUtil.responder(eventoService.findEventosPast(after, limit));
     }
 
     @GetMapping("/between")
@@ -151,6 +171,14 @@ public class EventoController {
         return ResponseEntity.ok(updatedEvento);
     }
 
+    @PreAuthorize("hasRole('ADMIN')")
+    @PatchMapping("/{id}/organizador")
+    public ResponseEntity<EventoResponseDTO> transferirOrganizador(@PathVariable Long id,
+            @RequestParam Long usuarioId) {
+        EventoResponseDTO updatedEvento = eventoService.transferirOrganizador(id, usuarioId);
+        return ResponseEntity.ok(updatedEvento);
+    }
+
     // Exception Handler for this controller
     @ExceptionHandler(EventoNotFoundException.class)
     public ResponseEntity<Map<String, String>> handleEventoNotFoundException(EventoNotFoundException e) {
@@ -164,6 +192,12 @@ public class EventoController {
                 .body(Map.of("error", "Dados inválidos", "message", e.getMessage()));
     }
 
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleIllegalArgumentException(IllegalArgumentException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", "Parâmetros inválidos", "message", e.getMessage()));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, String>> handleGenericException(Exception e) {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
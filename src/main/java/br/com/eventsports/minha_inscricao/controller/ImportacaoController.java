@@ -0,0 +1,89 @@
+package br.com.eventsports.minha_inscricao.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import br.com.eventsports.minha_inscricao.dto.importacao.ResultadoImportacaoDTO;
+import br.com.eventsports.minha_inscricao.service.ImportacaoService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/importacoes")
+@CrossOrigin(origins = "*")
+@RequiredArgsConstructor
+@Tag(name = "Importação", description = "Importação em massa de atletas, equipes e inscrições via CSV")
+@SecurityRequirement(name = "Bearer Authentication")
+public class ImportacaoController {
+
+    private static final String TEXT_CSV = "text/csv";
+
+    private final ImportacaoService importacaoService;
+
+    @Operation(
+        summary = "Importar CSV de inscrições do evento",
+        description = "Lê o corpo da requisição (CSV bruto, não multipart) em streaming e grava em lotes. " +
+                      "Colunas: nome, cpf, data_nascimento, genero, categoria_id e, opcionais, email, telefone, " +
+                      "equipe e status. Linhas consecutivas com a mesma equipe formam uma equipe. " +
+                      "Linhas recusadas vão para o relatório de erros indicado na resposta."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Importação concluída (com ou sem linhas recusadas)"),
+        @ApiResponse(responseCode = "400", description = "Arquivo vazio ou cabeçalho sem as colunas obrigatórias"),
+        @ApiResponse(responseCode = "401", description = "Token inválido ou não fornecido"),
+        @ApiResponse(responseCode = "403", description = "Usuário não pode gerenciar este evento")
+    })
+    @PreAuthorize("@eventoSecurityService.canManageEvento(#eventoId, authentication.name, authentication.authorities)")
+    @PostMapping(value = "/eventos/{eventoId}",
+            consumes = { TEXT_CSV, MediaType.TEXT_PLAIN_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE })
+    public ResponseEntity<ResultadoImportacaoDTO> importar(@PathVariable Long eventoId, InputStream corpo)
+            throws IOException {
+        return ResponseEntity.ok(importacaoService.importar(eventoId, corpo));
+    }
+
+    @Operation(
+        summary = "Baixar relatório de erros da importação",
+        description = "CSV com linha, CPF, nome e motivo de cada linha recusada"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Relatório de erros"),
+        @ApiResponse(responseCode = "404", description = "Relatório não encontrado ou já removido")
+    })
+    @PreAuthorize("@eventoSecurityService.canManageEvento(#eventoId, authentication.name, authentication.authorities)")
+    @GetMapping("/eventos/{eventoId}/relatorios/{relatorioId}")
+    public ResponseEntity<Resource> baixarRelatorioErros(@PathVariable Long eventoId, @PathVariable String relatorioId) {
+        return importacaoService.relatorioErros(eventoId, relatorioId)
+                .map(arquivo -> ResponseEntity.ok()
+                        .contentType(MediaType.parseMediaType(TEXT_CSV + ";charset=UTF-8"))
+                        .header(HttpHeaders.CONTENT_DISPOSITION,
+                                "attachment; filename=\"erros_importacao_" + relatorioId + ".csv\"")
+                        .<Resource>body(new FileSystemResource(arquivo)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleIllegalArgumentException(IllegalArgumentException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", "Arquivo inválido", "message", e.getMessage()));
+    }
+}
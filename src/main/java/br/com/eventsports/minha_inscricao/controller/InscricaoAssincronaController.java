@@ -0,0 +1,126 @@
+package br.com.eventsports.minha_inscricao.controller;
+
+import java.net.URI;
+import java.util.Map;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import br.com.eventsports.minha_inscricao.dto.atleta.AtletaInscricaoDTO;
+import br.com.eventsports.minha_inscricao.dto.equipe.EquipeInscricaoDTO;
+import br.com.eventsports.minha_inscricao.dto.inscricaoassincrona.StatusIntencaoInscricaoDTO;
+import br.com.eventsports.minha_inscricao.entity.UsuarioEntity;
+import br.com.eventsports.minha_inscricao.repository.UsuarioRepository;
+import br.com.eventsports.minha_inscricao.service.InscricaoAssincronaService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/inscricoes-assincronas")
+@CrossOrigin(origins = "*")
+@RequiredArgsConstructor
+@Tag(name = "Inscrições assíncronas", description = "Inscrições aceitas na hora (202) e processadas em segundo plano")
+@SecurityRequirement(name = "Bearer Authentication")
+public class InscricaoAssincronaController {
+
+    private static final String CONSULTAR_NOVAMENTE_SEGUNDOS = "2";
+
+    private final InscricaoAssincronaService inscricaoAssincronaService;
+    private final UsuarioRepository usuarioRepository;
+
+    @Operation(
+        summary = "Enviar inscrição individual (assíncrona)",
+        description = "Valida o formato, registra o pedido e responde 202 com a URL de status (também no Location). " +
+                      "As regras de negócio (categoria, vagas, CPF) são verificadas no processamento"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Pedido aceito para processamento"),
+        @ApiResponse(responseCode = "400", description = "Dados de entrada inválidos"),
+        @ApiResponse(responseCode = "401", description = "Token inválido ou não fornecido"),
+        @ApiResponse(responseCode = "404", description = "Evento não encontrado")
+    })
+    @PreAuthorize("isAuthenticated()")
+    @PostMapping("/eventos/{eventoId}/atletas")
+    public ResponseEntity<StatusIntencaoInscricaoDTO> enviarAtleta(@PathVariable Long eventoId,
+            @Valid @RequestBody AtletaInscricaoDTO atletaInscricaoDTO, Authentication authentication) {
+        UsuarioEntity usuario = usuarioRepository.findByEmail(authentication.getName()).orElse(null);
+        if (usuario == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return aceito(inscricaoAssincronaService.receberAtleta(eventoId, atletaInscricaoDTO,
+                authentication.getName(), usuario.getId()));
+    }
+
+    @Operation(
+        summary = "Enviar inscrição de equipe (assíncrona)",
+        description = "Valida o formato, registra o pedido e responde 202 com a URL de status (também no Location)"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Pedido aceito para processamento"),
+        @ApiResponse(responseCode = "400", description = "Dados de entrada inválidos"),
+        @ApiResponse(responseCode = "401", description = "Token inválido ou não fornecido"),
+        @ApiResponse(responseCode = "404", description = "Evento não encontrado")
+    })
+    @PreAuthorize("isAuthenticated()")
+    @PostMapping("/eventos/{eventoId}/equipes")
+    public ResponseEntity<StatusIntencaoInscricaoDTO> enviarEquipe(@PathVariable Long eventoId,
+            @Valid @RequestBody EquipeInscricaoDTO equipeInscricaoDTO,
+            @RequestParam(required = false) Long usuarioLogadoId,
+            Authentication authentication) {
+        return aceito(inscricaoAssincronaService.receberEquipe(eventoId, equipeInscricaoDTO,
+                authentication.getName(), usuarioLogadoId));
+    }
+
+    @Operation(
+        summary = "Consultar inscrição assíncrona",
+        description = "Situação do pedido. Enquanto não finaliza, o header Retry-After indica quando consultar de novo; " +
+                      "concluída, traz o atleta ou a equipe criado"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Situação do pedido"),
+        @ApiResponse(responseCode = "404", description = "Pedido não encontrado")
+    })
+    @PreAuthorize("isAuthenticated()")
+    @GetMapping("/{id}")
+    public ResponseEntity<StatusIntencaoInscricaoDTO> consultar(@PathVariable Long id, Authentication authentication) {
+        return inscricaoAssincronaService.consultar(id, authentication.getName())
+                .map(status -> {
+                    ResponseEntity.BodyBuilder resposta = ResponseEntity.ok();
+                    if (!status.getStatus().isFinal()) {
+                        resposta.header(HttpHeaders.RETRY_AFTER, CONSULTAR_NOVAMENTE_SEGUNDOS);
+                    }
+                    return resposta.body(status);
+                })
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    private ResponseEntity<StatusIntencaoInscricaoDTO> aceito(StatusIntencaoInscricaoDTO status) {
+        return ResponseEntity.accepted()
+                .location(URI.create(status.getUrlStatus()))
+                .header(HttpHeaders.RETRY_AFTER, CONSULTAR_NOVAMENTE_SEGUNDOS)
+                .body(status);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleIllegalArgumentException(IllegalArgumentException e) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Map.of("error", "Recurso não encontrado", "message", e.getMessage()));
+    }
+}
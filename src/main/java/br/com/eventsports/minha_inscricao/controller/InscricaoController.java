@@ -15,13 +15,17 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import br.com.eventsports.minha_inscricao.dto.inscricao.InscricaoResponseDTO;
 import br.com.eventsports.minha_inscricao.dto.inscricao.InscricaoSummaryDTO;
 import br.com.eventsports.minha_inscricao.dto.inscricao.InscricaoUpdateDTO;
+import br.com.eventsports.minha_inscricao.dto.inscricao.PosicaoListaEsperaDTO;
 import br.com.eventsports.minha_inscricao.enums.StatusInscricao;
+import br.com.eventsports.minha_inscricao.exception.VagasEsgotadasException;
 import br.com.eventsports.minha_inscricao.service.Interfaces.IInscricaoService;
+import br.com.eventsports.minha_inscricao.util.PaginacaoUtil;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -35,9 +39,10 @@ public class InscricaoController {
     private final IInscricaoService inscricaoService;
 
     @GetMapping
-    public ResponseEntity<List<InscricaoSummaryDTO>> getAllInscricoes() {
-        List<InscricaoSummaryDTO> inscricoes = inscricaoService.findAll();
-        return ResponseEntity.ok(inscricoes);
+    public ResponseEntity<List<InscricaoSummaryDTO>> getAllInscricoes(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        return PaginacaoUtil.responder(inscricaoService.findAll(after, limit));
     }
 
     @GetMapping("/{id}")
@@ -63,15 +68,17 @@ public class InscricaoController {
     }
 
     @GetMapping("/evento/{eventoId}")
-    public ResponseEntity<List<InscricaoSummaryDTO>> getInscricoesByEventoId(@PathVariable Long eventoId) {
-        List<InscricaoSummaryDTO> inscricoes = inscricaoService.findByEventoId(eventoId);
-        return ResponseEntity.ok(inscricoes);
+    public ResponseEntity<List<InscricaoSummaryDTO>> getInscricoesByEventoId(@PathVariable Long eventoId,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        return PaginacaoUtil.responder(inscricaoService.findByEventoId(eventoId, after, limit));
     }
 
     @GetMapping("/categoria/{categoriaId}")
-    public ResponseEntity<List<InscricaoSummaryDTO>> getInscricoesByCategoriaId(@PathVariable Long categoriaId) {
-        List<InscricaoSummaryDTO> inscricoes = inscricaoService.findByCategoriaId(categoriaId);
-        return ResponseEntity.ok(inscricoes);
+    public ResponseEntity<List<InscricaoSummaryDTO>> getInscricoesByCategoriaId(@PathVariable Long categoriaId,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        return PaginacaoUtil.responder(inscricaoService.findByCategoriaId(categoriaId, after, limit));
     }
 
     @GetMapping("/equipe/{equipeId}")
@@ -81,27 +88,31 @@ public class InscricaoController {
     }
 
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<InscricaoSummaryDTO>> getInscricoesByStatus(@PathVariable StatusInscricao status) {
-        List<InscricaoSummaryDTO> inscricoes = inscricaoService.findByStatus(status);
-        return ResponseEntity.ok(inscricoes);
+    public ResponseEntity<List<InscricaoSummaryDTO>> getInscricoesByStatus(@PathVariable StatusInscricao status,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        return PaginacaoUtil.responder(inscricaoService.findByStatus(status, after, limit));
     }
 
     @GetMapping("/confirmadas")
-    public ResponseEntity<List<InscricaoSummaryDTO>> getInscricoesConfirmadas() {
-        List<InscricaoSummaryDTO> inscricoes = inscricaoService.findInscricoesConfirmadas();
-        return ResponseEntity.ok(inscricoes);
+    public ResponseEntity<List<InscricaoSummaryDTO>> getInscricoesConfirmadas(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        return PaginacaoUtil.responder(inscricaoService.findInscricoesConfirmadas(after, limit));
     }
 
     @GetMapping("/pendentes")
-    public ResponseEntity<List<InscricaoSummaryDTO>> getInscricoesPendentes() {
-        List<InscricaoSummaryDTO> inscricoes = inscricaoService.findInscricoesPendentes();
-        return ResponseEntity.ok(inscricoes);
+    public ResponseEntity<List<InscricaoSummaryDTO>> getInscricoesPendentes(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        return PaginacaoUtil.responder(inscricaoService.findInscricoesPendentes(after, limit));
     }
 
     @GetMapping("/canceladas")
-    public ResponseEntity<List<InscricaoSummaryDTO>> getInscricoesCanceladas() {
-        List<InscricaoSummaryDTO> inscricoes = inscricaoService.findInscricoesCanceladas();
-        return ResponseEntity.ok(inscricoes);
+    public ResponseEntity<List<InscricaoSummaryDTO>> getInscricoesCanceladas(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        return PaginacaoUtil.responder(inscricaoService.findInscricoesCanceladas(after, limit));
     }
 
     @PreAuthorize("@inscricaoSecurityService.canManageInscricao(#id, authentication.name, authentication.authorities)")
@@ -127,6 +138,12 @@ public class InscricaoController {
         return ResponseEntity.ok(inscricao);
     }
 
+    @GetMapping("/{id}/lista-espera/posicao")
+    public ResponseEntity<PosicaoListaEsperaDTO> getPosicaoNaListaEspera(@PathVariable Long id) {
+        PosicaoListaEsperaDTO posicao = inscricaoService.posicaoNaListaEspera(id);
+        return ResponseEntity.ok(posicao);
+    }
+
     @GetMapping("/evento/{eventoId}/status/{status}/count")
     public ResponseEntity<Map<String, Long>> countByEventoIdAndStatus(@PathVariable Long eventoId,
             @PathVariable StatusInscricao status) {
@@ -141,6 +158,12 @@ public class InscricaoController {
         return ResponseEntity.ok(Map.of("count", count));
     }
 
+    @ExceptionHandler(VagasEsgotadasException.class)
+    public ResponseEntity<Map<String, String>> handleVagasEsgotadasException(VagasEsgotadasException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Map.of("error", "Categoria lotada", "message", e.getMessage()));
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<Map<String, String>> handleRuntimeException(RuntimeException e) {
         if (e.getMessage().contains("não encontrada")) {
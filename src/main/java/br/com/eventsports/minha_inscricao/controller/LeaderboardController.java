@@ -3,6 +3,7 @@ package br.com.eventsports.minha_inscricao.controller;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -11,6 +12,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -18,6 +20,7 @@ import br.com.eventsports.minha_inscricao.dto.leaderboard.LeaderboardRankingDTO;
 import br.com.eventsports.minha_inscricao.dto.leaderboard.LeaderboardSummaryDTO;
 import br.com.eventsports.minha_inscricao.service.Interfaces.ILeaderboardService;
 import br.com.eventsports.minha_inscricao.service.PontuacaoService;
+import br.com.eventsports.minha_inscricao.service.RespostaCompactadaService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.prepost.PreAuthorize;
 
@@ -29,6 +32,7 @@ public class LeaderboardController {
 
     private final ILeaderboardService leaderboardService;
     private final PontuacaoService pontuacaoService;
+    private final RespostaCompactadaService respostaCompactadaService;
 
 
     @GetMapping("/categoria/{categoriaId}/workout/{workoutId}/resultados")
@@ -51,14 +55,16 @@ public class LeaderboardController {
     }
 
     /**
-     * Busca ranking completo de uma categoria em um evento
+     * Busca ranking completo de uma categoria em um evento.
+     * Responde em JSON, CBOR ou Smile conforme o Accept, com gzip pré-compactado e ETag (ver RespostaCompactadaService).
      */
     @GetMapping("/evento/{eventoId}/categoria/{categoriaId}/ranking")
-    public ResponseEntity<List<LeaderboardRankingDTO>> getRankingCategoria(
+    public ResponseEntity<byte[]> getRankingCategoria(
             @PathVariable Long eventoId,
-            @PathVariable Long categoriaId) {
+            @PathVariable Long categoriaId,
+            @RequestHeader HttpHeaders headers) {
         List<LeaderboardRankingDTO> ranking = leaderboardService.getRankingCategoria(eventoId, categoriaId);
-        return ResponseEntity.ok(ranking);
+        return respostaCompactadaService.responder(ranking, headers);
     }
 
     @PreAuthorize("@leaderboardSecurityService.canManageLeaderboardsForCategoria(#categoriaId, authentication.name, authentication.authorities)")
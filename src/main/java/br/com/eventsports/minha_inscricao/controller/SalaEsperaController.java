@@ -0,0 +1,81 @@
+package br.com.eventsports.minha_inscricao.controller;
+
+import java.util.Map;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import br.com.eventsports.minha_inscricao.dto.salaespera.StatusSalaEsperaDTO;
+import br.com.eventsports.minha_inscricao.service.SalaEsperaService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/sala-espera")
+@CrossOrigin(origins = "*")
+@RequiredArgsConstructor
+@Tag(name = "Sala de espera", description = "Fila de admissão para as inscrições de um evento")
+@SecurityRequirement(name = "Bearer Authentication")
+public class SalaEsperaController {
+
+    private final SalaEsperaService salaEsperaService;
+
+    @Operation(
+        summary = "Entrar na sala de espera",
+        description = "Entra na fila de inscrições do evento (o mesmo usuário mantém o ticket). " +
+                      "Quando admitido, o token de admissão deve ir no header X-Token-Admissao da inscrição"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Ticket na fila ou já admitido"),
+        @ApiResponse(responseCode = "401", description = "Token inválido ou não fornecido"),
+        @ApiResponse(responseCode = "404", description = "Evento não encontrado")
+    })
+    @PreAuthorize("isAuthenticated()")
+    @PostMapping("/eventos/{eventoId}")
+    public ResponseEntity<StatusSalaEsperaDTO> entrar(@PathVariable Long eventoId, Authentication authentication) {
+        return responder(salaEsperaService.entrar(eventoId, authentication.getName()));
+    }
+
+    @Operation(
+        summary = "Consultar ticket",
+        description = "Situação do ticket na fila, sem acesso ao banco. Enquanto aguarda, o header Retry-After " +
+                      "indica quando consultar de novo; tickets sem consulta por muito tempo perdem a vez"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Situação do ticket"),
+        @ApiResponse(responseCode = "404", description = "Ticket não encontrado ou expirado")
+    })
+    @PreAuthorize("isAuthenticated()")
+    @GetMapping("/eventos/{eventoId}/tickets/{ticket}")
+    public ResponseEntity<StatusSalaEsperaDTO> consultar(@PathVariable Long eventoId, @PathVariable String ticket) {
+        return responder(salaEsperaService.consultar(eventoId, ticket));
+    }
+
+    private ResponseEntity<StatusSalaEsperaDTO> responder(StatusSalaEsperaDTO status) {
+        ResponseEntity.BodyBuilder resposta = ResponseEntity.ok();
+        if (status.getConsultarNovamenteEmSegundos() != null) {
+            resposta.header(HttpHeaders.RETRY_AFTER, String.valueOf(status.getConsultarNovamenteEmSegundos()));
+        }
+        return resposta.body(status);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleIllegalArgumentException(IllegalArgumentException e) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Map.of("error", "Recurso não encontrado", "message", e.getMessage()));
+    }
+}
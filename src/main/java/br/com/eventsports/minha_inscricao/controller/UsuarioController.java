@@ -25,6 +25,7 @@ import br.com.eventsports.minha_inscricao.dto.usuario.UsuarioSummaryDTO;
 import br.com.eventsports.minha_inscricao.dto.usuario.UsuarioUpdateDTO;
 import br.com.eventsports.minha_inscricao.enums.TipoUsuario;
 import br.com.eventsports.minha_inscricao.service.Interfaces.IUsuarioService;
+import br.com.eventsports.minha_inscricao.util.PaginacaoUtil;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -75,17 +76,15 @@ public class UsuarioController {
     }
 
     @GetMapping
-    public ResponseEntity<List<UsuarioSummaryDTO>> listar(@RequestParam(required = false) TipoUsuario tipo) {
-        List<UsuarioSummaryDTO> usuarios;
-
+    public ResponseEntity<List<UsuarioSummaryDTO>> listar(@RequestParam(required = false) TipoUsuario tipo,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
         if (tipo != null) {
-            usuarios = usuarioService.listarPorTipo(tipo);
-        } else {
-            Page<UsuarioSummaryDTO> page = usuarioService.listarAtivos(Pageable.unpaged());
-            usuarios = page.getContent();
+            return PaginacaoUtil.responder(usuarioService.listarPorTipo(tipo, after, limit));
         }
 
-        return ResponseEntity.ok(usuarios);
+        Page<UsuarioSummaryDTO> page = usuarioService.listarAtivos(Pageable.unpaged());
+        return ResponseEntity.ok(page.getContent());
     }
 
     @PutMapping("/{id}")
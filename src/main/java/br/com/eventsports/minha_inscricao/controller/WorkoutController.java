@@ -3,8 +3,10 @@ package br.com.eventsports.minha_inscricao.controller;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.dao.DataAccessException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.TransactionException;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -22,6 +24,7 @@ import br.com.eventsports.minha_inscricao.dto.workout.*;
 import br.com.eventsports.minha_inscricao.dto.leaderboard.LeaderboardResponseDTO;
 import br.com.eventsports.minha_inscricao.dto.leaderboard.LeaderboardSummaryDTO;
 import br.com.eventsports.minha_inscricao.service.Interfaces.IWorkoutService;
+import br.com.eventsports.minha_inscricao.util.PaginacaoUtil;
 import br.com.eventsports.minha_inscricao.service.WorkoutResultService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -37,9 +40,10 @@ public class WorkoutController {
     private final WorkoutResultService workoutResultService;
 
     @GetMapping
-    public ResponseEntity<List<WorkoutSummaryDTO>> getAllWorkouts() {
-        List<WorkoutSummaryDTO> workouts = workoutService.findAll();
-        return ResponseEntity.ok(workouts);
+    public ResponseEntity<List<WorkoutSummaryDTO>> getAllWorkouts(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        return PaginacaoUtil.responder(workoutService.findAll(after, limit));
     }
 
     @GetMapping("/{id}")
@@ -236,6 +240,15 @@ public class WorkoutController {
         return ResponseEntity.ok(Map.of("temResultados", temResultados));
     }
 
+    /**
+     * Falha de banco ou de transação não é erro do cliente: 500, que não fica guardado para a Idempotency-Key
+     */
+    @ExceptionHandler({DataAccessException.class, TransactionException.class})
+    public ResponseEntity<Map<String, String>> handleDataAccessException(RuntimeException e) {
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("error", "Erro interno do servidor", "message", e.getMessage()));
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<Map<String, String>> handleRuntimeException(RuntimeException e) {
         if (e.getMessage().contains("não encontrado")) {
@@ -0,0 +1,14 @@
+package br.com.eventsports.minha_inscricao.dto.busca;
+
+import br.com.eventsports.minha_inscricao.enums.TipoResultadoBusca;
+
+/**
+ * Atleta ou equipe de um evento, como guardado no índice de sugestões em memória
+ */
+public record ParticipanteIndexado(
+        TipoResultadoBusca tipo,
+        Long id,
+        String nome,
+        String cpf,
+        Long categoriaId) {
+}
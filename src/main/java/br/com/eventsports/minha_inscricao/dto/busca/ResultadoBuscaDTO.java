@@ -0,0 +1,31 @@
+package br.com.eventsports.minha_inscricao.dto.busca;
+
+import br.com.eventsports.minha_inscricao.enums.TipoResultadoBusca;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Item do resultado da busca unificada por nome")
+public class ResultadoBuscaDTO {
+
+    @Schema(description = "Tipo do registro encontrado", example = "ATLETA")
+    private TipoResultadoBusca tipo;
+
+    @Schema(description = "ID do registro", example = "42")
+    private Long id;
+
+    @Schema(description = "Nome do registro", example = "João Conceição")
+    private String nome;
+
+    @Schema(description = "Informação complementar (evento, cidade/estado ou email)", example = "CrossFit Games 2024")
+    private String detalhe;
+
+    @Schema(description = "ID do evento relacionado, quando houver", example = "1")
+    private Long eventoId;
+
+    @Schema(description = "Relevância do resultado (0 a 1, maior é melhor)", example = "0.75")
+    private Double relevancia;
+}
@@ -0,0 +1,17 @@
+package br.com.eventsports.minha_inscricao.dto.busca;
+
+/**
+ * Linha retornada pelas consultas nativas de BuscaRepository
+ */
+public interface ResultadoBuscaProjection {
+
+    Long getId();
+
+    String getNome();
+
+    String getDetalhe();
+
+    Long getEventoId();
+
+    Double getRelevancia();
+}
@@ -0,0 +1,25 @@
+package br.com.eventsports.minha_inscricao.dto.busca;
+
+import br.com.eventsports.minha_inscricao.enums.TipoResultadoBusca;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Sugestão de atleta ou equipe de um evento (autocompletar)")
+public class SugestaoParticipanteDTO {
+
+    @Schema(description = "Tipo do participante", example = "ATLETA")
+    private TipoResultadoBusca tipo;
+
+    @Schema(description = "ID do atleta ou da equipe", example = "42")
+    private Long id;
+
+    @Schema(description = "Nome do atleta ou da equipe", example = "João Conceição")
+    private String nome;
+
+    @Schema(description = "ID da categoria do participante no evento", example = "3")
+    private Long categoriaId;
+}
@@ -58,6 +58,12 @@ public class CategoriaResponseDTO {
     @Schema(description = "Número de equipes ativas nesta categoria", example = "8", accessMode = Schema.AccessMode.READ_ONLY)
     private Long numeroEquipesAtivas;
 
+    @Schema(description = "Limite de inscrições da categoria (null = sem limite)", example = "100")
+    private Integer vagas;
+
+    @Schema(description = "Vagas ainda livres; inscrições pendentes seguram a vaga até expirar (null = sem limite)", example = "12", accessMode = Schema.AccessMode.READ_ONLY)
+    private Integer vagasDisponiveis;
+
     @Schema(description = "Total de equipes nesta categoria", example = "10", accessMode = Schema.AccessMode.READ_ONLY)
     private Integer totalEquipes;
 
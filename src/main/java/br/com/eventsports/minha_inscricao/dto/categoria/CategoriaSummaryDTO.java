@@ -45,6 +45,12 @@ public class CategoriaSummaryDTO {
     @Schema(description = "Número de equipes ativas nesta categoria", example = "8", accessMode = Schema.AccessMode.READ_ONLY)
     private Long numeroEquipesAtivas;
 
+    @Schema(description = "Limite de inscrições da categoria (null = sem limite)", example = "100")
+    private Integer vagas;
+
+    @Schema(description = "Vagas ainda livres; inscrições pendentes seguram a vaga até expirar (null = sem limite)", example = "12", accessMode = Schema.AccessMode.READ_ONLY)
+    private Integer vagasDisponiveis;
+
     @Schema(description = "Descrição completa da categoria", example = "Masculino Elite - Masculino (18+ até 35 anos)", accessMode = Schema.AccessMode.READ_ONLY)
     private String descricaoCompleta;
 
@@ -58,4 +58,8 @@ public class CategoriaUpdateDTO {
 
     @Schema(description = "Indica se a categoria está ativa para inscrições", example = "true")
     private Boolean ativa;
+
+    @Min(value = 1, message = "Vagas deve ser pelo menos 1")
+    @Schema(description = "Limite de inscrições da categoria (null = sem limite)", example = "100")
+    private Integer vagas;
 }
@@ -0,0 +1,21 @@
+package br.com.eventsports.minha_inscricao.dto.conciliacao;
+
+import br.com.eventsports.minha_inscricao.enums.StatusInscricao;
+import br.com.eventsports.minha_inscricao.enums.StatusPagamento;
+
+import java.math.BigDecimal;
+
+/**
+ * Projeção de leitura da conciliação: só o necessário para comparar o pagamento com a linha do
+ * arquivo de liquidação e decidir a mudança de status da inscrição, sem carregar entidades
+ */
+public record PagamentoConciliacaoProjection(
+        Long id,
+        String transacaoId,
+        StatusPagamento status,
+        BigDecimal valor,
+        Long inscricaoId,
+        StatusInscricao statusInscricao,
+        Long eventoId,
+        Long categoriaId) {
+}
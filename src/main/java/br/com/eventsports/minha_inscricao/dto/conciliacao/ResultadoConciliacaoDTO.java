@@ -0,0 +1,34 @@
+package br.com.eventsports.minha_inscricao.dto.conciliacao;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Resumo da conciliação de um arquivo de liquidação do gateway de pagamento")
+public class ResultadoConciliacaoDTO {
+
+    @Schema(description = "Linhas de dados lidas (sem o cabeçalho e linhas em branco)", example = "100000")
+    private long linhasProcessadas;
+
+    @Schema(description = "Transações já com o mesmo status no sistema", example = "97000")
+    private long pagamentosInalterados;
+
+    @Schema(description = "Pagamentos com status atualizado a partir do arquivo", example = "2500")
+    private long pagamentosAtualizados;
+
+    @Schema(description = "Inscrições pendentes confirmadas por pagamento aprovado", example = "2300")
+    private long inscricoesConfirmadas;
+
+    @Schema(description = "Linhas com divergência, listadas no relatório", example = "500")
+    private long divergencias;
+
+    @Schema(description = "ID do relatório de divergências para download; null quando não houve divergências",
+            example = "3f1c2a9e-6b7d-4e8f-9a0b-1c2d3e4f5a6b")
+    private String relatorioDivergenciasId;
+
+    @Schema(description = "Duração da conciliação em milissegundos", example = "9000")
+    private long duracaoMs;
+}
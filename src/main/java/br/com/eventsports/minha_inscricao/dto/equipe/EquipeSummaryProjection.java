@@ -0,0 +1,92 @@
+package br.com.eventsports.minha_inscricao.dto.equipe;
+
+import br.com.eventsports.minha_inscricao.enums.StatusInscricao;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Projeção de leitura para listagens de equipes. Os dados dos atletas chegam agregados
+ * (contagens, nomes concatenados e datas de nascimento extremas), o que basta para reproduzir
+ * as regras de EquipeEntity sem carregar a coleção de atletas.
+ */
+public record EquipeSummaryProjection(
+        Long id,
+        String nome,
+        String nomeEvento,
+        String nomeCategoria,
+        String nomeCapitao,
+        Boolean ativa,
+        Long numeroAtletas,
+        String nomesAtletasConcatenados,
+        Long atletasSemTermos,
+        Long atletasGeneroIncompativel,
+        Long atletasSemDataNascimento,
+        LocalDate menorDataNascimento,
+        LocalDate maiorDataNascimento,
+        Integer idadeMinimaCategoria,
+        Integer idadeMaximaCategoria,
+        StatusInscricao statusInscricao,
+        LocalDateTime createdAt) {
+
+    /**
+     * Separador usado no string_agg dos nomes dos atletas
+     */
+    public static final String SEPARADOR_NOMES = "|";
+
+    public int getNumeroAtletas() {
+        return numeroAtletas != null ? numeroAtletas.intValue() : 0;
+    }
+
+    public List<String> getNomesAtletas() {
+        if (nomesAtletasConcatenados == null || nomesAtletasConcatenados.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.asList(nomesAtletasConcatenados.split("\\|"));
+    }
+
+    public boolean isEquipeCompleta() {
+        return getNumeroAtletas() >= 2;
+    }
+
+    public boolean temInscricao() {
+        return statusInscricao != null;
+    }
+
+    public boolean inscricaoConfirmada() {
+        return StatusInscricao.CONFIRMADA.equals(statusInscricao);
+    }
+
+    /**
+     * Mesmas regras de EquipeEntity.podeSeInscrever(): equipe ativa e completa, todos os atletas
+     * com termos aceitos e compatíveis com gênero e faixa etária da categoria
+     */
+    public boolean podeSeInscrever() {
+        if (!Boolean.TRUE.equals(ativa) || !isEquipeCompleta() || nomeCategoria == null) {
+            return false;
+        }
+        if (valor(atletasSemTermos) > 0 || valor(atletasGeneroIncompativel) > 0) {
+            return false;
+        }
+
+        // Atletas sem data de nascimento têm idade 0, como em AtletaEntity.getIdade()
+        int menorIdade = valor(atletasSemDataNascimento) > 0 ? 0 : idade(maiorDataNascimento);
+        int maiorIdade = idade(menorDataNascimento);
+
+        if (idadeMinimaCategoria != null && menorIdade < idadeMinimaCategoria) {
+            return false;
+        }
+        return idadeMaximaCategoria == null || maiorIdade <= idadeMaximaCategoria;
+    }
+
+    private static long valor(Long contagem) {
+        return contagem != null ? contagem : 0L;
+    }
+
+    private static int idade(LocalDate dataNascimento) {
+        return dataNascimento != null ? Period.between(dataNascimento, LocalDate.now()).getYears() : 0;
+    }
+}
@@ -0,0 +1,7 @@
+package br.com.eventsports.minha_inscricao.dto.evento;
+
+/**
+ * Par latitude/longitude em graus decimais (WGS 84)
+ */
+public record Coordenadas(double latitude, double longitude) {
+}
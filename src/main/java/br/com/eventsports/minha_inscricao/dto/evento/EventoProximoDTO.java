@@ -0,0 +1,47 @@
+package br.com.eventsports.minha_inscricao.dto.evento;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Evento próximo a uma localização, com a distância até ela")
+public class EventoProximoDTO {
+
+    @Schema(description = "ID único do evento", example = "1", accessMode = Schema.AccessMode.READ_ONLY)
+    private Long id;
+
+    @Schema(description = "Nome do evento", example = "CrossFit Games 2024")
+    private String nome;
+
+    @Schema(description = "Data e hora de início do evento", example = "2024-12-15T10:00:00", type = "string", format = "date-time")
+    private LocalDateTime dataInicioDoEvento;
+
+    @Schema(description = "Data e hora de fim do evento", example = "2024-12-15T18:00:00", type = "string", format = "date-time")
+    private LocalDateTime dataFimDoEvento;
+
+    @Schema(description = "Status atual do evento", example = "ABERTO")
+    private String status;
+
+    @Schema(description = "Cidade onde o evento será realizado", example = "São Paulo")
+    private String cidade;
+
+    @Schema(description = "Estado onde o evento será realizado", example = "SP")
+    private String estado;
+
+    @Schema(description = "URL da imagem do evento", example = "/uploads/eventos/imagens/evento123.jpg")
+    private String imagemUrl;
+
+    @Schema(description = "Latitude do local do evento", example = "-23.5614")
+    private Double latitude;
+
+    @Schema(description = "Longitude do local do evento", example = "-46.6559")
+    private Double longitude;
+
+    @Schema(description = "Distância em km até a localização informada", example = "3.4")
+    private Double distanciaKm;
+}
@@ -0,0 +1,21 @@
+package br.com.eventsports.minha_inscricao.dto.evento;
+
+import br.com.eventsports.minha_inscricao.enums.StatusEvento;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projeção de leitura para a busca de eventos próximos: dados de listagem e coordenadas do evento
+ */
+public record EventoProximoProjection(
+        Long id,
+        String nome,
+        LocalDateTime dataInicioDoEvento,
+        LocalDateTime dataFimDoEvento,
+        StatusEvento status,
+        String cidade,
+        String estado,
+        String imagemUrl,
+        Double latitude,
+        Double longitude) {
+}
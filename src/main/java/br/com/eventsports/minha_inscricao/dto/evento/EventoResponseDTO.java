@@ -69,6 +69,12 @@ public class EventoResponseDTO {
     @Schema(description = "Endereço completo do evento", example = "Rua das Flores, 123 - Centro")
     private String endereco;
 
+    @Schema(description = "Latitude do local do evento", example = "-23.5614")
+    private Double latitude;
+
+    @Schema(description = "Longitude do local do evento", example = "-46.6559")
+    private Double longitude;
+
     @Schema(description = "URL da imagem do evento", example = "/uploads/eventos/imagens/evento123.jpg")
     private String imagemUrl;
 
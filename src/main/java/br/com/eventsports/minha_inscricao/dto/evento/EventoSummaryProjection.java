@@ -0,0 +1,43 @@
+package br.com.eventsports.minha_inscricao.dto.evento;
+
+import br.com.eventsports.minha_inscricao.enums.StatusEvento;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projeção de leitura para listagens de eventos: colunas do evento, nome do organizador
+ * e contadores desnormalizados do evento, sem inicializar as coleções de categorias e inscrições
+ */
+public record EventoSummaryProjection(
+        Long id,
+        String nome,
+        LocalDateTime dataInicioDoEvento,
+        LocalDateTime dataFimDoEvento,
+        StatusEvento status,
+        String nomeUsuarioOrganizador,
+        String nomeEmpresaOrganizador,
+        Integer totalCategorias,
+        Integer inscricoesAtivas,
+        String cidade,
+        String estado,
+        String imagemUrl,
+        LocalDateTime createdAt) {
+
+    /**
+     * Mesmo critério de UsuarioEntity.getNomeExibicao()
+     */
+    public String getNomeOrganizador() {
+        if (nomeEmpresaOrganizador != null && !nomeEmpresaOrganizador.trim().isEmpty()) {
+            return nomeEmpresaOrganizador;
+        }
+        return nomeUsuarioOrganizador != null ? nomeUsuarioOrganizador : "";
+    }
+
+    public String getDescricaoStatus() {
+        return status != null ? status.getDescricao() : "";
+    }
+
+    public boolean podeReceberInscricoes() {
+        return status != null && status.podeReceberInscricoes();
+    }
+}
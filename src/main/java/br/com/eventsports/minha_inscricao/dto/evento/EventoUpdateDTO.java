@@ -1,6 +1,8 @@
 package br.com.eventsports.minha_inscricao.dto.evento;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -50,4 +52,14 @@ public class EventoUpdateDTO {
     @Schema(description = "Endereço completo do evento", example = "Rua das Flores, 123 - Centro", maxLength = 300)
     private String endereco;
 
+    @DecimalMin(value = "-90.0", message = "Latitude deve estar entre -90 e 90")
+    @DecimalMax(value = "90.0", message = "Latitude deve estar entre -90 e 90")
+    @Schema(description = "Latitude do local (opcional; se omitida é obtida pelo endereço)", example = "-23.5614")
+    private Double latitude;
+
+    @DecimalMin(value = "-180.0", message = "Longitude deve estar entre -180 e 180")
+    @DecimalMax(value = "180.0", message = "Longitude deve estar entre -180 e 180")
+    @Schema(description = "Longitude do local (opcional; se omitida é obtida pelo endereço)", example = "-46.6559")
+    private Double longitude;
+
 }
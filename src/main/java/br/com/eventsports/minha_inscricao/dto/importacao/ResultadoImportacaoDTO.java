@@ -0,0 +1,37 @@
+package br.com.eventsports.minha_inscricao.dto.importacao;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Resumo de uma importação de atletas, equipes e inscrições via CSV")
+public class ResultadoImportacaoDTO {
+
+    @Schema(description = "ID do evento", example = "1")
+    private Long eventoId;
+
+    @Schema(description = "Linhas de dados lidas (sem o cabeçalho e linhas em branco)", example = "20000")
+    private long linhasProcessadas;
+
+    @Schema(description = "Atletas criados", example = "19950")
+    private long atletasCriados;
+
+    @Schema(description = "Equipes criadas", example = "1200")
+    private long equipesCriadas;
+
+    @Schema(description = "Inscrições criadas (uma por atleta individual e uma por equipe)", example = "13950")
+    private long inscricoesCriadas;
+
+    @Schema(description = "Linhas recusadas, listadas no relatório de erros", example = "50")
+    private long linhasComErro;
+
+    @Schema(description = "ID do relatório de erros para download; null quando não houve erros",
+            example = "3f1c2a9e-6b7d-4e8f-9a0b-1c2d3e4f5a6b")
+    private String relatorioErrosId;
+
+    @Schema(description = "Duração da importação em milissegundos", example = "4200")
+    private long duracaoMs;
+}
@@ -0,0 +1,61 @@
+package br.com.eventsports.minha_inscricao.dto.inscricao;
+
+import br.com.eventsports.minha_inscricao.enums.StatusInscricao;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Projeção de leitura para listagens de inscrições: nomes de evento, categoria, atleta e equipe
+ * obtidos por join e o número de atletas da equipe por contagem no banco
+ */
+public record InscricaoSummaryProjection(
+        Long id,
+        String nomeEvento,
+        String nomeCategoria,
+        Long atletaId,
+        String nomeAtleta,
+        Long equipeId,
+        String nomeEquipe,
+        Long numeroAtletasEquipe,
+        StatusInscricao status,
+        BigDecimal valor,
+        BigDecimal valorDesconto,
+        LocalDateTime dataInscricao,
+        LocalDateTime dataConfirmacao) {
+
+    public BigDecimal getValorTotal() {
+        if (valorDesconto != null && valorDesconto.compareTo(BigDecimal.ZERO) > 0) {
+            return valor.subtract(valorDesconto);
+        }
+        return valor;
+    }
+
+    public String getTipoInscricao() {
+        if (atletaId != null && equipeId == null) {
+            return "Individual";
+        }
+        if (equipeId != null && atletaId == null) {
+            return "Equipe";
+        }
+        return "Indefinido";
+    }
+
+    public int getNumeroParticipantes() {
+        if (atletaId != null) {
+            return 1;
+        }
+        return equipeId != null && numeroAtletasEquipe != null ? numeroAtletasEquipe.intValue() : 0;
+    }
+
+    public String getNomeParticipante() {
+        if (atletaId != null) {
+            return nomeAtleta != null ? nomeAtleta : "Atleta " + atletaId;
+        }
+        return nomeEquipe != null ? nomeEquipe : "";
+    }
+
+    public String getDescricaoStatus() {
+        return status != null ? status.getDescricao() : "";
+    }
+}
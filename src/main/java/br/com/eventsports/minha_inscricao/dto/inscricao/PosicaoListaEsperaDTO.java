@@ -0,0 +1,29 @@
+package br.com.eventsports.minha_inscricao.dto.inscricao;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Posição de uma inscrição na lista de espera da categoria")
+public class PosicaoListaEsperaDTO {
+
+    @Schema(description = "ID da inscrição", example = "1")
+    private Long inscricaoId;
+
+    @Schema(description = "ID da categoria", example = "1")
+    private Long categoriaId;
+
+    @Schema(description = "Posição na fila (1 = próxima a ser promovida)", example = "3")
+    private Long posicao;
+
+    @Schema(description = "Total de inscrições na lista de espera da categoria", example = "12")
+    private Long totalNaLista;
+
+    @Schema(description = "Data da inscrição, que define a ordem da fila")
+    private LocalDateTime dataInscricao;
+}
@@ -0,0 +1,46 @@
+package br.com.eventsports.minha_inscricao.dto.inscricaoassincrona;
+
+import br.com.eventsports.minha_inscricao.enums.StatusIntencaoInscricao;
+import br.com.eventsports.minha_inscricao.enums.TipoIntencaoInscricao;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Situação de uma inscrição enviada no modo assíncrono")
+public class StatusIntencaoInscricaoDTO {
+
+    @Schema(description = "ID do pedido de inscrição", example = "1024")
+    private Long id;
+
+    @Schema(description = "ID do evento", example = "1")
+    private Long eventoId;
+
+    @Schema(description = "Tipo de inscrição", example = "ATLETA")
+    private TipoIntencaoInscricao tipo;
+
+    @Schema(description = "Situação do processamento", example = "RECEBIDA")
+    private StatusIntencaoInscricao status;
+
+    @Schema(description = "URL para consultar a situação", example = "/api/inscricoes-assincronas/1024")
+    private String urlStatus;
+
+    @Schema(description = "ID do atleta ou da equipe criado; só quando concluída", example = "57")
+    private Long recursoId;
+
+    @Schema(description = "URL do atleta ou da equipe criado; só quando concluída", example = "/api/atletas/57")
+    private String urlRecurso;
+
+    @Schema(description = "Motivo da recusa; só quando recusada")
+    private String erro;
+
+    @Schema(description = "Data de recebimento", example = "2025-03-01T10:00:00")
+    private LocalDateTime criadaEm;
+
+    @Schema(description = "Última mudança de situação", example = "2025-03-01T10:00:02")
+    private LocalDateTime atualizadaEm;
+}
@@ -0,0 +1,27 @@
+package br.com.eventsports.minha_inscricao.dto.paginacao;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Página de uma listagem paginada por cursor")
+public class PaginaCursorDTO<T> {
+
+    @Schema(description = "Itens da página")
+    private List<T> itens;
+
+    @Schema(description = "Cursor opaco para buscar a próxima página (ausente na última página)", example = "MjAyNC0xMi0xNVQxMDowMHw0Mg")
+    private String proximoCursor;
+
+    @Schema(description = "Quantidade máxima de itens solicitada", example = "50")
+    private Integer limite;
+
+    public boolean isTemMais() {
+        return proximoCursor != null;
+    }
+}
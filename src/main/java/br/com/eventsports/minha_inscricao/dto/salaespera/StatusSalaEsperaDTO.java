@@ -0,0 +1,36 @@
+package br.com.eventsports.minha_inscricao.dto.salaespera;
+
+import br.com.eventsports.minha_inscricao.enums.SituacaoSalaEspera;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Situação do cliente na sala de espera de inscrições do evento")
+public class StatusSalaEsperaDTO {
+
+    @Schema(description = "ID do evento", example = "1")
+    private Long eventoId;
+
+    @Schema(description = "Ticket da fila, usado para consultar a situação", example = "9b2f6c1e-8a0d-4d1e-9f3a-2c5e7b8d4a10")
+    private String ticket;
+
+    @Schema(description = "Situação na fila", example = "AGUARDANDO")
+    private SituacaoSalaEspera situacao;
+
+    @Schema(description = "Posição aproximada na fila (1 = próximo a ser admitido); null quando admitido", example = "37")
+    private Long posicao;
+
+    @Schema(description = "Token de admissão a enviar no header X-Token-Admissao das inscrições; só quando admitido")
+    private String tokenAdmissao;
+
+    @Schema(description = "Validade do token de admissão", example = "2025-03-01T10:02:00")
+    private LocalDateTime admissaoExpiraEm;
+
+    @Schema(description = "Intervalo sugerido até a próxima consulta (também no header Retry-After)", example = "5")
+    private Integer consultarNovamenteEmSegundos;
+}
@@ -0,0 +1,73 @@
+package br.com.eventsports.minha_inscricao.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Arquivo físico de anexo, armazenado uma única vez por conteúdo (SHA-256).
+ * Vários anexos (inclusive de eventos diferentes) podem apontar para o mesmo blob.
+ */
+@Entity
+@Table(name = "anexo_blobs")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AnexoBlobEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "anexo_blobs_seq")
+    @SequenceGenerator(name = "anexo_blobs_seq", sequenceName = "anexo_blobs_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "sha256", nullable = false, unique = true, length = 64)
+    private String sha256;
+
+    @Column(name = "caminho_arquivo", nullable = false, length = 1000)
+    private String caminhoArquivo;
+
+    @Column(name = "tamanho_bytes", nullable = false)
+    private Long tamanhoBytes;
+
+    @Column(name = "referencias", nullable = false)
+    @Builder.Default
+    private Integer referencias = 0;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // Lifecycle methods
+    @PrePersist
+    public void prePersist() {
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = LocalDateTime.now();
+        if (this.referencias == null) {
+            this.referencias = 0;
+        }
+    }
+
+    @PreUpdate
+    public void preUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // Métodos de conveniência
+    public void adicionarReferencia() {
+        this.referencias = (this.referencias != null ? this.referencias : 0) + 1;
+    }
+
+    public void removerReferencia() {
+        if (this.referencias != null && this.referencias > 0) {
+            this.referencias--;
+        }
+    }
+
+    public boolean isReferenciado() {
+        return this.referencias != null && this.referencias > 0;
+    }
+}
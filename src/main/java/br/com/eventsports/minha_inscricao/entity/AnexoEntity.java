@@ -14,7 +14,8 @@ import java.time.LocalDateTime;
 public class AnexoEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "anexos_seq")
+    @SequenceGenerator(name = "anexos_seq", sequenceName = "anexos_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "nome_arquivo", nullable = false, length = 500)
@@ -42,6 +43,11 @@ public class AnexoEntity {
     @Builder.Default
     private Boolean ativo = true;
 
+    // Arquivo físico compartilhado (endereçado por SHA-256); nulo para anexos anteriores ao blob store
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "blob_id")
+    private AnexoBlobEntity blob;
+
     // Relacionamento com Evento
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "evento_id", nullable = false)
@@ -18,7 +18,8 @@ import java.time.Period;
 public class AtletaEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "atletas_seq")
+    @SequenceGenerator(name = "atletas_seq", sequenceName = "atletas_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "nome", nullable = false, length = 200)
@@ -3,6 +3,8 @@ package br.com.eventsports.minha_inscricao.entity;
 import br.com.eventsports.minha_inscricao.enums.Genero;
 import br.com.eventsports.minha_inscricao.enums.TipoParticipacao;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.*;
 
 import java.math.BigDecimal;
@@ -13,6 +15,8 @@ import java.util.stream.Collectors;
 
 @Entity
 @Table(name = "categorias")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "categorias")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -20,7 +24,8 @@ import java.util.stream.Collectors;
 public class CategoriaEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "categorias_seq")
+    @SequenceGenerator(name = "categorias_seq", sequenceName = "categorias_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -58,6 +63,10 @@ public class CategoriaEntity {
     @Column(name = "ativa", nullable = false)
     private Boolean ativa = true;
 
+    // Limite de inscrições (null = sem limite)
+    @Column(name = "vagas")
+    private Integer vagas;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -73,6 +82,8 @@ public class CategoriaEntity {
     @Builder.Default
     private List<EquipeEntity> equipes = new ArrayList<>();
 
+    // Lado inverso do Many-to-Many: fica fora do cache de segundo nível porque o Hibernate não o invalida
+    // quando WorkoutEntity.categorias muda (workouts ativos da categoria usam o cache de consulta)
     @ManyToMany(mappedBy = "categorias", fetch = FetchType.LAZY)
     @Builder.Default
     private List<WorkoutEntity> workouts = new ArrayList<>();
@@ -104,6 +115,10 @@ public class CategoriaEntity {
     }
 
     // Métodos de conveniência
+    public boolean temLimiteDeVagas() {
+        return this.vagas != null;
+    }
+
     public boolean atletaPodeParticipar(UsuarioEntity atleta) {
         if (!this.ativa) {
             return false;
@@ -152,14 +167,6 @@ public class CategoriaEntity {
         return true;
     }
 
-    public long getNumeroInscricoesAtivas() {
-        return this.inscricoes != null 
-               ? this.inscricoes.stream()
-                   .filter(inscricao -> inscricao.getStatus().isAtiva())
-                   .count()
-               : 0;
-    }
-
     public String getDescricaoCompleta() {
         StringBuilder sb = new StringBuilder(this.nome);
         
@@ -231,18 +238,6 @@ public class CategoriaEntity {
         return atletasIds != null && atletasIds.size() == this.quantidadeDeAtletasPorEquipe;
     }
 
-    public long getNumeroEquipesAtivas() {
-        return this.equipes != null 
-               ? this.equipes.stream()
-                   .filter(EquipeEntity::getAtiva)
-                   .count()
-               : 0;
-    }
-
-    public int getTotalEquipes() {
-        return this.equipes != null ? this.equipes.size() : 0;
-    }
-
     // Métodos de conveniência para workouts
     public void adicionarWorkout(WorkoutEntity workout) {
         if (this.workouts == null) {
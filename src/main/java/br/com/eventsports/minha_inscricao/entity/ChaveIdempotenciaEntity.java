@@ -0,0 +1,58 @@
+package br.com.eventsports.minha_inscricao.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Resposta guardada de um POST com Idempotency-Key.
+ * A chave é o hash de usuário, rota e valor do header; sem status a requisição ainda está em processamento.
+ * O hash da requisição (query string e corpo) impede que a chave seja reaproveitada com outro conteúdo.
+ */
+@Entity
+@Table(name = "chaves_idempotencia")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString(exclude = "corpo")
+public class ChaveIdempotenciaEntity {
+
+    @Id
+    @Column(name = "chave", length = 64)
+    private String chave;
+
+    @Column(name = "status_http")
+    private Integer statusHttp;
+
+    @Column(name = "content_type", length = 150)
+    private String contentType;
+
+    @Column(name = "corpo")
+    private byte[] corpo;
+
+    @Column(name = "hash_requisicao", length = 64)
+    private String hashRequisicao;
+
+    @Column(name = "criada_em", nullable = false)
+    private LocalDateTime criadaEm;
+
+    @Column(name = "expira_em", nullable = false)
+    private LocalDateTime expiraEm;
+
+    public boolean isConcluida() {
+        return this.statusHttp != null;
+    }
+
+    /**
+     * Se a requisição repetida é a mesma que reservou a chave (sem hash: chave anterior à verificação)
+     */
+    public boolean isMesmaRequisicao(String hashRequisicao) {
+        return this.hashRequisicao == null || this.hashRequisicao.equals(hashRequisicao);
+    }
+
+    public boolean isExpirada(LocalDateTime agora) {
+        return this.expiraEm.isBefore(agora);
+    }
+}
@@ -0,0 +1,50 @@
+package br.com.eventsports.minha_inscricao.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Contadores desnormalizados e vagas ocupadas da categoria, fora de CategoriaEntity pelo mesmo motivo
+ * de ContadorEventoEntity. O limite de vagas continua na categoria; só ContadorService e VagaService
+ * alteram esta tabela (UPDATE atômico).
+ */
+@Entity
+@Table(name = "contadores_categorias")
+@Immutable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ContadorCategoriaEntity {
+
+    @Id
+    @Column(name = "categoria_id")
+    private Long categoriaId;
+
+    @Column(name = "inscricoes_ativas", nullable = false)
+    private int inscricoesAtivas;
+
+    @Column(name = "equipes_ativas", nullable = false)
+    private int equipesAtivas;
+
+    @Column(name = "total_equipes", nullable = false)
+    private int totalEquipes;
+
+    @Column(name = "vagas_ocupadas", nullable = false)
+    private int vagasOcupadas;
+
+    /**
+     * Contadores zerados, para categoria ainda sem linha (ex.: antes da reconciliação)
+     */
+    public static ContadorCategoriaEntity vazio(Long categoriaId) {
+        return ContadorCategoriaEntity.builder().categoriaId(categoriaId).build();
+    }
+
+    /**
+     * Vagas ainda livres para o limite informado (null quando a categoria não tem limite)
+     */
+    public Integer vagasDisponiveis(Integer vagas) {
+        return vagas != null ? Math.max(0, vagas - this.vagasOcupadas) : null;
+    }
+}
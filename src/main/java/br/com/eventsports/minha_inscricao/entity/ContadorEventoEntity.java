@@ -0,0 +1,46 @@
+package br.com.eventsports.minha_inscricao.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Contadores desnormalizados do evento, fora de EventoEntity: mudam a cada inscrição e, como
+ * eventos ficam no cache de segundo nível, cada UPDATE invalidaria a região e as consultas em cache
+ * sobre a tabela. Esta tabela não é cacheada; só ContadorService a altera (UPDATE atômico por delta).
+ */
+@Entity
+@Table(name = "contadores_eventos")
+@Immutable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ContadorEventoEntity {
+
+    @Id
+    @Column(name = "evento_id")
+    private Long eventoId;
+
+    @Column(name = "total_categorias", nullable = false)
+    private int totalCategorias;
+
+    @Column(name = "total_inscricoes", nullable = false)
+    private int totalInscricoes;
+
+    @Column(name = "inscricoes_ativas", nullable = false)
+    private int inscricoesAtivas;
+
+    @Column(name = "total_workouts_ativos", nullable = false)
+    private int totalWorkoutsAtivos;
+
+    @Column(name = "total_anexos_ativos", nullable = false)
+    private int totalAnexosAtivos;
+
+    /**
+     * Contadores zerados, para evento ainda sem linha (ex.: antes da reconciliação)
+     */
+    public static ContadorEventoEntity vazio(Long eventoId) {
+        return ContadorEventoEntity.builder().eventoId(eventoId).build();
+    }
+}
@@ -18,7 +18,8 @@ import java.util.List;
 public class EquipeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "equipes_seq")
+    @SequenceGenerator(name = "equipes_seq", sequenceName = "equipes_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "nome", nullable = false, length = 100)
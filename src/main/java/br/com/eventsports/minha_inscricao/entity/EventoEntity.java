@@ -2,6 +2,8 @@ package br.com.eventsports.minha_inscricao.entity;
 
 import br.com.eventsports.minha_inscricao.enums.StatusEvento;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.*;
 
 import java.time.LocalDateTime;
@@ -10,6 +12,8 @@ import java.util.List;
 
 @Entity
 @Table(name = "eventos")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "eventos")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -18,7 +22,8 @@ import java.util.List;
 public class EventoEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "eventos_seq")
+    @SequenceGenerator(name = "eventos_seq", sequenceName = "eventos_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "nome", nullable = false, length = 200)
@@ -48,6 +53,13 @@ public class EventoEntity {
     @Column(name = "endereco", length = 300)
     private String endereco;
 
+    // Coordenadas WGS 84, usadas na busca de eventos próximos (GeocodificacaoEventoService)
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @Column(name = "longitude")
+    private Double longitude;
+
     @Column(name = "imagem_url", length = 500)
     private String imagemUrl;
 
@@ -62,6 +74,7 @@ public class EventoEntity {
     private StatusEvento status = StatusEvento.RASCUNHO;
 
     // Relacionamentos
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "eventos.categorias")
     @OneToMany(mappedBy = "evento", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @Builder.Default
     private List<CategoriaEntity> categorias = new ArrayList<>();
@@ -70,6 +83,7 @@ public class EventoEntity {
     @Builder.Default
     private List<InscricaoEntity> inscricoes = new ArrayList<>();
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "eventos.workouts")
     @OneToMany(mappedBy = "evento", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @Builder.Default
     private List<WorkoutEntity> workouts = new ArrayList<>();
@@ -200,34 +214,10 @@ public class EventoEntity {
                : null;
     }
 
-    public int getTotalCategorias() {
-        return this.categorias != null ? this.categorias.size() : 0;
-    }
-
-    public int getTotalInscricoes() {
-        return this.inscricoes != null ? this.inscricoes.size() : 0;
-    }
-
-    public long getInscricoesAtivas() {
-        return this.inscricoes != null 
-               ? this.inscricoes.stream()
-                   .filter(inscricao -> inscricao.getStatus().isAtiva())
-                   .count()
-               : 0;
-    }
-
     public int getTotalWorkouts() {
         return this.workouts != null ? this.workouts.size() : 0;
     }
 
-    public int getTotalWorkoutsAtivos() {
-        return this.workouts != null 
-               ? (int) this.workouts.stream()
-                   .filter(workout -> workout.getAtivo())
-                   .count()
-               : 0;
-    }
-
     public int getTotalLeaderboards() {
         return this.leaderboards != null ? this.leaderboards.size() : 0;
     }
@@ -254,14 +244,6 @@ public class EventoEntity {
         return this.anexos != null ? this.anexos.size() : 0;
     }
 
-    public int getTotalAnexosAtivos() {
-        return this.anexos != null 
-               ? (int) this.anexos.stream()
-                   .filter(anexo -> anexo.isAtivo())
-                   .count()
-               : 0;
-    }
-
     public boolean temTimeline() {
         return this.timeline != null && !this.timeline.isVazia();
     }
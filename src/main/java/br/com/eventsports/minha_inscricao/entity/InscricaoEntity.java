@@ -19,7 +19,8 @@ import java.util.List;
 public class InscricaoEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "inscricoes_seq")
+    @SequenceGenerator(name = "inscricoes_seq", sequenceName = "inscricoes_seq", allocationSize = 50)
     private Long id;
 
     // Relacionamento com Atleta (quem vai participar do evento)
@@ -73,6 +74,10 @@ public class InscricaoEntity {
     @Column(name = "motivo_cancelamento", length = 200)
     private String motivoCancelamento;
 
+    // Fim da reserva da vaga enquanto a inscrição está pendente (definido por VagaService)
+    @Column(name = "reserva_expira_em")
+    private LocalDateTime reservaExpiraEm;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -130,6 +135,10 @@ public class InscricaoEntity {
         this.status = StatusInscricao.LISTA_ESPERA;
     }
 
+    public void promoverDaListaEspera() {
+        this.status = StatusInscricao.PENDENTE;
+    }
+
     public void recusar(String motivo) {
         this.status = StatusInscricao.RECUSADA;
         this.motivoCancelamento = motivo;
@@ -0,0 +1,90 @@
+package br.com.eventsports.minha_inscricao.entity;
+
+import br.com.eventsports.minha_inscricao.enums.StatusIntencaoInscricao;
+import br.com.eventsports.minha_inscricao.enums.TipoIntencaoInscricao;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Pedido de inscrição aceito no modo assíncrono: guarda só o DTO recebido (JSON) e o evento,
+ * sem relacionamentos; o processamento em segundo plano cria o atleta/equipe e a inscrição.
+ */
+@Entity
+@Table(name = "intencoes_inscricao")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString(exclude = "payload")
+public class IntencaoInscricaoEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "intencoes_inscricao_seq")
+    @SequenceGenerator(name = "intencoes_inscricao_seq", sequenceName = "intencoes_inscricao_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "evento_id", nullable = false)
+    private Long eventoId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "tipo", nullable = false, length = 20)
+    private TipoIntencaoInscricao tipo;
+
+    /**
+     * E-mail de quem enviou o pedido (dono da consulta de status)
+     */
+    @Column(name = "solicitante", nullable = false, length = 150)
+    private String solicitante;
+
+    @Column(name = "usuario_id")
+    private Long usuarioId;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "text")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private StatusIntencaoInscricao status = StatusIntencaoInscricao.RECEBIDA;
+
+    /**
+     * Atleta ou equipe criado, quando concluída
+     */
+    @Column(name = "recurso_id")
+    private Long recursoId;
+
+    @Column(name = "erro", length = 500)
+    private String erro;
+
+    /**
+     * Falhas transitórias (banco, transação) já sofridas; a intenção continua RECEBIDA
+     */
+    @Column(name = "tentativas", nullable = false)
+    @Builder.Default
+    private Integer tentativas = 0;
+
+    /**
+     * Antes disso a intenção não é processada (espera após falha transitória)
+     */
+    @Column(name = "proxima_tentativa_em")
+    private LocalDateTime proximaTentativaEm;
+
+    @Column(name = "criada_em", nullable = false, updatable = false)
+    private LocalDateTime criadaEm;
+
+    @Column(name = "atualizada_em", nullable = false)
+    private LocalDateTime atualizadaEm;
+
+    @PrePersist
+    public void prePersist() {
+        this.criadaEm = LocalDateTime.now();
+        this.atualizadaEm = this.criadaEm;
+    }
+
+    @PreUpdate
+    public void preUpdate() {
+        this.atualizadaEm = LocalDateTime.now();
+    }
+}
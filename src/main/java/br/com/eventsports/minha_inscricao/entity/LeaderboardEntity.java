@@ -16,7 +16,8 @@ import java.time.LocalDateTime;
 public class LeaderboardEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "leaderboards_seq")
+    @SequenceGenerator(name = "leaderboards_seq", sequenceName = "leaderboards_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "posicao_workout", nullable = false)
@@ -20,7 +20,8 @@ import java.time.LocalDateTime;
 public class PagamentoEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pagamentos_seq")
+    @SequenceGenerator(name = "pagamentos_seq", sequenceName = "pagamentos_seq", allocationSize = 50)
     @Schema(description = "ID único do pagamento", example = "1", accessMode = Schema.AccessMode.READ_ONLY)
     private Long id;
 
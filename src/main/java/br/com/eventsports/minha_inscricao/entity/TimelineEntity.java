@@ -14,7 +14,8 @@ import java.time.LocalDateTime;
 public class TimelineEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "timelines_seq")
+    @SequenceGenerator(name = "timelines_seq", sequenceName = "timelines_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "descricao_dia_um", columnDefinition = "TEXT")
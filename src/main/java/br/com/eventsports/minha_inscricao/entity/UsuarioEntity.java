@@ -20,7 +20,8 @@ import java.util.List;
 public class UsuarioEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "usuarios_seq")
+    @SequenceGenerator(name = "usuarios_seq", sequenceName = "usuarios_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "email", unique = true, nullable = false, length = 150)
@@ -83,6 +84,13 @@ public class UsuarioEntity {
     @Column(name = "ativo", nullable = false)
     private Boolean ativo = true;
 
+    // Tipo persistido: recalculado por UPDATE direto ao criar, transferir ou remover eventos,
+    // por isso não entra no UPDATE gerado pela entidade
+    @Enumerated(EnumType.STRING)
+    @Builder.Default
+    @Column(name = "tipo_usuario", nullable = false, length = 20, updatable = false)
+    private TipoUsuario tipoUsuario = TipoUsuario.ATLETA;
+
     @Column(name = "ultimo_login")
     private LocalDateTime ultimoLogin;
 
@@ -115,6 +123,9 @@ public class UsuarioEntity {
         if (this.verificado == null) {
             this.verificado = false;
         }
+        if (this.tipoUsuario == null) {
+            this.tipoUsuario = TipoUsuario.ATLETA;
+        }
     }
 
     @PreUpdate
@@ -124,19 +135,13 @@ public class UsuarioEntity {
 
     // Métodos de conveniência para tipo de usuário
     public boolean isOrganizador() {
-        return this.eventosOrganizados != null && !this.eventosOrganizados.isEmpty();
+        return this.tipoUsuario == TipoUsuario.ORGANIZADOR;
     }
 
     public boolean jaFezInscricoes() {
         return this.inscricoesCriadas != null && !this.inscricoesCriadas.isEmpty();
     }
 
-    public TipoUsuario getTipoUsuario() {
-        // Delega para TipoUsuarioUtil para lógica centralizada
-        // ADMIN é reservado exclusivamente para desenvolvedores/sistema
-        return br.com.eventsports.minha_inscricao.util.TipoUsuarioUtil.determinarTipo(this);
-    }
-
     public void desativar() {
         this.ativo = false;
     }
@@ -2,6 +2,8 @@ package br.com.eventsports.minha_inscricao.entity;
 
 import br.com.eventsports.minha_inscricao.enums.TipoWorkout;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.*;
 
 import java.time.LocalDateTime;
@@ -10,6 +12,8 @@ import java.util.List;
 
 @Entity
 @Table(name = "workouts")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "workouts")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -17,7 +21,8 @@ import java.util.List;
 public class WorkoutEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "workouts_seq")
+    @SequenceGenerator(name = "workouts_seq", sequenceName = "workouts_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "nome", nullable = false, length = 200)
@@ -32,6 +37,7 @@ public class WorkoutEntity {
     private TipoWorkout tipo = TipoWorkout.REPS;
 
     // Relacionamento Many-to-Many com Categorias
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "workouts.categorias")
     @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
         name = "workout_categorias",
@@ -0,0 +1,21 @@
+package br.com.eventsports.minha_inscricao.enums;
+
+/**
+ * Enum que define o que a reconciliação de armazenamento faz com arquivos sem referência no banco
+ */
+public enum AcaoArquivoOrfao {
+
+    QUARENTENA("Move o arquivo para o diretório de quarentena"),
+    REMOVER("Remove o arquivo definitivamente"),
+    RELATORIO("Apenas registra o arquivo no relatório");
+
+    private final String descricao;
+
+    AcaoArquivoOrfao(String descricao) {
+        this.descricao = descricao;
+    }
+
+    public String getDescricao() {
+        return descricao;
+    }
+}
@@ -0,0 +1,20 @@
+package br.com.eventsports.minha_inscricao.enums;
+
+/**
+ * Enum que define a situação de um ticket na sala de espera de inscrições
+ */
+public enum SituacaoSalaEspera {
+
+    AGUARDANDO("Aguardando na fila"),
+    ADMITIDO("Admitido para se inscrever");
+
+    private final String descricao;
+
+    SituacaoSalaEspera(String descricao) {
+        this.descricao = descricao;
+    }
+
+    public String getDescricao() {
+        return descricao;
+    }
+}
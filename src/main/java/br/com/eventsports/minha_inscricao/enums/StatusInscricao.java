@@ -36,6 +36,13 @@ public enum StatusInscricao {
         return this == PENDENTE || this == CONFIRMADA || this == LISTA_ESPERA;
     }
 
+    /**
+     * Inscrições pendentes (reserva aguardando pagamento) e confirmadas ocupam vaga na categoria
+     */
+    public boolean ocupaVaga() {
+        return this == PENDENTE || this == CONFIRMADA;
+    }
+
     public boolean podePagar() {
         return this == PENDENTE;
     }
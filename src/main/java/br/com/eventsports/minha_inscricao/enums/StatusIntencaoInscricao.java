@@ -0,0 +1,26 @@
+package br.com.eventsports.minha_inscricao.enums;
+
+/**
+ * Enum que define a situação de uma inscrição recebida no modo assíncrono
+ */
+public enum StatusIntencaoInscricao {
+
+    RECEBIDA("Recebida, aguardando processamento"),
+    PROCESSANDO("Em processamento"),
+    CONCLUIDA("Inscrição criada"),
+    RECUSADA("Inscrição recusada");
+
+    private final String descricao;
+
+    StatusIntencaoInscricao(String descricao) {
+        this.descricao = descricao;
+    }
+
+    public String getDescricao() {
+        return descricao;
+    }
+
+    public boolean isFinal() {
+        return this == CONCLUIDA || this == RECUSADA;
+    }
+}
@@ -0,0 +1,21 @@
+package br.com.eventsports.minha_inscricao.enums;
+
+/**
+ * Enum que define os tipos de evento registrados no outbox
+ */
+public enum TipoEventoOutbox {
+
+    INSCRICAO_RECEBIDA("Inscrição assíncrona recebida"),
+    INSCRICAO_CONCLUIDA("Inscrição assíncrona processada com sucesso"),
+    INSCRICAO_RECUSADA("Inscrição assíncrona recusada no processamento");
+
+    private final String descricao;
+
+    TipoEventoOutbox(String descricao) {
+        this.descricao = descricao;
+    }
+
+    public String getDescricao() {
+        return descricao;
+    }
+}
@@ -0,0 +1,20 @@
+package br.com.eventsports.minha_inscricao.enums;
+
+/**
+ * Enum que define o tipo de inscrição recebida no modo assíncrono
+ */
+public enum TipoIntencaoInscricao {
+
+    ATLETA("Inscrição individual"),
+    EQUIPE("Inscrição de equipe");
+
+    private final String descricao;
+
+    TipoIntencaoInscricao(String descricao) {
+        this.descricao = descricao;
+    }
+
+    public String getDescricao() {
+        return descricao;
+    }
+}
@@ -0,0 +1,24 @@
+package br.com.eventsports.minha_inscricao.enums;
+
+/**
+ * Enum que define os tipos de registro retornados pela busca unificada
+ */
+public enum TipoResultadoBusca {
+
+    EVENTO("Evento"),
+    ATLETA("Atleta"),
+    EQUIPE("Equipe"),
+    CATEGORIA("Categoria"),
+    WORKOUT("Workout"),
+    USUARIO("Usuário");
+
+    private final String descricao;
+
+    TipoResultadoBusca(String descricao) {
+        this.descricao = descricao;
+    }
+
+    public String getDescricao() {
+        return descricao;
+    }
+}
@@ -0,0 +1,8 @@
+package br.com.eventsports.minha_inscricao.exception;
+
+public class AdmissaoNegadaException extends RuntimeException {
+
+    public AdmissaoNegadaException(String message) {
+        super(message);
+    }
+}
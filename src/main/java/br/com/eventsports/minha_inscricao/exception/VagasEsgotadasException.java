@@ -0,0 +1,8 @@
+package br.com.eventsports.minha_inscricao.exception;
+
+public class VagasEsgotadasException extends RuntimeException {
+
+    public VagasEsgotadasException(String message) {
+        super(message);
+    }
+}
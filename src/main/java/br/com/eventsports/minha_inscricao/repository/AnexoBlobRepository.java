@@ -0,0 +1,88 @@
+package br.com.eventsports.minha_inscricao.repository;
+
+import br.com.eventsports.minha_inscricao.entity.AnexoBlobEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AnexoBlobRepository extends JpaRepository<AnexoBlobEntity, Long> {
+
+    /**
+     * Busca blob pelo hash SHA-256 bloqueando a linha, para que contagem de
+     * referências e coleta não concorram entre uploads e remoções
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM AnexoBlobEntity b WHERE b.sha256 = :sha256")
+    Optional<AnexoBlobEntity> findBySha256ForUpdate(@Param("sha256") String sha256);
+
+    /**
+     * Cria o blob do conteúdo se ainda não existir; retorna 0 quando outro upload já o criou.
+     * Se esse upload ainda não confirmou, o INSERT espera por ele na chave única
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "anexo_blobs"))
+    @Query(value = """
+        INSERT INTO anexo_blobs (sha256, caminho_arquivo, tamanho_bytes, referencias, created_at, updated_at)
+        VALUES (:sha256, :caminhoArquivo, :tamanhoBytes, 0, :agora, :agora)
+        ON CONFLICT (sha256) DO NOTHING
+        """, nativeQuery = true)
+    int inserirSeAusente(@Param("sha256") String sha256, @Param("caminhoArquivo") String caminhoArquivo,
+            @Param("tamanhoBytes") Long tamanhoBytes, @Param("agora") LocalDateTime agora);
+
+    /**
+     * Serializa, até o fim da transação, quem grava ou apaga o arquivo de um conteúdo: o caminho
+     * depende só do SHA-256, então um upload e a remoção do blob anterior disputam o mesmo arquivo
+     */
+    @Query(value = "SELECT 1 FROM (SELECT pg_advisory_xact_lock(hashtextextended(:sha256, 0))) bloqueio",
+            nativeQuery = true)
+    Integer bloquearConteudo(@Param("sha256") String sha256);
+
+    boolean existsBySha256(String sha256);
+
+    /**
+     * Busca blob pelo ID bloqueando a linha
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM AnexoBlobEntity b WHERE b.id = :id")
+    Optional<AnexoBlobEntity> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * Busca o próximo lote de blobs a partir de um ID (paginação por chave, usada na migração de layout)
+     */
+    List<AnexoBlobEntity> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    /**
+     * Atualiza apenas o caminho físico do blob (sem sobrescrever a contagem de referências)
+     */
+    @Modifying
+    @Query("UPDATE AnexoBlobEntity b SET b.caminhoArquivo = :caminhoArquivo WHERE b.id = :id")
+    int updateCaminhoArquivo(@Param("id") Long id, @Param("caminhoArquivo") String caminhoArquivo);
+
+    /**
+     * Dentre os caminhos informados, retorna os que pertencem a algum blob
+     */
+    @Query("SELECT b.caminhoArquivo FROM AnexoBlobEntity b WHERE b.caminhoArquivo IN :caminhos")
+    List<String> findCaminhosReferenciados(@Param("caminhos") Collection<String> caminhos);
+
+    /**
+     * Busca blobs que não são mais referenciados por nenhum anexo
+     * (considera as linhas reais de anexos, cobrindo remoções em cascata do evento)
+     */
+    @Query("SELECT b FROM AnexoBlobEntity b WHERE NOT EXISTS " +
+           "(SELECT a.id FROM AnexoEntity a WHERE a.blob = b)")
+    List<AnexoBlobEntity> findNaoReferenciados();
+}
@@ -1,11 +1,14 @@
 package br.com.eventsports.minha_inscricao.repository;
 
 import br.com.eventsports.minha_inscricao.entity.AnexoEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -45,6 +48,43 @@ public interface AnexoRepository extends JpaRepository<AnexoEntity, Long> {
      */
     Optional<AnexoEntity> findByChecksumMd5(String checksumMd5);
     
+    /**
+     * Conta anexos que apontam para um blob
+     */
+    @Query("SELECT COUNT(a) FROM AnexoEntity a WHERE a.blob.id = :blobId")
+    long countByBlobId(@Param("blobId") Long blobId);
+    
+    /**
+     * Atualiza o caminho físico de todos os anexos que apontam para um blob
+     */
+    @Modifying
+    @Query("UPDATE AnexoEntity a SET a.caminhoArquivo = :caminhoArquivo WHERE a.blob.id = :blobId")
+    int updateCaminhoArquivoByBlobId(@Param("blobId") Long blobId, @Param("caminhoArquivo") String caminhoArquivo);
+    
+    /**
+     * Atualiza o caminho físico de um anexo
+     */
+    @Modifying
+    @Query("UPDATE AnexoEntity a SET a.caminhoArquivo = :caminhoArquivo WHERE a.id = :id")
+    int updateCaminhoArquivo(@Param("id") Long id, @Param("caminhoArquivo") String caminhoArquivo);
+    
+    /**
+     * Busca o próximo lote de anexos sem blob (anteriores ao blob store) a partir de um ID
+     */
+    @Query("SELECT a FROM AnexoEntity a WHERE a.blob IS NULL AND a.id > :id ORDER BY a.id ASC")
+    List<AnexoEntity> findSemBlobAposId(@Param("id") Long id, Pageable pageable);
+    
+    /**
+     * Dentre os caminhos informados, retorna os que estão gravados em algum anexo
+     */
+    @Query("SELECT a.caminhoArquivo FROM AnexoEntity a WHERE a.caminhoArquivo IN :caminhos")
+    List<String> findCaminhosReferenciados(@Param("caminhos") Collection<String> caminhos);
+    
+    /**
+     * Busca o próximo lote de anexos a partir de um ID (paginação por chave)
+     */
+    List<AnexoEntity> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+    
     /**
      * Busca anexos que contenham texto na descrição
      */
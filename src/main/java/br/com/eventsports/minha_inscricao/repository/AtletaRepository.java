@@ -12,6 +12,7 @@ import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,7 +36,34 @@ public interface AtletaRepository extends JpaRepository<AtletaEntity, Long> {
 
     Optional<AtletaEntity> findByCpf(String cpf);
 
-    List<AtletaEntity> findByNomeContainingIgnoreCase(String nome);
+    List<AtletaEntity> findByCpfIn(Collection<String> cpfs);
+
+    @Query("SELECT a.cpf FROM AtletaEntity a WHERE a.cpf IN :cpfs")
+    List<String> findCpfsExistentes(@Param("cpfs") Collection<String> cpfs);
+
+    @Query("SELECT a FROM AtletaEntity a WHERE f_unaccent(lower(a.nome)) LIKE f_unaccent(lower(CONCAT('%', :nome, '%')))")
+    List<AtletaEntity> findByNomeContainingIgnoreCase(@Param("nome") String nome);
+
+    /**
+     * Primeira página de atletas ordenados por nome (paginação por cursor)
+     */
+    @Query(value = """
+        SELECT a.* FROM atletas a
+        ORDER BY a.nome ASC, a.id ASC
+        LIMIT :limite
+        """, nativeQuery = true)
+    List<AtletaEntity> findPrimeiraPaginaPorNome(@Param("limite") int limite);
+
+    /**
+     * Página de atletas após a posição (nome, id) do cursor
+     */
+    @Query(value = """
+        SELECT a.* FROM atletas a
+        WHERE (a.nome, a.id) > (:nome, :id)
+        ORDER BY a.nome ASC, a.id ASC
+        LIMIT :limite
+        """, nativeQuery = true)
+    List<AtletaEntity> findPaginaPorNomeApos(@Param("nome") String nome, @Param("id") Long id, @Param("limite") int limite);
 
     List<AtletaEntity> findByGenero(Genero genero);
 
@@ -0,0 +1,128 @@
+package br.com.eventsports.minha_inscricao.repository;
+
+import br.com.eventsports.minha_inscricao.dto.busca.ParticipanteIndexado;
+import br.com.eventsports.minha_inscricao.dto.busca.ResultadoBuscaProjection;
+import br.com.eventsports.minha_inscricao.entity.EventoEntity;
+import br.com.eventsports.minha_inscricao.enums.StatusEvento;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Consultas nativas da busca unificada por nome.
+ * Todas filtram por f_unaccent(lower(nome)), a expressão dos índices GiST de trigramas (V28):
+ * substring via LIKE (:padrao já escapado e entre '%') ou semelhança de palavra via <%.
+ * A ordem é pela distância nome <->> termo (1 - word_similarity), que o GiST percorre como busca KNN:
+ * as linhas saem do índice já da mais para a menos semelhante e a leitura para no LIMIT.
+ * A relevância devolvida é word_similarity entre o termo e o nome, ambos sem acentos e em minúsculas.
+ */
+@Repository
+public interface BuscaRepository extends org.springframework.data.repository.Repository<EventoEntity, Long> {
+
+    @Query(value = """
+        SELECT e.id AS id, e.nome AS nome, concat_ws(' - ', e.cidade, e.estado) AS detalhe, e.id AS "eventoId",
+               CAST(word_similarity(f_unaccent(lower(:termo)), f_unaccent(lower(e.nome))) AS double precision) AS relevancia
+        FROM eventos e
+        WHERE f_unaccent(lower(e.nome)) LIKE f_unaccent(lower(:padrao))
+           OR f_unaccent(lower(:termo)) <% f_unaccent(lower(e.nome))
+        ORDER BY f_unaccent(lower(e.nome)) <->> f_unaccent(lower(:termo)), e.id ASC
+        LIMIT :limite
+        """, nativeQuery = true)
+    List<ResultadoBuscaProjection> buscarEventos(@Param("termo") String termo, @Param("padrao") String padrao,
+            @Param("limite") int limite);
+
+    @Query(value = """
+        SELECT a.id AS id, a.nome AS nome, ev.nome AS detalhe, a.evento_id AS "eventoId",
+               CAST(word_similarity(f_unaccent(lower(:termo)), f_unaccent(lower(a.nome))) AS double precision) AS relevancia
+        FROM atletas a
+        LEFT JOIN eventos ev ON ev.id = a.evento_id
+        WHERE f_unaccent(lower(a.nome)) LIKE f_unaccent(lower(:padrao))
+           OR f_unaccent(lower(:termo)) <% f_unaccent(lower(a.nome))
+        ORDER BY f_unaccent(lower(a.nome)) <->> f_unaccent(lower(:termo)), a.id ASC
+        LIMIT :limite
+        """, nativeQuery = true)
+    List<ResultadoBuscaProjection> buscarAtletas(@Param("termo") String termo, @Param("padrao") String padrao,
+            @Param("limite") int limite);
+
+    @Query(value = """
+        SELECT eq.id AS id, eq.nome AS nome, ev.nome AS detalhe, eq.evento_id AS "eventoId",
+               CAST(word_similarity(f_unaccent(lower(:termo)), f_unaccent(lower(eq.nome))) AS double precision) AS relevancia
+        FROM equipes eq
+        JOIN eventos ev ON ev.id = eq.evento_id
+        WHERE eq.ativa = true
+          AND (f_unaccent(lower(eq.nome)) LIKE f_unaccent(lower(:padrao))
+               OR f_unaccent(lower(:termo)) <% f_unaccent(lower(eq.nome)))
+        ORDER BY f_unaccent(lower(eq.nome)) <->> f_unaccent(lower(:termo)), eq.id ASC
+        LIMIT :limite
+        """, nativeQuery = true)
+    List<ResultadoBuscaProjection> buscarEquipes(@Param("termo") String termo, @Param("padrao") String padrao,
+            @Param("limite") int limite);
+
+    @Query(value = """
+        SELECT c.id AS id, c.nome AS nome, ev.nome AS detalhe, c.evento_id AS "eventoId",
+               CAST(word_similarity(f_unaccent(lower(:termo)), f_unaccent(lower(c.nome))) AS double precision) AS relevancia
+        FROM categorias c
+        JOIN eventos ev ON ev.id = c.evento_id
+        WHERE f_unaccent(lower(c.nome)) LIKE f_unaccent(lower(:padrao))
+           OR f_unaccent(lower(:termo)) <% f_unaccent(lower(c.nome))
+        ORDER BY f_unaccent(lower(c.nome)) <->> f_unaccent(lower(:termo)), c.id ASC
+        LIMIT :limite
+        """, nativeQuery = true)
+    List<ResultadoBuscaProjection> buscarCategorias(@Param("termo") String termo, @Param("padrao") String padrao,
+            @Param("limite") int limite);
+
+    @Query(value = """
+        SELECT w.id AS id, w.nome AS nome, ev.nome AS detalhe, w.evento_id AS "eventoId",
+               CAST(word_similarity(f_unaccent(lower(:termo)), f_unaccent(lower(w.nome))) AS double precision) AS relevancia
+        FROM workouts w
+        JOIN eventos ev ON ev.id = w.evento_id
+        WHERE w.ativo = true
+          AND (f_unaccent(lower(w.nome)) LIKE f_unaccent(lower(:padrao))
+               OR f_unaccent(lower(:termo)) <% f_unaccent(lower(w.nome)))
+        ORDER BY f_unaccent(lower(w.nome)) <->> f_unaccent(lower(:termo)), w.id ASC
+        LIMIT :limite
+        """, nativeQuery = true)
+    List<ResultadoBuscaProjection> buscarWorkouts(@Param("termo") String termo, @Param("padrao") String padrao,
+            @Param("limite") int limite);
+
+    @Query(value = """
+        SELECT u.id AS id, u.nome AS nome, u.email AS detalhe, CAST(NULL AS bigint) AS "eventoId",
+               CAST(word_similarity(f_unaccent(lower(:termo)), f_unaccent(lower(u.nome))) AS double precision) AS relevancia
+        FROM usuarios u
+        WHERE u.ativo = true
+          AND (f_unaccent(lower(u.nome)) LIKE f_unaccent(lower(:padrao))
+               OR f_unaccent(lower(:termo)) <% f_unaccent(lower(u.nome)))
+        ORDER BY f_unaccent(lower(u.nome)) <->> f_unaccent(lower(:termo)), u.id ASC
+        LIMIT :limite
+        """, nativeQuery = true)
+    List<ResultadoBuscaProjection> buscarUsuarios(@Param("termo") String termo, @Param("padrao") String padrao,
+            @Param("limite") int limite);
+
+    /**
+     * Atletas do evento para o índice de sugestões em memória (IndiceParticipantesService)
+     */
+    @Query("""
+        SELECT new br.com.eventsports.minha_inscricao.dto.busca.ParticipanteIndexado(
+            br.com.eventsports.minha_inscricao.enums.TipoResultadoBusca.ATLETA, a.id, a.nome, a.cpf, a.categoria.id)
+        FROM AtletaEntity a
+        WHERE a.evento.id = :eventoId
+        """)
+    List<ParticipanteIndexado> findAtletasParaIndice(@Param("eventoId") Long eventoId);
+
+    /**
+     * Equipes ativas do evento para o índice de sugestões em memória (IndiceParticipantesService)
+     */
+    @Query("""
+        SELECT new br.com.eventsports.minha_inscricao.dto.busca.ParticipanteIndexado(
+            br.com.eventsports.minha_inscricao.enums.TipoResultadoBusca.EQUIPE, e.id, e.nome, CAST(NULL AS String), e.categoria.id)
+        FROM EquipeEntity e
+        WHERE e.evento.id = :eventoId AND e.ativa = true
+        """)
+    List<ParticipanteIndexado> findEquipesParaIndice(@Param("eventoId") Long eventoId);
+
+    @Query("SELECT e.status FROM EventoEntity e WHERE e.id = :eventoId")
+    Optional<StatusEvento> findStatusEvento(@Param("eventoId") Long eventoId);
+}
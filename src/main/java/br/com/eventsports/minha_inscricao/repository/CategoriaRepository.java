@@ -41,9 +41,10 @@ public interface CategoriaRepository extends JpaRepository<CategoriaEntity, Long
     List<CategoriaEntity> findByEventoIdAndTipoParticipacao(@Param("eventoId") Long eventoId, @Param("tipoParticipacao") TipoParticipacao tipoParticipacao);
 
     /**
-     * Busca categorias por nome (case insensitive)
+     * Busca categorias por nome (sem distinção de maiúsculas e acentos)
      */
-    List<CategoriaEntity> findByNomeContainingIgnoreCase(String nome);
+    @Query("SELECT c FROM CategoriaEntity c WHERE f_unaccent(lower(c.nome)) LIKE f_unaccent(lower(CONCAT('%', :nome, '%')))")
+    List<CategoriaEntity> findByNomeContainingIgnoreCase(@Param("nome") String nome);
 
     /**
      * Verifica se existe categoria com o mesmo nome no evento
@@ -96,4 +97,18 @@ public interface CategoriaRepository extends JpaRepository<CategoriaEntity, Long
            "GROUP BY c.id " +
            "ORDER BY c.nome")
     List<Object[]> findByEventoIdWithInscricaoCount(@Param("eventoId") Long eventoId);
+
+    /**
+     * Categorias com vaga livre e inscrições na lista de espera: promoções que ficaram para trás
+     * (candidata bloqueada ou vaga disputada no momento da liberação)
+     */
+    @Query(value = """
+        SELECT c.id FROM categorias c
+        JOIN contadores_categorias cc ON cc.categoria_id = c.id
+        WHERE (c.vagas IS NULL OR cc.vagas_ocupadas < c.vagas)
+          AND EXISTS (SELECT 1 FROM inscricoes i WHERE i.categoria_id = c.id AND i.status = 'LISTA_ESPERA')
+        ORDER BY c.id
+        LIMIT :lote
+        """, nativeQuery = true)
+    List<Long> findIdsComVagaEListaEspera(@Param("lote") int lote);
 }
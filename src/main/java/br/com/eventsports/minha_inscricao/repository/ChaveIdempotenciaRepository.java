@@ -0,0 +1,54 @@
+package br.com.eventsports.minha_inscricao.repository;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import br.com.eventsports.minha_inscricao.entity.ChaveIdempotenciaEntity;
+
+@Repository
+public interface ChaveIdempotenciaRepository extends JpaRepository<ChaveIdempotenciaEntity, String> {
+
+    /**
+     * Reserva a chave para processamento: insere, ou retoma uma chave vencida.
+     * Retorna 0 se a chave já existe e ainda vale (concluída ou em processamento).
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "chaves_idempotencia"))
+    @Query(value = """
+        INSERT INTO chaves_idempotencia (chave, hash_requisicao, criada_em, expira_em)
+        VALUES (:chave, :hashRequisicao, :agora, :expiraEm)
+        ON CONFLICT (chave) DO UPDATE SET
+            status_http = NULL, content_type = NULL, corpo = NULL, hash_requisicao = EXCLUDED.hash_requisicao,
+            criada_em = EXCLUDED.criada_em, expira_em = EXCLUDED.expira_em
+        WHERE chaves_idempotencia.expira_em < :agora
+        """, nativeQuery = true)
+    int reservar(@Param("chave") String chave, @Param("hashRequisicao") String hashRequisicao,
+            @Param("agora") LocalDateTime agora, @Param("expiraEm") LocalDateTime expiraEm);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "chaves_idempotencia"))
+    @Query(value = """
+        UPDATE chaves_idempotencia SET
+            status_http = :statusHttp, content_type = :contentType, corpo = :corpo, expira_em = :expiraEm
+        WHERE chave = :chave
+        """, nativeQuery = true)
+    int concluir(@Param("chave") String chave, @Param("statusHttp") int statusHttp,
+            @Param("contentType") String contentType, @Param("corpo") byte[] corpo,
+            @Param("expiraEm") LocalDateTime expiraEm);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "chaves_idempotencia"))
+    @Query(value = """
+        DELETE FROM chaves_idempotencia WHERE chave IN (
+            SELECT chave FROM chaves_idempotencia WHERE expira_em < :agora LIMIT :lote)
+        """, nativeQuery = true)
+    int removerExpiradas(@Param("agora") LocalDateTime agora, @Param("lote") int lote);
+}
@@ -0,0 +1,139 @@
+package br.com.eventsports.minha_inscricao.repository;
+
+import br.com.eventsports.minha_inscricao.entity.ContadorCategoriaEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Contadores e vagas ocupadas das categorias (tabela fora do cache de segundo nível).
+ * Os UPDATEs nativos declaram só contadores_categorias como query space: não invalidam a região
+ * "categorias" nem a consulta em cache de workouts ativos por categoria.
+ */
+@Repository
+public interface ContadorCategoriaRepository extends JpaRepository<ContadorCategoriaEntity, Long> {
+
+    /**
+     * Cria a linha zerada da categoria (a categoria já precisa estar gravada no banco)
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "contadores_categorias"))
+    @Query(value = "INSERT INTO contadores_categorias (categoria_id) VALUES (:id) ON CONFLICT (categoria_id) DO NOTHING",
+            nativeQuery = true)
+    int criar(@Param("id") Long id);
+
+    /**
+     * Cria as linhas que faltarem (categorias gravadas sem passar por ContadorService); a reconciliação as preenche
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "contadores_categorias"))
+    @Query(value = """
+        INSERT INTO contadores_categorias (categoria_id)
+        SELECT c.id FROM categorias c
+        WHERE NOT EXISTS (SELECT 1 FROM contadores_categorias cc WHERE cc.categoria_id = c.id)
+        ON CONFLICT (categoria_id) DO NOTHING
+        """, nativeQuery = true)
+    int criarAusentes();
+
+    /**
+     * Soma os deltas aos contadores da categoria em um único UPDATE atômico
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "contadores_categorias"))
+    @Query(value = """
+        UPDATE contadores_categorias SET
+            inscricoes_ativas = inscricoes_ativas + :inscricoesAtivas,
+            equipes_ativas = equipes_ativas + :equipesAtivas,
+            total_equipes = total_equipes + :equipes
+        WHERE categoria_id = :id
+        """, nativeQuery = true)
+    int ajustarContadores(@Param("id") Long id, @Param("inscricoesAtivas") int inscricoesAtivas,
+            @Param("equipesAtivas") int equipesAtivas, @Param("equipes") int equipes);
+
+    /**
+     * Ocupa uma vaga se a categoria não tiver limite ou ainda tiver vaga livre.
+     * O teste e o incremento são um único UPDATE condicional na linha de contadores da categoria:
+     * retorna 0 quando está lotada, sem "contar e depois inserir".
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "contadores_categorias"))
+    @Query(value = """
+        UPDATE contadores_categorias cc SET vagas_ocupadas = cc.vagas_ocupadas + 1
+        FROM categorias c
+        WHERE cc.categoria_id = :id AND c.id = cc.categoria_id
+          AND (c.vagas IS NULL OR cc.vagas_ocupadas < c.vagas)
+        """, nativeQuery = true)
+    int reservarVaga(@Param("id") Long id);
+
+    /**
+     * Ocupa várias vagas de uma vez (importação em lote): tudo ou nada, no mesmo UPDATE condicional
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "contadores_categorias"))
+    @Query(value = """
+        UPDATE contadores_categorias cc SET vagas_ocupadas = cc.vagas_ocupadas + :quantidade
+        FROM categorias c
+        WHERE cc.categoria_id = :id AND c.id = cc.categoria_id
+          AND (c.vagas IS NULL OR cc.vagas_ocupadas + :quantidade <= c.vagas)
+        """, nativeQuery = true)
+    int reservarVagas(@Param("id") Long id, @Param("quantidade") int quantidade);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "contadores_categorias"))
+    @Query(value = "UPDATE contadores_categorias SET vagas_ocupadas = GREATEST(vagas_ocupadas - 1, 0) WHERE categoria_id = :id",
+            nativeQuery = true)
+    int liberarVaga(@Param("id") Long id);
+
+    /**
+     * IDs das categorias a partir de um ID (recontagem em lotes)
+     */
+    @Query(value = "SELECT categoria_id FROM contadores_categorias WHERE categoria_id > :aposId ORDER BY categoria_id LIMIT :lote",
+            nativeQuery = true)
+    List<Long> findIdsApos(@Param("aposId") Long aposId, @Param("lote") int lote);
+
+    /**
+     * Bloqueia as linhas de contadores (em ordem de ID) até o fim da transação da recontagem:
+     * reservas e ajustes por delta em andamento terminam antes, e os seguintes esperam
+     */
+    @Query(value = "SELECT categoria_id FROM contadores_categorias WHERE categoria_id IN (:ids) ORDER BY categoria_id FOR UPDATE",
+            nativeQuery = true)
+    List<Long> bloquearParaRecontagem(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Reconstrói os contadores das categorias informadas a partir das tabelas de origem.
+     * Deve rodar depois de bloquearParaRecontagem, na mesma transação: só assim a contagem
+     * não sobrescreve um incremento confirmado depois do início do comando.
+     * Só regrava as linhas divergentes e retorna quantas eram.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "contadores_categorias"))
+    @Query(value = """
+        UPDATE contadores_categorias cc SET
+            inscricoes_ativas = r.inscricoes_ativas,
+            equipes_ativas = r.equipes_ativas,
+            total_equipes = r.total_equipes,
+            vagas_ocupadas = r.vagas_ocupadas
+        FROM (
+            SELECT cat.id,
+                (SELECT COUNT(*) FROM inscricoes i WHERE i.categoria_id = cat.id AND i.status = 'CONFIRMADA') AS inscricoes_ativas,
+                (SELECT COUNT(*) FROM equipes eq WHERE eq.categoria_id = cat.id AND eq.ativa = true) AS equipes_ativas,
+                (SELECT COUNT(*) FROM equipes eq WHERE eq.categoria_id = cat.id) AS total_equipes,
+                (SELECT COUNT(*) FROM inscricoes i WHERE i.categoria_id = cat.id
+                    AND i.status IN ('PENDENTE', 'CONFIRMADA')) AS vagas_ocupadas
+            FROM categorias cat
+            WHERE cat.id IN (:ids)
+        ) r
+        WHERE cc.categoria_id = r.id
+          AND (cc.inscricoes_ativas, cc.equipes_ativas, cc.total_equipes, cc.vagas_ocupadas)
+              IS DISTINCT FROM (r.inscricoes_ativas, r.equipes_ativas, r.total_equipes, r.vagas_ocupadas)
+        """, nativeQuery = true)
+    int recalcularContadores(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,110 @@
+package br.com.eventsports.minha_inscricao.repository;
+
+import br.com.eventsports.minha_inscricao.entity.ContadorEventoEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Contadores dos eventos (tabela fora do cache de segundo nível).
+ * Os UPDATEs nativos declaram só contadores_eventos como query space: não invalidam a região
+ * "eventos" nem consultas em cache sobre outras tabelas.
+ */
+@Repository
+public interface ContadorEventoRepository extends JpaRepository<ContadorEventoEntity, Long> {
+
+    /**
+     * Cria a linha zerada do evento (o evento já precisa estar gravado no banco)
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "contadores_eventos"))
+    @Query(value = "INSERT INTO contadores_eventos (evento_id) VALUES (:id) ON CONFLICT (evento_id) DO NOTHING",
+            nativeQuery = true)
+    int criar(@Param("id") Long id);
+
+    /**
+     * Cria as linhas que faltarem (eventos gravados sem passar por ContadorService); a reconciliação as preenche
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "contadores_eventos"))
+    @Query(value = """
+        INSERT INTO contadores_eventos (evento_id)
+        SELECT e.id FROM eventos e
+        WHERE NOT EXISTS (SELECT 1 FROM contadores_eventos ct WHERE ct.evento_id = e.id)
+        ON CONFLICT (evento_id) DO NOTHING
+        """, nativeQuery = true)
+    int criarAusentes();
+
+    /**
+     * Soma os deltas aos contadores do evento em um único UPDATE atômico
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "contadores_eventos"))
+    @Query(value = """
+        UPDATE contadores_eventos SET
+            total_categorias = total_categorias + :categorias,
+            total_inscricoes = total_inscricoes + :inscricoes,
+            inscricoes_ativas = inscricoes_ativas + :inscricoesAtivas,
+            total_workouts_ativos = total_workouts_ativos + :workoutsAtivos,
+            total_anexos_ativos = total_anexos_ativos + :anexosAtivos
+        WHERE evento_id = :id
+        """, nativeQuery = true)
+    int ajustarContadores(@Param("id") Long id, @Param("categorias") int categorias,
+            @Param("inscricoes") int inscricoes, @Param("inscricoesAtivas") int inscricoesAtivas,
+            @Param("workoutsAtivos") int workoutsAtivos, @Param("anexosAtivos") int anexosAtivos);
+
+    /**
+     * IDs dos eventos a partir de um ID (recontagem em lotes)
+     */
+    @Query(value = "SELECT evento_id FROM contadores_eventos WHERE evento_id > :aposId ORDER BY evento_id LIMIT :lote",
+            nativeQuery = true)
+    List<Long> findIdsApos(@Param("aposId") Long aposId, @Param("lote") int lote);
+
+    /**
+     * Bloqueia as linhas de contadores (em ordem de ID) até o fim da transação da recontagem:
+     * ajustes por delta em andamento terminam antes, e os seguintes esperam
+     */
+    @Query(value = "SELECT evento_id FROM contadores_eventos WHERE evento_id IN (:ids) ORDER BY evento_id FOR UPDATE",
+            nativeQuery = true)
+    List<Long> bloquearParaRecontagem(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Reconstrói os contadores dos eventos informados a partir das tabelas de origem
+     * (inscrição ativa = CONFIRMADA, como em StatusInscricao.isAtiva).
+     * Deve rodar depois de bloquearParaRecontagem, na mesma transação.
+     * Só regrava as linhas divergentes e retorna quantas eram.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "contadores_eventos"))
+    @Query(value = """
+        UPDATE contadores_eventos ct SET
+            total_categorias = r.total_categorias,
+            total_inscricoes = r.total_inscricoes,
+            inscricoes_ativas = r.inscricoes_ativas,
+            total_workouts_ativos = r.total_workouts_ativos,
+            total_anexos_ativos = r.total_anexos_ativos
+        FROM (
+            SELECT ev.id,
+                (SELECT COUNT(*) FROM categorias c WHERE c.evento_id = ev.id) AS total_categorias,
+                (SELECT COUNT(*) FROM inscricoes i WHERE i.evento_id = ev.id) AS total_inscricoes,
+                (SELECT COUNT(*) FROM inscricoes i WHERE i.evento_id = ev.id AND i.status = 'CONFIRMADA') AS inscricoes_ativas,
+                (SELECT COUNT(*) FROM workouts w WHERE w.evento_id = ev.id AND w.ativo = true) AS total_workouts_ativos,
+                (SELECT COUNT(*) FROM anexos a WHERE a.evento_id = ev.id AND a.ativo = true) AS total_anexos_ativos
+            FROM eventos ev
+            WHERE ev.id IN (:ids)
+        ) r
+        WHERE ct.evento_id = r.id
+          AND (ct.total_categorias, ct.total_inscricoes, ct.inscricoes_ativas, ct.total_workouts_ativos, ct.total_anexos_ativos)
+              IS DISTINCT FROM
+              (r.total_categorias, r.total_inscricoes, r.inscricoes_ativas, r.total_workouts_ativos, r.total_anexos_ativos)
+        """, nativeQuery = true)
+    int recalcularContadores(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,75 @@
+package br.com.eventsports.minha_inscricao.repository;
+
+import br.com.eventsports.minha_inscricao.dto.equipe.EquipeSummaryProjection;
+import br.com.eventsports.minha_inscricao.entity.EquipeEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Consultas de leitura para listagens de equipes.
+ * Os atletas entram por LEFT JOIN agregado (COUNT, string_agg, MIN/MAX), então cada
+ * listagem é uma única query e a coleção de atletas nunca é inicializada.
+ */
+@Repository
+public interface EquipeConsultaRepository extends org.springframework.data.repository.Repository<EquipeEntity, Long> {
+
+    String SELECT_RESUMO = """
+        SELECT new br.com.eventsports.minha_inscricao.dto.equipe.EquipeSummaryProjection(
+            e.id, e.nome, ev.nome, cat.nome, cap.nome, e.ativa,
+            COUNT(a),
+            LISTAGG(a.nome, '|') WITHIN GROUP (ORDER BY a.nome),
+            SUM(CASE WHEN a.id IS NOT NULL AND (a.aceitaTermos IS NULL OR a.aceitaTermos = false) THEN 1 ELSE 0 END),
+            SUM(CASE WHEN a.id IS NOT NULL AND cat.genero IS NOT NULL
+                     AND (a.genero IS NULL OR a.genero <> cat.genero) THEN 1 ELSE 0 END),
+            SUM(CASE WHEN a.id IS NOT NULL AND a.dataNascimento IS NULL THEN 1 ELSE 0 END),
+            MIN(a.dataNascimento), MAX(a.dataNascimento),
+            cat.idadeMinima, cat.idadeMaxima, ins.status, e.createdAt)
+        FROM EquipeEntity e
+        JOIN e.evento ev
+        LEFT JOIN e.categoria cat
+        LEFT JOIN e.capitao cap
+        LEFT JOIN e.inscricao ins
+        LEFT JOIN e.atletas a
+        """;
+
+    String GROUP_BY_RESUMO = """
+        GROUP BY e.id, e.nome, ev.nome, cat.nome, cat.genero, cat.idadeMinima, cat.idadeMaxima,
+                 cap.nome, e.ativa, ins.status, e.createdAt
+        """;
+
+    /**
+     * Primeira página de resumos ordenados por nome (paginação por cursor)
+     */
+    @Query(SELECT_RESUMO + GROUP_BY_RESUMO + "ORDER BY e.nome ASC, e.id ASC")
+    List<EquipeSummaryProjection> findPrimeiraPaginaPorNome(Pageable pageable);
+
+    /**
+     * Página de resumos após a posição (nome, id) do cursor
+     */
+    @Query(SELECT_RESUMO + "WHERE (e.nome, e.id) > (:nome, :id) " + GROUP_BY_RESUMO + "ORDER BY e.nome ASC, e.id ASC")
+    List<EquipeSummaryProjection> findPaginaPorNomeApos(@Param("nome") String nome, @Param("id") Long id, Pageable pageable);
+
+    @Query(SELECT_RESUMO + "WHERE f_unaccent(lower(e.nome)) LIKE f_unaccent(lower(CONCAT('%', :nome, '%'))) " + GROUP_BY_RESUMO + "ORDER BY e.nome ASC")
+    List<EquipeSummaryProjection> findByNomeContainingIgnoreCase(@Param("nome") String nome);
+
+    @Query(SELECT_RESUMO + "WHERE ev.id = :eventoId " + GROUP_BY_RESUMO + "ORDER BY e.nome ASC")
+    List<EquipeSummaryProjection> findByEventoId(@Param("eventoId") Long eventoId);
+
+    @Query(SELECT_RESUMO + "WHERE cat.id = :categoriaId " + GROUP_BY_RESUMO + "ORDER BY e.nome ASC")
+    List<EquipeSummaryProjection> findByCategoriaId(@Param("categoriaId") Long categoriaId);
+
+    @Query(SELECT_RESUMO + "WHERE e.ativa = true " + GROUP_BY_RESUMO + "ORDER BY e.nome ASC")
+    List<EquipeSummaryProjection> findByAtivaTrue();
+
+    @Query(SELECT_RESUMO + "WHERE ev.id = :eventoId AND e.ativa = true " + GROUP_BY_RESUMO
+            + "HAVING COUNT(a) >= 2 ORDER BY e.nome ASC")
+    List<EquipeSummaryProjection> findEquipesCompletasByEvento(@Param("eventoId") Long eventoId);
+
+    @Query(SELECT_RESUMO + "WHERE EXISTS (SELECT 1 FROM AtletaEntity x WHERE x.id = :atletaId AND x.equipe = e) "
+            + GROUP_BY_RESUMO + "ORDER BY e.nome ASC")
+    List<EquipeSummaryProjection> findEquipesByAtleta(@Param("atletaId") Long atletaId);
+}
@@ -29,7 +29,8 @@ public interface EquipeRepository extends JpaRepository<EquipeEntity, Long> {
     @Override
     void deleteById(@NonNull Long id);
 
-    List<EquipeEntity> findByNomeContainingIgnoreCase(String nome);
+    @Query("SELECT e FROM EquipeEntity e WHERE f_unaccent(lower(e.nome)) LIKE f_unaccent(lower(CONCAT('%', :nome, '%')))")
+    List<EquipeEntity> findByNomeContainingIgnoreCase(@Param("nome") String nome);
 
     @Query("SELECT e FROM EquipeEntity e WHERE e.evento.id = :eventoId ORDER BY e.nome ASC")
     List<EquipeEntity> findByEventoIdOrderByNomeAsc(@Param("eventoId") Long eventoId);
@@ -77,6 +78,9 @@ public interface EquipeRepository extends JpaRepository<EquipeEntity, Long> {
     @Query("SELECT COUNT(e) FROM EquipeEntity e WHERE e.evento.id = :eventoId AND e.ativa = true")
     long countByEventoIdAndAtivaTrue(@Param("eventoId") Long eventoId);
 
+    @Query("SELECT e.nome FROM EquipeEntity e WHERE e.evento.id = :eventoId")
+    List<String> findNomesByEventoId(@Param("eventoId") Long eventoId);
+
     @Query("SELECT a.nome FROM AtletaEntity a WHERE a.equipe.id = :equipeId ORDER BY a.nome")
     List<String> findNomesAtletasByEquipeId(@Param("equipeId") Long equipeId);
 
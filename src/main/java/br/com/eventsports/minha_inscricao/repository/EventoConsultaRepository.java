@@ -0,0 +1,101 @@
+package br.com.eventsports.minha_inscricao.repository;
+
+import br.com.eventsports.minha_inscricao.dto.evento.EventoProximoProjection;
+import br.com.eventsports.minha_inscricao.dto.evento.EventoSummaryProjection;
+import br.com.eventsports.minha_inscricao.entity.EventoEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Consultas de leitura para listagens de eventos.
+ * Cada listagem é uma única query: os totais de categorias e inscrições ativas
+ * vêm da tabela de contadores do evento, sem carregar as coleções do evento.
+ */
+@Repository
+public interface EventoConsultaRepository extends org.springframework.data.repository.Repository<EventoEntity, Long> {
+
+    String SELECT_RESUMO = """
+        SELECT new br.com.eventsports.minha_inscricao.dto.evento.EventoSummaryProjection(
+            e.id, e.nome, e.dataInicioDoEvento, e.dataFimDoEvento, e.status,
+            o.nome, o.nomeEmpresa,
+            COALESCE(ct.totalCategorias, 0), COALESCE(ct.inscricoesAtivas, 0),
+            e.cidade, e.estado, e.imagemUrl, e.createdAt)
+        FROM EventoEntity e
+        LEFT JOIN e.organizador o
+        LEFT JOIN ContadorEventoEntity ct ON ct.eventoId = e.id
+        """;
+
+    /**
+     * Página de resumos após o ID informado (paginação por cursor; use 0 para a primeira página)
+     */
+    @Query(SELECT_RESUMO + "WHERE e.id > :id ORDER BY e.id ASC")
+    List<EventoSummaryProjection> findPaginaAposId(@Param("id") Long id, Pageable pageable);
+
+    @Query(SELECT_RESUMO + "WHERE f_unaccent(lower(e.nome)) LIKE f_unaccent(lower(CONCAT('%', :nome, '%'))) ORDER BY e.nome ASC")
+    List<EventoSummaryProjection> findByNomeContainingIgnoreCase(@Param("nome") String nome);
+
+    @Query(SELECT_RESUMO + "WHERE e.dataInicioDoEvento BETWEEN :inicio AND :fim ORDER BY e.dataInicioDoEvento ASC")
+    List<EventoSummaryProjection> findEventosByDataBetween(@Param("inicio") LocalDateTime inicio, @Param("fim") LocalDateTime fim);
+
+    /**
+     * Eventos que ainda não começaram, por (data de início, ID); as variantes "Apos" recebem a posição do cursor
+     */
+    @Query(SELECT_RESUMO + "WHERE e.dataInicioDoEvento > CURRENT_TIMESTAMP "
+            + "ORDER BY e.dataInicioDoEvento ASC, e.id ASC")
+    List<EventoSummaryProjection> findPrimeiraPaginaUpcoming(Pageable pageable);
+
+    @Query(SELECT_RESUMO + "WHERE e.dataInicioDoEvento > CURRENT_TIMESTAMP AND (e.dataInicioDoEvento, e.id) > (:data, :id) "
+            + "ORDER BY e.dataInicioDoEvento ASC, e.id ASC")
+    List<EventoSummaryProjection> findPaginaUpcomingApos(@Param("data") LocalDateTime data, @Param("id") Long id,
+            Pageable pageable);
+
+    /**
+     * Eventos já encerrados, do mais recente para o mais antigo por (data de fim, ID)
+     */
+    @Query(SELECT_RESUMO + "WHERE e.dataFimDoEvento < CURRENT_TIMESTAMP "
+            + "ORDER BY e.dataFimDoEvento DESC, e.id DESC")
+    List<EventoSummaryProjection> findPrimeiraPaginaPast(Pageable pageable);
+
+    @Query(SELECT_RESUMO + "WHERE e.dataFimDoEvento < CURRENT_TIMESTAMP AND (e.dataFimDoEvento, e.id) < (:data, :id) "
+            + "ORDER BY e.dataFimDoEvento DESC, e.id DESC")
+    List<EventoSummaryProjection> findPaginaPastApos(@Param("data") LocalDateTime data, @Param("id") Long id,
+            Pageable pageable);
+
+    /**
+     * Eventos futuros dentro da caixa delimitadora (índice em latitude/longitude) e, nela,
+     * a até :raioKm pela fórmula de haversine; ordenados por data de início e ID (paginação por cursor)
+     */
+    String SELECT_PROXIMOS = """
+        SELECT new br.com.eventsports.minha_inscricao.dto.evento.EventoProximoProjection(
+            e.id, e.nome, e.dataInicioDoEvento, e.dataFimDoEvento, e.status,
+            e.cidade, e.estado, e.imagemUrl, e.latitude, e.longitude)
+        FROM EventoEntity e
+        WHERE e.latitude BETWEEN :latMin AND :latMax
+          AND e.longitude BETWEEN :lngMin AND :lngMax
+          AND e.dataInicioDoEvento > CURRENT_TIMESTAMP
+          AND 2 * 6371.0 * ASIN(LEAST(1.0, SQRT(
+                  POWER(SIN(RADIANS(e.latitude - :lat) / 2), 2)
+                  + COS(RADIANS(:lat)) * COS(RADIANS(e.latitude)) * POWER(SIN(RADIANS(e.longitude - :lng) / 2), 2)
+              ))) <= :raioKm
+        """;
+
+    String ORDEM_PROXIMOS = "ORDER BY e.dataInicioDoEvento ASC, e.id ASC";
+
+    @Query(SELECT_PROXIMOS + ORDEM_PROXIMOS)
+    List<EventoProximoProjection> findPrimeiraPaginaProximos(
+            @Param("lat") double lat, @Param("lng") double lng, @Param("raioKm") double raioKm,
+            @Param("latMin") double latMin, @Param("latMax") double latMax,
+            @Param("lngMin") double lngMin, @Param("lngMax") double lngMax, Pageable pageable);
+
+    @Query(SELECT_PROXIMOS + "AND (e.dataInicioDoEvento, e.id) > (:data, :id) " + ORDEM_PROXIMOS)
+    List<EventoProximoProjection> findPaginaProximosApos(
+            @Param("lat") double lat, @Param("lng") double lng, @Param("raioKm") double raioKm,
+            @Param("latMin") double latMin, @Param("latMax") double latMax,
+            @Param("lngMin") double lngMin, @Param("lngMax") double lngMax,
+            @Param("data") LocalDateTime data, @Param("id") Long id, Pageable pageable);
+}
@@ -1,12 +1,14 @@
 package br.com.eventsports.minha_inscricao.repository;
 
 import br.com.eventsports.minha_inscricao.entity.EventoEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,20 +27,39 @@ public interface EventoRepository extends JpaRepository<EventoEntity, Long> {
     @Override
     void deleteById(Long id);
 
-    List<EventoEntity> findByNomeContainingIgnoreCase(String nome);
+    @Query("SELECT e FROM EventoEntity e WHERE f_unaccent(lower(e.nome)) LIKE f_unaccent(lower(CONCAT('%', :nome, '%')))")
+    List<EventoEntity> findByNomeContainingIgnoreCase(@Param("nome") String nome);
 
-    @Query("SELECT e FROM EventoEntity e WHERE e.dataInicioDoEvento BETWEEN :inicio AND :fim ORDER BY e.dataInicioDoEvento ASC")
-    List<EventoEntity> findEventosByDataBetween(@Param("inicio") LocalDateTime inicio, @Param("fim") LocalDateTime fim);
+    /**
+     * Dentre as URLs informadas, retorna as que estão gravadas como imagem de algum evento
+     */
+    @Query("SELECT e.imagemUrl FROM EventoEntity e WHERE e.imagemUrl IN :urls")
+    List<String> findImagemUrlsReferenciadas(@Param("urls") Collection<String> urls);
 
-    @Query("SELECT e FROM EventoEntity e WHERE e.dataInicioDoEvento > CURRENT_TIMESTAMP ORDER BY e.dataInicioDoEvento ASC")
-    List<EventoEntity> findEventosUpcoming();
+    /**
+     * Busca o próximo lote de eventos com imagem a partir de um ID (paginação por chave)
+     */
+    @Query("SELECT e FROM EventoEntity e WHERE e.imagemUrl IS NOT NULL AND e.id > :id ORDER BY e.id ASC")
+    List<EventoEntity> findComImagemAposId(@Param("id") Long id, Pageable pageable);
 
-    @Query("SELECT e FROM EventoEntity e WHERE e.dataFimDoEvento < CURRENT_TIMESTAMP ORDER BY e.dataFimDoEvento DESC")
-    List<EventoEntity> findEventosPast();
+    @Query("SELECT e FROM EventoEntity e WHERE e.dataInicioDoEvento BETWEEN :inicio AND :fim ORDER BY e.dataInicioDoEvento ASC")
+    List<EventoEntity> findEventosByDataBetween(@Param("inicio") LocalDateTime inicio, @Param("fim") LocalDateTime fim);
 
     @Query("SELECT e FROM EventoEntity e WHERE e.dataInicioDoEvento > :data ORDER BY e.dataInicioDoEvento ASC")
     List<EventoEntity> findByDataInicioDoEventoAfterOrderByDataInicioDoEventoAsc(@Param("data") LocalDateTime data);
 
     @Query("SELECT e FROM EventoEntity e WHERE e.dataFimDoEvento < :data ORDER BY e.dataFimDoEvento DESC")
     List<EventoEntity> findByDataFimDoEventoBeforeOrderByDataFimDoEventoDesc(@Param("data") LocalDateTime data);
+
+    /**
+     * Eventos com local informado e ainda sem coordenadas, em lotes por ID (geocodificação pendente)
+     */
+    @Query("""
+        SELECT e FROM EventoEntity e
+        WHERE (e.latitude IS NULL OR e.longitude IS NULL)
+          AND (e.cidade IS NOT NULL OR e.estado IS NOT NULL)
+          AND e.id > :aposId
+        ORDER BY e.id ASC
+        """)
+    List<EventoEntity> findSemCoordenadasApos(@Param("aposId") Long aposId, Pageable pageable);
 }
@@ -0,0 +1,68 @@
+package br.com.eventsports.minha_inscricao.repository;
+
+import br.com.eventsports.minha_inscricao.dto.inscricao.InscricaoSummaryProjection;
+import br.com.eventsports.minha_inscricao.entity.InscricaoEntity;
+import br.com.eventsports.minha_inscricao.enums.StatusInscricao;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Consultas de leitura para listagens de inscrições.
+ * Evento, categoria, atleta e equipe entram por join e o número de atletas da equipe
+ * por subconsulta COUNT, em uma única query por listagem.
+ * As variantes paginadas ordenam por (dataInscricao, id); as "Apos" recebem a posição do cursor.
+ */
+@Repository
+public interface InscricaoConsultaRepository extends org.springframework.data.repository.Repository<InscricaoEntity, Long> {
+
+    String SELECT_RESUMO = """
+        SELECT new br.com.eventsports.minha_inscricao.dto.inscricao.InscricaoSummaryProjection(
+            i.id, ev.nome, cat.nome, atl.id, atl.nome, eq.id, eq.nome,
+            (SELECT COUNT(a) FROM AtletaEntity a WHERE a.equipe = eq),
+            i.status, i.valor, i.valorDesconto, i.dataInscricao, i.dataConfirmacao)
+        FROM InscricaoEntity i
+        JOIN i.evento ev
+        LEFT JOIN i.categoria cat
+        LEFT JOIN i.atleta atl
+        LEFT JOIN i.equipe eq
+        """;
+
+    String ORDEM_PAGINA = "ORDER BY i.dataInscricao ASC, i.id ASC";
+
+    @Query(SELECT_RESUMO + ORDEM_PAGINA)
+    List<InscricaoSummaryProjection> findPrimeiraPagina(Pageable pageable);
+
+    @Query(SELECT_RESUMO + "WHERE (i.dataInscricao, i.id) > (:data, :id) " + ORDEM_PAGINA)
+    List<InscricaoSummaryProjection> findPaginaApos(@Param("data") LocalDateTime data, @Param("id") Long id,
+            Pageable pageable);
+
+    @Query(SELECT_RESUMO + "WHERE ev.id = :eventoId " + ORDEM_PAGINA)
+    List<InscricaoSummaryProjection> findPrimeiraPaginaByEventoId(@Param("eventoId") Long eventoId, Pageable pageable);
+
+    @Query(SELECT_RESUMO + "WHERE ev.id = :eventoId AND (i.dataInscricao, i.id) > (:data, :id) " + ORDEM_PAGINA)
+    List<InscricaoSummaryProjection> findPaginaByEventoIdApos(@Param("eventoId") Long eventoId,
+            @Param("data") LocalDateTime data, @Param("id") Long id, Pageable pageable);
+
+    @Query(SELECT_RESUMO + "WHERE i.status = :status " + ORDEM_PAGINA)
+    List<InscricaoSummaryProjection> findPrimeiraPaginaByStatus(@Param("status") StatusInscricao status, Pageable pageable);
+
+    @Query(SELECT_RESUMO + "WHERE i.status = :status AND (i.dataInscricao, i.id) > (:data, :id) " + ORDEM_PAGINA)
+    List<InscricaoSummaryProjection> findPaginaByStatusApos(@Param("status") StatusInscricao status,
+            @Param("data") LocalDateTime data, @Param("id") Long id, Pageable pageable);
+
+    @Query(SELECT_RESUMO + "WHERE cat.id = :categoriaId " + ORDEM_PAGINA)
+    List<InscricaoSummaryProjection> findPrimeiraPaginaByCategoriaId(@Param("categoriaId") Long categoriaId,
+            Pageable pageable);
+
+    @Query(SELECT_RESUMO + "WHERE cat.id = :categoriaId AND (i.dataInscricao, i.id) > (:data, :id) " + ORDEM_PAGINA)
+    List<InscricaoSummaryProjection> findPaginaByCategoriaIdApos(@Param("categoriaId") Long categoriaId,
+            @Param("data") LocalDateTime data, @Param("id") Long id, Pageable pageable);
+
+    @Query(SELECT_RESUMO + "WHERE eq.id = :equipeId")
+    List<InscricaoSummaryProjection> findByEquipeId(@Param("equipeId") Long equipeId);
+}
@@ -7,7 +7,9 @@ import br.com.eventsports.minha_inscricao.entity.EquipeEntity;
 import br.com.eventsports.minha_inscricao.entity.UsuarioEntity;
 import br.com.eventsports.minha_inscricao.entity.AtletaEntity;
 import br.com.eventsports.minha_inscricao.enums.StatusInscricao;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.lang.NonNull;
@@ -85,15 +87,6 @@ public interface InscricaoRepository extends JpaRepository<InscricaoEntity, Long
     @Query("SELECT COUNT(i) FROM InscricaoEntity i WHERE i.evento.id = :eventoId")
     long countByEventoId(@Param("eventoId") Long eventoId);
 
-    @Query("SELECT i FROM InscricaoEntity i WHERE i.status = 'CONFIRMADA' ORDER BY i.dataConfirmacao DESC")
-    List<InscricaoEntity> findInscricoesConfirmadas();
-
-    @Query("SELECT i FROM InscricaoEntity i WHERE i.status = 'PENDENTE' ORDER BY i.dataInscricao ASC")
-    List<InscricaoEntity> findInscricoesPendentes();
-
-    @Query("SELECT i FROM InscricaoEntity i WHERE i.status = 'CANCELADA' ORDER BY i.dataCancelamento DESC")
-    List<InscricaoEntity> findInscricoesCanceladas();
-
     @Query("SELECT i FROM InscricaoEntity i WHERE i.valorDesconto IS NOT NULL AND i.valorDesconto > 0")
     List<InscricaoEntity> findInscricoesComDesconto();
 
@@ -102,4 +95,55 @@ public interface InscricaoRepository extends JpaRepository<InscricaoEntity, Long
 
     @Query("SELECT COUNT(i) > 0 FROM InscricaoEntity i WHERE i.atleta.id = :atletaId AND i.evento.id = :eventoId")
     boolean existsByAtletaIdAndEventoId(@Param("atletaId") Long atletaId, @Param("eventoId") Long eventoId);
+
+    /**
+     * Busca inscrição pelo ID bloqueando a linha, para que a mudança de status
+     * não concorra com a expiração da reserva
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM InscricaoEntity i WHERE i.id = :id")
+    Optional<InscricaoEntity> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * Próximo lote de inscrições pendentes com reserva vencida, bloqueadas.
+     * SKIP LOCKED pula as que estão sendo confirmadas ou alteradas no momento.
+     */
+    @Query(value = """
+        SELECT * FROM inscricoes
+        WHERE status = 'PENDENTE' AND reserva_expira_em IS NOT NULL AND reserva_expira_em < :agora
+        ORDER BY reserva_expira_em
+        LIMIT :lote
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<InscricaoEntity> findReservasExpiradasParaProcessar(@Param("agora") LocalDateTime agora, @Param("lote") int lote);
+
+    /**
+     * Primeira inscrição da lista de espera da categoria (ordem de inscrição), bloqueada. SKIP LOCKED faz
+     * promoções simultâneas escolherem inscrições diferentes; a vaga em si ainda é disputada na linha da
+     * categoria. Categoria que deixou de ter limite também promove (a lista de espera ficou sem motivo).
+     */
+    @Query(value = """
+        SELECT i.* FROM inscricoes i
+        WHERE i.categoria_id = :categoriaId AND i.status = 'LISTA_ESPERA' AND i.id <> :ignorarId
+        ORDER BY i.data_inscricao, i.id
+        LIMIT 1
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    Optional<InscricaoEntity> findProximaDaListaEsperaParaPromover(@Param("categoriaId") Long categoriaId,
+            @Param("ignorarId") Long ignorarId);
+
+    /**
+     * Inscrições à frente na lista de espera da categoria (percorre só o índice parcial da fila)
+     */
+    @Query(value = """
+        SELECT COUNT(*) FROM inscricoes
+        WHERE categoria_id = :categoriaId AND status = 'LISTA_ESPERA'
+          AND (data_inscricao, id) < (:dataInscricao, :id)
+        """, nativeQuery = true)
+    long countAFrenteNaListaEspera(@Param("categoriaId") Long categoriaId,
+            @Param("dataInscricao") LocalDateTime dataInscricao, @Param("id") Long id);
+
+    @Query(value = "SELECT COUNT(*) FROM inscricoes WHERE categoria_id = :categoriaId AND status = 'LISTA_ESPERA'",
+            nativeQuery = true)
+    long countListaEspera(@Param("categoriaId") Long categoriaId);
 }
@@ -0,0 +1,54 @@
+package br.com.eventsports.minha_inscricao.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import br.com.eventsports.minha_inscricao.entity.IntencaoInscricaoEntity;
+
+@Repository
+public interface IntencaoInscricaoRepository extends JpaRepository<IntencaoInscricaoEntity, Long> {
+
+    @Query(value = "SELECT DISTINCT evento_id FROM intencoes_inscricao WHERE status = 'RECEBIDA'", nativeQuery = true)
+    List<Long> findEventosComPendentes();
+
+    /**
+     * Intenção pendente mais antiga do evento; linhas já bloqueadas por outra transação são puladas
+     */
+    @Query(value = """
+        SELECT * FROM intencoes_inscricao
+        WHERE evento_id = :eventoId AND status = 'RECEBIDA'
+        ORDER BY id
+        LIMIT 1
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    Optional<IntencaoInscricaoEntity> findProximaParaProcessar(@Param("eventoId") Long eventoId);
+
+    /**
+     * Devolve à fila intenções presas em processamento (ex.: aplicação reiniciada no meio)
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "intencoes_inscricao"))
+    @Query(value = """
+        UPDATE intencoes_inscricao SET status = 'RECEBIDA', atualizada_em = :agora
+        WHERE status = 'PROCESSANDO' AND atualizada_em < :limite
+        """, nativeQuery = true)
+    int retomarPresas(@Param("limite") LocalDateTime limite, @Param("agora") LocalDateTime agora);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "intencoes_inscricao"))
+    @Query(value = """
+        DELETE FROM intencoes_inscricao
+        WHERE status IN ('CONCLUIDA', 'RECUSADA') AND atualizada_em < :limite
+        """, nativeQuery = true)
+    int removerFinalizadasAntesDe(@Param("limite") LocalDateTime limite);
+}
@@ -0,0 +1,36 @@
+package br.com.eventsports.minha_inscricao.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import br.com.eventsports.minha_inscricao.entity.OutboxEventoEntity;
+
+@Repository
+public interface OutboxEventoRepository extends JpaRepository<OutboxEventoEntity, Long> {
+
+    /**
+     * Próximo lote de eventos não publicados, em ordem; linhas já bloqueadas são puladas
+     */
+    @Query(value = """
+        SELECT * FROM outbox_eventos
+        WHERE processado_em IS NULL
+        ORDER BY id
+        LIMIT :lote
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<OutboxEventoEntity> findPendentesParaPublicar(@Param("lote") int lote);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "outbox_eventos"))
+    @Query(value = "DELETE FROM outbox_eventos WHERE processado_em < :limite", nativeQuery = true)
+    int removerProcessadosAntesDe(@Param("limite") LocalDateTime limite);
+}
@@ -0,0 +1,30 @@
+package br.com.eventsports.minha_inscricao.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import br.com.eventsports.minha_inscricao.dto.conciliacao.PagamentoConciliacaoProjection;
+import br.com.eventsports.minha_inscricao.entity.PagamentoEntity;
+
+@Repository
+public interface PagamentoRepository extends JpaRepository<PagamentoEntity, Long> {
+
+    Optional<PagamentoEntity> findByTransacaoId(String transacaoId);
+
+    /**
+     * Pagamentos de um lote do arquivo de liquidação, numa única consulta pela chave única transacao_id
+     */
+    @Query("""
+        SELECT new br.com.eventsports.minha_inscricao.dto.conciliacao.PagamentoConciliacaoProjection(
+            p.id, p.transacaoId, p.status, p.valor, i.id, i.status, i.evento.id, i.categoria.id)
+        FROM PagamentoEntity p JOIN p.inscricao i
+        WHERE p.transacaoId IN :transacaoIds
+        """)
+    List<PagamentoConciliacaoProjection> findParaConciliacao(@Param("transacaoIds") Collection<String> transacaoIds);
+}
@@ -1,10 +1,15 @@
 package br.com.eventsports.minha_inscricao.repository;
 
 import br.com.eventsports.minha_inscricao.entity.UsuarioEntity;
+import br.com.eventsports.minha_inscricao.enums.TipoUsuario;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -50,13 +55,13 @@ public interface UsuarioRepository extends JpaRepository<UsuarioEntity, Long> {
     /**
      * Busca usuários por nome (contendo)
      */
-    @Query("SELECT u FROM UsuarioEntity u WHERE LOWER(u.nome) LIKE LOWER(CONCAT('%', :nome, '%'))")
+    @Query("SELECT u FROM UsuarioEntity u WHERE f_unaccent(lower(u.nome)) LIKE f_unaccent(lower(CONCAT('%', :nome, '%')))")
     Page<UsuarioEntity> findByNomeContainingIgnoreCase(@Param("nome") String nome, Pageable pageable);
 
     /**
      * Busca usuários ativos por nome (contendo)
      */
-    @Query("SELECT u FROM UsuarioEntity u WHERE LOWER(u.nome) LIKE LOWER(CONCAT('%', :nome, '%')) AND u.ativo = true")
+    @Query("SELECT u FROM UsuarioEntity u WHERE f_unaccent(lower(u.nome)) LIKE f_unaccent(lower(CONCAT('%', :nome, '%'))) AND u.ativo = true")
     Page<UsuarioEntity> findByNomeContainingIgnoreCaseAndAtivoTrue(@Param("nome") String nome, Pageable pageable);
 
     /**
@@ -72,4 +77,43 @@ public interface UsuarioRepository extends JpaRepository<UsuarioEntity, Long> {
      */
     @Query("SELECT u FROM UsuarioEntity u WHERE u.createdAt BETWEEN :inicio AND :fim")
     List<UsuarioEntity> findUsuariosCriadosNoPeriodo(@Param("inicio") LocalDateTime inicio, @Param("fim") LocalDateTime fim);
+
+    /**
+     * Conta usuários que fizeram login após determinada data
+     */
+    long countByUltimoLoginGreaterThanEqual(LocalDateTime dataInicio);
+
+    /**
+     * Conta usuários ativos agrupados por tipo: cada linha é [TipoUsuario, Long]
+     */
+    @Query("SELECT u.tipoUsuario, COUNT(u) FROM UsuarioEntity u WHERE u.ativo = true GROUP BY u.tipoUsuario")
+    List<Object[]> countAtivosPorTipo();
+
+    /**
+     * Primeira página de usuários ativos de um tipo, ordenados por nome (paginação por cursor)
+     */
+    @Query("SELECT u FROM UsuarioEntity u WHERE u.tipoUsuario = :tipo AND u.ativo = true ORDER BY u.nome ASC, u.id ASC")
+    List<UsuarioEntity> findPrimeiraPaginaPorTipo(@Param("tipo") TipoUsuario tipo, Pageable pageable);
+
+    /**
+     * Página de usuários ativos de um tipo após a posição (nome, id) do cursor
+     */
+    @Query("SELECT u FROM UsuarioEntity u WHERE u.tipoUsuario = :tipo AND u.ativo = true "
+            + "AND (u.nome, u.id) > (:nome, :id) ORDER BY u.nome ASC, u.id ASC")
+    List<UsuarioEntity> findPaginaPorTipoApos(@Param("tipo") TipoUsuario tipo, @Param("nome") String nome,
+            @Param("id") Long id, Pageable pageable);
+
+    /**
+     * Recalcula o tipo persistido do usuário: ORGANIZADOR se organiza algum evento, senão ATLETA.
+     * Usuários ADMIN (atribuição manual) não são alterados.
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "usuarios"))
+    @Query(value = """
+        UPDATE usuarios SET tipo_usuario =
+            CASE WHEN EXISTS (SELECT 1 FROM eventos e WHERE e.organizador_id = usuarios.id)
+                 THEN 'ORGANIZADOR' ELSE 'ATLETA' END
+        WHERE id = :id AND tipo_usuario <> 'ADMIN'
+        """, nativeQuery = true)
+    int recalcularTipo(@Param("id") Long id);
 }
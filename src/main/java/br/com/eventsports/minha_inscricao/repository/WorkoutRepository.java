@@ -1,8 +1,11 @@
 package br.com.eventsports.minha_inscricao.repository;
 
 import br.com.eventsports.minha_inscricao.entity.WorkoutEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -29,9 +32,31 @@ public interface WorkoutRepository extends JpaRepository<WorkoutEntity, Long> {
     List<WorkoutEntity> findByEventoIdAndAtivoTrue(@Param("eventoId") Long eventoId);
 
     /**
-     * Busca workouts por nome (case insensitive)
+     * Busca workouts por nome (sem distinção de maiúsculas e acentos)
      */
-    List<WorkoutEntity> findByNomeContainingIgnoreCase(String nome);
+    @Query("SELECT w FROM WorkoutEntity w WHERE f_unaccent(lower(w.nome)) LIKE f_unaccent(lower(CONCAT('%', :nome, '%')))")
+    List<WorkoutEntity> findByNomeContainingIgnoreCase(@Param("nome") String nome);
+
+    /**
+     * Primeira página de workouts ordenados por nome (paginação por cursor)
+     */
+    @Query(value = """
+        SELECT w.* FROM workouts w
+        ORDER BY w.nome ASC, w.id ASC
+        LIMIT :limite
+        """, nativeQuery = true)
+    List<WorkoutEntity> findPrimeiraPaginaPorNome(@Param("limite") int limite);
+
+    /**
+     * Página de workouts após a posição (nome, id) do cursor
+     */
+    @Query(value = """
+        SELECT w.* FROM workouts w
+        WHERE (w.nome, w.id) > (:nome, :id)
+        ORDER BY w.nome ASC, w.id ASC
+        LIMIT :limite
+        """, nativeQuery = true)
+    List<WorkoutEntity> findPaginaPorNomeApos(@Param("nome") String nome, @Param("id") Long id, @Param("limite") int limite);
 
     /**
      * Verifica se existe workout com o mesmo nome no evento
@@ -52,8 +77,13 @@ public interface WorkoutRepository extends JpaRepository<WorkoutEntity, Long> {
     List<WorkoutEntity> findByCategoriaId(@Param("categoriaId") Long categoriaId);
 
     /**
-     * Busca workouts ativos por categoria
+     * Busca workouts ativos por categoria (cache de consulta: invalidado pelo Hibernate quando
+     * workouts, categorias ou workout_categorias mudam)
      */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "workouts-ativos-por-categoria")
+    })
     @Query("SELECT DISTINCT w FROM WorkoutEntity w JOIN w.categorias c WHERE c.id = :categoriaId AND w.ativo = true")
     List<WorkoutEntity> findByCategoriaIdAndAtivoTrue(@Param("categoriaId") Long categoriaId);
 
@@ -1,28 +1,43 @@
 package br.com.eventsports.minha_inscricao.service;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
-import java.nio.file.StandardOpenOption;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import br.com.eventsports.minha_inscricao.config.ArquivoConfig;
 import br.com.eventsports.minha_inscricao.dto.anexo.AnexoResponseDTO;
 import br.com.eventsports.minha_inscricao.dto.anexo.AnexoSummaryDTO;
+import br.com.eventsports.minha_inscricao.entity.AnexoBlobEntity;
 import br.com.eventsports.minha_inscricao.entity.AnexoEntity;
 import br.com.eventsports.minha_inscricao.entity.EventoEntity;
+import br.com.eventsports.minha_inscricao.repository.AnexoBlobRepository;
 import br.com.eventsports.minha_inscricao.repository.AnexoRepository;
 import br.com.eventsports.minha_inscricao.repository.EventoRepository;
 import br.com.eventsports.minha_inscricao.service.Interfaces.IAnexoService;
@@ -36,8 +51,18 @@ import lombok.extern.slf4j.Slf4j;
 public class AnexoService implements IAnexoService {
 
     private final AnexoRepository anexoRepository;
+    private final AnexoBlobRepository anexoBlobRepository;
     private final EventoRepository eventoRepository;
     private final ArquivoConfig arquivoConfig;
+    private final LayoutArmazenamentoService layoutArmazenamento;
+    private final ContadorService contadorService;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * Extensões cujo conteúdo já é comprimido (recomprimir só gasta CPU)
+     */
+    private static final Set<String> FORMATOS_COMPRIMIDOS = Set.of(
+            "jpg", "jpeg", "png", "gif", "webp", "pdf", "zip", "rar", "docx", "xlsx", "pptx");
 
     /**
      * Salva um novo anexo com upload de arquivo
@@ -52,39 +77,32 @@ public class AnexoService implements IAnexoService {
         // Criar diretório se não existir
         Path diretorio = criarDiretorioSeNecessario();
 
-        // Gerar nome único para o arquivo
-        String nomeUnico = gerarNomeUnico(arquivo.getOriginalFilename());
-        Path caminhoCompleto = diretorio.resolve(nomeUnico);
-
-        // CORREÇÃO: Ler bytes UMA única vez para evitar corrupção
+        // Ler bytes UMA única vez para evitar corrupção
         byte[] arquivoBytes = arquivo.getBytes();
-        
-        // Calcular MD5 dos bytes lidos
-        String md5 = calcularMd5(arquivoBytes);
-
-        // Verificar se já existe arquivo com mesmo MD5
-        Optional<AnexoEntity> anexoExistente = anexoRepository.findByChecksumMd5(md5);
-        if (anexoExistente.isPresent()) {
-            log.warn("Arquivo com MD5 {} já existe: {}", md5, anexoExistente.get().getNomeArquivo());
-            throw new IllegalArgumentException("Arquivo já existe no sistema");
-        }
 
-        // Salvar bytes diretamente no arquivo (não usar InputStream já consumido)
-        Files.write(caminhoCompleto, arquivoBytes, StandardOpenOption.CREATE);
-        log.info("Arquivo salvo em: {} ({} bytes)", caminhoCompleto, arquivoBytes.length);
+        // Calcular hashes: SHA-256 identifica o conteúdo no blob store, MD5 é mantido para integridade
+        String md5 = calcularHash(arquivoBytes, "MD5");
+        String sha256 = calcularHash(arquivoBytes, "SHA-256");
+
+        // Conteúdo idêntico (mesmo em outro evento) reaproveita o blob já gravado em disco
+        AnexoBlobEntity blob = obterOuCriarBlob(diretorio, sha256, arquivoBytes);
+        blob.adicionarReferencia();
+        blob = anexoBlobRepository.save(blob);
 
         // Criar entidade
         AnexoEntity anexo = AnexoEntity.builder()
                 .nomeArquivo(arquivo.getOriginalFilename())
                 .descricao(descricao)
-                .caminhoArquivo(caminhoCompleto.toString())
+                .caminhoArquivo(blob.getCaminhoArquivo())
                 .tipoMime(arquivo.getContentType())
                 .tamanhoBytes(arquivo.getSize())
                 .checksumMd5(md5)
+                .blob(blob)
                 .evento(EventoEntity.builder().id(eventoId).build())
                 .build();
 
         AnexoEntity anexoSalvo = anexoRepository.save(anexo);
+        contadorService.anexoAlterado(eventoId, false, anexoSalvo.getAtivo());
         log.info("Anexo criado com ID: {}", anexoSalvo.getId());
 
         return anexoSalvo;
@@ -118,11 +136,7 @@ public class AnexoService implements IAnexoService {
             throw new IllegalArgumentException("Anexo está inativo");
         }
 
-        Path caminhoArquivo = Paths.get(anexo.getCaminhoArquivo());
-        if (!Files.exists(caminhoArquivo)) {
-            log.error("Arquivo físico não encontrado: {}", caminhoArquivo);
-            throw new IOException("Arquivo não encontrado no sistema de arquivos");
-        }
+        Path caminhoArquivo = localizarArquivo(anexo);
 
         Resource resource = new UrlResource(caminhoArquivo.toUri());
         if (resource.exists() && resource.isReadable()) {
@@ -132,6 +146,50 @@ public class AnexoService implements IAnexoService {
         }
     }
 
+    /**
+     * Escreve um ZIP com os anexos informados diretamente na saída, sem buffer em memória
+     * nem arquivo temporário. Formatos já comprimidos são gravados sem compressão (STORED).
+     * Não abre transação: a lista deve ser carregada antes e o streaming pode ser demorado.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void escreverZip(List<AnexoEntity> anexos, OutputStream saida) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(saida);
+        Set<String> nomesUsados = new HashSet<>();
+        byte[] buffer = new byte[64 * 1024];
+
+        for (AnexoEntity anexo : anexos) {
+            Path caminhoArquivo;
+            try {
+                caminhoArquivo = localizarArquivo(anexo);
+            } catch (IOException e) {
+                log.warn("Anexo {} ignorado no ZIP: arquivo físico não encontrado", anexo.getId());
+                continue;
+            }
+
+            ZipEntry entrada = new ZipEntry(nomeUnicoNoZip(anexo.getNomeArquivo(), nomesUsados));
+            if (isFormatoComprimido(anexo.getExtensao())) {
+                // STORED exige tamanho e CRC antes dos dados
+                long tamanho = Files.size(caminhoArquivo);
+                entrada.setMethod(ZipEntry.STORED);
+                entrada.setSize(tamanho);
+                entrada.setCompressedSize(tamanho);
+                entrada.setCrc(calcularCrc32(caminhoArquivo, buffer));
+            }
+
+            zip.putNextEntry(entrada);
+            try (InputStream entradaArquivo = Files.newInputStream(caminhoArquivo)) {
+                int lidos;
+                while ((lidos = entradaArquivo.read(buffer)) != -1) {
+                    zip.write(buffer, 0, lidos);
+                }
+            }
+            zip.closeEntry();
+        }
+
+        zip.finish();
+        zip.flush();
+    }
+
     /**
      * Atualiza descrição de um anexo
      */
@@ -150,13 +208,16 @@ public class AnexoService implements IAnexoService {
         AnexoEntity anexo = anexoRepository.findById(anexoId)
                 .orElseThrow(() -> new IllegalArgumentException("Anexo não encontrado"));
 
+        boolean ativoAnterior = anexo.isAtivo();
         if (ativo) {
             anexo.ativar();
         } else {
             anexo.desativar();
         }
 
-        return anexoRepository.save(anexo);
+        AnexoEntity anexoAtualizado = anexoRepository.save(anexo);
+        contadorService.anexoAlterado(anexoAtualizado.getEvento().getId(), ativoAnterior, anexoAtualizado.isAtivo());
+        return anexoAtualizado;
     }
 
     /**
@@ -178,18 +239,59 @@ public class AnexoService implements IAnexoService {
         AnexoEntity anexo = anexoRepository.findById(anexoId)
                 .orElseThrow(() -> new IllegalArgumentException("Anexo não encontrado"));
 
-        // Remover arquivo físico
-        Path caminhoArquivo = Paths.get(anexo.getCaminhoArquivo());
-        if (Files.exists(caminhoArquivo)) {
-            Files.delete(caminhoArquivo);
-            log.info("Arquivo físico removido: {}", caminhoArquivo);
-        }
+        AnexoBlobEntity blob = anexo.getBlob();
 
         // Remover do banco
         anexoRepository.delete(anexo);
+        contadorService.anexoAlterado(anexo.getEvento().getId(), anexo.isAtivo(), false);
+
+        if (blob != null) {
+            // Arquivo compartilhado: só é removido quando não houver mais referências
+            liberarReferencia(blob.getId());
+        } else {
+            // Anexo anterior ao blob store possui arquivo físico exclusivo
+            Path caminhoArquivo = Paths.get(anexo.getCaminhoArquivo());
+            if (Files.exists(caminhoArquivo)) {
+                Files.delete(caminhoArquivo);
+                log.info("Arquivo físico removido: {}", caminhoArquivo);
+            }
+        }
+
         log.info("Anexo removido permanentemente: {}", anexoId);
     }
 
+    /**
+     * Remove blobs que não são mais referenciados por nenhum anexo
+     * (ex.: anexos removidos em cascata junto com o evento)
+     */
+    @Scheduled(cron = "${app.arquivo.cron-coleta-blobs:0 30 3 * * *}")
+    public void coletarBlobsNaoReferenciados() {
+        List<AnexoBlobEntity> candidatos = anexoBlobRepository.findNaoReferenciados();
+        int removidos = 0;
+
+        for (AnexoBlobEntity candidato : candidatos) {
+            // Revalidar sob bloqueio: um upload pode ter reaproveitado o blob nesse meio tempo
+            AnexoBlobEntity blob = anexoBlobRepository.findByIdForUpdate(candidato.getId()).orElse(null);
+            if (blob == null) {
+                continue;
+            }
+
+            long referencias = anexoRepository.countByBlobId(blob.getId());
+            if (referencias > 0) {
+                blob.setReferencias((int) referencias);
+                anexoBlobRepository.save(blob);
+                continue;
+            }
+
+            removerBlob(blob);
+            removidos++;
+        }
+
+        if (removidos > 0) {
+            log.info("Coleta de blobs concluída: {} blob(s) sem referência removido(s)", removidos);
+        }
+    }
+
     /**
      * Busca anexos por tipo (imagens, documentos, etc.)
      */
@@ -255,17 +357,125 @@ public class AnexoService implements IAnexoService {
         return diretorio;
     }
 
-    private String gerarNomeUnico(String nomeOriginal) {
-        String extensao = extrairExtensao(nomeOriginal);
-        String uuid = UUID.randomUUID().toString();
-        String timestamp = String.valueOf(System.currentTimeMillis());
+    /**
+     * Resolve o arquivo físico do anexo; se o caminho gravado não existir (ex.: durante a
+     * migração de layout), procura o arquivo pelo nome nos layouts fragmentado e plano
+     */
+    private Path localizarArquivo(AnexoEntity anexo) throws IOException {
+        Path caminhoArquivo = Paths.get(anexo.getCaminhoArquivo());
+        if (Files.exists(caminhoArquivo)) {
+            return caminhoArquivo;
+        }
+
+        Path diretorio = Paths.get(arquivoConfig.getDiretorioUpload());
+        return layoutArmazenamento.localizar(diretorio, caminhoArquivo.getFileName().toString())
+                .orElseThrow(() -> {
+                    log.error("Arquivo físico não encontrado: {}", caminhoArquivo);
+                    return new IOException("Arquivo não encontrado no sistema de arquivos");
+                });
+    }
+
+    private AnexoBlobEntity obterOuCriarBlob(Path diretorio, String sha256, byte[] bytes) throws IOException {
+        // INSERT ... ON CONFLICT: num primeiro upload simultâneo do mesmo conteúdo, o segundo espera
+        // o primeiro confirmar e não insere nada (em vez de violar a chave única e deixar arquivo órfão)
+        Path caminhoNovo = layoutArmazenamento.resolverParaGravacao(diretorio, sha256);
+        anexoBlobRepository.bloquearConteudo(sha256);
+        boolean criado = anexoBlobRepository.inserirSeAusente(sha256, caminhoNovo.toString(),
+                (long) bytes.length, LocalDateTime.now()) > 0;
+
+        AnexoBlobEntity blob = anexoBlobRepository.findBySha256ForUpdate(sha256)
+                .orElseThrow(() -> new IllegalStateException("Blob não encontrado após inserção: " + sha256));
+        Path caminho = Paths.get(blob.getCaminhoArquivo());
+
+        if (criado) {
+            gravarArquivo(caminho, bytes);
+            log.info("Arquivo salvo em: {} ({} bytes)", caminho, bytes.length);
+            // Sem o commit, o arquivo ficaria órfão: a coleta só percorre as linhas de anexo_blobs
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        apagarArquivoSemBlob(sha256, caminho);
+                    }
+                }
+            });
+            return blob;
+        }
+
+        if (!Files.exists(caminho)) {
+            // Arquivo físico perdido: regravar o conteúdo, que é idêntico por definição
+            log.warn("Arquivo do blob {} ausente em {}, regravando", blob.getId(), caminho);
+            gravarArquivo(caminho, bytes);
+        }
+        log.info("Conteúdo SHA-256 {} já armazenado, reaproveitando blob ID: {}", sha256, blob.getId());
+        return blob;
+    }
 
-        if (arquivoConfig.isManterNomeOriginal() && nomeOriginal != null) {
-            String nomeBase = nomeOriginal.substring(0, nomeOriginal.lastIndexOf('.'));
-            return String.format("%s_%s_%s.%s", nomeBase, timestamp, uuid.substring(0, 8), extensao);
+    /**
+     * Grava em arquivo temporário e move para o destino, evitando que leitores vejam arquivo parcial
+     */
+    private void gravarArquivo(Path destino, byte[] bytes) throws IOException {
+        Path temporario = Files.createTempFile(destino.getParent(), ".upload-", ".tmp");
+        try {
+            Files.write(temporario, bytes);
+            Files.move(temporario, destino, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporario);
+        }
+    }
+
+    private void liberarReferencia(Long blobId) {
+        AnexoBlobEntity blob = anexoBlobRepository.findByIdForUpdate(blobId).orElse(null);
+        if (blob == null) {
+            return;
+        }
+
+        blob.removerReferencia();
+        if (blob.isReferenciado()) {
+            anexoBlobRepository.save(blob);
         } else {
-            return String.format("%s_%s_%s.%s",
-                    arquivoConfig.getPrefixoNomeArquivo(), timestamp, uuid.substring(0, 8), extensao);
+            removerBlob(blob);
+        }
+    }
+
+    private void removerBlob(AnexoBlobEntity blob) {
+        String sha256 = blob.getSha256();
+        Path caminho = Paths.get(blob.getCaminhoArquivo());
+        anexoBlobRepository.delete(blob);
+
+        // Arquivo só é apagado após o commit, para não perder conteúdo em caso de rollback
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apagarArquivoSemBlob(sha256, caminho);
+            }
+        });
+    }
+
+    /**
+     * Apaga o arquivo do conteúdo se nenhum blob o usa. Roda depois da transação que removeu (ou não chegou
+     * a criar) o blob: sob o bloqueio do conteúdo, um upload do mesmo arquivo já confirmou, e então o arquivo
+     * é dele e fica, ou ainda não inseriu o blob e só grava depois desta remoção
+     */
+    private void apagarArquivoSemBlob(String sha256, Path caminho) {
+        TransactionTemplate novaTransacao = new TransactionTemplate(transactionManager);
+        novaTransacao.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            novaTransacao.executeWithoutResult(status -> {
+                anexoBlobRepository.bloquearConteudo(sha256);
+                if (anexoBlobRepository.existsBySha256(sha256)) {
+                    log.info("Arquivo {} mantido: o conteúdo voltou a ser usado por outro upload", caminho);
+                    return;
+                }
+                try {
+                    Files.deleteIfExists(caminho);
+                    log.info("Arquivo de blob removido: {}", caminho);
+                } catch (IOException e) {
+                    log.warn("Não foi possível remover arquivo de blob {}: {}", caminho, e.getMessage());
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("Não foi possível verificar a remoção do arquivo de blob {}: {}", caminho, e.getMessage());
         }
     }
 
@@ -275,9 +485,9 @@ public class AnexoService implements IAnexoService {
         return nomeArquivo.substring(nomeArquivo.lastIndexOf(".") + 1).toLowerCase();
     }
 
-    private String calcularMd5(byte[] bytes) {
+    private String calcularHash(byte[] bytes, String algoritmo) {
         try {
-            MessageDigest md = MessageDigest.getInstance("MD5");
+            MessageDigest md = MessageDigest.getInstance(algoritmo);
             byte[] hash = md.digest(bytes);
             StringBuilder sb = new StringBuilder();
             for (byte b : hash) {
@@ -285,11 +495,46 @@ public class AnexoService implements IAnexoService {
             }
             return sb.toString();
         } catch (NoSuchAlgorithmException e) {
-            log.error("Erro ao calcular MD5", e);
+            log.error("Erro ao calcular {}", algoritmo, e);
             throw new RuntimeException("Erro interno ao processar arquivo", e);
         }
     }
 
+    private long calcularCrc32(Path arquivo, byte[] buffer) throws IOException {
+        CRC32 crc = new CRC32();
+        try (InputStream entrada = Files.newInputStream(arquivo)) {
+            int lidos;
+            while ((lidos = entrada.read(buffer)) != -1) {
+                crc.update(buffer, 0, lidos);
+            }
+        }
+        return crc.getValue();
+    }
+
+    private boolean isFormatoComprimido(String extensao) {
+        return extensao != null && FORMATOS_COMPRIMIDOS.contains(extensao.toLowerCase());
+    }
+
+    /**
+     * Evita entradas duplicadas no ZIP quando dois anexos têm o mesmo nome: "regulamento (2).pdf"
+     */
+    private String nomeUnicoNoZip(String nomeArquivo, Set<String> nomesUsados) {
+        String nome = nomeArquivo != null && !nomeArquivo.isBlank() ? nomeArquivo : "anexo";
+        if (nomesUsados.add(nome)) {
+            return nome;
+        }
+
+        int ponto = nome.lastIndexOf('.');
+        String base = ponto > 0 ? nome.substring(0, ponto) : nome;
+        String extensao = ponto > 0 ? nome.substring(ponto) : "";
+        int sequencia = 2;
+        String candidato;
+        do {
+            candidato = String.format("%s (%d)%s", base, sequencia++, extensao);
+        } while (!nomesUsados.add(candidato));
+        return candidato;
+    }
+
     private String formatarTamanho(long bytes) {
         if (bytes < 1024)
             return bytes + " B";
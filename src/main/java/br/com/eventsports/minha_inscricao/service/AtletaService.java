@@ -1,6 +1,7 @@
 package br.com.eventsports.minha_inscricao.service;
 
 import br.com.eventsports.minha_inscricao.dto.atleta.*;
+import br.com.eventsports.minha_inscricao.dto.paginacao.PaginaCursorDTO;
 import br.com.eventsports.minha_inscricao.entity.AtletaEntity;
 import br.com.eventsports.minha_inscricao.entity.CategoriaEntity;
 import br.com.eventsports.minha_inscricao.entity.EventoEntity;
@@ -17,6 +18,7 @@ import br.com.eventsports.minha_inscricao.repository.EquipeRepository;
 import br.com.eventsports.minha_inscricao.repository.InscricaoRepository;
 import br.com.eventsports.minha_inscricao.repository.UsuarioRepository;
 import br.com.eventsports.minha_inscricao.service.Interfaces.IAtletaService;
+import br.com.eventsports.minha_inscricao.util.PaginacaoUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
@@ -42,6 +44,9 @@ public class AtletaService implements IAtletaService {
     private final CategoriaRepository categoriaRepository;
     private final InscricaoRepository inscricaoRepository;
     private final UsuarioRepository usuarioRepository;
+    private final ContadorService contadorService;
+    private final VagaService vagaService;
+    private final IndiceParticipantesService indiceParticipantesService;
 
     @Cacheable(value = "atletas", key = "#id")
     @Transactional(readOnly = true)
@@ -56,13 +61,18 @@ public class AtletaService implements IAtletaService {
         return atletaRepository.findById(id);
     }
 
-    @Cacheable(value = "atletas", key = "'all'")
     @Transactional(readOnly = true)
-    public List<AtletaSummaryDTO> findAll() {
-        List<AtletaEntity> atletas = atletaRepository.findAll();
-        return atletas.stream()
-                .map(this::convertToSummaryDTO)
-                .collect(Collectors.toList());
+    public PaginaCursorDTO<AtletaSummaryDTO> findAll(String after, Integer limit) {
+        int limite = PaginacaoUtil.normalizarLimite(limit);
+        List<AtletaEntity> atletas;
+        if (after == null) {
+            atletas = atletaRepository.findPrimeiraPaginaPorNome(limite + 1);
+        } else {
+            PaginacaoUtil.Cursor cursor = PaginacaoUtil.decodificarCursor(after);
+            atletas = atletaRepository.findPaginaPorNomeApos(cursor.chave(), cursor.id(), limite + 1);
+        }
+        return PaginacaoUtil.montarPagina(atletas, limite, this::convertToSummaryDTO,
+                item -> PaginacaoUtil.codificarCursor(item.getNome(), item.getId()));
     }
 
     @CachePut(value = "atletas", key = "#result.id")
@@ -71,6 +81,7 @@ public class AtletaService implements IAtletaService {
         validateAtletaData(atletaCreateDTO);
         AtletaEntity atleta = convertCreateDTOToEntity(atletaCreateDTO);
         AtletaEntity savedAtleta = atletaRepository.save(atleta);
+        indiceParticipantesService.atletaSalvo(savedAtleta);
         return convertToResponseDTO(savedAtleta);
     }
 
@@ -80,6 +91,7 @@ public class AtletaService implements IAtletaService {
         validateAtletaData(atletaCreateDTO);
         AtletaEntity atleta = convertCreateDTOToEntityForInscricao(atletaCreateDTO, eventoId, equipeId);
         AtletaEntity savedAtleta = atletaRepository.save(atleta);
+        indiceParticipantesService.atletaSalvo(savedAtleta);
         return convertToResponseDTO(savedAtleta);
     }
 
@@ -141,6 +153,7 @@ public class AtletaService implements IAtletaService {
         
         // Recarregar atleta para obter dados atualizados
         atleta = atletaRepository.findById(atleta.getId()).orElse(atleta);
+        indiceParticipantesService.atletaSalvo(atleta);
 
         return convertToResponseDTO(atleta);
     }
@@ -153,15 +166,20 @@ public class AtletaService implements IAtletaService {
         
         updateAtletaFromDTO(atleta, atletaUpdateDTO);
         AtletaEntity updatedAtleta = atletaRepository.save(atleta);
+        indiceParticipantesService.atletaSalvo(updatedAtleta);
         return convertToResponseDTO(updatedAtleta);
     }
 
     @CacheEvict(value = "atletas", allEntries = true)
     public void deleteById(Long id) {
-        if (!atletaRepository.existsById(id)) {
-            throw new RuntimeException("Atleta não encontrado com ID: " + id);
+        AtletaEntity atleta = atletaRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Atleta não encontrado com ID: " + id));
+        Long eventoId = atleta.getEvento() != null ? atleta.getEvento().getId() : null;
+
+        atletaRepository.delete(atleta);
+        if (eventoId != null) {
+            indiceParticipantesService.atletaRemovido(eventoId, id);
         }
-        atletaRepository.deleteById(id);
     }
 
     @Cacheable(value = "atletas", key = "'byCpf:' + #cpf")
@@ -541,8 +559,11 @@ public class AtletaService implements IAtletaService {
                 .codigoDesconto(dto.getCodigoDesconto())
                 .build();
 
-        // Salvar inscrição
-        return inscricaoRepository.save(inscricao);
+        // Reservar a vaga (categorias com limite) e salvar inscrição
+        vagaService.reservar(inscricao);
+        InscricaoEntity inscricaoSalva = inscricaoRepository.save(inscricao);
+        contadorService.inscricaoCriada(evento.getId(), categoria.getId(), inscricaoSalva.getStatus());
+        return inscricaoSalva;
     }
 
     /**
@@ -553,6 +574,7 @@ public class AtletaService implements IAtletaService {
         validateAtletaData(atletaCreateDTO);
         AtletaEntity atleta = convertCreateDTOToEntityForEvento(atletaCreateDTO, eventoId);
         AtletaEntity savedAtleta = atletaRepository.save(atleta);
+        indiceParticipantesService.atletaSalvo(savedAtleta);
         return convertToResponseDTO(savedAtleta);
     }
 }
@@ -0,0 +1,114 @@
+package br.com.eventsports.minha_inscricao.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.com.eventsports.minha_inscricao.dto.busca.ResultadoBuscaDTO;
+import br.com.eventsports.minha_inscricao.dto.busca.ResultadoBuscaProjection;
+import br.com.eventsports.minha_inscricao.dto.paginacao.PaginaCursorDTO;
+import br.com.eventsports.minha_inscricao.enums.TipoResultadoBusca;
+import br.com.eventsports.minha_inscricao.repository.BuscaRepository;
+import br.com.eventsports.minha_inscricao.util.PaginacaoUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Busca unificada por nome em eventos, atletas, equipes, categorias, workouts e usuários.
+ * Cada tipo é consultado com LIMIT pelos índices de trigramas e os resultados são intercalados
+ * por relevância. Como a ordem é por relevância (não por uma chave estável), o cursor guarda
+ * a posição (offset) no resultado, limitada a PROFUNDIDADE_MAXIMA.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@Slf4j
+public class BuscaService {
+
+    public static final int TAMANHO_MINIMO_TERMO = 3;
+    public static final int PROFUNDIDADE_MAXIMA = 1000;
+
+    private static final Comparator<ResultadoBuscaDTO> ORDEM_RELEVANCIA = Comparator
+            .comparing(ResultadoBuscaDTO::getRelevancia, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(ResultadoBuscaDTO::getTipo)
+            .thenComparing(ResultadoBuscaDTO::getId);
+
+    private final BuscaRepository buscaRepository;
+
+    /**
+     * Busca por nome sem distinção de acentos e maiúsculas.
+     * Só consulta os tipos permitidos a quem busca; tipos vazios ou nulos consultam todos os permitidos.
+     */
+    public PaginaCursorDTO<ResultadoBuscaDTO> buscar(String termo, Set<TipoResultadoBusca> tipos,
+            Set<TipoResultadoBusca> permitidos, String after, Integer limit) {
+        String termoNormalizado = termo != null ? termo.trim() : "";
+        if (termoNormalizado.length() < TAMANHO_MINIMO_TERMO) {
+            throw new IllegalArgumentException(
+                    "O termo de busca deve ter pelo menos " + TAMANHO_MINIMO_TERMO + " caracteres");
+        }
+
+        int limite = PaginacaoUtil.normalizarLimite(limit);
+        int offset = after != null ? PaginacaoUtil.decodificarCursor(after).id().intValue() : 0;
+        if (offset < 0 || offset + limite > PROFUNDIDADE_MAXIMA) {
+            throw new IllegalArgumentException(
+                    "A busca retorna no máximo " + PROFUNDIDADE_MAXIMA + " resultados; refine o termo");
+        }
+
+        Set<TipoResultadoBusca> consultados = EnumSet.noneOf(TipoResultadoBusca.class);
+        consultados.addAll(permitidos);
+        if (tipos != null && !tipos.isEmpty()) {
+            consultados.retainAll(tipos);
+        }
+
+        String padrao = "%" + escaparLike(termoNormalizado) + "%";
+        int porTipo = offset + limite + 1;
+        log.debug("Busca '{}' em {} (offset {}, limite {})", termoNormalizado, consultados, offset, limite);
+
+        List<ResultadoBuscaDTO> resultados = new ArrayList<>();
+        for (TipoResultadoBusca tipo : consultados) {
+            consultar(tipo, termoNormalizado, padrao, porTipo)
+                    .forEach(linha -> resultados.add(converter(tipo, linha)));
+        }
+        resultados.sort(ORDEM_RELEVANCIA);
+
+        List<ResultadoBuscaDTO> aPartirDoOffset = offset < resultados.size()
+                ? resultados.subList(offset, Math.min(resultados.size(), porTipo))
+                : List.of();
+        String proximoCursor = PaginacaoUtil.codificarCursor(null, (long) (offset + limite));
+        return PaginacaoUtil.montarPagina(aPartirDoOffset, limite, dto -> dto, dto -> proximoCursor);
+    }
+
+    private List<ResultadoBuscaProjection> consultar(TipoResultadoBusca tipo, String termo, String padrao, int limite) {
+        return switch (tipo) {
+            case EVENTO -> buscaRepository.buscarEventos(termo, padrao, limite);
+            case ATLETA -> buscaRepository.buscarAtletas(termo, padrao, limite);
+            case EQUIPE -> buscaRepository.buscarEquipes(termo, padrao, limite);
+            case CATEGORIA -> buscaRepository.buscarCategorias(termo, padrao, limite);
+            case WORKOUT -> buscaRepository.buscarWorkouts(termo, padrao, limite);
+            case USUARIO -> buscaRepository.buscarUsuarios(termo, padrao, limite);
+        };
+    }
+
+    private ResultadoBuscaDTO converter(TipoResultadoBusca tipo, ResultadoBuscaProjection linha) {
+        return ResultadoBuscaDTO.builder()
+                .tipo(tipo)
+                .id(linha.getId())
+                .nome(linha.getNome())
+                .detalhe(linha.getDetalhe())
+                .eventoId(linha.getEventoId())
+                .relevancia(linha.getRelevancia())
+                .build();
+    }
+
+    /**
+     * Escapa os curingas do LIKE (escape padrão do Postgres é a barra invertida)
+     */
+    private static String escaparLike(String termo) {
+        return termo.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -2,6 +2,7 @@ package br.com.eventsports.minha_inscricao.service;
 
 import br.com.eventsports.minha_inscricao.dto.categoria.*;
 import br.com.eventsports.minha_inscricao.entity.CategoriaEntity;
+import br.com.eventsports.minha_inscricao.entity.ContadorCategoriaEntity;
 import br.com.eventsports.minha_inscricao.entity.EventoEntity;
 import br.com.eventsports.minha_inscricao.enums.TipoParticipacao;
 import br.com.eventsports.minha_inscricao.repository.CategoriaRepository;
@@ -14,6 +15,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
@@ -22,6 +25,8 @@ import java.util.stream.Collectors;
 public class CategoriaService implements ICategoriaService {
 
     private final CategoriaRepository categoriaRepository;
+    private final ContadorService contadorService;
+    private final VagaService vagaService;
 
     @Cacheable(value = "categorias", key = "#id")
     @Transactional(readOnly = true)
@@ -35,9 +40,7 @@ public class CategoriaService implements ICategoriaService {
     @Transactional(readOnly = true)
     public List<CategoriaSummaryDTO> findAll() {
         List<CategoriaEntity> categorias = categoriaRepository.findAll();
-        return categorias.stream()
-                .map(this::convertToSummaryDTO)
-                .collect(Collectors.toList());
+        return convertToSummaryDTOs(categorias);
     }
 
     @CachePut(value = "categorias", key = "#result.id")
@@ -45,7 +48,8 @@ public class CategoriaService implements ICategoriaService {
     public CategoriaResponseDTO save(Long eventoId, CategoriaCreateDTO categoriaCreateDTO) {
         validateCategoriaData(eventoId, categoriaCreateDTO);
         CategoriaEntity categoria = convertCreateDTOToEntity(eventoId, categoriaCreateDTO);
-        CategoriaEntity savedCategoria = categoriaRepository.save(categoria);
+        CategoriaEntity savedCategoria = categoriaRepository.saveAndFlush(categoria);
+        contadorService.categoriaCriada(eventoId, savedCategoria.getId());
         return convertToResponseDTO(savedCategoria);
     }
 
@@ -56,8 +60,15 @@ public class CategoriaService implements ICategoriaService {
         CategoriaEntity existingCategoria = categoriaRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Categoria não encontrada com ID: " + id));
 
+        Integer vagasAnteriores = existingCategoria.getVagas();
         updateCategoriaFromUpdateDTO(existingCategoria, categoriaUpdateDTO);
-        CategoriaEntity updatedCategoria = categoriaRepository.save(existingCategoria);
+        CategoriaEntity updatedCategoria = categoriaRepository.saveAndFlush(existingCategoria);
+
+        // Limite maior (ou removido): as vagas novas vão para a lista de espera na mesma transação,
+        // até lotar ou a fila acabar
+        if (!Objects.equals(vagasAnteriores, updatedCategoria.getVagas())) {
+            vagaService.preencherVagas(id, Integer.MAX_VALUE);
+        }
         return convertToResponseDTO(updatedCategoria);
     }
 
@@ -75,65 +86,52 @@ public class CategoriaService implements ICategoriaService {
         }
         
         categoriaRepository.deleteById(id);
+        contadorService.categoriaRemovida(categoria.getEvento().getId());
     }
 
     @Cacheable(value = "categorias", key = "'byEvento:' + #eventoId")
     @Transactional(readOnly = true)
     public List<CategoriaSummaryDTO> findByEventoId(Long eventoId) {
         List<CategoriaEntity> categorias = categoriaRepository.findByEventoIdOrderByNomeAsc(eventoId);
-        return categorias.stream()
-                .map(this::convertToSummaryDTO)
-                .collect(Collectors.toList());
+        return convertToSummaryDTOs(categorias);
     }
 
     @Cacheable(value = "categorias", key = "'ativas'")
     @Transactional(readOnly = true)
     public List<CategoriaSummaryDTO> findCategoriasAtivas() {
         List<CategoriaEntity> categorias = categoriaRepository.findByAtivaTrue();
-        return categorias.stream()
-                .map(this::convertToSummaryDTO)
-                .collect(Collectors.toList());
+        return convertToSummaryDTOs(categorias);
     }
 
     @Cacheable(value = "categorias", key = "'ativasByEvento:' + #eventoId")
     @Transactional(readOnly = true)
     public List<CategoriaSummaryDTO> findCategoriasAtivasByEvento(Long eventoId) {
         List<CategoriaEntity> categorias = categoriaRepository.findByEventoIdAndAtivaTrue(eventoId);
-        return categorias.stream()
-                .map(this::convertToSummaryDTO)
-                .collect(Collectors.toList());
+        return convertToSummaryDTOs(categorias);
     }
 
     @Transactional(readOnly = true)
     public List<CategoriaSummaryDTO> findByTipoParticipacao(TipoParticipacao tipoParticipacao) {
         List<CategoriaEntity> categorias = categoriaRepository.findByTipoParticipacao(tipoParticipacao);
-        return categorias.stream()
-                .map(this::convertToSummaryDTO)
-                .collect(Collectors.toList());
+        return convertToSummaryDTOs(categorias);
     }
 
     @Transactional(readOnly = true)
     public List<CategoriaSummaryDTO> findByEventoIdAndTipoParticipacao(Long eventoId, TipoParticipacao tipoParticipacao) {
         List<CategoriaEntity> categorias = categoriaRepository.findByEventoIdAndTipoParticipacao(eventoId, tipoParticipacao);
-        return categorias.stream()
-                .map(this::convertToSummaryDTO)
-                .collect(Collectors.toList());
+        return convertToSummaryDTOs(categorias);
     }
 
     @Transactional(readOnly = true)
     public List<CategoriaSummaryDTO> findByNome(String nome) {
         List<CategoriaEntity> categorias = categoriaRepository.findByNomeContainingIgnoreCase(nome);
-        return categorias.stream()
-                .map(this::convertToSummaryDTO)
-                .collect(Collectors.toList());
+        return convertToSummaryDTOs(categorias);
     }
 
     @Transactional(readOnly = true)
     public List<CategoriaSummaryDTO> findCategoriasDisponiveis(Long eventoId) {
         List<CategoriaEntity> categorias = categoriaRepository.findCategoriasDisponiveis(eventoId);
-        return categorias.stream()
-                .map(this::convertToSummaryDTO)
-                .collect(Collectors.toList());
+        return convertToSummaryDTOs(categorias);
     }
 
     @CacheEvict(value = "categorias", key = "#id")
@@ -156,6 +154,7 @@ public class CategoriaService implements ICategoriaService {
 
     // Mapping methods
     private CategoriaResponseDTO convertToResponseDTO(CategoriaEntity categoria) {
+        ContadorCategoriaEntity contador = contadorService.daCategoria(categoria.getId());
         return CategoriaResponseDTO.builder()
                 .id(categoria.getId())
                 .eventoId(categoria.getEvento() != null ? categoria.getEvento().getId() : null)
@@ -169,16 +168,30 @@ public class CategoriaService implements ICategoriaService {
                 .quantidadeDeAtletasPorEquipe(categoria.getQuantidadeDeAtletasPorEquipe())
                 .valorInscricao(categoria.getValorInscricao())
                 .ativa(categoria.getAtiva())
-                .numeroInscricoesAtivas(categoria.getNumeroInscricoesAtivas())
-                .numeroEquipesAtivas(categoria.getNumeroEquipesAtivas())
-                .totalEquipes(categoria.getTotalEquipes())
+                .numeroInscricoesAtivas((long) contador.getInscricoesAtivas())
+                .numeroEquipesAtivas((long) contador.getEquipesAtivas())
+                .vagas(categoria.getVagas())
+                .vagasDisponiveis(contador.vagasDisponiveis(categoria.getVagas()))
+                .totalEquipes(contador.getTotalEquipes())
                 .descricaoCompleta(categoria.getDescricaoCompleta())
                 .createdAt(categoria.getCreatedAt())
                 .updatedAt(categoria.getUpdatedAt())
                 .build();
     }
 
-    private CategoriaSummaryDTO convertToSummaryDTO(CategoriaEntity categoria) {
+    /**
+     * Contadores das categorias carregados numa única consulta para a lista inteira
+     */
+    private List<CategoriaSummaryDTO> convertToSummaryDTOs(List<CategoriaEntity> categorias) {
+        Map<Long, ContadorCategoriaEntity> contadores = contadorService.dasCategorias(
+                categorias.stream().map(CategoriaEntity::getId).toList());
+        return categorias.stream()
+                .map(categoria -> convertToSummaryDTO(categoria, contadores.getOrDefault(categoria.getId(),
+                        ContadorCategoriaEntity.vazio(categoria.getId()))))
+                .collect(Collectors.toList());
+    }
+
+    private CategoriaSummaryDTO convertToSummaryDTO(CategoriaEntity categoria, ContadorCategoriaEntity contador) {
         return CategoriaSummaryDTO.builder()
                 .id(categoria.getId())
                 .nome(categoria.getNome())
@@ -188,8 +201,10 @@ public class CategoriaService implements ICategoriaService {
                 .quantidadeDeAtletasPorEquipe(categoria.getQuantidadeDeAtletasPorEquipe())
                 .valorInscricao(categoria.getValorInscricao())
                 .ativa(categoria.getAtiva())
-                .numeroInscricoesAtivas(categoria.getNumeroInscricoesAtivas())
-                .numeroEquipesAtivas(categoria.getNumeroEquipesAtivas())
+                .numeroInscricoesAtivas((long) contador.getInscricoesAtivas())
+                .numeroEquipesAtivas((long) contador.getEquipesAtivas())
+                .vagas(categoria.getVagas())
+                .vagasDisponiveis(contador.vagasDisponiveis(categoria.getVagas()))
                 .descricaoCompleta(categoria.getDescricaoCompleta())
                 .createdAt(categoria.getCreatedAt())
                 .build();
@@ -204,7 +219,8 @@ public class CategoriaService implements ICategoriaService {
                 .genero(dto.getGenero())
                 .tipoParticipacao(dto.getTipoParticipacao())
                 .quantidadeDeAtletasPorEquipe(dto.getQuantidadeDeAtletasPorEquipe())
-                .valorInscricao(dto.getValorInscricao());
+                .valorInscricao(dto.getValorInscricao())
+                .vagas(dto.getVagas());
 
         if (dto.getAtiva() != null) {
             builder.ativa(dto.getAtiva());
@@ -226,6 +242,8 @@ public class CategoriaService implements ICategoriaService {
         categoria.setGenero(dto.getGenero());
         categoria.setTipoParticipacao(dto.getTipoParticipacao());
         categoria.setQuantidadeDeAtletasPorEquipe(dto.getQuantidadeDeAtletasPorEquipe());
+        // Reduzir abaixo das vagas ocupadas não cancela reservas; só impede novas
+        categoria.setVagas(dto.getVagas());
         
         if (dto.getValorInscricao() != null) {
             categoria.setValorInscricao(dto.getValorInscricao());
@@ -0,0 +1,493 @@
+package br.com.eventsports.minha_inscricao.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.eventsports.minha_inscricao.config.ConciliacaoConfig;
+import br.com.eventsports.minha_inscricao.dto.conciliacao.PagamentoConciliacaoProjection;
+import br.com.eventsports.minha_inscricao.dto.conciliacao.ResultadoConciliacaoDTO;
+import br.com.eventsports.minha_inscricao.enums.StatusInscricao;
+import br.com.eventsports.minha_inscricao.enums.StatusPagamento;
+import br.com.eventsports.minha_inscricao.repository.PagamentoRepository;
+import br.com.eventsports.minha_inscricao.util.LeitorCsv;
+import br.com.eventsports.minha_inscricao.util.RelatorioCsv;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Conciliação dos pagamentos com o arquivo de liquidação do gateway (CSV).
+ * O arquivo é lido em streaming e processado em lotes: cada lote busca seus pagamentos numa única
+ * consulta IN por transacao_id (projeção, sem entidades) e grava as mudanças com UPDATEs em lote JDBC,
+ * condicionados ao status lido, numa transação por lote. Só o lote corrente fica em memória.
+ * Pagamento aprovado confirma a inscrição pendente; o que não puder ser aplicado vai para um relatório
+ * de divergências disponível para download.
+ *
+ * Colunas do cabeçalho: transacao_id, status e valor; opcionais: gateway_id, data_pagamento e motivo.
+ * O status aceita os valores de StatusPagamento e os equivalentes em inglês mais comuns nos gateways.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ConciliacaoPagamentoService {
+
+    private static final List<String> COLUNAS_OBRIGATORIAS = List.of("transacao_id", "status", "valor");
+    private static final String CABECALHO_RELATORIO = "linha;transacao_id;divergencia;detalhe";
+
+    private static final Map<String, StatusPagamento> STATUS_GATEWAY = Map.ofEntries(
+            Map.entry("PAID", StatusPagamento.APROVADO),
+            Map.entry("APPROVED", StatusPagamento.APROVADO),
+            Map.entry("SETTLED", StatusPagamento.APROVADO),
+            Map.entry("PAGO", StatusPagamento.APROVADO),
+            Map.entry("DECLINED", StatusPagamento.RECUSADO),
+            Map.entry("REJECTED", StatusPagamento.RECUSADO),
+            Map.entry("CANCELED", StatusPagamento.CANCELADO),
+            Map.entry("CANCELLED", StatusPagamento.CANCELADO),
+            Map.entry("REFUNDED", StatusPagamento.ESTORNADO),
+            Map.entry("CHARGEBACK", StatusPagamento.ESTORNADO),
+            Map.entry("EXPIRED", StatusPagamento.EXPIRADO),
+            Map.entry("PENDING", StatusPagamento.PENDENTE),
+            Map.entry("PROCESSING", StatusPagamento.PROCESSANDO));
+
+    /**
+     * Só aplica se o pagamento ainda estiver no status lido: uma mudança concorrente não é sobrescrita
+     */
+    private static final String SQL_ATUALIZAR_PAGAMENTO = """
+        UPDATE pagamentos SET
+            status = ?,
+            gateway_id = COALESCE(?, gateway_id),
+            data_pagamento = COALESCE(?, data_pagamento),
+            motivo_recusa = COALESCE(?, motivo_recusa),
+            data_processamento = ?,
+            updated_at = ?
+        WHERE id = ? AND status = ?
+        """;
+
+    /**
+     * Pendente e confirmada ocupam vaga, então a confirmação não mexe nas vagas da categoria
+     */
+    private static final String SQL_CONFIRMAR_INSCRICAO = """
+        UPDATE inscricoes SET
+            status = 'CONFIRMADA',
+            data_confirmacao = ?,
+            reserva_expira_em = NULL,
+            updated_at = ?
+        WHERE id = ? AND status = 'PENDENTE'
+        """;
+
+    private final PagamentoRepository pagamentoRepository;
+    private final ContadorService contadorService;
+    private final ConciliacaoConfig conciliacaoConfig;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SuporteLoteService suporteLoteService;
+
+    /**
+     * Concilia o arquivo de liquidação; linhas inválidas ou divergentes não interrompem a conciliação
+     */
+    public ResultadoConciliacaoDTO conciliar(InputStream arquivo) throws IOException {
+        long inicio = System.currentTimeMillis();
+        RelatorioCsv relatorio = suporteLoteService.novoRelatorio(conciliacaoConfig.getDiretorioRelatorios(), null,
+                CABECALHO_RELATORIO);
+
+        Execucao execucao = new Execucao(relatorio);
+        try (LeitorCsv leitor = new LeitorCsv(new InputStreamReader(arquivo, StandardCharsets.UTF_8)); relatorio) {
+            execucao.processar(leitor);
+        }
+
+        if (execucao.pagamentosAtualizados > 0) {
+            suporteLoteService.limparCaches("inscricoes", "categorias");
+        }
+
+        long duracao = System.currentTimeMillis() - inicio;
+        log.info("Conciliação de pagamentos: {} linha(s), {} pagamento(s) atualizado(s), {} inscrição(ões) "
+                + "confirmada(s), {} divergência(s) em {} ms", execucao.linhasProcessadas,
+                execucao.pagamentosAtualizados, execucao.inscricoesConfirmadas, execucao.divergencias, duracao);
+
+        return ResultadoConciliacaoDTO.builder()
+                .linhasProcessadas(execucao.linhasProcessadas)
+                .pagamentosInalterados(execucao.pagamentosInalterados)
+                .pagamentosAtualizados(execucao.pagamentosAtualizados)
+                .inscricoesConfirmadas(execucao.inscricoesConfirmadas)
+                .divergencias(execucao.divergencias)
+                .relatorioDivergenciasId(execucao.divergencias > 0 ? relatorio.getId() : null)
+                .duracaoMs(duracao)
+                .build();
+    }
+
+    /**
+     * Arquivo do relatório de divergências de uma conciliação, se ainda existir
+     */
+    public Optional<Path> relatorioDivergencias(String relatorioId) {
+        return suporteLoteService.buscarRelatorio(conciliacaoConfig.getDiretorioRelatorios(), null, relatorioId);
+    }
+
+    /**
+     * Remove relatórios de divergências mais antigos que a retenção configurada
+     */
+    @Scheduled(cron = "${app.conciliacao.cron-limpeza:0 20 * * * *}")
+    public void limparRelatorios() {
+        suporteLoteService.removerRelatoriosAntigos(conciliacaoConfig.getDiretorioRelatorios(),
+                conciliacaoConfig.getHorasRetencaoRelatorios());
+    }
+
+    /**
+     * Transições aceitas do arquivo: pagamento em aberto vai para qualquer status; aprovado só para estornado.
+     * Os demais finalizados não mudam pela conciliação e são reportados.
+     */
+    private static boolean transicaoPermitida(StatusPagamento atual, StatusPagamento novo) {
+        if (!atual.isFinalizado()) {
+            return true;
+        }
+        return atual == StatusPagamento.APROVADO && novo == StatusPagamento.ESTORNADO;
+    }
+
+    /**
+     * Estado de uma conciliação: lote em montagem, totais e relatório de divergências
+     */
+    private final class Execucao {
+
+        private final RelatorioCsv relatorio;
+
+        private final List<Linha> lote = new ArrayList<>();
+        private final Set<String> transacoesNoLote = new HashSet<>();
+
+        private long linhasProcessadas;
+        private long pagamentosInalterados;
+        private long pagamentosAtualizados;
+        private long inscricoesConfirmadas;
+        private long divergencias;
+
+        private Execucao(RelatorioCsv relatorio) {
+            this.relatorio = relatorio;
+        }
+
+        void processar(LeitorCsv leitor) throws IOException {
+            List<String> cabecalho = leitor.lerCabecalho();
+            if (cabecalho == null) {
+                throw new IllegalArgumentException("Arquivo CSV vazio");
+            }
+            Map<String, Integer> colunas = new HashMap<>();
+            for (int i = 0; i < cabecalho.size(); i++) {
+                colunas.putIfAbsent(cabecalho.get(i).toLowerCase(Locale.ROOT), i);
+            }
+            List<String> ausentes = COLUNAS_OBRIGATORIAS.stream().filter(coluna -> !colunas.containsKey(coluna)).toList();
+            if (!ausentes.isEmpty()) {
+                throw new IllegalArgumentException("Colunas obrigatórias ausentes no cabeçalho: " + String.join(", ", ausentes));
+            }
+
+            List<String> registro;
+            while ((registro = leitor.proximo()) != null) {
+                if (LeitorCsv.registroVazio(registro)) {
+                    continue;
+                }
+                linhasProcessadas++;
+                long numero = leitor.getLinhaRegistro();
+                Linha linha;
+                try {
+                    linha = Linha.de(numero, colunas, registro);
+                } catch (IllegalArgumentException e) {
+                    divergir(numero, valorColuna(colunas, registro, "transacao_id"), Divergencia.LINHA_INVALIDA, e.getMessage());
+                    continue;
+                }
+                // Repetições em lotes diferentes chegam com o status já aplicado e contam como inalteradas
+                if (!transacoesNoLote.add(linha.transacaoId())) {
+                    divergir(linha, Divergencia.DUPLICADA_NO_ARQUIVO, null);
+                    continue;
+                }
+                lote.add(linha);
+                if (lote.size() >= conciliacaoConfig.getTamanhoLote()) {
+                    conciliarLote();
+                }
+            }
+            conciliarLote();
+        }
+
+        /**
+         * Concilia o lote numa transação; se ela falhar, todas as linhas do lote vão para o relatório
+         */
+        private void conciliarLote() {
+            if (lote.isEmpty()) {
+                return;
+            }
+            List<Linha> linhas = new ArrayList<>(lote);
+            lote.clear();
+            transacoesNoLote.clear();
+
+            Apuracao apuracao;
+            try {
+                apuracao = transactionTemplate.execute(status -> conciliar(linhas));
+            } catch (RuntimeException e) {
+                log.warn("Lote de {} linha(s) da conciliação não gravado: {}", linhas.size(), e.getMessage());
+                linhas.forEach(linha -> divergir(linha, Divergencia.ERRO_AO_GRAVAR, e.getMessage()));
+                return;
+            }
+
+            apuracao.divergencias().forEach(divergencia ->
+                    divergir(divergencia.linha(), divergencia.tipo(), divergencia.detalhe()));
+            pagamentosInalterados += apuracao.inalterados();
+            pagamentosAtualizados += apuracao.atualizados();
+            inscricoesConfirmadas += apuracao.confirmadas();
+        }
+
+        private Apuracao conciliar(List<Linha> linhas) {
+            Map<String, PagamentoConciliacaoProjection> pagamentos = pagamentoRepository
+                    .findParaConciliacao(linhas.stream().map(Linha::transacaoId).toList()).stream()
+                    .collect(Collectors.toMap(PagamentoConciliacaoProjection::transacaoId, Function.identity()));
+
+            List<DivergenciaLinha> divergenciasDoLote = new ArrayList<>();
+            List<Atualizacao> atualizacoes = new ArrayList<>();
+            long inalterados = 0;
+            for (Linha linha : linhas) {
+                PagamentoConciliacaoProjection pagamento = pagamentos.get(linha.transacaoId());
+                if (pagamento == null) {
+                    divergenciasDoLote.add(new DivergenciaLinha(linha, Divergencia.NAO_ENCONTRADA, null));
+                } else if (pagamento.valor().compareTo(linha.valor()) != 0) {
+                    divergenciasDoLote.add(new DivergenciaLinha(linha, Divergencia.VALOR_DIVERGENTE,
+                            "sistema: " + pagamento.valor() + ", arquivo: " + linha.valor()));
+                } else if (pagamento.status() == linha.status()) {
+                    inalterados++;
+                } else if (!transicaoPermitida(pagamento.status(), linha.status())) {
+                    divergenciasDoLote.add(new DivergenciaLinha(linha, Divergencia.STATUS_DIVERGENTE,
+                            "sistema: " + pagamento.status().name() + ", arquivo: " + linha.status().name()));
+                } else {
+                    atualizacoes.add(new Atualizacao(linha, pagamento));
+                }
+            }
+
+            List<Atualizacao> aplicadas = atualizarPagamentos(atualizacoes, divergenciasDoLote);
+            long confirmadas = confirmarInscricoes(aplicadas, divergenciasDoLote);
+            return new Apuracao(inalterados, aplicadas.size(), confirmadas, divergenciasDoLote);
+        }
+
+        private List<Atualizacao> atualizarPagamentos(List<Atualizacao> atualizacoes, List<DivergenciaLinha> divergenciasDoLote) {
+            if (atualizacoes.isEmpty()) {
+                return List.of();
+            }
+            Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+            int[] afetadas = executarEmLote(SQL_ATUALIZAR_PAGAMENTO, atualizacoes, (ps, atualizacao) -> {
+                Linha linha = atualizacao.linha();
+                LocalDateTime dataPagamento = linha.status() == StatusPagamento.APROVADO
+                        ? (linha.dataPagamento() != null ? linha.dataPagamento() : agora.toLocalDateTime())
+                        : null;
+                ps.setString(1, linha.status().name());
+                ps.setString(2, linha.gatewayId());
+                ps.setTimestamp(3, dataPagamento != null ? Timestamp.valueOf(dataPagamento) : null);
+                ps.setString(4, linha.status() == StatusPagamento.RECUSADO ? linha.motivo() : null);
+                ps.setTimestamp(5, agora);
+                ps.setTimestamp(6, agora);
+                ps.setLong(7, atualizacao.pagamento().id());
+                ps.setString(8, atualizacao.pagamento().status().name());
+            });
+
+            List<Atualizacao> aplicadas = new ArrayList<>();
+            for (int i = 0; i < atualizacoes.size(); i++) {
+                Atualizacao atualizacao = atualizacoes.get(i);
+                if (afetadas[i] == 0) {
+                    divergenciasDoLote.add(new DivergenciaLinha(atualizacao.linha(), Divergencia.ALTERADA_DURANTE_CONCILIACAO,
+                            "status lido: " + atualizacao.pagamento().status().name()));
+                } else {
+                    aplicadas.add(atualizacao);
+                }
+            }
+            return aplicadas;
+        }
+
+        /**
+         * Confirma as inscrições pendentes dos pagamentos aprovados e ajusta os contadores por categoria
+         */
+        private long confirmarInscricoes(List<Atualizacao> aplicadas, List<DivergenciaLinha> divergenciasDoLote) {
+            List<Atualizacao> aprovadas = new ArrayList<>();
+            for (Atualizacao atualizacao : aplicadas) {
+                StatusPagamento novo = atualizacao.linha().status();
+                StatusInscricao statusInscricao = atualizacao.pagamento().statusInscricao();
+                if (novo == StatusPagamento.APROVADO && statusInscricao == StatusInscricao.PENDENTE) {
+                    aprovadas.add(atualizacao);
+                } else if (novo == StatusPagamento.APROVADO) {
+                    divergenciasDoLote.add(new DivergenciaLinha(atualizacao.linha(), Divergencia.INSCRICAO_NAO_PENDENTE,
+                            "pagamento aprovado; inscrição " + atualizacao.pagamento().inscricaoId() + " está "
+                                    + statusInscricao.name()));
+                } else if (novo == StatusPagamento.ESTORNADO && statusInscricao == StatusInscricao.CONFIRMADA) {
+                    divergenciasDoLote.add(new DivergenciaLinha(atualizacao.linha(), Divergencia.ESTORNO_COM_INSCRICAO_CONFIRMADA,
+                            "pagamento estornado; inscrição " + atualizacao.pagamento().inscricaoId()
+                                    + " continua confirmada"));
+                }
+            }
+            if (aprovadas.isEmpty()) {
+                return 0;
+            }
+
+            Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+            int[] afetadas = executarEmLote(SQL_CONFIRMAR_INSCRICAO, aprovadas, (ps, atualizacao) -> {
+                ps.setTimestamp(1, agora);
+                ps.setTimestamp(2, agora);
+                ps.setLong(3, atualizacao.pagamento().inscricaoId());
+            });
+
+            Map<CategoriaDoEvento, Integer> porCategoria = new HashMap<>();
+            long confirmadas = 0;
+            for (int i = 0; i < aprovadas.size(); i++) {
+                PagamentoConciliacaoProjection pagamento = aprovadas.get(i).pagamento();
+                if (afetadas[i] == 0) {
+                    divergenciasDoLote.add(new DivergenciaLinha(aprovadas.get(i).linha(), Divergencia.INSCRICAO_NAO_PENDENTE,
+                            "pagamento aprovado; inscrição " + pagamento.inscricaoId() + " mudou de status durante a conciliação"));
+                    continue;
+                }
+                porCategoria.merge(new CategoriaDoEvento(pagamento.eventoId(), pagamento.categoriaId()), 1, Integer::sum);
+                confirmadas++;
+            }
+            porCategoria.forEach((categoria, quantidade) -> contadorService.inscricoesAlteradas(categoria.eventoId(),
+                    categoria.categoriaId(), StatusInscricao.PENDENTE, StatusInscricao.CONFIRMADA, quantidade));
+            return confirmadas;
+        }
+
+        /**
+         * Um lote JDBC com todas as linhas; retorna as linhas afetadas de cada comando, na ordem recebida
+         */
+        private <T> int[] executarEmLote(String sql, List<T> itens,
+                ParameterizedPreparedStatementSetter<T> parametros) {
+            int[][] resultado = jdbcTemplate.batchUpdate(sql, itens, itens.size(), parametros);
+            return Arrays.stream(resultado).flatMapToInt(Arrays::stream).toArray();
+        }
+
+        private void divergir(Linha linha, Divergencia tipo, String detalhe) {
+            divergir(linha.numero(), linha.transacaoId(), tipo, detalhe);
+        }
+
+        private void divergir(long numero, String transacaoId, Divergencia tipo, String detalhe) {
+            relatorio.linha(String.valueOf(numero), transacaoId, tipo.name(),
+                    detalhe != null ? detalhe : tipo.getDescricao());
+            divergencias++;
+        }
+    }
+
+    private static String valorColuna(Map<String, Integer> colunas, List<String> campos, String coluna) {
+        Integer indice = colunas.get(coluna);
+        if (indice == null || indice >= campos.size()) {
+            return null;
+        }
+        String valor = campos.get(indice).trim();
+        return valor.isEmpty() ? null : valor;
+    }
+
+    private static StatusPagamento statusPagamento(long numero, String valor) {
+        String normalizado = valor.toUpperCase(Locale.ROOT);
+        StatusPagamento status = STATUS_GATEWAY.get(normalizado);
+        if (status != null) {
+            return status;
+        }
+        try {
+            return StatusPagamento.valueOf(normalizado);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Linha " + numero + ": status desconhecido: " + valor);
+        }
+    }
+
+    /**
+     * Aceita 1234.56 e o formato brasileiro 1.234,56
+     */
+    private static BigDecimal valorMonetario(long numero, String valor) {
+        String normalizado = valor.contains(",") ? valor.replace(".", "").replace(",", ".") : valor;
+        try {
+            return new BigDecimal(normalizado);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Linha " + numero + ": valor inválido: " + valor);
+        }
+    }
+
+    private static LocalDateTime dataHora(long numero, String valor) {
+        if (valor == null) {
+            return null;
+        }
+        try {
+            if (valor.contains("/")) {
+                return LocalDate.parse(valor, LeitorCsv.DATA_BR).atStartOfDay();
+            }
+            return valor.contains("T") ? LocalDateTime.parse(valor) : LocalDate.parse(valor).atStartOfDay();
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Linha " + numero + ": data_pagamento inválida: " + valor);
+        }
+    }
+
+    private static String limitar(String valor, int tamanhoMaximo) {
+        return valor != null && valor.length() > tamanhoMaximo ? valor.substring(0, tamanhoMaximo) : valor;
+    }
+
+    private enum Divergencia {
+        LINHA_INVALIDA("Linha com campo obrigatório ausente ou inválido"),
+        DUPLICADA_NO_ARQUIVO("Transação repetida no mesmo lote do arquivo"),
+        NAO_ENCONTRADA("Transação não encontrada nos pagamentos"),
+        VALOR_DIVERGENTE("Valor do arquivo diferente do valor do pagamento"),
+        STATUS_DIVERGENTE("Pagamento finalizado com status diferente do arquivo"),
+        ALTERADA_DURANTE_CONCILIACAO("Pagamento alterado por outra operação durante a conciliação"),
+        INSCRICAO_NAO_PENDENTE("Pagamento aprovado para inscrição que não está pendente"),
+        ESTORNO_COM_INSCRICAO_CONFIRMADA("Pagamento estornado com a inscrição ainda confirmada"),
+        ERRO_AO_GRAVAR("Erro ao gravar o lote");
+
+        private final String descricao;
+
+        Divergencia(String descricao) {
+            this.descricao = descricao;
+        }
+
+        String getDescricao() {
+            return descricao;
+        }
+    }
+
+    private record Linha(long numero, String transacaoId, StatusPagamento status, BigDecimal valor,
+            String gatewayId, LocalDateTime dataPagamento, String motivo) {
+
+        static Linha de(long numero, Map<String, Integer> colunas, List<String> campos) {
+            String transacaoId = valorColuna(colunas, campos, "transacao_id");
+            String status = valorColuna(colunas, campos, "status");
+            String valor = valorColuna(colunas, campos, "valor");
+            if (transacaoId == null || status == null || valor == null) {
+                throw new IllegalArgumentException("Linha " + numero + ": transacao_id, status e valor são obrigatórios");
+            }
+            if (transacaoId.length() > 100) {
+                throw new IllegalArgumentException("Linha " + numero + ": transacao_id excede 100 caracteres");
+            }
+            return new Linha(numero, transacaoId, statusPagamento(numero, status), valorMonetario(numero, valor),
+                    limitar(valorColuna(colunas, campos, "gateway_id"), 100),
+                    dataHora(numero, valorColuna(colunas, campos, "data_pagamento")),
+                    limitar(valorColuna(colunas, campos, "motivo"), 300));
+        }
+    }
+
+    private record Atualizacao(Linha linha, PagamentoConciliacaoProjection pagamento) {
+    }
+
+    private record DivergenciaLinha(Linha linha, Divergencia tipo, String detalhe) {
+    }
+
+    private record Apuracao(long inalterados, long atualizados, long confirmadas, List<DivergenciaLinha> divergencias) {
+    }
+
+    private record CategoriaDoEvento(Long eventoId, Long categoriaId) {
+    }
+}
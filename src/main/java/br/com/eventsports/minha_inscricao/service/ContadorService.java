@@ -0,0 +1,248 @@
+package br.com.eventsports.minha_inscricao.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.eventsports.minha_inscricao.entity.ContadorCategoriaEntity;
+import br.com.eventsports.minha_inscricao.entity.ContadorEventoEntity;
+import br.com.eventsports.minha_inscricao.enums.StatusInscricao;
+import br.com.eventsports.minha_inscricao.repository.ContadorCategoriaRepository;
+import br.com.eventsports.minha_inscricao.repository.ContadorEventoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Mantém os contadores desnormalizados de eventos e categorias.
+ * Os contadores ficam em tabelas próprias (contadores_eventos, contadores_categorias), fora do cache de
+ * segundo nível: eventos e categorias cacheados não são invalidados a cada inscrição.
+ * Os fluxos de escrita informam cada mudança e os contadores são ajustados por delta,
+ * com UPDATE atômico, na mesma transação da escrita. Uma reconciliação periódica
+ * reconstrói os valores a partir das tabelas de origem e corrige eventuais divergências.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+@Slf4j
+public class ContadorService {
+
+    /**
+     * Linhas recontadas (e bloqueadas) por transação na reconciliação
+     */
+    private static final int LOTE_RECONTAGEM = 50;
+
+    private final ContadorEventoRepository contadorEventoRepository;
+    private final ContadorCategoriaRepository contadorCategoriaRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Transactional(readOnly = true)
+    public ContadorEventoEntity doEvento(Long eventoId) {
+        return contadorEventoRepository.findById(eventoId).orElseGet(() -> ContadorEventoEntity.vazio(eventoId));
+    }
+
+    @Transactional(readOnly = true)
+    public ContadorCategoriaEntity daCategoria(Long categoriaId) {
+        return contadorCategoriaRepository.findById(categoriaId)
+                .orElseGet(() -> ContadorCategoriaEntity.vazio(categoriaId));
+    }
+
+    /**
+     * Contadores de várias categorias numa única consulta (listagens), por ID da categoria
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, ContadorCategoriaEntity> dasCategorias(Collection<Long> categoriaIds) {
+        return contadorCategoriaRepository.findAllById(categoriaIds).stream()
+                .collect(Collectors.toMap(ContadorCategoriaEntity::getCategoriaId, Function.identity()));
+    }
+
+    /**
+     * Cria a linha de contadores do evento; o evento já precisa estar gravado (saveAndFlush)
+     */
+    public void eventoCriado(Long eventoId) {
+        contadorEventoRepository.criar(eventoId);
+    }
+
+    /**
+     * Cria a linha de contadores da categoria; a categoria já precisa estar gravada (saveAndFlush)
+     */
+    public void categoriaCriada(Long eventoId, Long categoriaId) {
+        contadorCategoriaRepository.criar(categoriaId);
+        ajustarEvento(eventoId, 1, 0, 0, 0, 0);
+    }
+
+    /**
+     * Só é chamado para categorias sem inscrições e equipes (regra de CategoriaService)
+     */
+    public void categoriaRemovida(Long eventoId) {
+        ajustarEvento(eventoId, -1, 0, 0, 0, 0);
+    }
+
+    public void inscricaoCriada(Long eventoId, Long categoriaId, StatusInscricao status) {
+        inscricoesCriadas(eventoId, categoriaId, status, 1);
+    }
+
+    /**
+     * Várias inscrições de mesmo status na mesma categoria (importação em lote), num único ajuste
+     */
+    public void inscricoesCriadas(Long eventoId, Long categoriaId, StatusInscricao status, int quantidade) {
+        int ativas = contar(status) * quantidade;
+        ajustarEvento(eventoId, 0, quantidade, ativas, 0, 0);
+        ajustarCategoria(categoriaId, ativas, 0, 0);
+    }
+
+    public void inscricaoRemovida(Long eventoId, Long categoriaId, StatusInscricao status) {
+        int ativa = contar(status);
+        ajustarEvento(eventoId, 0, -1, -ativa, 0, 0);
+        ajustarCategoria(categoriaId, -ativa, 0, 0);
+    }
+
+    /**
+     * Mudança de status e/ou categoria de uma inscrição existente
+     */
+    public void inscricaoAlterada(Long eventoId, Long categoriaAnteriorId, StatusInscricao statusAnterior,
+            Long categoriaId, StatusInscricao status) {
+        int ativaAntes = contar(statusAnterior);
+        int ativaDepois = contar(status);
+        ajustarEvento(eventoId, 0, 0, ativaDepois - ativaAntes, 0, 0);
+
+        if (Objects.equals(categoriaAnteriorId, categoriaId)) {
+            ajustarCategoria(categoriaId, ativaDepois - ativaAntes, 0, 0);
+        } else {
+            ajustarCategoria(categoriaAnteriorId, -ativaAntes, 0, 0);
+            ajustarCategoria(categoriaId, ativaDepois, 0, 0);
+        }
+    }
+
+    /**
+     * Várias inscrições da mesma categoria com a mesma mudança de status (conciliação em lote), num único ajuste
+     */
+    public void inscricoesAlteradas(Long eventoId, Long categoriaId, StatusInscricao statusAnterior,
+            StatusInscricao status, int quantidade) {
+        int ativas = (contar(status) - contar(statusAnterior)) * quantidade;
+        ajustarEvento(eventoId, 0, 0, ativas, 0, 0);
+        ajustarCategoria(categoriaId, ativas, 0, 0);
+    }
+
+    public void equipeCriada(Long categoriaId, Boolean ativa) {
+        equipesCriadas(categoriaId, ativa, 1);
+    }
+
+    public void equipesCriadas(Long categoriaId, Boolean ativa, int quantidade) {
+        ajustarCategoria(categoriaId, 0, contar(ativa) * quantidade, quantidade);
+    }
+
+    /**
+     * Mudança de ativação e/ou categoria de uma equipe existente
+     */
+    public void equipeAlterada(Long categoriaAnteriorId, Boolean ativaAnterior, Long categoriaId, Boolean ativa) {
+        if (Objects.equals(categoriaAnteriorId, categoriaId)) {
+            ajustarCategoria(categoriaId, 0, contar(ativa) - contar(ativaAnterior), 0);
+        } else {
+            ajustarCategoria(categoriaAnteriorId, 0, -contar(ativaAnterior), -1);
+            ajustarCategoria(categoriaId, 0, contar(ativa), 1);
+        }
+    }
+
+    /**
+     * Criação (ativoAnterior = false), remoção (ativo = false) ou mudança de ativação de um workout
+     */
+    public void workoutAlterado(Long eventoId, Boolean ativoAnterior, Boolean ativo) {
+        ajustarEvento(eventoId, 0, 0, 0, contar(ativo) - contar(ativoAnterior), 0);
+    }
+
+    /**
+     * Criação (ativoAnterior = false), remoção (ativo = false) ou mudança de ativação de um anexo
+     */
+    public void anexoAlterado(Long eventoId, Boolean ativoAnterior, Boolean ativo) {
+        ajustarEvento(eventoId, 0, 0, 0, 0, contar(ativo) - contar(ativoAnterior));
+    }
+
+    /**
+     * Reconstrói todos os contadores a partir das tabelas de origem (execução agendada).
+     * Eventos e categorias são recontados em lotes pequenos, cada um na sua transação e com as linhas
+     * bloqueadas antes da contagem: um valor absoluto calculado de um snapshot antigo sobrescreveria
+     * reservas de vaga e ajustes por delta confirmados durante a reconciliação.
+     * Linhas de contadores ausentes são criadas antes e preenchidas pela recontagem.
+     */
+    @Scheduled(cron = "${app.contadores.cron-reconciliacao:0 30 3 * * *}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void reconciliar() {
+        int ausentes = transactionTemplate.execute(status ->
+                contadorEventoRepository.criarAusentes() + contadorCategoriaRepository.criarAusentes());
+        if (ausentes > 0) {
+            log.warn("{} linha(s) de contadores ausente(s) criada(s) para a recontagem", ausentes);
+        }
+
+        int eventos = recontarEmLotes("eventos", contadorEventoRepository::findIdsApos, ids -> {
+            contadorEventoRepository.bloquearParaRecontagem(ids);
+            return contadorEventoRepository.recalcularContadores(ids);
+        });
+        int categorias = recontarEmLotes("categorias", contadorCategoriaRepository::findIdsApos, ids -> {
+            contadorCategoriaRepository.bloquearParaRecontagem(ids);
+            return contadorCategoriaRepository.recalcularContadores(ids);
+        });
+
+        if (eventos > 0 || categorias > 0) {
+            log.warn("Contadores divergentes corrigidos: {} evento(s), {} categoria(s)", eventos, categorias);
+        } else {
+            log.info("Reconciliação de contadores concluída sem divergências");
+        }
+    }
+
+    /**
+     * Percorre os IDs em lotes; um lote que falhar (ex.: deadlock com uma inscrição que troca de
+     * categoria) é registrado e fica para a próxima reconciliação
+     */
+    private int recontarEmLotes(String tabela, BiFunction<Long, Integer, List<Long>> proximosIds,
+            Function<List<Long>, Integer> recontar) {
+        int divergentes = 0;
+        long aposId = 0L;
+        List<Long> ids;
+        while (!(ids = proximosIds.apply(aposId, LOTE_RECONTAGEM)).isEmpty()) {
+            List<Long> lote = ids;
+            try {
+                divergentes += transactionTemplate.execute(status -> recontar.apply(lote));
+            } catch (DataAccessException e) {
+                log.warn("Recontagem de {} com IDs {}..{} falhou e fica para a próxima execução: {}",
+                        tabela, lote.get(0), lote.get(lote.size() - 1), e.getMessage());
+            }
+            aposId = lote.get(lote.size() - 1);
+        }
+        return divergentes;
+    }
+
+    private void ajustarEvento(Long eventoId, int categorias, int inscricoes, int inscricoesAtivas,
+            int workoutsAtivos, int anexosAtivos) {
+        if (eventoId == null
+                || (categorias == 0 && inscricoes == 0 && inscricoesAtivas == 0 && workoutsAtivos == 0 && anexosAtivos == 0)) {
+            return;
+        }
+        contadorEventoRepository.ajustarContadores(eventoId, categorias, inscricoes, inscricoesAtivas, workoutsAtivos, anexosAtivos);
+    }
+
+    private void ajustarCategoria(Long categoriaId, int inscricoesAtivas, int equipesAtivas, int equipes) {
+        if (categoriaId == null || (inscricoesAtivas == 0 && equipesAtivas == 0 && equipes == 0)) {
+            return;
+        }
+        contadorCategoriaRepository.ajustarContadores(categoriaId, inscricoesAtivas, equipesAtivas, equipes);
+    }
+
+    private static int contar(StatusInscricao status) {
+        return status != null && status.isAtiva() ? 1 : 0;
+    }
+
+    private static int contar(Boolean ativa) {
+        return Boolean.TRUE.equals(ativa) ? 1 : 0;
+    }
+}
@@ -3,13 +3,18 @@ package br.com.eventsports.minha_inscricao.service;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,7 +23,9 @@ import br.com.eventsports.minha_inscricao.dto.equipe.EquipeCreateDTO;
 import br.com.eventsports.minha_inscricao.dto.equipe.EquipeInscricaoDTO;
 import br.com.eventsports.minha_inscricao.dto.equipe.EquipeResponseDTO;
 import br.com.eventsports.minha_inscricao.dto.equipe.EquipeSummaryDTO;
+import br.com.eventsports.minha_inscricao.dto.equipe.EquipeSummaryProjection;
 import br.com.eventsports.minha_inscricao.dto.equipe.EquipeUpdateDTO;
+import br.com.eventsports.minha_inscricao.dto.paginacao.PaginaCursorDTO;
 import br.com.eventsports.minha_inscricao.entity.AtletaEntity;
 import br.com.eventsports.minha_inscricao.entity.CategoriaEntity;
 import br.com.eventsports.minha_inscricao.entity.EquipeEntity;
@@ -27,11 +34,15 @@ import br.com.eventsports.minha_inscricao.entity.InscricaoEntity;
 import br.com.eventsports.minha_inscricao.enums.StatusInscricao;
 import br.com.eventsports.minha_inscricao.repository.AtletaRepository;
 import br.com.eventsports.minha_inscricao.repository.CategoriaRepository;
+import br.com.eventsports.minha_inscricao.repository.EquipeConsultaRepository;
 import br.com.eventsports.minha_inscricao.repository.EquipeRepository;
 import br.com.eventsports.minha_inscricao.repository.EventoRepository;
 import br.com.eventsports.minha_inscricao.repository.InscricaoRepository;
 import br.com.eventsports.minha_inscricao.service.Interfaces.IAtletaService;
+import br.com.eventsports.minha_inscricao.util.CamposUtil;
 import br.com.eventsports.minha_inscricao.service.Interfaces.IEquipeService;
+import br.com.eventsports.minha_inscricao.util.PaginacaoUtil;
+import br.com.eventsports.minha_inscricao.util.TextoUtil;
 import br.com.eventsports.minha_inscricao.service.Interfaces.IUsuarioService;
 import lombok.RequiredArgsConstructor;
 
@@ -41,14 +52,18 @@ import lombok.RequiredArgsConstructor;
 public class EquipeService implements IEquipeService {
 
     private final EquipeRepository equipeRepository;
+    private final EquipeConsultaRepository equipeConsultaRepository;
     private final CategoriaRepository categoriaRepository;
     private final AtletaRepository atletaRepository;
     private final EventoRepository eventoRepository;
     private final InscricaoRepository inscricaoRepository;
     private final IAtletaService atletaService;
     private final IUsuarioService usuarioService;
+    private final ContadorService contadorService;
+    private final VagaService vagaService;
+    private final IndiceParticipantesService indiceParticipantesService;
 
-    @Cacheable(value = "equipes", key = "#id")
+    @Cacheable(value = "equipes", key = "#id", unless = CamposUtil.RESULTADO_PARCIAL)
     @Transactional(readOnly = true)
     public EquipeResponseDTO findById(Long id) {
         EquipeEntity equipe = equipeRepository.findById(id)
@@ -56,21 +71,29 @@ public class EquipeService implements IEquipeService {
         return convertToResponseDTO(equipe);
     }
 
-    @Cacheable(value = "equipes", key = "'all'")
     @Transactional(readOnly = true)
-    public List<EquipeSummaryDTO> findAll() {
-        List<EquipeEntity> equipes = equipeRepository.findAll();
-        return equipes.stream()
-                .map(this::convertToSummaryDTO)
-                .collect(Collectors.toList());
+    public PaginaCursorDTO<EquipeSummaryDTO> findAll(String after, Integer limit) {
+        int limite = PaginacaoUtil.normalizarLimite(limit);
+        PageRequest pagina = PageRequest.of(0, limite + 1);
+        List<EquipeSummaryProjection> equipes;
+        if (after == null) {
+            equipes = equipeConsultaRepository.findPrimeiraPaginaPorNome(pagina);
+        } else {
+            PaginacaoUtil.Cursor cursor = PaginacaoUtil.decodificarCursor(after);
+            equipes = equipeConsultaRepository.findPaginaPorNomeApos(cursor.chave(), cursor.id(), pagina);
+        }
+        return PaginacaoUtil.montarPagina(equipes, limite, this::convertToSummaryDTO,
+                item -> PaginacaoUtil.codificarCursor(item.nome(), item.id()));
     }
 
-    @CachePut(value = "equipes", key = "#result.id")
+    @CachePut(value = "equipes", key = "#result.id", unless = CamposUtil.RESULTADO_PARCIAL)
     @CacheEvict(value = "equipes", key = "'all'")
     public EquipeResponseDTO save(EquipeCreateDTO equipeCreateDTO) {
         validateEquipeData(equipeCreateDTO);
         EquipeEntity equipe = convertCreateDTOToEntity(equipeCreateDTO);
         EquipeEntity savedEquipe = equipeRepository.save(equipe);
+        contadorService.equipeCriada(categoriaIdDe(savedEquipe), savedEquipe.getAtiva());
+        indiceParticipantesService.equipeSalva(savedEquipe);
         return convertToResponseDTO(savedEquipe);
     }
 
@@ -101,46 +124,25 @@ public class EquipeService implements IEquipeService {
         CategoriaEntity categoria = categoriaRepository.findById(equipeInscricaoDTO.getCategoriaId())
                 .orElseThrow(() -> new RuntimeException("Categoria não encontrada"));
 
-        // Criar equipe básica (sem capitão ainda)
-        EquipeEntity equipe = new EquipeEntity();
-        equipe.setNome(equipeInscricaoDTO.getNome());
-        equipe.setEvento(evento);
-        equipe.setCategoria(categoria);
-        equipe.setDescricao(null);
-        equipe.setAtiva(true);
+        // Atletas já cadastrados: uma única consulta por CPF para a equipe inteira
+        List<String> cpfs = equipeInscricaoDTO.getAtletas().stream()
+                .map(AtletaCreateDTO::getCpf)
+                .filter(cpf -> cpf != null && !cpf.trim().isEmpty())
+                .toList();
+        Map<String, AtletaEntity> existentesPorCpf = cpfs.isEmpty() ? Map.of()
+                : atletaRepository.findByCpfIn(cpfs).stream()
+                        .collect(Collectors.toMap(AtletaEntity::getCpf, Function.identity()));
 
-        // Criar todos os atletas primeiro
         List<AtletaEntity> atletasCriados = new ArrayList<>();
         for (AtletaCreateDTO atletaDto : equipeInscricaoDTO.getAtletas()) {
-            // Verificar se já existe
-            Optional<AtletaEntity> atletaExistente = atletaRepository.findByCpf(atletaDto.getCpf());
-            if (atletaExistente.isPresent()) {
-                AtletaEntity atleta = atletaExistente.get();
+            AtletaEntity atleta = atletaDto.getCpf() != null ? existentesPorCpf.get(atletaDto.getCpf()) : null;
+            if (atleta == null) {
+                atleta = novoAtletaDaInscricao(atletaDto, evento, categoria);
+            } else if (atleta.getCategoria() == null) {
                 // Se atleta já existe mas não tem categoria, definir agora
-                if (atleta.getCategoria() == null) {
-                    atleta.setCategoria(categoria);
-                    atleta = atletaRepository.save(atleta);
-                }
-                atletasCriados.add(atleta);
-            } else {
-                // Criar novo atleta
-                AtletaEntity novoAtleta = new AtletaEntity();
-                novoAtleta.setNome(atletaDto.getNome());
-                novoAtleta.setCpf(atletaDto.getCpf());
-                novoAtleta.setDataNascimento(atletaDto.getDataNascimento());
-                novoAtleta.setGenero(atletaDto.getGenero());
-                novoAtleta.setTelefone(atletaDto.getTelefone());
-                novoAtleta.setEmergenciaNome(atletaDto.getEmergenciaNome());
-                novoAtleta.setEmergenciaTelefone(atletaDto.getEmergenciaTelefone());
-                novoAtleta.setObservacoesMedicas(atletaDto.getObservacoesMedicas());
-                novoAtleta.setEndereco(atletaDto.getEndereco());
-                novoAtleta.setEmail(atletaDto.getEmail());
-                novoAtleta.setAceitaTermos(atletaDto.getAceitaTermos());
-                novoAtleta.setEvento(evento);
-                novoAtleta.setCategoria(categoria);
-                novoAtleta = atletaRepository.save(novoAtleta);
-                atletasCriados.add(novoAtleta);
+                atleta.setCategoria(categoria);
             }
+            atletasCriados.add(atleta);
         }
 
         // Definir capitão
@@ -154,36 +156,75 @@ public class EquipeService implements IEquipeService {
             }
         }
 
-        equipe.setCapitao(capitao);
+        // capitao_id é obrigatório: um capitão novo é inserido antes da equipe
+        if (capitao.getId() == null) {
+            capitao = atletaRepository.save(capitao);
+        }
 
-        // Salvar a equipe
-        equipe = equipeRepository.save(equipe);
+        EquipeEntity equipe = new EquipeEntity();
+        equipe.setNome(equipeInscricaoDTO.getNome());
+        equipe.setEvento(evento);
+        equipe.setCategoria(categoria);
+        equipe.setDescricao(null);
+        equipe.setAtiva(true);
+        equipe.setCapitao(capitao);
 
-        // Associar atletas à equipe
+        // Atletas já ligados à equipe: os novos entram pelo cascade no insert da equipe e os já
+        // existentes são atualizados no flush, em lote (hibernate.jdbc.batch_size), sem save por atleta
         for (AtletaEntity atleta : atletasCriados) {
             atleta.setEquipe(equipe);
-            atletaRepository.save(atleta);
+            equipe.getAtletas().add(atleta);
         }
+        equipe = equipeRepository.save(equipe);
+        contadorService.equipeCriada(categoria.getId(), equipe.getAtiva());
 
-        // Criar inscrição para a equipe
-        InscricaoEntity inscricao = criarInscricaoParaEquipe(equipe, equipeInscricaoDTO);
+        for (AtletaEntity atleta : equipe.getAtletas()) {
+            indiceParticipantesService.atletaSalvo(atleta);
+        }
+        indiceParticipantesService.equipeSalva(equipe);
 
-        // Recarregar a equipe com a inscrição associada
-        equipe = equipeRepository.findById(equipe.getId()).orElse(equipe);
+        // Criar inscrição para a equipe (mesma transação e mesmo flush)
+        criarInscricaoParaEquipe(equipe, equipeInscricaoDTO);
 
-        // Retornar resposta completa com inscrição
-        return convertToResponseDTO(equipe);
+        // Resposta montada com o estado em memória, sem recarregar a equipe nem recontar os atletas
+        return convertToResponseDTO(equipe, equipe.getAtletas());
     }
 
-    @CachePut(value = "equipes", key = "#id")
-    @CacheEvict(value = "equipes", key = "'all'")
+    private AtletaEntity novoAtletaDaInscricao(AtletaCreateDTO atletaDto, EventoEntity evento,
+            CategoriaEntity categoria) {
+        AtletaEntity novoAtleta = new AtletaEntity();
+        novoAtleta.setNome(atletaDto.getNome());
+        novoAtleta.setCpf(atletaDto.getCpf());
+        novoAtleta.setDataNascimento(atletaDto.getDataNascimento());
+        novoAtleta.setGenero(atletaDto.getGenero());
+        novoAtleta.setTelefone(atletaDto.getTelefone());
+        novoAtleta.setEmergenciaNome(atletaDto.getEmergenciaNome());
+        novoAtleta.setEmergenciaTelefone(atletaDto.getEmergenciaTelefone());
+        novoAtleta.setObservacoesMedicas(atletaDto.getObservacoesMedicas());
+        novoAtleta.setEndereco(atletaDto.getEndereco());
+        novoAtleta.setEmail(atletaDto.getEmail());
+        novoAtleta.setAceitaTermos(atletaDto.getAceitaTermos());
+        novoAtleta.setEvento(evento);
+        novoAtleta.setCategoria(categoria);
+        return novoAtleta;
+    }
+
+    @Caching(put = @CachePut(value = "equipes", key = "#id", unless = CamposUtil.RESULTADO_PARCIAL),
+            evict = { @CacheEvict(value = "equipes", key = "'all'"),
+                    @CacheEvict(value = "equipes", key = "#id", beforeInvocation = true) })
     public EquipeResponseDTO update(Long id, EquipeUpdateDTO equipeUpdateDTO) {
         validateEquipeUpdateData(id, equipeUpdateDTO);
         EquipeEntity existingEquipe = equipeRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Equipe não encontrada com ID: " + id));
 
+        Long categoriaAnteriorId = categoriaIdDe(existingEquipe);
+        Boolean ativaAnterior = existingEquipe.getAtiva();
+
         updateEquipeFromUpdateDTO(existingEquipe, equipeUpdateDTO);
         EquipeEntity updatedEquipe = equipeRepository.save(existingEquipe);
+        contadorService.equipeAlterada(categoriaAnteriorId, ativaAnterior, categoriaIdDe(updatedEquipe),
+                updatedEquipe.getAtiva());
+        indiceParticipantesService.equipeSalva(updatedEquipe);
         return convertToResponseDTO(updatedEquipe);
     }
 
@@ -192,14 +233,21 @@ public class EquipeService implements IEquipeService {
         EquipeEntity equipe = equipeRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Equipe não encontrada com ID: " + id));
 
+        Boolean ativaAnterior = equipe.getAtiva();
         equipe.desativar();
         equipeRepository.save(equipe);
+        contadorService.equipeAlterada(categoriaIdDe(equipe), ativaAnterior, categoriaIdDe(equipe), equipe.getAtiva());
+        indiceParticipantesService.equipeSalva(equipe);
+    }
+
+    private static Long categoriaIdDe(EquipeEntity equipe) {
+        return equipe.getCategoria() != null ? equipe.getCategoria().getId() : null;
     }
 
     @Cacheable(value = "equipes", key = "'search:' + #nome")
     @Transactional(readOnly = true)
     public List<EquipeSummaryDTO> findByNome(String nome) {
-        List<EquipeEntity> equipes = equipeRepository.findByNomeContainingIgnoreCase(nome);
+        List<EquipeSummaryProjection> equipes = equipeConsultaRepository.findByNomeContainingIgnoreCase(nome);
         return equipes.stream()
                 .map(this::convertToSummaryDTO)
                 .collect(Collectors.toList());
@@ -208,7 +256,7 @@ public class EquipeService implements IEquipeService {
     @Cacheable(value = "equipes", key = "'byEvento:' + #eventoId")
     @Transactional(readOnly = true)
     public List<EquipeSummaryDTO> findByEventoId(Long eventoId) {
-        List<EquipeEntity> equipes = equipeRepository.findByEventoIdOrderByNomeAsc(eventoId);
+        List<EquipeSummaryProjection> equipes = equipeConsultaRepository.findByEventoId(eventoId);
         return equipes.stream()
                 .map(this::convertToSummaryDTO)
                 .collect(Collectors.toList());
@@ -217,7 +265,7 @@ public class EquipeService implements IEquipeService {
     @Cacheable(value = "equipes", key = "'byCategoria:' + #categoriaId")
     @Transactional(readOnly = true)
     public List<EquipeSummaryDTO> findByCategoriaId(Long categoriaId) {
-        List<EquipeEntity> equipes = equipeRepository.findByCategoriaIdOrderByNomeAsc(categoriaId);
+        List<EquipeSummaryProjection> equipes = equipeConsultaRepository.findByCategoriaId(categoriaId);
         return equipes.stream()
                 .map(this::convertToSummaryDTO)
                 .collect(Collectors.toList());
@@ -226,7 +274,7 @@ public class EquipeService implements IEquipeService {
     @Cacheable(value = "equipes", key = "'ativas'")
     @Transactional(readOnly = true)
     public List<EquipeSummaryDTO> findEquipesAtivas() {
-        List<EquipeEntity> equipes = equipeRepository.findByAtivaTrue();
+        List<EquipeSummaryProjection> equipes = equipeConsultaRepository.findByAtivaTrue();
         return equipes.stream()
                 .map(this::convertToSummaryDTO)
                 .collect(Collectors.toList());
@@ -235,7 +283,7 @@ public class EquipeService implements IEquipeService {
     @Cacheable(value = "equipes", key = "'equipesCompletas:' + #eventoId")
     @Transactional(readOnly = true)
     public List<EquipeSummaryDTO> findEquipesCompletasByEvento(Long eventoId) {
-        List<EquipeEntity> equipes = equipeRepository.findEquipesCompletasByEvento(eventoId);
+        List<EquipeSummaryProjection> equipes = equipeConsultaRepository.findEquipesCompletasByEvento(eventoId);
         return equipes.stream()
                 .map(this::convertToSummaryDTO)
                 .collect(Collectors.toList());
@@ -244,62 +292,85 @@ public class EquipeService implements IEquipeService {
     @Cacheable(value = "equipes", key = "'byAtleta:' + #atletaId")
     @Transactional(readOnly = true)
     public List<EquipeSummaryDTO> findEquipesByAtleta(Long atletaId) {
-        List<EquipeEntity> equipes = equipeRepository.findEquipesByAtleta(atletaId);
+        List<EquipeSummaryProjection> equipes = equipeConsultaRepository.findEquipesByAtleta(atletaId);
         return equipes.stream()
                 .map(this::convertToSummaryDTO)
                 .collect(Collectors.toList());
     }
 
     // Mapping methods
+    /**
+     * Campos derivados só são calculados se pedidos em ?fields= (ver CamposUtil):
+     * contagem/nomes de atletas, validações sobre os atletas e dados da inscrição exigem consultas
+     */
     private EquipeResponseDTO convertToResponseDTO(EquipeEntity equipe) {
-        // Buscar dados dos atletas diretamente do banco para garantir dados atualizados
-        long numeroAtletas = atletaRepository.countAtletasByEquipeId(equipe.getId());
-        List<String> nomesAtletas = equipeRepository.findNomesAtletasByEquipeId(equipe.getId());
+        return convertToResponseDTO(equipe, null);
+    }
+
+    /**
+     * @param atletas atletas da equipe já em memória (ex.: recém-criada); null para consultar no banco
+     */
+    private EquipeResponseDTO convertToResponseDTO(EquipeEntity equipe, List<AtletaEntity> atletas) {
+        // Sem os atletas em memória, buscar diretamente do banco para garantir dados atualizados
+        Long numeroAtletas = !CamposUtil.solicitado("numeroAtletas", "equipeCompleta", "podeAdicionarAtleta",
+                "podeSeInscrever", "descricaoCompleta") ? null
+                : atletas != null ? (long) atletas.size()
+                : atletaRepository.countAtletasByEquipeId(equipe.getId());
+        boolean validarAtletas = CamposUtil.solicitado("todosAtletasAceitaramTermos", "todosAtletasPodemParticipar",
+                "todosAtletasCompativeisComCategoria", "podeSeInscrever");
+        Boolean aceitaramTermos = validarAtletas ? equipe.todosAtletasAceitaramTermos() : null;
+        Boolean podemParticipar = validarAtletas ? equipe.todosAtletasPodemParticipar() : null;
+        Boolean compativeisComCategoria = validarAtletas ? equipe.todosAtletasCompativeisComCategoria() : null;
 
         return EquipeResponseDTO.builder()
                 .id(equipe.getId())
                 .nome(equipe.getNome())
                 .eventoId(equipe.getEvento() != null ? equipe.getEvento().getId() : null)
-                .nomeEvento(equipe.getNomeEvento())
+                .nomeEvento(CamposUtil.seSolicitado("nomeEvento", equipe::getNomeEvento))
                 .categoriaId(equipe.getCategoria() != null ? equipe.getCategoria().getId() : null)
-                .nomeCategoria(equipe.getNomeCategoria())
+                .nomeCategoria(CamposUtil.seSolicitado("nomeCategoria", equipe::getNomeCategoria))
                 .capitaoId(equipe.getCapitao() != null ? equipe.getCapitao().getId() : null)
-                .nomeCapitao(equipe.getNomeCapitao())
+                .nomeCapitao(CamposUtil.seSolicitado("nomeCapitao", equipe::getNomeCapitao))
                 .descricao(equipe.getDescricao())
                 .ativa(equipe.getAtiva())
-                .numeroAtletas((int) numeroAtletas)
-                .nomesAtletas(nomesAtletas)
-                .equipeCompleta(numeroAtletas >= 2)
-                .podeAdicionarAtleta(numeroAtletas < 6)
-                .todosAtletasAceitaramTermos(equipe.todosAtletasAceitaramTermos())
-                .todosAtletasPodemParticipar(equipe.todosAtletasPodemParticipar())
-                .todosAtletasCompativeisComCategoria(equipe.todosAtletasCompativeisComCategoria())
-                .podeSeInscrever(numeroAtletas >= 2 && equipe.getAtiva() && equipe.todosAtletasAceitaramTermos()
-                        && equipe.todosAtletasPodemParticipar() && equipe.todosAtletasCompativeisComCategoria())
-                .temInscricao(equipe.temInscricao())
-                .inscricaoConfirmada(equipe.inscricaoConfirmada())
-                .descricaoCompleta(equipe.getNome() + " (" + numeroAtletas + " atletas)"
-                        + (equipe.getCapitao() != null ? " - Capitão: " + equipe.getCapitao().getNomeCompleto() : ""))
+                .numeroAtletas(numeroAtletas != null ? numeroAtletas.intValue() : null)
+                .nomesAtletas(CamposUtil.seSolicitado("nomesAtletas",
+                        () -> atletas != null
+                                ? atletas.stream().map(AtletaEntity::getNome).sorted().toList()
+                                : equipeRepository.findNomesAtletasByEquipeId(equipe.getId())))
+                .equipeCompleta(numeroAtletas != null ? numeroAtletas >= 2 : null)
+                .podeAdicionarAtleta(numeroAtletas != null ? numeroAtletas < 6 : null)
+                .todosAtletasAceitaramTermos(aceitaramTermos)
+                .todosAtletasPodemParticipar(podemParticipar)
+                .todosAtletasCompativeisComCategoria(compativeisComCategoria)
+                .podeSeInscrever(CamposUtil.seSolicitado("podeSeInscrever",
+                        () -> numeroAtletas >= 2 && equipe.getAtiva() && aceitaramTermos
+                                && podemParticipar && compativeisComCategoria))
+                .temInscricao(CamposUtil.seSolicitado("temInscricao", equipe::temInscricao))
+                .inscricaoConfirmada(CamposUtil.seSolicitado("inscricaoConfirmada", equipe::inscricaoConfirmada))
+                .descricaoCompleta(CamposUtil.seSolicitado("descricaoCompleta",
+                        () -> equipe.getNome() + " (" + numeroAtletas + " atletas)"
+                                + (equipe.getCapitao() != null ? " - Capitão: " + equipe.getCapitao().getNomeCompleto() : "")))
                 .createdAt(equipe.getCreatedAt())
                 .updatedAt(equipe.getUpdatedAt())
                 .build();
     }
 
-    private EquipeSummaryDTO convertToSummaryDTO(EquipeEntity equipe) {
+    private EquipeSummaryDTO convertToSummaryDTO(EquipeSummaryProjection equipe) {
         return EquipeSummaryDTO.builder()
-                .id(equipe.getId())
-                .nome(equipe.getNome())
-                .nomeEvento(equipe.getNomeEvento())
-                .nomeCategoria(equipe.getNomeCategoria())
-                .nomeCapitao(equipe.getNomeCapitao())
-                .ativa(equipe.getAtiva())
+                .id(equipe.id())
+                .nome(equipe.nome())
+                .nomeEvento(equipe.nomeEvento() != null ? equipe.nomeEvento() : "")
+                .nomeCategoria(equipe.nomeCategoria() != null ? equipe.nomeCategoria() : "")
+                .nomeCapitao(equipe.nomeCapitao() != null ? equipe.nomeCapitao() : "")
+                .ativa(equipe.ativa())
                 .numeroAtletas(equipe.getNumeroAtletas())
                 .nomesAtletas(equipe.getNomesAtletas())
                 .equipeCompleta(equipe.isEquipeCompleta())
                 .podeSeInscrever(equipe.podeSeInscrever())
                 .temInscricao(equipe.temInscricao())
                 .inscricaoConfirmada(equipe.inscricaoConfirmada())
-                .createdAt(equipe.getCreatedAt())
+                .createdAt(equipe.createdAt())
                 .build();
     }
 
@@ -440,20 +511,14 @@ public class EquipeService implements IEquipeService {
             throw new RuntimeException("Pelo menos um atleta deve ser informado");
         }
 
-        // Verifica se não há atletas duplicados na lista (por CPF)
-        long atletasUnicos = dto.getAtletas().stream()
-                .map(AtletaCreateDTO::getCpf)
-                .filter(cpf -> cpf != null && !cpf.trim().isEmpty())
-                .distinct()
-                .count();
-
-        long atletasComCpf = dto.getAtletas().stream()
-                .map(AtletaCreateDTO::getCpf)
-                .filter(cpf -> cpf != null && !cpf.trim().isEmpty())
-                .count();
-
-        if (atletasUnicos != atletasComCpf) {
-            throw new RuntimeException("Não é possível adicionar atletas com o mesmo CPF na equipe");
+        // Verifica se não há atletas duplicados na lista (por CPF, ignorando pontuação e espaços)
+        Set<String> cpfsInformados = new HashSet<>();
+        for (AtletaCreateDTO atletaDto : dto.getAtletas()) {
+            String cpf = TextoUtil.somenteDigitos(atletaDto.getCpf());
+            if (!cpf.isEmpty() && !cpfsInformados.add(cpf)) {
+                throw new IllegalArgumentException("Não é possível adicionar atletas com o mesmo CPF na equipe: "
+                        + atletaDto.getCpf());
+            }
         }
 
         // Se capitão foi informado, verifica se está na lista
@@ -662,12 +727,14 @@ public class EquipeService implements IEquipeService {
                 .codigoDesconto(equipeInscricaoDTO.getCodigoDesconto())
                 .build();
 
-        // Salvar inscrição
+        // Reservar a vaga (categorias com limite) e salvar inscrição
+        vagaService.reservar(inscricao);
         inscricao = inscricaoRepository.save(inscricao);
+        contadorService.inscricaoCriada(equipe.getEvento().getId(), equipe.getCategoria().getId(),
+                inscricao.getStatus());
 
-        // Estabelecer relacionamento bidirecional
+        // Estabelecer relacionamento bidirecional (lado inverso: só em memória, sem novo save)
         equipe.setInscricao(inscricao);
-        equipeRepository.save(equipe);
 
         return inscricao;
     }
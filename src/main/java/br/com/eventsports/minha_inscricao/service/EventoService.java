@@ -3,27 +3,38 @@ package br.com.eventsports.minha_inscricao.service;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import br.com.eventsports.minha_inscricao.dto.evento.EventoCreateDTO;
+import br.com.eventsports.minha_inscricao.dto.evento.EventoProximoDTO;
+import br.com.eventsports.minha_inscricao.dto.evento.EventoProximoProjection;
 import br.com.eventsports.minha_inscricao.dto.evento.EventoResponseDTO;
 import br.com.eventsports.minha_inscricao.dto.evento.EventoSummaryDTO;
+import br.com.eventsports.minha_inscricao.dto.evento.EventoSummaryProjection;
 import br.com.eventsports.minha_inscricao.dto.evento.EventoUpdateDTO;
 import br.com.eventsports.minha_inscricao.dto.evento.StatusChangeDTO;
+import br.com.eventsports.minha_inscricao.dto.paginacao.PaginaCursorDTO;
+import br.com.eventsports.minha_inscricao.entity.ContadorEventoEntity;
 import br.com.eventsports.minha_inscricao.entity.EventoEntity;
 import br.com.eventsports.minha_inscricao.entity.UsuarioEntity;
 import br.com.eventsports.minha_inscricao.enums.StatusEvento;
 import br.com.eventsports.minha_inscricao.exception.EventoNotFoundException;
 import br.com.eventsports.minha_inscricao.exception.InvalidDateRangeException;
+import br.com.eventsports.minha_inscricao.repository.EventoConsultaRepository;
 import br.com.eventsports.minha_inscricao.repository.EventoRepository;
 import br.com.eventsports.minha_inscricao.repository.UsuarioRepository;
 import br.com.eventsports.minha_inscricao.service.Interfaces.IEventoService;
+import br.com.eventsports.minha_inscricao.util.CamposUtil;
+import br.com.eventsports.minha_inscricao.util.PaginacaoUtil;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import lombok.RequiredArgsConstructor;
@@ -33,10 +44,18 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class EventoService implements IEventoService {
 
+    private static final double RAIO_TERRA_KM = 6371.0;
+    private static final double RAIO_PADRAO_KM = 50.0;
+    private static final double RAIO_MAXIMO_KM = 500.0;
+
     private final EventoRepository eventoRepository;
+    private final EventoConsultaRepository eventoConsultaRepository;
     private final UsuarioRepository usuarioRepository;
+    private final IndiceParticipantesService indiceParticipantesService;
+    private final GeocodificacaoEventoService geocodificacaoEventoService;
+    private final ContadorService contadorService;
 
-    @Cacheable(value = "eventos-dto", key = "#id")
+    @Cacheable(value = "eventos-dto", key = "#id", unless = CamposUtil.RESULTADO_PARCIAL)
     @Transactional(readOnly = true)
     public EventoResponseDTO findById(Long id) {
         EventoEntity evento = eventoRepository.findById(id)
@@ -44,82 +63,181 @@ public class EventoService implements IEventoService {
         return convertToResponseDTO(evento);
     }
 
-    @Cacheable(value = "eventos-dto", key = "'all'")
     @Transactional(readOnly = true)
-    public List<EventoSummaryDTO> findAll() {
-        List<EventoEntity> eventos = eventoRepository.findAll();
-        return eventos.stream()
-                .map(this::convertToSummaryDTO)
-                .collect(Collectors.toList());
+    public PaginaCursorDTO<EventoSummaryDTO> findAll(String after, Integer limit) {
+        int limite = PaginacaoUtil.normalizarLimite(limit);
+        long aposId = after != null ? PaginacaoUtil.decodificarCursor(after).id() : 0L;
+        List<EventoSummaryProjection> eventos = eventoConsultaRepository.findPaginaAposId(aposId, PageRequest.of(0, limite + 1));
+        return PaginacaoUtil.montarPagina(eventos, limite, this::convertToSummaryDTO,
+                evento -> PaginacaoUtil.codificarCursor(null, evento.id()));
     }
 
-    @CachePut(value = "eventos-dto", key = "#result.id")
+    @CachePut(value = "eventos-dto", key = "#result.id", unless = CamposUtil.RESULTADO_PARCIAL)
     @CacheEvict(value = "eventos-dto", key = "'all'")
     public EventoResponseDTO save(EventoCreateDTO eventoCreateDTO) {
         validateDateRange(eventoCreateDTO.getDataInicioDoEvento(), eventoCreateDTO.getDataFimDoEvento());
         EventoEntity evento = convertCreateDTOToEntity(eventoCreateDTO);
-        EventoEntity savedEvento = eventoRepository.save(evento);
+        geocodificacaoEventoService.definirCoordenadas(evento, eventoCreateDTO.getLatitude(),
+                eventoCreateDTO.getLongitude(), true);
+        EventoEntity savedEvento = eventoRepository.saveAndFlush(evento);
+        contadorService.eventoCriado(savedEvento.getId());
+        if (savedEvento.getOrganizador() != null) {
+            usuarioRepository.recalcularTipo(savedEvento.getOrganizador().getId());
+        }
         return convertToResponseDTO(savedEvento);
     }
 
-    @CachePut(value = "eventos-dto", key = "#id")
-    @CacheEvict(value = "eventos-dto", key = "'all'")
+    @Caching(put = @CachePut(value = "eventos-dto", key = "#id", unless = CamposUtil.RESULTADO_PARCIAL),
+            evict = { @CacheEvict(value = "eventos-dto", key = "'all'"),
+                    @CacheEvict(value = "eventos-dto", key = "#id", beforeInvocation = true) })
     public EventoResponseDTO update(Long id, EventoUpdateDTO eventoUpdateDTO) {
         validateDateRange(eventoUpdateDTO.getDataInicioDoEvento(), eventoUpdateDTO.getDataFimDoEvento());
         EventoEntity existingEvento = eventoRepository.findById(id)
                 .orElseThrow(() -> new EventoNotFoundException("Evento não encontrado com ID: " + id));
 
+        boolean localAlterado = !Objects.equals(existingEvento.getEndereco(), eventoUpdateDTO.getEndereco())
+                || !Objects.equals(existingEvento.getCidade(), eventoUpdateDTO.getCidade())
+                || !Objects.equals(existingEvento.getEstado(), eventoUpdateDTO.getEstado());
         updateEventoFromUpdateDTO(existingEvento, eventoUpdateDTO);
+        geocodificacaoEventoService.definirCoordenadas(existingEvento, eventoUpdateDTO.getLatitude(),
+                eventoUpdateDTO.getLongitude(), localAlterado);
         EventoEntity updatedEvento = eventoRepository.save(existingEvento);
         return convertToResponseDTO(updatedEvento);
     }
 
     @CacheEvict(value = "eventos-dto", allEntries = true)
     public void deleteById(Long id) {
-        if (!eventoRepository.existsById(id)) {
-            throw new EventoNotFoundException("Evento não encontrado com ID: " + id);
+        EventoEntity evento = eventoRepository.findById(id)
+                .orElseThrow(() -> new EventoNotFoundException("Evento não encontrado com ID: " + id));
+        Long organizadorId = evento.getOrganizador() != null ? evento.getOrganizador().getId() : null;
+
+        eventoRepository.delete(evento);
+        if (organizadorId != null) {
+            usuarioRepository.recalcularTipo(organizadorId);
         }
-        eventoRepository.deleteById(id);
+        indiceParticipantesService.descartar(id);
+    }
+
+    @CacheEvict(value = "eventos-dto", allEntries = true)
+    public EventoResponseDTO transferirOrganizador(Long eventoId, Long novoOrganizadorId) {
+        EventoEntity evento = eventoRepository.findById(eventoId)
+                .orElseThrow(() -> new EventoNotFoundException("Evento não encontrado com ID: " + eventoId));
+        UsuarioEntity novoOrganizador = usuarioRepository.findById(novoOrganizadorId)
+                .orElseThrow(() -> new IllegalArgumentException("Usuário não encontrado com ID: " + novoOrganizadorId));
+        if (!novoOrganizador.getAtivo()) {
+            throw new IllegalArgumentException("Usuário inativo não pode organizar eventos");
+        }
+
+        Long organizadorAnteriorId = evento.getOrganizador() != null ? evento.getOrganizador().getId() : null;
+        evento.setOrganizador(novoOrganizador);
+        EventoEntity updatedEvento = eventoRepository.save(evento);
+
+        usuarioRepository.recalcularTipo(novoOrganizadorId);
+        if (organizadorAnteriorId != null && !organizadorAnteriorId.equals(novoOrganizadorId)) {
+            usuarioRepository.recalcularTipo(organizadorAnteriorId);
+        }
+        return convertToResponseDTO(updatedEvento);
     }
 
     @Cacheable(value = "eventos-dto", key = "'search:' + #nome")
     @Transactional(readOnly = true)
     public List<EventoSummaryDTO> findByNome(String nome) {
-        List<EventoEntity> eventos = eventoRepository.findByNomeContainingIgnoreCase(nome);
+        List<EventoSummaryProjection> eventos = eventoConsultaRepository.findByNomeContainingIgnoreCase(nome);
         return eventos.stream()
                 .map(this::convertToSummaryDTO)
                 .collect(Collectors.toList());
     }
 
-    @Cacheable(value = "eventos-dto", key = "'upcoming'")
     @Transactional(readOnly = true)
-    public List<EventoSummaryDTO> findEventosUpcoming() {
-        List<EventoEntity> eventos = eventoRepository.findEventosUpcoming();
-        return eventos.stream()
-                .map(this::convertToSummaryDTO)
-                .collect(Collectors.toList());
+    public PaginaCursorDTO<EventoSummaryDTO> findEventosUpcoming(String after, Integer limit) {
+        int limite = PaginacaoUtil.normalizarLimite(limit);
+        PageRequest pagina = PageRequest.of(0, limite + 1);
+        List<EventoSummaryProjection> eventos;
+        if (after == null) {
+            eventos = eventoConsultaRepository.findPrimeiraPaginaUpcoming(pagina);
+        } else {
+            PaginacaoUtil.Cursor cursor = PaginacaoUtil.decodificarCursor(after);
+            eventos = eventoConsultaRepository.findPaginaUpcomingApos(cursor.chaveComoData(), cursor.id(), pagina);
+        }
+        return PaginacaoUtil.montarPagina(eventos, limite, this::convertToSummaryDTO,
+                evento -> PaginacaoUtil.codificarCursor(evento.dataInicioDoEvento(), evento.id()));
     }
 
-    @Cacheable(value = "eventos-dto", key = "'past'")
+    @Override
     @Transactional(readOnly = true)
-    public List<EventoSummaryDTO> findEventosPast() {
-        List<EventoEntity> eventos = eventoRepository.findEventosPast();
-        return eventos.stream()
-                .map(this::convertToSummaryDTO)
-                .collect(Collectors.toList());
+    public PaginaCursorDTO<EventoProximoDTO> findProximos(Double latitude, Double longitude, Double raioKm,
+            String after, Integer limit) {
+        if (latitude == null || latitude < -90 || latitude > 90) {
+            throw new IllegalArgumentException("Latitude deve estar entre -90 e 90");
+        }
+        if (longitude == null || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("Longitude deve estar entre -180 e 180");
+        }
+        double raio = raioKm != null ? raioKm : RAIO_PADRAO_KM;
+        if (raio <= 0 || raio > RAIO_MAXIMO_KM) {
+            throw new IllegalArgumentException("O raio deve ser maior que zero e no máximo " + RAIO_MAXIMO_KM + " km");
+        }
+        int limite = PaginacaoUtil.normalizarLimite(limit);
+
+        // Caixa delimitadora do círculo; perto dos polos ou da linha de data a longitude fica livre
+        double distanciaAngular = raio / RAIO_TERRA_KM;
+        double latMin = latitude - Math.toDegrees(distanciaAngular);
+        double latMax = latitude + Math.toDegrees(distanciaAngular);
+        double lngMin = -180;
+        double lngMax = 180;
+        if (latMin > -90 && latMax < 90) {
+            double deltaLng = Math.toDegrees(Math.asin(Math.sin(distanciaAngular) / Math.cos(Math.toRadians(latitude))));
+            if (longitude - deltaLng >= -180 && longitude + deltaLng <= 180) {
+                lngMin = longitude - deltaLng;
+                lngMax = longitude + deltaLng;
+            }
+        }
+
+        PageRequest pagina = PageRequest.of(0, limite + 1);
+        List<EventoProximoProjection> eventos;
+        if (after == null) {
+            eventos = eventoConsultaRepository.findPrimeiraPaginaProximos(latitude, longitude, raio,
+                    latMin, latMax, lngMin, lngMax, pagina);
+        } else {
+            PaginacaoUtil.Cursor cursor = PaginacaoUtil.decodificarCursor(after);
+            eventos = eventoConsultaRepository.findPaginaProximosApos(latitude, longitude, raio,
+                    latMin, latMax, lngMin, lngMax, cursor.chaveComoData(), cursor.id(), pagina);
+        }
+        return PaginacaoUtil.montarPagina(eventos, limite,
+                evento -> convertToProximoDTO(evento, latitude, longitude),
+                evento -> PaginacaoUtil.codificarCursor(evento.dataInicioDoEvento(), evento.id()));
+    }
+
+    @Transactional(readOnly = true)
+    public PaginaCursorDTO<EventoSummaryDTO> findEventosPast(String after, Integer limit) {
+        int limite = PaginacaoUtil.normalizarLimite(limit);
+        PageRequest pagina = PageRequest.of(0, limite + 1);
+        List<EventoSummaryProjection> eventos;
+        if (after == null) {
+            eventos = eventoConsultaRepository.findPrimeiraPaginaPast(pagina);
+        } else {
+            PaginacaoUtil.Cursor cursor = PaginacaoUtil.decodificarCursor(after);
+            eventos = eventoConsultaRepository.findPaginaPastApos(cursor.chaveComoData(), cursor.id(), pagina);
+        }
+        return PaginacaoUtil.montarPagina(eventos, limite, this::convertToSummaryDTO,
+                evento -> PaginacaoUtil.codificarCursor(evento.dataFimDoEvento(), evento.id()));
     }
 
     @Cacheable(value = "eventos-dto", key = "'between:' + #inicio + ':' + #fim")
     @Transactional(readOnly = true)
     public List<EventoSummaryDTO> findEventosByDataBetween(LocalDateTime inicio, LocalDateTime fim) {
-        List<EventoEntity> eventos = eventoRepository.findEventosByDataBetween(inicio, fim);
+        List<EventoSummaryProjection> eventos = eventoConsultaRepository.findEventosByDataBetween(inicio, fim);
         return eventos.stream()
                 .map(this::convertToSummaryDTO)
                 .collect(Collectors.toList());
     }
 
     // Mapping methods
+    /**
+     * Dados do organizador só são carregados se pedidos em ?fields= (ver CamposUtil)
+     */
     private EventoResponseDTO convertToResponseDTO(EventoEntity evento) {
+        ContadorEventoEntity contador = contadorService.doEvento(evento.getId());
         return EventoResponseDTO.builder()
                 .id(evento.getId())
                 .nome(evento.getNome())
@@ -127,16 +245,19 @@ public class EventoService implements IEventoService {
                 .dataFimDoEvento(evento.getDataFimDoEvento())
                 .status(evento.getStatus() != null ? evento.getStatus().name() : null)
                 .descricaoStatus(evento.getDescricaoStatus())
-                .nomeOrganizador(evento.getNomeOrganizador())
-                .organizadorEmail(evento.getOrganizador() != null ? evento.getOrganizador().getEmail() : null)
+                .nomeOrganizador(CamposUtil.seSolicitado("nomeOrganizador", evento::getNomeOrganizador))
+                .organizadorEmail(CamposUtil.seSolicitado("organizadorEmail",
+                        () -> evento.getOrganizador() != null ? evento.getOrganizador().getEmail() : null))
                 .descricao(evento.getDescricao())
                 .cidade(evento.getCidade())
                 .estado(evento.getEstado())
                 .endereco(evento.getEndereco())
+                .latitude(evento.getLatitude())
+                .longitude(evento.getLongitude())
                 .imagemUrl(evento.getImagemUrl())
-                .totalCategorias(evento.getTotalCategorias())
-                .totalInscricoes(evento.getTotalInscricoes())
-                .inscricoesAtivas(evento.getInscricoesAtivas())
+                .totalCategorias(contador.getTotalCategorias())
+                .totalInscricoes(contador.getTotalInscricoes())
+                .inscricoesAtivas((long) contador.getInscricoesAtivas())
                 .podeReceberInscricoes(evento.podeReceberInscricoes())
                 .podeSerEditado(evento.podeSerEditado())
                 .createdAt(evento.getCreatedAt())
@@ -144,25 +265,52 @@ public class EventoService implements IEventoService {
                 .build();
     }
 
-    private EventoSummaryDTO convertToSummaryDTO(EventoEntity evento) {
+    private EventoSummaryDTO convertToSummaryDTO(EventoSummaryProjection evento) {
         return EventoSummaryDTO.builder()
-                .id(evento.getId())
-                .nome(evento.getNome())
-                .dataInicioDoEvento(evento.getDataInicioDoEvento())
-                .dataFimDoEvento(evento.getDataFimDoEvento())
-                .status(evento.getStatus() != null ? evento.getStatus().name() : null)
+                .id(evento.id())
+                .nome(evento.nome())
+                .dataInicioDoEvento(evento.dataInicioDoEvento())
+                .dataFimDoEvento(evento.dataFimDoEvento())
+                .status(evento.status() != null ? evento.status().name() : null)
                 .descricaoStatus(evento.getDescricaoStatus())
                 .nomeOrganizador(evento.getNomeOrganizador())
-                .totalCategorias(evento.getTotalCategorias())
-                .inscricoesAtivas(evento.getInscricoesAtivas())
-                .cidade(evento.getCidade())
-                .estado(evento.getEstado())
-                .imagemUrl(evento.getImagemUrl())
+                .totalCategorias(evento.totalCategorias())
+                .inscricoesAtivas(evento.inscricoesAtivas().longValue())
+                .cidade(evento.cidade())
+                .estado(evento.estado())
+                .imagemUrl(evento.imagemUrl())
                 .podeReceberInscricoes(evento.podeReceberInscricoes())
-                .createdAt(evento.getCreatedAt())
+                .createdAt(evento.createdAt())
+                .build();
+    }
+
+    private EventoProximoDTO convertToProximoDTO(EventoProximoProjection evento, double latitude, double longitude) {
+        return EventoProximoDTO.builder()
+                .id(evento.id())
+                .nome(evento.nome())
+                .dataInicioDoEvento(evento.dataInicioDoEvento())
+                .dataFimDoEvento(evento.dataFimDoEvento())
+                .status(evento.status() != null ? evento.status().name() : null)
+                .cidade(evento.cidade())
+                .estado(evento.estado())
+                .imagemUrl(evento.imagemUrl())
+                .latitude(evento.latitude())
+                .longitude(evento.longitude())
+                .distanciaKm(Math.round(distanciaKm(latitude, longitude, evento.latitude(), evento.longitude()) * 10) / 10.0)
                 .build();
     }
 
+    /**
+     * Distância de haversine, a mesma usada no filtro de EventoConsultaRepository
+     */
+    private static double distanciaKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.pow(Math.sin(dLat / 2), 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.pow(Math.sin(dLng / 2), 2);
+        return 2 * RAIO_TERRA_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
     private EventoEntity convertCreateDTOToEntity(EventoCreateDTO dto) {
         // Convert LocalDate to LocalDateTime (start of day for inicio, end of day for
         // fim)
@@ -290,7 +438,8 @@ public class EventoService implements IEventoService {
     }
 
     @Override
-    @CachePut(value = "eventos-dto", key = "#eventoId")
+    @Caching(put = @CachePut(value = "eventos-dto", key = "#eventoId", unless = CamposUtil.RESULTADO_PARCIAL),
+            evict = @CacheEvict(value = "eventos-dto", key = "#eventoId", beforeInvocation = true))
     public EventoResponseDTO changeStatus(Long eventoId, StatusChangeDTO statusChangeDTO) {
         EventoEntity evento = eventoRepository.findById(eventoId)
                 .orElseThrow(() -> new EventoNotFoundException("Evento não encontrado com ID: " + eventoId));
@@ -306,6 +455,9 @@ public class EventoService implements IEventoService {
 
         // Salvar e retornar
         EventoEntity eventoSalvo = eventoRepository.save(evento);
+        if (novoStatus == StatusEvento.FINALIZADO || novoStatus == StatusEvento.CANCELADO) {
+            indiceParticipantesService.descartar(eventoId);
+        }
         return convertToResponseDTO(eventoSalvo);
     }
 
@@ -0,0 +1,86 @@
+package br.com.eventsports.minha_inscricao.service;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.com.eventsports.minha_inscricao.dto.evento.Coordenadas;
+import br.com.eventsports.minha_inscricao.entity.EventoEntity;
+import br.com.eventsports.minha_inscricao.repository.EventoRepository;
+import br.com.eventsports.minha_inscricao.service.Interfaces.IGeocodificadorService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Mantém as coordenadas dos eventos: aplica as informadas pelo organizador ou geocodifica o local
+ * na criação/edição, e periodicamente tenta localizar os eventos que ainda estão sem coordenadas.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+@Slf4j
+public class GeocodificacaoEventoService {
+
+    private static final int TAMANHO_LOTE = 100;
+
+    private final IGeocodificadorService geocodificador;
+    private final EventoRepository eventoRepository;
+
+    /**
+     * Coordenadas informadas têm precedência; sem elas, o local é geocodificado se mudou
+     * ou se o evento ainda não tem coordenadas
+     */
+    public void definirCoordenadas(EventoEntity evento, Double latitude, Double longitude, boolean localAlterado) {
+        if (latitude != null && longitude != null) {
+            evento.setLatitude(latitude);
+            evento.setLongitude(longitude);
+            return;
+        }
+        if (localAlterado || evento.getLatitude() == null || evento.getLongitude() == null) {
+            Optional<Coordenadas> coordenadas = geocodificar(evento);
+            evento.setLatitude(coordenadas.map(Coordenadas::latitude).orElse(null));
+            evento.setLongitude(coordenadas.map(Coordenadas::longitude).orElse(null));
+        }
+    }
+
+    /**
+     * Geocodifica eventos sem coordenadas (cadastrados antes da V21 ou com falha no geocodificador)
+     */
+    @Scheduled(cron = "${app.geocodificacao.cron-pendentes:0 0 4 * * *}")
+    public void geocodificarPendentes() {
+        long aposId = 0L;
+        int localizados = 0;
+        List<EventoEntity> lote;
+        do {
+            lote = eventoRepository.findSemCoordenadasApos(aposId, PageRequest.of(0, TAMANHO_LOTE));
+            for (EventoEntity evento : lote) {
+                Optional<Coordenadas> coordenadas = geocodificar(evento);
+                if (coordenadas.isPresent()) {
+                    evento.setLatitude(coordenadas.get().latitude());
+                    evento.setLongitude(coordenadas.get().longitude());
+                    localizados++;
+                }
+            }
+            if (!lote.isEmpty()) {
+                aposId = lote.get(lote.size() - 1).getId();
+            }
+        } while (lote.size() == TAMANHO_LOTE);
+
+        if (localizados > 0) {
+            log.info("Geocodificação pendente concluída: {} evento(s) localizado(s)", localizados);
+        }
+    }
+
+    private Optional<Coordenadas> geocodificar(EventoEntity evento) {
+        try {
+            return geocodificador.geocodificar(evento.getEndereco(), evento.getCidade(), evento.getEstado());
+        } catch (RuntimeException e) {
+            log.warn("Falha ao geocodificar evento {}: {}", evento.getId(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
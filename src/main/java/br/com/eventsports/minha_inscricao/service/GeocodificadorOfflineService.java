@@ -0,0 +1,74 @@
+package br.com.eventsports.minha_inscricao.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import br.com.eventsports.minha_inscricao.dto.evento.Coordenadas;
+import br.com.eventsports.minha_inscricao.service.Interfaces.IGeocodificadorService;
+import br.com.eventsports.minha_inscricao.util.TextoUtil;
+
+/**
+ * Geocodificador sem acesso à rede: localiza apenas eventos nas capitais dos estados
+ * (coordenadas do centro da cidade). Serve para desenvolvimento e como padrão até que um
+ * provedor externo seja configurado; eventos em outras cidades ficam sem coordenadas,
+ * a menos que o organizador as informe.
+ */
+@Service
+@ConditionalOnProperty(name = "app.geocodificacao.provedor", havingValue = "offline", matchIfMissing = true)
+public class GeocodificadorOfflineService implements IGeocodificadorService {
+
+    private record Capital(String uf, String estado, String cidade, Coordenadas coordenadas) {
+    }
+
+    private static final Capital[] CAPITAIS = {
+        new Capital("AC", "Acre", "Rio Branco", new Coordenadas(-9.9747, -67.8243)),
+        new Capital("AL", "Alagoas", "Maceió", new Coordenadas(-9.6658, -35.7353)),
+        new Capital("AP", "Amapá", "Macapá", new Coordenadas(0.0349, -51.0694)),
+        new Capital("AM", "Amazonas", "Manaus", new Coordenadas(-3.1190, -60.0217)),
+        new Capital("BA", "Bahia", "Salvador", new Coordenadas(-12.9714, -38.5014)),
+        new Capital("CE", "Ceará", "Fortaleza", new Coordenadas(-3.7319, -38.5267)),
+        new Capital("DF", "Distrito Federal", "Brasília", new Coordenadas(-15.7939, -47.8828)),
+        new Capital("ES", "Espírito Santo", "Vitória", new Coordenadas(-20.3155, -40.3128)),
+        new Capital("GO", "Goiás", "Goiânia", new Coordenadas(-16.6869, -49.2648)),
+        new Capital("MA", "Maranhão", "São Luís", new Coordenadas(-2.5307, -44.3068)),
+        new Capital("MT", "Mato Grosso", "Cuiabá", new Coordenadas(-15.6014, -56.0979)),
+        new Capital("MS", "Mato Grosso do Sul", "Campo Grande", new Coordenadas(-20.4697, -54.6201)),
+        new Capital("MG", "Minas Gerais", "Belo Horizonte", new Coordenadas(-19.9167, -43.9345)),
+        new Capital("PA", "Pará", "Belém", new Coordenadas(-1.4558, -48.4902)),
+        new Capital("PB", "Paraíba", "João Pessoa", new Coordenadas(-7.1195, -34.8450)),
+        new Capital("PR", "Paraná", "Curitiba", new Coordenadas(-25.4284, -49.2733)),
+        new Capital("PE", "Pernambuco", "Recife", new Coordenadas(-8.0476, -34.8770)),
+        new Capital("PI", "Piauí", "Teresina", new Coordenadas(-5.0919, -42.8034)),
+        new Capital("RJ", "Rio de Janeiro", "Rio de Janeiro", new Coordenadas(-22.9068, -43.1729)),
+        new Capital("RN", "Rio Grande do Norte", "Natal", new Coordenadas(-5.7945, -35.2110)),
+        new Capital("RS", "Rio Grande do Sul", "Porto Alegre", new Coordenadas(-30.0346, -51.2177)),
+        new Capital("RO", "Rondônia", "Porto Velho", new Coordenadas(-8.7612, -63.9004)),
+        new Capital("RR", "Roraima", "Boa Vista", new Coordenadas(2.8235, -60.6758)),
+        new Capital("SC", "Santa Catarina", "Florianópolis", new Coordenadas(-27.5954, -48.5480)),
+        new Capital("SP", "São Paulo", "São Paulo", new Coordenadas(-23.5505, -46.6333)),
+        new Capital("SE", "Sergipe", "Aracaju", new Coordenadas(-10.9472, -37.0731)),
+        new Capital("TO", "Tocantins", "Palmas", new Coordenadas(-10.1840, -48.3336))
+    };
+
+    private static final Map<String, Capital> CAPITAL_POR_ESTADO = new HashMap<>();
+
+    static {
+        for (Capital capital : CAPITAIS) {
+            CAPITAL_POR_ESTADO.put(TextoUtil.normalizar(capital.uf()), capital);
+            CAPITAL_POR_ESTADO.put(TextoUtil.normalizar(capital.estado()), capital);
+        }
+    }
+
+    @Override
+    public Optional<Coordenadas> geocodificar(String endereco, String cidade, String estado) {
+        Capital capital = CAPITAL_POR_ESTADO.get(TextoUtil.normalizar(estado));
+        if (capital == null || !TextoUtil.normalizar(capital.cidade()).equals(TextoUtil.normalizar(cidade))) {
+            return Optional.empty();
+        }
+        return Optional.of(capital.coordenadas());
+    }
+}
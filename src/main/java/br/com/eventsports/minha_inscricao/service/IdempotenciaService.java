@@ -0,0 +1,102 @@
+package br.com.eventsports.minha_inscricao.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.com.eventsports.minha_inscricao.config.IdempotenciaConfig;
+import br.com.eventsports.minha_inscricao.entity.ChaveIdempotenciaEntity;
+import br.com.eventsports.minha_inscricao.repository.ChaveIdempotenciaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Armazena as respostas dos POSTs com Idempotency-Key.
+ * Cada operação é uma transação curta sobre a chave primária; a requisição em si roda fora delas.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotenciaService {
+
+    private final ChaveIdempotenciaRepository chaveIdempotenciaRepository;
+    private final IdempotenciaConfig idempotenciaConfig;
+
+    /**
+     * Chave armazenada: hash de usuário, método, rota, Accept e valor do header
+     */
+    public static String chave(String usuario, String metodo, String rota, String accept, String idempotencyKey) {
+        String origem = String.join("\n", usuario, metodo, rota, accept != null ? accept : "", idempotencyKey);
+        return sha256(origem.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Hash do conteúdo da requisição (query string e corpo), comparado nas repetições da chave
+     */
+    public static String hashRequisicao(String queryString, byte[] corpo) {
+        MessageDigest digest = novoDigest();
+        digest.update((queryString != null ? queryString : "").getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) '\n');
+        digest.update(corpo);
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static String sha256(byte[] conteudo) {
+        return HexFormat.of().formatHex(novoDigest().digest(conteudo));
+    }
+
+    private static MessageDigest novoDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    /**
+     * Registro ainda válido da chave (concluído ou em processamento). Não é readOnly: decide se a requisição
+     * será processada, então é lida no primário, nunca numa réplica atrasada.
+     */
+    public Optional<ChaveIdempotenciaEntity> buscar(String chave) {
+        LocalDateTime agora = LocalDateTime.now();
+        return chaveIdempotenciaRepository.findById(chave).filter(registro -> !registro.isExpirada(agora));
+    }
+
+    /**
+     * Marca a chave em processamento; false se ela já está registrada e válida
+     */
+    public boolean reservar(String chave, String hashRequisicao) {
+        LocalDateTime agora = LocalDateTime.now();
+        return chaveIdempotenciaRepository.reservar(chave, hashRequisicao, agora,
+                agora.plusSeconds(idempotenciaConfig.getSegundosProcessamentoMaximo())) > 0;
+    }
+
+    public void concluir(String chave, int statusHttp, String contentType, byte[] corpo) {
+        chaveIdempotenciaRepository.concluir(chave, statusHttp, contentType, corpo,
+                LocalDateTime.now().plusHours(idempotenciaConfig.getHorasValidade()));
+    }
+
+    /**
+     * Desfaz a reserva (falha no servidor): a repetição processa de novo
+     */
+    public void liberar(String chave) {
+        chaveIdempotenciaRepository.deleteById(chave);
+    }
+
+    @Scheduled(cron = "${app.idempotencia.cron-limpeza:0 15 * * * *}")
+    public void removerExpiradas() {
+        int removidas = chaveIdempotenciaRepository.removerExpiradas(LocalDateTime.now(),
+                idempotenciaConfig.getTamanhoLoteLimpeza());
+        if (removidas > 0) {
+            log.info("{} chave(s) de idempotência expirada(s) removida(s)", removidas);
+        }
+    }
+}
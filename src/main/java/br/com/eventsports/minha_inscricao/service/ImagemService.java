@@ -29,6 +29,7 @@ public class ImagemService {
 
     private final ImagemConfig imagemConfig;
     private final EventoRepository eventoRepository;
+    private final LayoutArmazenamentoService layoutArmazenamento;
 
     /**
      * Faz upload da imagem do evento
@@ -53,13 +54,13 @@ public class ImagemService {
             UUID.randomUUID().toString().substring(0, 8),
             extensao);
 
-        // Caminho completo do arquivo
-        Path caminhoArquivo = diretorio.resolve(nomeArquivo);
+        // Caminho completo do arquivo (subdiretório definido pelo layout de armazenamento)
+        Path caminhoArquivo = layoutArmazenamento.resolverParaGravacao(diretorio, nomeArquivo);
         
         // Salvar arquivo
         Files.copy(arquivo.getInputStream(), caminhoArquivo, StandardCopyOption.REPLACE_EXISTING);
 
-        // URL relativa para salvar no banco
+        // URL relativa para salvar no banco (independe do subdiretório, que é derivado do nome)
         String imagemUrl = imagemConfig.getUrlBase() + nomeArquivo;
 
         // Remover imagem anterior se existir
@@ -96,10 +97,9 @@ public class ImagemService {
      * Carrega uma imagem como Resource
      */
     public Resource carregarImagem(String nomeArquivo) throws IOException {
-        Path caminhoArquivo = Paths.get(imagemConfig.getDiretorioUpload())
-                .toAbsolutePath()
-                .normalize()
-                .resolve(nomeArquivo);
+        Path diretorio = Paths.get(imagemConfig.getDiretorioUpload()).toAbsolutePath().normalize();
+        Path caminhoArquivo = layoutArmazenamento.localizar(diretorio, nomeArquivo)
+                .orElseThrow(() -> new IOException("Arquivo não encontrado: " + nomeArquivo));
 
         Resource resource = new UrlResource(caminhoArquivo.toUri());
         
@@ -154,13 +154,11 @@ public class ImagemService {
         try {
             if (imagemUrl.startsWith(imagemConfig.getUrlBase())) {
                 String nomeArquivo = imagemUrl.substring(imagemConfig.getUrlBase().length());
-                Path caminhoArquivo = Paths.get(imagemConfig.getDiretorioUpload())
-                        .toAbsolutePath()
-                        .normalize()
-                        .resolve(nomeArquivo);
-                
-                if (Files.exists(caminhoArquivo)) {
-                    Files.delete(caminhoArquivo);
+                Path diretorio = Paths.get(imagemConfig.getDiretorioUpload()).toAbsolutePath().normalize();
+                Optional<Path> caminhoArquivo = layoutArmazenamento.localizar(diretorio, nomeArquivo);
+
+                if (caminhoArquivo.isPresent()) {
+                    Files.delete(caminhoArquivo.get());
                     log.info("Imagem anterior removida: {}", nomeArquivo);
                 }
             }
@@ -0,0 +1,583 @@
+package br.com.eventsports.minha_inscricao.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.eventsports.minha_inscricao.config.ImportacaoConfig;
+import br.com.eventsports.minha_inscricao.dto.importacao.ResultadoImportacaoDTO;
+import br.com.eventsports.minha_inscricao.entity.AtletaEntity;
+import br.com.eventsports.minha_inscricao.entity.CategoriaEntity;
+import br.com.eventsports.minha_inscricao.entity.EquipeEntity;
+import br.com.eventsports.minha_inscricao.entity.EventoEntity;
+import br.com.eventsports.minha_inscricao.entity.InscricaoEntity;
+import br.com.eventsports.minha_inscricao.enums.Genero;
+import br.com.eventsports.minha_inscricao.enums.StatusInscricao;
+import br.com.eventsports.minha_inscricao.repository.AtletaRepository;
+import br.com.eventsports.minha_inscricao.repository.CategoriaRepository;
+import br.com.eventsports.minha_inscricao.repository.EquipeRepository;
+import br.com.eventsports.minha_inscricao.repository.EventoRepository;
+import br.com.eventsports.minha_inscricao.repository.InscricaoRepository;
+import br.com.eventsports.minha_inscricao.util.LeitorCsv;
+import br.com.eventsports.minha_inscricao.util.RelatorioCsv;
+import br.com.eventsports.minha_inscricao.util.TextoUtil;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Importação em massa de atletas, equipes e inscrições de um evento a partir de CSV.
+ * O arquivo é lido em streaming, um registro por vez; as categorias do evento e os nomes de equipes
+ * são carregados uma única vez e os CPFs já cadastrados são consultados uma vez por lote. Cada lote é
+ * gravado na sua transação, com inserts em lote JDBC e vagas/contadores ajustados por categoria, não
+ * por linha. Linhas recusadas vão para um relatório CSV de erros disponível para download.
+ *
+ * Colunas do cabeçalho: nome, cpf, data_nascimento (dd/MM/aaaa ou aaaa-MM-dd), genero (M/F) e
+ * categoria_id; opcionais: email, telefone, equipe e status (PENDENTE ou CONFIRMADA).
+ * Linhas consecutivas com a mesma equipe formam uma equipe; o primeiro atleta é o capitão.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ImportacaoService {
+
+    private static final List<String> COLUNAS_OBRIGATORIAS = List.of(
+            "nome", "cpf", "data_nascimento", "genero", "categoria_id");
+    private static final String CABECALHO_RELATORIO = "linha;cpf;nome;erro";
+
+    private final EventoRepository eventoRepository;
+    private final CategoriaRepository categoriaRepository;
+    private final AtletaRepository atletaRepository;
+    private final EquipeRepository equipeRepository;
+    private final InscricaoRepository inscricaoRepository;
+    private final VagaService vagaService;
+    private final ContadorService contadorService;
+    private final IndiceParticipantesService indiceParticipantesService;
+    private final ImportacaoConfig importacaoConfig;
+    private final TransactionTemplate transactionTemplate;
+    private final SuporteLoteService suporteLoteService;
+    private final EntityManager entityManager;
+
+    /**
+     * Importa o CSV do evento; linhas inválidas não interrompem a importação
+     */
+    public ResultadoImportacaoDTO importar(Long eventoId, InputStream csv) throws IOException {
+        if (!eventoRepository.existsById(eventoId)) {
+            throw new IllegalArgumentException("Evento não encontrado com ID: " + eventoId);
+        }
+        long inicio = System.currentTimeMillis();
+
+        Map<Long, CategoriaEntity> categorias = categoriaRepository.findByEventoIdOrderByNomeAsc(eventoId).stream()
+                .collect(Collectors.toMap(CategoriaEntity::getId, Function.identity()));
+        Set<String> nomesEquipes = new HashSet<>(equipeRepository.findNomesByEventoId(eventoId));
+        RelatorioCsv relatorio = suporteLoteService.novoRelatorio(importacaoConfig.getDiretorioRelatorios(),
+                eventoId.toString(), CABECALHO_RELATORIO);
+
+        Execucao execucao = new Execucao(eventoId, categorias, nomesEquipes, relatorio);
+        try (LeitorCsv leitor = new LeitorCsv(new InputStreamReader(csv, StandardCharsets.UTF_8)); relatorio) {
+            execucao.processar(leitor);
+        }
+
+        if (execucao.inscricoesCriadas > 0) {
+            // Índice de participantes é remontado na próxima consulta, em vez de uma alteração por atleta
+            indiceParticipantesService.descartar(eventoId);
+            suporteLoteService.limparCaches("atletas", "equipes", "inscricoes", "categorias");
+        }
+
+        long duracao = System.currentTimeMillis() - inicio;
+        log.info("Importação do evento {}: {} linha(s), {} inscrição(ões) criada(s), {} linha(s) com erro em {} ms",
+                eventoId, execucao.linhasProcessadas, execucao.inscricoesCriadas, execucao.linhasComErro, duracao);
+
+        return ResultadoImportacaoDTO.builder()
+                .eventoId(eventoId)
+                .linhasProcessadas(execucao.linhasProcessadas)
+                .atletasCriados(execucao.atletasCriados)
+                .equipesCriadas(execucao.equipesCriadas)
+                .inscricoesCriadas(execucao.inscricoesCriadas)
+                .linhasComErro(execucao.linhasComErro)
+                .relatorioErrosId(execucao.linhasComErro > 0 ? relatorio.getId() : null)
+                .duracaoMs(duracao)
+                .build();
+    }
+
+    /**
+     * Arquivo do relatório de erros de uma importação do evento, se ainda existir
+     */
+    public Optional<Path> relatorioErros(Long eventoId, String relatorioId) {
+        return suporteLoteService.buscarRelatorio(importacaoConfig.getDiretorioRelatorios(), eventoId.toString(),
+                relatorioId);
+    }
+
+    /**
+     * Remove relatórios de erros mais antigos que a retenção configurada
+     */
+    @Scheduled(cron = "${app.importacao.cron-limpeza:0 0 * * * *}")
+    public void limparRelatorios() {
+        suporteLoteService.removerRelatoriosAntigos(importacaoConfig.getDiretorioRelatorios(),
+                importacaoConfig.getHorasRetencaoRelatorios());
+    }
+
+    /**
+     * Estado de uma importação: lote em montagem, CPFs e equipes já vistos no arquivo e relatório de erros
+     */
+    private final class Execucao {
+
+        private final Long eventoId;
+        private final Map<Long, CategoriaEntity> categorias;
+        private final Set<String> nomesEquipes;
+        private final Set<String> cpfsNoArquivo = new HashSet<>();
+        private final RelatorioCsv relatorio;
+
+        private final List<Unidade> lote = new ArrayList<>();
+        private int linhasNoLote;
+
+        private long linhasProcessadas;
+        private long atletasCriados;
+        private long equipesCriadas;
+        private long inscricoesCriadas;
+        private long linhasComErro;
+
+        private Execucao(Long eventoId, Map<Long, CategoriaEntity> categorias, Set<String> nomesEquipes,
+                RelatorioCsv relatorio) {
+            this.eventoId = eventoId;
+            this.categorias = categorias;
+            this.nomesEquipes = nomesEquipes;
+            this.relatorio = relatorio;
+        }
+
+        void processar(LeitorCsv leitor) throws IOException {
+            List<String> cabecalho = leitor.lerCabecalho();
+            if (cabecalho == null) {
+                throw new IllegalArgumentException("Arquivo CSV vazio");
+            }
+            Map<String, Integer> colunas = new HashMap<>();
+            for (int i = 0; i < cabecalho.size(); i++) {
+                colunas.putIfAbsent(cabecalho.get(i).toLowerCase(Locale.ROOT), i);
+            }
+            List<String> ausentes = COLUNAS_OBRIGATORIAS.stream().filter(coluna -> !colunas.containsKey(coluna)).toList();
+            if (!ausentes.isEmpty()) {
+                throw new IllegalArgumentException("Colunas obrigatórias ausentes no cabeçalho: " + String.join(", ", ausentes));
+            }
+
+            Unidade equipeAtual = null;
+            List<String> registro;
+            while ((registro = leitor.proximo()) != null) {
+                if (LeitorCsv.registroVazio(registro)) {
+                    continue;
+                }
+                Linha linha = new Linha(leitor.getLinhaRegistro(), colunas, registro);
+                linhasProcessadas++;
+
+                String equipe = linha.valor("equipe");
+                if (equipeAtual != null && !equipeAtual.nomeEquipe.equals(equipe)) {
+                    adicionar(equipeAtual);
+                    equipeAtual = null;
+                }
+                if (equipe == null) {
+                    adicionar(new Unidade(null, linha));
+                } else if (equipeAtual == null) {
+                    equipeAtual = new Unidade(equipe, linha);
+                } else {
+                    equipeAtual.linhas.add(linha);
+                }
+            }
+            if (equipeAtual != null) {
+                adicionar(equipeAtual);
+            }
+            gravarLote();
+        }
+
+        private void adicionar(Unidade unidade) {
+            String erro = validar(unidade);
+            if (erro != null) {
+                recusar(unidade, erro);
+                return;
+            }
+            lote.add(unidade);
+            linhasNoLote += unidade.linhas.size();
+            if (linhasNoLote >= importacaoConfig.getTamanhoLote()) {
+                gravarLote();
+            }
+        }
+
+        /**
+         * Validação sem acesso ao banco (categorias e equipes já carregadas); retorna o erro ou null
+         */
+        private String validar(Unidade unidade) {
+            Linha primeira = unidade.linhas.get(0);
+            try {
+                Long categoriaId = categoriaId(primeira);
+                CategoriaEntity categoria = categorias.get(categoriaId);
+                if (categoria == null) {
+                    return "Categoria " + categoriaId + " não pertence ao evento";
+                }
+                unidade.categoria = categoria;
+                unidade.status = status(primeira.valor("status"));
+
+                if (unidade.isEquipe()) {
+                    String erroEquipe = validarEquipe(unidade, categoria);
+                    if (erroEquipe != null) {
+                        return erroEquipe;
+                    }
+                } else if (!categoria.isIndividual()) {
+                    return "A categoria " + categoria.getNome() + " é de equipe; informe a coluna equipe";
+                }
+
+                // CPF comparado só pelos dígitos: "123.456.789-00" e "12345678900" são o mesmo atleta
+                Set<String> cpfsDaUnidade = new HashSet<>();
+                List<AtletaEntity> atletas = new ArrayList<>();
+                for (Linha linha : unidade.linhas) {
+                    AtletaEntity atleta = montarAtleta(linha, categoria);
+                    String cpf = TextoUtil.somenteDigitos(atleta.getCpf());
+                    if (!cpf.isEmpty() && (cpfsNoArquivo.contains(cpf) || !cpfsDaUnidade.add(cpf))) {
+                        return "Linha " + linha.numero + ": CPF repetido no arquivo: " + atleta.getCpf();
+                    }
+                    atletas.add(atleta);
+                }
+                unidade.atletas = atletas;
+                cpfsNoArquivo.addAll(cpfsDaUnidade);
+            } catch (IllegalArgumentException e) {
+                return e.getMessage();
+            }
+
+            if (unidade.isEquipe()) {
+                nomesEquipes.add(unidade.nomeEquipe);
+            }
+            return null;
+        }
+
+        private String validarEquipe(Unidade unidade, CategoriaEntity categoria) {
+            if (!categoria.isEquipe()) {
+                return "A categoria " + categoria.getNome() + " é individual; deixe a coluna equipe vazia";
+            }
+            for (Linha linha : unidade.linhas) {
+                if (!Objects.equals(categoriaId(linha), categoria.getId())) {
+                    return "Linha " + linha.numero + ": todos os atletas da equipe devem estar na mesma categoria";
+                }
+            }
+            Integer quantidade = categoria.getQuantidadeDeAtletasPorEquipe();
+            if (quantidade != null && unidade.linhas.size() != quantidade) {
+                return "Para esta categoria de equipe, é necessário informar exatamente " + quantidade + " atleta(s)";
+            }
+            if (quantidade == null && unidade.linhas.size() < 2) {
+                return "Equipes devem ter mais de 1 atleta";
+            }
+            if (nomesEquipes.contains(unidade.nomeEquipe)) {
+                return "Já existe uma equipe com o nome '" + unidade.nomeEquipe + "' neste evento";
+            }
+            return null;
+        }
+
+        private AtletaEntity montarAtleta(Linha linha, CategoriaEntity categoria) {
+            AtletaEntity atleta = AtletaEntity.builder()
+                    .nome(linha.limitado("nome", 200, true))
+                    .cpf(linha.limitado("cpf", 14, true))
+                    .dataNascimento(data(linha))
+                    .genero(genero(linha))
+                    .email(linha.limitado("email", 150, false))
+                    .telefone(linha.limitado("telefone", 15, false))
+                    .build();
+            if (!categoria.atletaPodeParticipar(atleta)) {
+                throw new IllegalArgumentException("Linha " + linha.numero + ": o atleta " + atleta.getNome()
+                        + " não atende aos critérios da categoria (idade/gênero)");
+            }
+            return atleta;
+        }
+
+        /**
+         * Grava o lote numa transação; se ela falhar, todas as linhas do lote vão para o relatório
+         */
+        private void gravarLote() {
+            if (lote.isEmpty()) {
+                return;
+            }
+            List<Unidade> unidades = new ArrayList<>(lote);
+            lote.clear();
+            linhasNoLote = 0;
+
+            List<Recusa> recusas = new ArrayList<>();
+            List<Unidade> gravadas;
+            try {
+                gravadas = transactionTemplate.execute(status -> gravar(unidades, recusas));
+            } catch (RuntimeException e) {
+                log.warn("Lote de {} registro(s) da importação do evento {} não gravado: {}",
+                        unidades.size(), eventoId, e.getMessage());
+                recusas.clear();
+                unidades.forEach(unidade -> recusas.add(new Recusa(unidade, "Erro ao gravar o lote: " + e.getMessage())));
+                gravadas = List.of();
+            }
+
+            recusas.forEach(recusa -> recusar(recusa.unidade(), recusa.erro()));
+            for (Unidade unidade : gravadas) {
+                atletasCriados += unidade.atletas.size();
+                equipesCriadas += unidade.isEquipe() ? 1 : 0;
+                inscricoesCriadas++;
+            }
+        }
+
+        private List<Unidade> gravar(List<Unidade> unidades, List<Recusa> recusas) {
+            EventoEntity evento = eventoRepository.getReferenceById(eventoId);
+
+            // CPFs já cadastrados: uma única consulta para o lote inteiro, pelo índice único de cpf. O banco
+            // guarda o CPF como foi informado, então cada um é procurado como veio, só com dígitos e formatado
+            Set<String> cpfsConsultados = new HashSet<>();
+            unidades.stream().flatMap(unidade -> unidade.atletas.stream()).map(AtletaEntity::getCpf).forEach(cpf -> {
+                String digitos = TextoUtil.somenteDigitos(cpf);
+                cpfsConsultados.add(cpf);
+                cpfsConsultados.add(digitos);
+                if (digitos.length() == 11) {
+                    cpfsConsultados.add(digitos.substring(0, 3) + "." + digitos.substring(3, 6) + "."
+                            + digitos.substring(6, 9) + "-" + digitos.substring(9));
+                }
+            });
+            Set<String> cpfsExistentes = atletaRepository.findCpfsExistentes(cpfsConsultados).stream()
+                    .map(TextoUtil::somenteDigitos)
+                    .collect(Collectors.toSet());
+            Map<Long, List<Unidade>> porCategoria = new LinkedHashMap<>();
+            for (Unidade unidade : unidades) {
+                Optional<String> cpfExistente = unidade.atletas.stream()
+                        .map(AtletaEntity::getCpf)
+                        .filter(cpf -> cpfsExistentes.contains(TextoUtil.somenteDigitos(cpf)))
+                        .findFirst();
+                if (cpfExistente.isPresent()) {
+                    recusas.add(new Recusa(unidade, "CPF já cadastrado: " + cpfExistente.get()));
+                } else {
+                    porCategoria.computeIfAbsent(unidade.categoria.getId(), id -> new ArrayList<>()).add(unidade);
+                }
+            }
+
+            // Vagas reservadas por categoria, em um UPDATE para o lote (um a um só se a categoria estiver lotando)
+            List<Unidade> gravadas = new ArrayList<>();
+            for (Map.Entry<Long, List<Unidade>> grupo : porCategoria.entrySet()) {
+                CategoriaEntity categoria = categoriaRepository.getReferenceById(grupo.getKey());
+                List<Unidade> daCategoria = grupo.getValue();
+                for (Unidade unidade : daCategoria) {
+                    unidade.inscricao = novaInscricao(unidade, evento, categoria);
+                    unidade.atletas.forEach(atleta -> {
+                        atleta.setEvento(evento);
+                        atleta.setCategoria(categoria);
+                    });
+                }
+
+                int aceitas = vagaService.reservarEmLote(grupo.getKey(),
+                        daCategoria.stream().map(unidade -> unidade.inscricao).toList()).size();
+                for (int i = 0; i < daCategoria.size(); i++) {
+                    if (i < aceitas) {
+                        gravadas.add(daCategoria.get(i));
+                    } else {
+                        recusas.add(new Recusa(daCategoria.get(i),
+                                "Não há vagas disponíveis na categoria " + daCategoria.get(i).categoria.getNome()));
+                    }
+                }
+            }
+
+            // Atletas individuais e capitães primeiro (capitao_id é obrigatório), depois as equipes com os
+            // demais atletas em cascade e por fim as inscrições; order_inserts agrupa os inserts por tabela
+            List<AtletaEntity> atletasAvulsos = new ArrayList<>();
+            List<EquipeEntity> equipes = new ArrayList<>();
+            for (Unidade unidade : gravadas) {
+                AtletaEntity primeiro = unidade.atletas.get(0);
+                atletasAvulsos.add(primeiro);
+                if (!unidade.isEquipe()) {
+                    unidade.inscricao.setAtleta(primeiro);
+                    continue;
+                }
+                EquipeEntity equipe = EquipeEntity.builder()
+                        .nome(unidade.nomeEquipe)
+                        .evento(evento)
+                        .categoria(unidade.inscricao.getCategoria())
+                        .capitao(primeiro)
+                        .ativa(true)
+                        .build();
+                unidade.inscricao.setEquipe(equipe);
+                equipes.add(equipe);
+            }
+            atletaRepository.saveAll(atletasAvulsos);
+
+            for (Unidade unidade : gravadas) {
+                EquipeEntity equipe = unidade.inscricao.getEquipe();
+                if (equipe != null) {
+                    for (AtletaEntity atleta : unidade.atletas) {
+                        atleta.setEquipe(equipe);
+                        equipe.getAtletas().add(atleta);
+                    }
+                }
+            }
+            equipeRepository.saveAll(equipes);
+            inscricaoRepository.saveAll(gravadas.stream().map(unidade -> unidade.inscricao).toList());
+
+            atualizarContadores(gravadas);
+
+            // Com open-in-view a requisição compartilha o EntityManager com todos os lotes: sem limpar,
+            // cada lote deixaria suas entidades no contexto e o dirty checking cresceria com o arquivo
+            entityManager.flush();
+            entityManager.clear();
+            return gravadas;
+        }
+
+        private InscricaoEntity novaInscricao(Unidade unidade, EventoEntity evento, CategoriaEntity categoria) {
+            BigDecimal valor = unidade.categoria.getValorInscricao() != null
+                    ? unidade.categoria.getValorInscricao()
+                    : BigDecimal.ZERO;
+            return InscricaoEntity.builder()
+                    .evento(evento)
+                    .categoria(categoria)
+                    .status(unidade.status)
+                    .valor(valor)
+                    .dataInscricao(LocalDateTime.now())
+                    .termosAceitos(false)
+                    .build();
+        }
+
+        /**
+         * Um ajuste de contadores por categoria e status, em vez de um por inscrição
+         */
+        private void atualizarContadores(List<Unidade> gravadas) {
+            Map<Long, Map<StatusInscricao, Long>> inscricoes = gravadas.stream()
+                    .collect(Collectors.groupingBy(unidade -> unidade.categoria.getId(),
+                            Collectors.groupingBy(unidade -> unidade.status, Collectors.counting())));
+            inscricoes.forEach((categoriaId, porStatus) -> porStatus.forEach((status, quantidade) ->
+                    contadorService.inscricoesCriadas(eventoId, categoriaId, status, quantidade.intValue())));
+
+            Map<Long, Long> equipes = gravadas.stream()
+                    .filter(Unidade::isEquipe)
+                    .collect(Collectors.groupingBy(unidade -> unidade.categoria.getId(), Collectors.counting()));
+            equipes.forEach((categoriaId, quantidade) ->
+                    contadorService.equipesCriadas(categoriaId, true, quantidade.intValue()));
+        }
+
+        private void recusar(Unidade unidade, String erro) {
+            for (Linha linha : unidade.linhas) {
+                relatorio.linha(String.valueOf(linha.numero), linha.valor("cpf"), linha.valor("nome"), erro);
+            }
+            linhasComErro += unidade.linhas.size();
+        }
+    }
+
+    private static Long categoriaId(Linha linha) {
+        String valor = linha.valor("categoria_id");
+        try {
+            return Long.valueOf(valor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Linha " + linha.numero + ": categoria_id inválido: " + valor);
+        }
+    }
+
+    private static StatusInscricao status(String valor) {
+        if (valor == null) {
+            return StatusInscricao.PENDENTE;
+        }
+        try {
+            StatusInscricao status = StatusInscricao.valueOf(valor.toUpperCase(Locale.ROOT));
+            if (status == StatusInscricao.PENDENTE || status == StatusInscricao.CONFIRMADA) {
+                return status;
+            }
+        } catch (IllegalArgumentException e) {
+            // cai na mensagem abaixo
+        }
+        throw new IllegalArgumentException("status inválido: " + valor + " (use PENDENTE ou CONFIRMADA)");
+    }
+
+    private static LocalDate data(Linha linha) {
+        String valor = linha.obrigatorio("data_nascimento");
+        try {
+            return valor.contains("/") ? LocalDate.parse(valor, LeitorCsv.DATA_BR) : LocalDate.parse(valor);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Linha " + linha.numero + ": data_nascimento inválida: " + valor);
+        }
+    }
+
+    private static Genero genero(Linha linha) {
+        String valor = linha.obrigatorio("genero");
+        for (Genero genero : Genero.values()) {
+            if (genero.name().equalsIgnoreCase(valor) || genero.getSigla().equalsIgnoreCase(valor)) {
+                return genero;
+            }
+        }
+        throw new IllegalArgumentException("Linha " + linha.numero + ": genero inválido: " + valor + " (use M ou F)");
+    }
+
+    private static final class Linha {
+        private final long numero;
+        private final Map<String, Integer> colunas;
+        private final List<String> campos;
+
+        private Linha(long numero, Map<String, Integer> colunas, List<String> campos) {
+            this.numero = numero;
+            this.colunas = colunas;
+            this.campos = campos;
+        }
+
+        String valor(String coluna) {
+            Integer indice = colunas.get(coluna);
+            if (indice == null || indice >= campos.size()) {
+                return null;
+            }
+            String valor = campos.get(indice).trim();
+            return valor.isEmpty() ? null : valor;
+        }
+
+        String obrigatorio(String coluna) {
+            String valor = valor(coluna);
+            if (valor == null) {
+                throw new IllegalArgumentException("Linha " + numero + ": coluna " + coluna + " não preenchida");
+            }
+            return valor;
+        }
+
+        String limitado(String coluna, int tamanhoMaximo, boolean obrigatoria) {
+            String valor = obrigatoria ? obrigatorio(coluna) : valor(coluna);
+            if (valor != null && valor.length() > tamanhoMaximo) {
+                throw new IllegalArgumentException("Linha " + numero + ": " + coluna + " excede "
+                        + tamanhoMaximo + " caracteres");
+            }
+            return valor;
+        }
+    }
+
+    /**
+     * Um atleta individual ou uma equipe (linhas consecutivas com o mesmo nome de equipe)
+     */
+    private static final class Unidade {
+        private final String nomeEquipe;
+        private final List<Linha> linhas = new ArrayList<>();
+        private CategoriaEntity categoria;
+        private StatusInscricao status;
+        private List<AtletaEntity> atletas;
+        private InscricaoEntity inscricao;
+
+        private Unidade(String nomeEquipe, Linha primeira) {
+            this.nomeEquipe = nomeEquipe;
+            this.linhas.add(primeira);
+        }
+
+        boolean isEquipe() {
+            return nomeEquipe != null;
+        }
+    }
+
+    private record Recusa(Unidade unidade, String erro) {
+    }
+}
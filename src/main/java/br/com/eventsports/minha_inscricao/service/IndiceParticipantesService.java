@@ -0,0 +1,273 @@
+package br.com.eventsports.minha_inscricao.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import br.com.eventsports.minha_inscricao.dto.busca.ParticipanteIndexado;
+import br.com.eventsports.minha_inscricao.dto.busca.SugestaoParticipanteDTO;
+import br.com.eventsports.minha_inscricao.entity.AtletaEntity;
+import br.com.eventsports.minha_inscricao.entity.EquipeEntity;
+import br.com.eventsports.minha_inscricao.enums.StatusEvento;
+import br.com.eventsports.minha_inscricao.enums.TipoResultadoBusca;
+import br.com.eventsports.minha_inscricao.repository.BuscaRepository;
+import br.com.eventsports.minha_inscricao.util.TextoUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Índice em memória, por evento, para autocompletar atletas e equipes (lançamento de resultados).
+ * O índice de um evento é montado na primeira consulta e depois só é alterado pelos fluxos de escrita
+ * (após o commit), então as sugestões não acessam o banco. É descartado quando o evento termina.
+ * Cada índice é um array ordenado de chaves normalizadas (nome a partir de cada palavra e dígitos do CPF)
+ * trocado por inteiro a cada alteração (copy-on-write); a busca é uma busca binária pelo prefixo.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class IndiceParticipantesService {
+
+    public static final int LIMITE_PADRAO = 10;
+    public static final int LIMITE_MAXIMO = 50;
+    public static final int DIGITOS_MINIMOS_CPF = 3;
+
+    private final BuscaRepository buscaRepository;
+
+    private final Map<Long, IndiceEvento> indices = new ConcurrentHashMap<>();
+
+    /**
+     * Sugere atletas e equipes do evento cujo nome (qualquer palavra) ou CPF começa com o prefixo
+     */
+    @Transactional(readOnly = true)
+    public List<SugestaoParticipanteDTO> sugerir(Long eventoId, String prefixo, Integer limite) {
+        int limiteNormalizado = limite == null ? LIMITE_PADRAO : Math.max(1, Math.min(limite, LIMITE_MAXIMO));
+        String chave = chaveDeBusca(prefixo);
+        if (chave.isEmpty()) {
+            return List.of();
+        }
+
+        return obterIndice(eventoId).buscar(chave, limiteNormalizado).stream()
+                .map(this::converter)
+                .toList();
+    }
+
+    public void atletaSalvo(AtletaEntity atleta) {
+        if (atleta.getEvento() == null) {
+            return;
+        }
+        Long categoriaId = atleta.getCategoria() != null ? atleta.getCategoria().getId() : null;
+        ParticipanteIndexado participante = new ParticipanteIndexado(
+                TipoResultadoBusca.ATLETA, atleta.getId(), atleta.getNome(), atleta.getCpf(), categoriaId);
+        aplicarAposCommit(atleta.getEvento().getId(), indice -> indice.com(participante));
+    }
+
+    public void atletaRemovido(Long eventoId, Long atletaId) {
+        aplicarAposCommit(eventoId, indice -> indice.sem(TipoResultadoBusca.ATLETA, atletaId));
+    }
+
+    /**
+     * Equipes inativas saem do índice
+     */
+    public void equipeSalva(EquipeEntity equipe) {
+        if (equipe.getEvento() == null) {
+            return;
+        }
+        Long eventoId = equipe.getEvento().getId();
+        Long equipeId = equipe.getId();
+        if (!Boolean.TRUE.equals(equipe.getAtiva())) {
+            aplicarAposCommit(eventoId, indice -> indice.sem(TipoResultadoBusca.EQUIPE, equipeId));
+            return;
+        }
+        Long categoriaId = equipe.getCategoria() != null ? equipe.getCategoria().getId() : null;
+        ParticipanteIndexado participante = new ParticipanteIndexado(
+                TipoResultadoBusca.EQUIPE, equipeId, equipe.getNome(), null, categoriaId);
+        aplicarAposCommit(eventoId, indice -> indice.com(participante));
+    }
+
+    /**
+     * Descarta o índice do evento após o commit (evento finalizado, cancelado ou removido)
+     */
+    public void descartar(Long eventoId) {
+        aposCommit(() -> {
+            if (indices.remove(eventoId) != null) {
+                log.info("Índice de participantes do evento {} descartado", eventoId);
+            }
+        });
+    }
+
+    private IndiceEvento obterIndice(Long eventoId) {
+        IndiceEvento indice = indices.get(eventoId);
+        if (indice != null) {
+            return indice;
+        }
+
+        StatusEvento status = buscaRepository.findStatusEvento(eventoId)
+                .orElseThrow(() -> new IllegalArgumentException("Evento não encontrado com ID: " + eventoId));
+        if (!mantemIndice(status)) {
+            // Evento encerrado: atende a consulta sem manter o índice em memória
+            return montar(eventoId);
+        }
+        return indices.computeIfAbsent(eventoId, this::montar);
+    }
+
+    private IndiceEvento montar(Long eventoId) {
+        List<ParticipanteIndexado> participantes = new ArrayList<>(buscaRepository.findAtletasParaIndice(eventoId));
+        participantes.addAll(buscaRepository.findEquipesParaIndice(eventoId));
+        log.info("Índice de participantes do evento {} montado com {} registros", eventoId, participantes.size());
+        return IndiceEvento.de(participantes);
+    }
+
+    /**
+     * Alterações só valem para índices já montados (os demais serão montados já com o dado novo).
+     * computeIfPresent serializa com a montagem em andamento, então a alteração não se perde.
+     */
+    private void aplicarAposCommit(Long eventoId, UnaryOperator<IndiceEvento> alteracao) {
+        aposCommit(() -> indices.computeIfPresent(eventoId, (id, indice) -> alteracao.apply(indice)));
+    }
+
+    private static void aposCommit(Runnable acao) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    acao.run();
+                }
+            });
+        } else {
+            acao.run();
+        }
+    }
+
+    private static boolean mantemIndice(StatusEvento status) {
+        return status != StatusEvento.FINALIZADO && status != StatusEvento.CANCELADO;
+    }
+
+    /**
+     * Prefixo só com dígitos e pontuação de CPF busca por CPF; caso contrário, por nome
+     */
+    private static String chaveDeBusca(String prefixo) {
+        if (prefixo == null || prefixo.isBlank()) {
+            return "";
+        }
+        if (prefixo.matches("[\\d.\\-\\s]+")) {
+            String digitos = TextoUtil.somenteDigitos(prefixo);
+            return digitos.length() >= DIGITOS_MINIMOS_CPF ? digitos : "";
+        }
+        return TextoUtil.normalizar(prefixo);
+    }
+
+    private SugestaoParticipanteDTO converter(ParticipanteIndexado participante) {
+        return SugestaoParticipanteDTO.builder()
+                .tipo(participante.tipo())
+                .id(participante.id())
+                .nome(participante.nome())
+                .categoriaId(participante.categoriaId())
+                .build();
+    }
+
+    /**
+     * Índice imutável de um evento; com/sem devolvem uma nova instância
+     */
+    private static final class IndiceEvento {
+
+        private final Map<String, ParticipanteIndexado> participantes;
+        private final String[] chaves;
+        private final ParticipanteIndexado[] alvos;
+
+        private IndiceEvento(Map<String, ParticipanteIndexado> participantes) {
+            this.participantes = participantes;
+
+            List<Map.Entry<String, ParticipanteIndexado>> entradas = new ArrayList<>();
+            for (ParticipanteIndexado participante : participantes.values()) {
+                for (String chave : chavesDe(participante)) {
+                    entradas.add(Map.entry(chave, participante));
+                }
+            }
+            entradas.sort(Map.Entry.comparingByKey(Comparator.naturalOrder()));
+
+            this.chaves = new String[entradas.size()];
+            this.alvos = new ParticipanteIndexado[entradas.size()];
+            for (int i = 0; i < entradas.size(); i++) {
+                chaves[i] = entradas.get(i).getKey();
+                alvos[i] = entradas.get(i).getValue();
+            }
+        }
+
+        static IndiceEvento de(Collection<ParticipanteIndexado> participantes) {
+            Map<String, ParticipanteIndexado> mapa = new HashMap<>();
+            participantes.forEach(p -> mapa.put(identificador(p.tipo(), p.id()), p));
+            return new IndiceEvento(mapa);
+        }
+
+        IndiceEvento com(ParticipanteIndexado participante) {
+            Map<String, ParticipanteIndexado> mapa = new HashMap<>(participantes);
+            mapa.put(identificador(participante.tipo(), participante.id()), participante);
+            return new IndiceEvento(mapa);
+        }
+
+        IndiceEvento sem(TipoResultadoBusca tipo, Long id) {
+            if (!participantes.containsKey(identificador(tipo, id))) {
+                return this;
+            }
+            Map<String, ParticipanteIndexado> mapa = new HashMap<>(participantes);
+            mapa.remove(identificador(tipo, id));
+            return new IndiceEvento(mapa);
+        }
+
+        List<ParticipanteIndexado> buscar(String prefixo, int limite) {
+            Set<ParticipanteIndexado> encontrados = new LinkedHashSet<>();
+            for (int i = primeiraPosicao(prefixo); i < chaves.length && chaves[i].startsWith(prefixo)
+                    && encontrados.size() < limite; i++) {
+                encontrados.add(alvos[i]);
+            }
+            return List.copyOf(encontrados);
+        }
+
+        private int primeiraPosicao(String prefixo) {
+            int posicao = Arrays.binarySearch(chaves, prefixo);
+            if (posicao < 0) {
+                return -posicao - 1;
+            }
+            while (posicao > 0 && chaves[posicao - 1].equals(prefixo)) {
+                posicao--;
+            }
+            return posicao;
+        }
+
+        /**
+         * "João da Silva" gera "joao da silva", "da silva" e "silva", para casar o prefixo com qualquer palavra
+         */
+        private static List<String> chavesDe(ParticipanteIndexado participante) {
+            List<String> chaves = new ArrayList<>();
+            String nome = TextoUtil.normalizar(participante.nome());
+            if (!nome.isEmpty()) {
+                chaves.add(nome);
+                for (int i = nome.indexOf(' '); i >= 0; i = nome.indexOf(' ', i + 1)) {
+                    chaves.add(nome.substring(i + 1));
+                }
+            }
+            String cpf = TextoUtil.somenteDigitos(participante.cpf());
+            if (!cpf.isEmpty()) {
+                chaves.add(cpf);
+            }
+            return chaves;
+        }
+
+        private static String identificador(TipoResultadoBusca tipo, Long id) {
+            return tipo + ":" + id;
+        }
+    }
+}
@@ -0,0 +1,317 @@
+package br.com.eventsports.minha_inscricao.service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.eventsports.minha_inscricao.config.InscricaoAssincronaConfig;
+import br.com.eventsports.minha_inscricao.dto.atleta.AtletaInscricaoDTO;
+import br.com.eventsports.minha_inscricao.dto.equipe.EquipeInscricaoDTO;
+import br.com.eventsports.minha_inscricao.dto.inscricaoassincrona.StatusIntencaoInscricaoDTO;
+import br.com.eventsports.minha_inscricao.entity.IntencaoInscricaoEntity;
+import br.com.eventsports.minha_inscricao.entity.OutboxEventoEntity;
+import br.com.eventsports.minha_inscricao.enums.StatusIntencaoInscricao;
+import br.com.eventsports.minha_inscricao.enums.TipoEventoOutbox;
+import br.com.eventsports.minha_inscricao.enums.TipoIntencaoInscricao;
+import br.com.eventsports.minha_inscricao.repository.EventoRepository;
+import br.com.eventsports.minha_inscricao.repository.IntencaoInscricaoRepository;
+import br.com.eventsports.minha_inscricao.service.Interfaces.IAtletaService;
+import br.com.eventsports.minha_inscricao.service.Interfaces.IEquipeService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Inscrição assíncrona: o pedido é gravado como intenção (JSON do DTO) junto com o evento de outbox,
+ * numa transação curta, e a resposta é 202. Um pool limitado de threads processa as intenções depois,
+ * usando os mesmos serviços da inscrição síncrona; cada evento é atendido por uma thread por vez,
+ * em ordem de chegada, então picos de pedidos viram fila em vez de transações longas disputando o pool.
+ * Assume uma instância da aplicação (como a sala de espera); entre instâncias o SKIP LOCKED evita
+ * processar a mesma intenção duas vezes, mas não garante a ordem.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class InscricaoAssincronaService {
+
+    private static final String URL_BASE = "/api/inscricoes-assincronas/";
+    private static final int TAMANHO_MAXIMO_ERRO = 500;
+
+    private final IntencaoInscricaoRepository intencaoInscricaoRepository;
+    private final EventoRepository eventoRepository;
+    private final IAtletaService atletaService;
+    private final IEquipeService equipeService;
+    private final OutboxService outboxService;
+    private final InscricaoAssincronaConfig inscricaoAssincronaConfig;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final SuporteLoteService suporteLoteService;
+
+    private final Set<Long> eventosEmProcessamento = ConcurrentHashMap.newKeySet();
+    private ThreadPoolTaskExecutor executor;
+
+    @PostConstruct
+    void iniciar() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(inscricaoAssincronaConfig.getThreads());
+        executor.setMaxPoolSize(inscricaoAssincronaConfig.getThreads());
+        // Uma tarefa por evento com pendências: a fila nunca passa do número de eventos ativos
+        executor.setQueueCapacity(inscricaoAssincronaConfig.getThreads() * 4);
+        executor.setThreadNamePrefix("inscricao-assincrona-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+    }
+
+    @PreDestroy
+    void encerrar() {
+        executor.shutdown();
+    }
+
+    public StatusIntencaoInscricaoDTO receberAtleta(Long eventoId, AtletaInscricaoDTO dto, String solicitante,
+            Long usuarioId) {
+        return receber(eventoId, TipoIntencaoInscricao.ATLETA, dto, solicitante, usuarioId);
+    }
+
+    public StatusIntencaoInscricaoDTO receberEquipe(Long eventoId, EquipeInscricaoDTO dto, String solicitante,
+            Long usuarioLogadoId) {
+        return receber(eventoId, TipoIntencaoInscricao.EQUIPE, dto, solicitante, usuarioLogadoId);
+    }
+
+    /**
+     * Situação do pedido; só o próprio solicitante a consulta
+     */
+    public Optional<StatusIntencaoInscricaoDTO> consultar(Long id, String solicitante) {
+        return intencaoInscricaoRepository.findById(id)
+                .filter(intencao -> intencao.getSolicitante().equals(solicitante))
+                .map(this::toStatusDTO);
+    }
+
+    /**
+     * Grava intenção e evento de outbox na mesma transação curta
+     */
+    private StatusIntencaoInscricaoDTO receber(Long eventoId, TipoIntencaoInscricao tipo, Object dto,
+            String solicitante, Long usuarioId) {
+        if (!eventoRepository.existsById(eventoId)) {
+            throw new IllegalArgumentException("Evento não encontrado com ID: " + eventoId);
+        }
+        String payload = serializar(dto);
+
+        IntencaoInscricaoEntity intencao = transactionTemplate.execute(status -> {
+            IntencaoInscricaoEntity salva = intencaoInscricaoRepository.save(IntencaoInscricaoEntity.builder()
+                    .eventoId(eventoId)
+                    .tipo(tipo)
+                    .solicitante(solicitante)
+                    .usuarioId(usuarioId)
+                    .payload(payload)
+                    .build());
+            outboxService.registrar(TipoEventoOutbox.INSCRICAO_RECEBIDA, salva.getId(), eventoId,
+                    Map.of("tipo", tipo));
+            return salva;
+        });
+        log.debug("Inscrição assíncrona {} recebida para o evento {}", intencao.getId(), eventoId);
+        return toStatusDTO(intencao);
+    }
+
+    /**
+     * Entrega cada evento com intenções pendentes a uma thread do pool (se já não estiver com uma)
+     */
+    @Scheduled(fixedDelayString = "${app.inscricao-assincrona.intervalo-ms:1000}")
+    public void distribuir() {
+        for (Long eventoId : intencaoInscricaoRepository.findEventosComPendentes()) {
+            if (!eventosEmProcessamento.add(eventoId)) {
+                continue;
+            }
+            try {
+                executor.execute(() -> processarEvento(eventoId));
+            } catch (TaskRejectedException e) {
+                // Pool cheio: o evento volta na próxima distribuição
+                eventosEmProcessamento.remove(eventoId);
+                return;
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.inscricao-assincrona.intervalo-manutencao-ms:60000}")
+    public void retomarPresas() {
+        LocalDateTime agora = LocalDateTime.now();
+        Integer retomadas = transactionTemplate.execute(status -> intencaoInscricaoRepository.retomarPresas(
+                agora.minusMinutes(inscricaoAssincronaConfig.getMinutosProcessamentoMaximo()), agora));
+        if (retomadas != null && retomadas > 0) {
+            log.warn("{} inscrição(ões) assíncrona(s) presa(s) em processamento voltaram para a fila", retomadas);
+        }
+    }
+
+    @Scheduled(cron = "${app.inscricao-assincrona.cron-limpeza:0 45 3 * * *}")
+    public void removerFinalizadas() {
+        Integer removidas = transactionTemplate.execute(status -> intencaoInscricaoRepository
+                .removerFinalizadasAntesDe(LocalDateTime.now().minusDays(inscricaoAssincronaConfig.getDiasRetencao())));
+        if (removidas != null && removidas > 0) {
+            log.info("{} inscrição(ões) assíncrona(s) finalizada(s) removida(s)", removidas);
+        }
+    }
+
+    /**
+     * Efeitos colaterais da inscrição concluída, vindos do outbox (fora da transação da inscrição)
+     */
+    @EventListener
+    public void aoPublicarEvento(OutboxEventoEntity evento) {
+        if (evento.getTipo() == TipoEventoOutbox.INSCRICAO_CONCLUIDA) {
+            suporteLoteService.limparCaches("inscricoes", "equipes");
+        }
+    }
+
+    private void processarEvento(Long eventoId) {
+        try {
+            int processadas = 0;
+            while (processadas < inscricaoAssincronaConfig.getMaximoPorRodada() && processarProxima(eventoId)) {
+                processadas++;
+            }
+        } catch (RuntimeException e) {
+            log.error("Erro ao processar inscrições assíncronas do evento {}: {}", eventoId, e.getMessage(), e);
+        } finally {
+            eventosEmProcessamento.remove(eventoId);
+        }
+    }
+
+    /**
+     * Processa a próxima intenção do evento; false se não houver ou se ela ainda aguarda nova tentativa
+     * (as seguintes esperam junto, para manter a ordem de chegada)
+     */
+    private boolean processarProxima(Long eventoId) {
+        LocalDateTime agora = LocalDateTime.now();
+        IntencaoInscricaoEntity intencao = transactionTemplate.execute(status -> intencaoInscricaoRepository
+                .findProximaParaProcessar(eventoId)
+                .filter(proxima -> proxima.getProximaTentativaEm() == null || !proxima.getProximaTentativaEm().isAfter(agora))
+                .map(proxima -> {
+                    proxima.setStatus(StatusIntencaoInscricao.PROCESSANDO);
+                    return proxima;
+                })
+                .orElse(null));
+        if (intencao == null) {
+            return false;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> concluir(intencao));
+        } catch (DataAccessException | TransactionException e) {
+            // Deadlock, pool esgotado, banco fora: não é culpa do pedido (como o 500 da inscrição síncrona)
+            if (intencao.getTentativas() + 1 < inscricaoAssincronaConfig.getTentativasMaximas()) {
+                transactionTemplate.executeWithoutResult(status -> reagendar(intencao));
+                log.warn("Inscrição assíncrona {} falhou por erro transitório (tentativa {}), nova tentativa em {}: {}",
+                        intencao.getId(), intencao.getTentativas(), intencao.getProximaTentativaEm(), mensagem(e));
+            } else {
+                transactionTemplate.executeWithoutResult(status -> recusar(intencao, mensagem(e)));
+                log.error("Inscrição assíncrona {} recusada após {} falhas transitórias: {}",
+                        intencao.getId(), inscricaoAssincronaConfig.getTentativasMaximas(), mensagem(e), e);
+            }
+        } catch (RuntimeException e) {
+            // Regra de negócio ou validação: repetir daria o mesmo resultado
+            transactionTemplate.executeWithoutResult(status -> recusar(intencao, mensagem(e)));
+            log.info("Inscrição assíncrona {} recusada: {}", intencao.getId(), mensagem(e));
+        }
+        return true;
+    }
+
+    /**
+     * Cria a inscrição pelos serviços da inscrição síncrona; a intenção e o outbox mudam na mesma transação
+     */
+    private void concluir(IntencaoInscricaoEntity intencao) {
+        Long recursoId = switch (intencao.getTipo()) {
+            case ATLETA -> atletaService.criarAtletaParaInscricaoComUsuario(intencao.getEventoId(),
+                    desserializar(intencao.getPayload(), AtletaInscricaoDTO.class), intencao.getUsuarioId()).getId();
+            case EQUIPE -> equipeService.criarEquipeParaInscricao(intencao.getEventoId(),
+                    desserializar(intencao.getPayload(), EquipeInscricaoDTO.class), intencao.getUsuarioId()).getId();
+        };
+
+        intencao.setStatus(StatusIntencaoInscricao.CONCLUIDA);
+        intencao.setRecursoId(recursoId);
+        intencaoInscricaoRepository.save(intencao);
+        outboxService.registrar(TipoEventoOutbox.INSCRICAO_CONCLUIDA, intencao.getId(), intencao.getEventoId(),
+                Map.of("tipo", intencao.getTipo(), "recursoId", recursoId));
+    }
+
+    /**
+     * Devolve a intenção à fila com espera exponencial (segundosEsperaInicial dobrando até segundosEsperaMaxima).
+     * O erro fica só no log: o solicitante vê a intenção RECEBIDA. Se nem esta transação conseguir gravar,
+     * a intenção fica PROCESSANDO e retomarPresas a devolve depois.
+     */
+    private void reagendar(IntencaoInscricaoEntity intencao) {
+        int tentativas = intencao.getTentativas() + 1;
+        long espera = Math.min((long) inscricaoAssincronaConfig.getSegundosEsperaInicial() << Math.min(tentativas - 1, 20),
+                inscricaoAssincronaConfig.getSegundosEsperaMaxima());
+        intencao.setStatus(StatusIntencaoInscricao.RECEBIDA);
+        intencao.setRecursoId(null);
+        intencao.setTentativas(tentativas);
+        intencao.setProximaTentativaEm(LocalDateTime.now().plusSeconds(espera));
+        intencaoInscricaoRepository.save(intencao);
+    }
+
+    private void recusar(IntencaoInscricaoEntity intencao, String erro) {
+        intencao.setStatus(StatusIntencaoInscricao.RECUSADA);
+        intencao.setRecursoId(null);
+        intencao.setErro(limitar(erro));
+        intencaoInscricaoRepository.save(intencao);
+        outboxService.registrar(TipoEventoOutbox.INSCRICAO_RECUSADA, intencao.getId(), intencao.getEventoId(),
+                Map.of("tipo", intencao.getTipo()));
+    }
+
+    private static String mensagem(RuntimeException e) {
+        return e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+    }
+
+    private static String limitar(String erro) {
+        return erro.length() > TAMANHO_MAXIMO_ERRO ? erro.substring(0, TAMANHO_MAXIMO_ERRO) : erro;
+    }
+
+    private StatusIntencaoInscricaoDTO toStatusDTO(IntencaoInscricaoEntity intencao) {
+        boolean concluida = intencao.getStatus() == StatusIntencaoInscricao.CONCLUIDA;
+        String urlRecurso = !concluida ? null
+                : intencao.getTipo() == TipoIntencaoInscricao.ATLETA
+                        ? "/api/atletas/" + intencao.getRecursoId()
+                        : "/api/equipes/" + intencao.getRecursoId();
+        return StatusIntencaoInscricaoDTO.builder()
+                .id(intencao.getId())
+                .eventoId(intencao.getEventoId())
+                .tipo(intencao.getTipo())
+                .status(intencao.getStatus())
+                .urlStatus(URL_BASE + intencao.getId())
+                .recursoId(concluida ? intencao.getRecursoId() : null)
+                .urlRecurso(urlRecurso)
+                .erro(intencao.getErro())
+                .criadaEm(intencao.getCriadaEm())
+                .atualizadaEm(intencao.getAtualizadaEm())
+                .build();
+    }
+
+    private String serializar(Object dto) {
+        try {
+            return objectMapper.writeValueAsString(dto);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Erro ao serializar pedido de inscrição: " + e.getMessage(), e);
+        }
+    }
+
+    private <T> T desserializar(String payload, Class<T> tipo) {
+        try {
+            return objectMapper.readValue(payload, tipo);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Pedido de inscrição ilegível: " + e.getMessage(), e);
+        }
+    }
+}
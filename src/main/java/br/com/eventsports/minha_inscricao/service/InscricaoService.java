@@ -3,15 +3,20 @@ package br.com.eventsports.minha_inscricao.service;
 import br.com.eventsports.minha_inscricao.dto.atleta.AtletaSummaryDTO;
 import br.com.eventsports.minha_inscricao.dto.atleta.AtletaCreateDTO;
 import br.com.eventsports.minha_inscricao.dto.inscricao.*;
+import br.com.eventsports.minha_inscricao.dto.paginacao.PaginaCursorDTO;
 import br.com.eventsports.minha_inscricao.entity.*;
 import br.com.eventsports.minha_inscricao.enums.StatusInscricao;
 import br.com.eventsports.minha_inscricao.repository.*;
 import br.com.eventsports.minha_inscricao.service.Interfaces.IInscricaoService;
+import br.com.eventsports.minha_inscricao.util.CamposUtil;
+import br.com.eventsports.minha_inscricao.util.PaginacaoUtil;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,11 +30,14 @@ import java.util.stream.Collectors;
 public class InscricaoService implements IInscricaoService {
 
     private final InscricaoRepository inscricaoRepository;
+    private final InscricaoConsultaRepository inscricaoConsultaRepository;
     private final EventoRepository eventoRepository;
     private final CategoriaRepository categoriaRepository;
     private final EquipeRepository equipeRepository;
+    private final ContadorService contadorService;
+    private final VagaService vagaService;
 
-    @Cacheable(value = "inscricoes", key = "#id")
+    @Cacheable(value = "inscricoes", key = "#id", unless = CamposUtil.RESULTADO_PARCIAL)
     @Transactional(readOnly = true)
     public InscricaoResponseDTO findById(Long id) {
         InscricaoEntity inscricao = inscricaoRepository.findById(id)
@@ -37,128 +45,182 @@ public class InscricaoService implements IInscricaoService {
         return convertToResponseDTO(inscricao);
     }
 
-    @Cacheable(value = "inscricoes", key = "'all'")
     @Transactional(readOnly = true)
-    public List<InscricaoSummaryDTO> findAll() {
-        List<InscricaoEntity> inscricoes = inscricaoRepository.findAll();
-        return inscricoes.stream()
-                .map(this::convertToSummaryDTO)
-                .collect(Collectors.toList());
+    public PaginaCursorDTO<InscricaoSummaryDTO> findAll(String after, Integer limit) {
+        int limite = PaginacaoUtil.normalizarLimite(limit);
+        PageRequest pagina = PageRequest.of(0, limite + 1);
+        List<InscricaoSummaryProjection> inscricoes;
+        if (after == null) {
+            inscricoes = inscricaoConsultaRepository.findPrimeiraPagina(pagina);
+        } else {
+            PaginacaoUtil.Cursor cursor = PaginacaoUtil.decodificarCursor(after);
+            inscricoes = inscricaoConsultaRepository.findPaginaApos(cursor.chaveComoData(), cursor.id(), pagina);
+        }
+        return montarPagina(inscricoes, limite);
     }
 
 
-    @CachePut(value = "inscricoes", key = "#id")
-    @CacheEvict(value = "inscricoes", key = "'all'")
+    @Caching(put = @CachePut(value = "inscricoes", key = "#id", unless = CamposUtil.RESULTADO_PARCIAL),
+            evict = { @CacheEvict(value = "inscricoes", key = "'all'"),
+                    @CacheEvict(value = "inscricoes", key = "#id", beforeInvocation = true) })
     public InscricaoResponseDTO update(Long id, InscricaoUpdateDTO inscricaoUpdateDTO) {
         InscricaoEntity inscricao = inscricaoRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Inscrição não encontrada com ID: " + id));
         
+        Long categoriaAnteriorId = inscricao.getCategoria().getId();
+        StatusInscricao statusAnterior = inscricao.getStatus();
+
         updateInscricaoFromDTO(inscricao, inscricaoUpdateDTO);
+        vagaService.inscricaoAlterada(inscricao, categoriaAnteriorId, statusAnterior);
         InscricaoEntity updatedInscricao = inscricaoRepository.save(inscricao);
+        contadorService.inscricaoAlterada(updatedInscricao.getEvento().getId(), categoriaAnteriorId, statusAnterior,
+                updatedInscricao.getCategoria().getId(), updatedInscricao.getStatus());
         return convertToResponseDTO(updatedInscricao);
     }
 
     @CacheEvict(value = "inscricoes", allEntries = true)
     public void deleteById(Long id) {
-        if (!inscricaoRepository.existsById(id)) {
-            throw new RuntimeException("Inscrição não encontrada com ID: " + id);
-        }
-        inscricaoRepository.deleteById(id);
+        InscricaoEntity inscricao = inscricaoRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Inscrição não encontrada com ID: " + id));
+        inscricaoRepository.delete(inscricao);
+        vagaService.inscricaoRemovida(inscricao.getId(), inscricao.getCategoria().getId(), inscricao.getStatus());
+        contadorService.inscricaoRemovida(inscricao.getEvento().getId(), inscricao.getCategoria().getId(),
+                inscricao.getStatus());
     }
 
-    @Cacheable(value = "inscricoes", key = "'byEvento:' + #eventoId")
     @Transactional(readOnly = true)
-    public List<InscricaoSummaryDTO> findByEventoId(Long eventoId) {
-        List<InscricaoEntity> inscricoes = inscricaoRepository.findByEventoId(eventoId);
-        return inscricoes.stream()
-                .map(this::convertToSummaryDTO)
-                .collect(Collectors.toList());
+    public PaginaCursorDTO<InscricaoSummaryDTO> findByEventoId(Long eventoId, String after, Integer limit) {
+        int limite = PaginacaoUtil.normalizarLimite(limit);
+        PageRequest pagina = PageRequest.of(0, limite + 1);
+        List<InscricaoSummaryProjection> inscricoes;
+        if (after == null) {
+            inscricoes = inscricaoConsultaRepository.findPrimeiraPaginaByEventoId(eventoId, pagina);
+        } else {
+            PaginacaoUtil.Cursor cursor = PaginacaoUtil.decodificarCursor(after);
+            inscricoes = inscricaoConsultaRepository.findPaginaByEventoIdApos(eventoId, cursor.chaveComoData(), cursor.id(), pagina);
+        }
+        return montarPagina(inscricoes, limite);
     }
 
-    @Cacheable(value = "inscricoes", key = "'byCategoria:' + #categoriaId")
     @Transactional(readOnly = true)
-    public List<InscricaoSummaryDTO> findByCategoriaId(Long categoriaId) {
-        List<InscricaoEntity> inscricoes = inscricaoRepository.findByCategoriaId(categoriaId);
-        return inscricoes.stream()
-                .map(this::convertToSummaryDTO)
-                .collect(Collectors.toList());
+    public PaginaCursorDTO<InscricaoSummaryDTO> findByCategoriaId(Long categoriaId, String after, Integer limit) {
+        int limite = PaginacaoUtil.normalizarLimite(limit);
+        PageRequest pagina = PageRequest.of(0, limite + 1);
+        List<InscricaoSummaryProjection> inscricoes;
+        if (after == null) {
+            inscricoes = inscricaoConsultaRepository.findPrimeiraPaginaByCategoriaId(categoriaId, pagina);
+        } else {
+            PaginacaoUtil.Cursor cursor = PaginacaoUtil.decodificarCursor(after);
+            inscricoes = inscricaoConsultaRepository.findPaginaByCategoriaIdApos(categoriaId, cursor.chaveComoData(), cursor.id(), pagina);
+        }
+        return montarPagina(inscricoes, limite);
     }
 
     @Cacheable(value = "inscricoes", key = "'byEquipe:' + #equipeId")
     @Transactional(readOnly = true)
     public List<InscricaoSummaryDTO> findByEquipeId(Long equipeId) {
-        List<InscricaoEntity> inscricoes = inscricaoRepository.findByEquipeId(equipeId);
+        List<InscricaoSummaryProjection> inscricoes = inscricaoConsultaRepository.findByEquipeId(equipeId);
         return inscricoes.stream()
                 .map(this::convertToSummaryDTO)
                 .collect(Collectors.toList());
     }
 
-    @Cacheable(value = "inscricoes", key = "'byStatus:' + #status")
     @Transactional(readOnly = true)
-    public List<InscricaoSummaryDTO> findByStatus(StatusInscricao status) {
-        List<InscricaoEntity> inscricoes = inscricaoRepository.findByStatus(status);
-        return inscricoes.stream()
-                .map(this::convertToSummaryDTO)
-                .collect(Collectors.toList());
+    public PaginaCursorDTO<InscricaoSummaryDTO> findByStatus(StatusInscricao status, String after, Integer limit) {
+        int limite = PaginacaoUtil.normalizarLimite(limit);
+        PageRequest pagina = PageRequest.of(0, limite + 1);
+        List<InscricaoSummaryProjection> inscricoes;
+        if (after == null) {
+            inscricoes = inscricaoConsultaRepository.findPrimeiraPaginaByStatus(status, pagina);
+        } else {
+            PaginacaoUtil.Cursor cursor = PaginacaoUtil.decodificarCursor(after);
+            inscricoes = inscricaoConsultaRepository.findPaginaByStatusApos(status, cursor.chaveComoData(), cursor.id(), pagina);
+        }
+        return montarPagina(inscricoes, limite);
+    }
+
+    private PaginaCursorDTO<InscricaoSummaryDTO> montarPagina(List<InscricaoSummaryProjection> inscricoes, int limite) {
+        return PaginacaoUtil.montarPagina(inscricoes, limite, this::convertToSummaryDTO,
+                inscricao -> PaginacaoUtil.codificarCursor(inscricao.dataInscricao(), inscricao.id()));
     }
 
-    @Cacheable(value = "inscricoes", key = "'confirmadas'")
     @Transactional(readOnly = true)
-    public List<InscricaoSummaryDTO> findInscricoesConfirmadas() {
-        List<InscricaoEntity> inscricoes = inscricaoRepository.findInscricoesConfirmadas();
-        return inscricoes.stream()
-                .map(this::convertToSummaryDTO)
-                .collect(Collectors.toList());
+    public PaginaCursorDTO<InscricaoSummaryDTO> findInscricoesConfirmadas(String after, Integer limit) {
+        return findByStatus(StatusInscricao.CONFIRMADA, after, limit);
     }
 
-    @Cacheable(value = "inscricoes", key = "'pendentes'")
     @Transactional(readOnly = true)
-    public List<InscricaoSummaryDTO> findInscricoesPendentes() {
-        List<InscricaoEntity> inscricoes = inscricaoRepository.findInscricoesPendentes();
-        return inscricoes.stream()
-                .map(this::convertToSummaryDTO)
-                .collect(Collectors.toList());
+    public PaginaCursorDTO<InscricaoSummaryDTO> findInscricoesPendentes(String after, Integer limit) {
+        return findByStatus(StatusInscricao.PENDENTE, after, limit);
     }
 
-    @Cacheable(value = "inscricoes", key = "'canceladas'")
     @Transactional(readOnly = true)
-    public List<InscricaoSummaryDTO> findInscricoesCanceladas() {
-        List<InscricaoEntity> inscricoes = inscricaoRepository.findInscricoesCanceladas();
-        return inscricoes.stream()
-                .map(this::convertToSummaryDTO)
-                .collect(Collectors.toList());
+    public PaginaCursorDTO<InscricaoSummaryDTO> findInscricoesCanceladas(String after, Integer limit) {
+        return findByStatus(StatusInscricao.CANCELADA, after, limit);
     }
 
     @CacheEvict(value = "inscricoes", allEntries = true)
     public InscricaoResponseDTO confirmar(Long id) {
-        InscricaoEntity inscricao = inscricaoRepository.findById(id)
+        InscricaoEntity inscricao = inscricaoRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new RuntimeException("Inscrição não encontrada com ID: " + id));
         
+        StatusInscricao statusAnterior = inscricao.getStatus();
         inscricao.confirmar();
         InscricaoEntity updatedInscricao = inscricaoRepository.save(inscricao);
+        registrarMudancaDeStatus(updatedInscricao, statusAnterior);
         return convertToResponseDTO(updatedInscricao);
     }
 
     @CacheEvict(value = "inscricoes", allEntries = true)
     public InscricaoResponseDTO cancelar(Long id, String motivo) {
-        InscricaoEntity inscricao = inscricaoRepository.findById(id)
+        InscricaoEntity inscricao = inscricaoRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new RuntimeException("Inscrição não encontrada com ID: " + id));
         
+        StatusInscricao statusAnterior = inscricao.getStatus();
         inscricao.cancelar(motivo);
         InscricaoEntity updatedInscricao = inscricaoRepository.save(inscricao);
+        registrarMudancaDeStatus(updatedInscricao, statusAnterior);
         return convertToResponseDTO(updatedInscricao);
     }
 
     @CacheEvict(value = "inscricoes", allEntries = true)
     public InscricaoResponseDTO colocarEmListaEspera(Long id) {
-        InscricaoEntity inscricao = inscricaoRepository.findById(id)
+        InscricaoEntity inscricao = inscricaoRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new RuntimeException("Inscrição não encontrada com ID: " + id));
         
+        StatusInscricao statusAnterior = inscricao.getStatus();
         inscricao.colocarEmListaEspera();
         InscricaoEntity updatedInscricao = inscricaoRepository.save(inscricao);
+        registrarMudancaDeStatus(updatedInscricao, statusAnterior);
         return convertToResponseDTO(updatedInscricao);
     }
 
+    @Transactional(readOnly = true)
+    public PosicaoListaEsperaDTO posicaoNaListaEspera(Long id) {
+        InscricaoEntity inscricao = inscricaoRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Inscrição não encontrada com ID: " + id));
+        if (inscricao.getStatus() != StatusInscricao.LISTA_ESPERA) {
+            throw new RuntimeException("A inscrição não está na lista de espera (status: " + inscricao.getStatus() + ")");
+        }
+
+        Long categoriaId = inscricao.getCategoria().getId();
+        long aFrente = inscricaoRepository.countAFrenteNaListaEspera(categoriaId, inscricao.getDataInscricao(), id);
+        return PosicaoListaEsperaDTO.builder()
+                .inscricaoId(id)
+                .categoriaId(categoriaId)
+                .posicao(aFrente + 1)
+                .totalNaLista(inscricaoRepository.countListaEspera(categoriaId))
+                .dataInscricao(inscricao.getDataInscricao())
+                .build();
+    }
+
+    private void registrarMudancaDeStatus(InscricaoEntity inscricao, StatusInscricao statusAnterior) {
+        Long categoriaId = inscricao.getCategoria().getId();
+        vagaService.inscricaoAlterada(inscricao, categoriaId, statusAnterior);
+        contadorService.inscricaoAlterada(inscricao.getEvento().getId(), categoriaId, statusAnterior,
+                categoriaId, inscricao.getStatus());
+    }
+
     @Transactional(readOnly = true)
     public long countByEventoIdAndStatus(Long eventoId, StatusInscricao status) {
         return inscricaoRepository.countByEventoIdAndStatus(eventoId, status);
@@ -170,20 +232,24 @@ public class InscricaoService implements IInscricaoService {
     }
 
     // Métodos de conversão
+    /**
+     * Dados de atleta, equipe, usuário e pagamento só são carregados se pedidos em ?fields= (ver CamposUtil)
+     */
     private InscricaoResponseDTO convertToResponseDTO(InscricaoEntity inscricao) {
-        List<AtletaSummaryDTO> atletasDTO = inscricao.getAtleta() != null 
+        List<AtletaSummaryDTO> atletasDTO = CamposUtil.seSolicitado("atletas", () -> inscricao.getAtleta() != null
                 ? List.of(convertAtletaToSummaryDTO(inscricao.getAtleta()))
-                : List.of();
+                : List.<AtletaSummaryDTO>of());
 
         return InscricaoResponseDTO.builder()
                 .id(inscricao.getId())
                 .atletas(atletasDTO)
                 .eventoId(inscricao.getEvento() != null ? inscricao.getEvento().getId() : null)
-                .nomeEvento(inscricao.getNomeEvento())
+                .nomeEvento(CamposUtil.seSolicitado("nomeEvento", inscricao::getNomeEvento))
                 .categoriaId(inscricao.getCategoria() != null ? inscricao.getCategoria().getId() : null)
-                .nomeCategoria(inscricao.getNomeCategoria())
+                .nomeCategoria(CamposUtil.seSolicitado("nomeCategoria", inscricao::getNomeCategoria))
                 .equipeId(inscricao.getEquipe() != null ? inscricao.getEquipe().getId() : null)
-                .nomeEquipe(inscricao.getEquipe() != null ? inscricao.getEquipe().getNome() : null)
+                .nomeEquipe(CamposUtil.seSolicitado("nomeEquipe",
+                        () -> inscricao.getEquipe() != null ? inscricao.getEquipe().getNome() : null))
                 .status(inscricao.getStatus())
                 .descricaoStatus(inscricao.getDescricaoStatus())
                 .valor(inscricao.getValor())
@@ -202,31 +268,31 @@ public class InscricaoService implements IInscricaoService {
                 .precisaPagamento(inscricao.precisaPagamento())
                 .ativa(inscricao.isAtiva())
                 .tipoInscricao(inscricao.getTipoInscricao())
-                .numeroParticipantes(inscricao.getNumeroParticipantes())
-                .nomeParticipante(inscricao.getNomeParticipante())
+                .numeroParticipantes(CamposUtil.seSolicitado("numeroParticipantes", inscricao::getNumeroParticipantes))
+                .nomeParticipante(CamposUtil.seSolicitado("nomeParticipante", inscricao::getNomeParticipante))
                 .usuarioInscricaoId(inscricao.getUsuarioInscricao() != null ? inscricao.getUsuarioInscricao().getId() : null)
-                .nomeUsuarioInscricao(inscricao.getNomeUsuarioInscricao())
-                .temPagamento(inscricao.getPagamento() != null)
+                .nomeUsuarioInscricao(CamposUtil.seSolicitado("nomeUsuarioInscricao", inscricao::getNomeUsuarioInscricao))
+                .temPagamento(CamposUtil.seSolicitado("temPagamento", () -> inscricao.getPagamento() != null))
                 .build();
     }
 
-    private InscricaoSummaryDTO convertToSummaryDTO(InscricaoEntity inscricao) {
+    private InscricaoSummaryDTO convertToSummaryDTO(InscricaoSummaryProjection inscricao) {
         return InscricaoSummaryDTO.builder()
-                .id(inscricao.getId())
-                .nomeEvento(inscricao.getNomeEvento())
-                .nomeCategoria(inscricao.getNomeCategoria())
-                .nomeEquipe(inscricao.getEquipe() != null ? inscricao.getEquipe().getNome() : null)
-                .status(inscricao.getStatus())
+                .id(inscricao.id())
+                .nomeEvento(inscricao.nomeEvento() != null ? inscricao.nomeEvento() : "")
+                .nomeCategoria(inscricao.nomeCategoria() != null ? inscricao.nomeCategoria() : "")
+                .nomeEquipe(inscricao.nomeEquipe())
+                .status(inscricao.status())
                 .descricaoStatus(inscricao.getDescricaoStatus())
                 .valorTotal(inscricao.getValorTotal())
-                .dataInscricao(inscricao.getDataInscricao())
-                .dataConfirmacao(inscricao.getDataConfirmacao())
+                .dataInscricao(inscricao.dataInscricao())
+                .dataConfirmacao(inscricao.dataConfirmacao())
                 .tipoInscricao(inscricao.getTipoInscricao())
                 .numeroParticipantes(inscricao.getNumeroParticipantes())
                 .nomeParticipante(inscricao.getNomeParticipante())
-                .ativa(inscricao.isAtiva())
-                .podeSerCancelada(inscricao.podeSerCancelada())
-                .precisaPagamento(inscricao.precisaPagamento())
+                .ativa(inscricao.status().isAtiva())
+                .podeSerCancelada(inscricao.status().podeCancelar())
+                .precisaPagamento(inscricao.status().podePagar())
                 .build();
     }
 
@@ -8,6 +8,7 @@ import org.springframework.core.io.Resource;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,6 +34,11 @@ public interface IAnexoService {
      */
     Resource baixarArquivo(Long anexoId) throws IOException;
     
+    /**
+     * Escreve um ZIP com os anexos informados diretamente na saída
+     */
+    void escreverZip(List<AnexoEntity> anexos, OutputStream saida) throws IOException;
+    
     /**
      * Atualiza descrição de um anexo
      */
@@ -53,6 +59,11 @@ public interface IAnexoService {
      */
     void removerAnexoPermanentemente(Long anexoId) throws IOException;
     
+    /**
+     * Remove blobs que não são mais referenciados por nenhum anexo
+     */
+    void coletarBlobsNaoReferenciados();
+    
     /**
      * Busca anexos por tipo (imagens, documentos, etc.)
      */
@@ -1,6 +1,7 @@
 package br.com.eventsports.minha_inscricao.service.Interfaces;
 
 import br.com.eventsports.minha_inscricao.dto.atleta.*;
+import br.com.eventsports.minha_inscricao.dto.paginacao.PaginaCursorDTO;
 import br.com.eventsports.minha_inscricao.entity.AtletaEntity;
 import br.com.eventsports.minha_inscricao.entity.UsuarioEntity;
 import br.com.eventsports.minha_inscricao.enums.Genero;
@@ -14,7 +15,12 @@ public interface IAtletaService {
     
     Optional<AtletaEntity> findEntityById(Long id);
     
-    List<AtletaSummaryDTO> findAll();
+    /**
+     * Lista atletas paginados por cursor (ordem de nome)
+     * @param after cursor opaco retornado pela página anterior (null para a primeira página)
+     * @param limit quantidade máxima de itens
+     */
+    PaginaCursorDTO<AtletaSummaryDTO> findAll(String after, Integer limit);
     
     AtletaResponseDTO save(AtletaCreateDTO atletaCreateDTO);
     
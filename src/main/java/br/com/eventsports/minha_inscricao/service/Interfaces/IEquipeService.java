@@ -1,6 +1,7 @@
 package br.com.eventsports.minha_inscricao.service.Interfaces;
 
 import br.com.eventsports.minha_inscricao.dto.equipe.*;
+import br.com.eventsports.minha_inscricao.dto.paginacao.PaginaCursorDTO;
 
 import java.util.List;
 
@@ -8,7 +9,12 @@ public interface IEquipeService {
     
     EquipeResponseDTO findById(Long id);
     
-    List<EquipeSummaryDTO> findAll();
+    /**
+     * Lista equipes paginados por cursor (ordem de nome)
+     * @param after cursor opaco retornado pela página anterior (null para a primeira página)
+     * @param limit quantidade máxima de itens
+     */
+    PaginaCursorDTO<EquipeSummaryDTO> findAll(String after, Integer limit);
     
     EquipeResponseDTO save(EquipeCreateDTO equipeCreateDTO);
     
@@ -1,6 +1,7 @@
 package br.com.eventsports.minha_inscricao.service.Interfaces;
 
 import br.com.eventsports.minha_inscricao.dto.evento.*;
+import br.com.eventsports.minha_inscricao.dto.paginacao.PaginaCursorDTO;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -9,7 +10,12 @@ public interface IEventoService {
     
     EventoResponseDTO findById(Long id);
     
-    List<EventoSummaryDTO> findAll();
+    /**
+     * Lista eventos paginados por cursor (ordem de ID)
+     * @param after cursor opaco retornado pela página anterior (null para a primeira página)
+     * @param limit quantidade máxima de itens
+     */
+    PaginaCursorDTO<EventoSummaryDTO> findAll(String after, Integer limit);
     
     EventoResponseDTO save(EventoCreateDTO eventoCreateDTO);
     
@@ -19,9 +25,20 @@ public interface IEventoService {
     
     List<EventoSummaryDTO> findByNome(String nome);
     
-    List<EventoSummaryDTO> findEventosUpcoming();
+    PaginaCursorDTO<EventoSummaryDTO> findEventosUpcoming(String after, Integer limit);
+    
+    /**
+     * Lista eventos futuros a até raioKm da localização, ordenados por data de início (paginação por cursor)
+     * @param latitude latitude da localização de referência
+     * @param longitude longitude da localização de referência
+     * @param raioKm raio da busca em km (null para o padrão)
+     * @param after cursor opaco retornado pela página anterior (null para a primeira página)
+     * @param limit quantidade máxima de itens
+     */
+    PaginaCursorDTO<EventoProximoDTO> findProximos(Double latitude, Double longitude, Double raioKm,
+            String after, Integer limit);
     
-    List<EventoSummaryDTO> findEventosPast();
+    PaginaCursorDTO<EventoSummaryDTO> findEventosPast(String after, Integer limit);
     
     List<EventoSummaryDTO> findEventosByDataBetween(LocalDateTime inicio, LocalDateTime fim);
     
@@ -33,6 +50,14 @@ public interface IEventoService {
      */
     EventoResponseDTO changeStatus(Long eventoId, StatusChangeDTO statusChangeDTO);
     
+    /**
+     * Transfere o evento para outro organizador, recalculando o tipo dos dois usuários.
+     * @param eventoId ID do evento
+     * @param novoOrganizadorId ID do usuário que passa a organizar o evento
+     * @return EventoResponseDTO com os dados atualizados
+     */
+    EventoResponseDTO transferirOrganizador(Long eventoId, Long novoOrganizadorId);
+    
     /**
      * Valida se o usuário logado é o organizador do evento.
      * @param eventoId ID do evento
@@ -0,0 +1,20 @@
+package br.com.eventsports.minha_inscricao.service.Interfaces;
+
+import br.com.eventsports.minha_inscricao.dto.evento.Coordenadas;
+
+import java.util.Optional;
+
+/**
+ * Converte o local de um evento em coordenadas.
+ * A implementação é escolhida pela propriedade app.geocodificacao.provedor (padrão: offline).
+ */
+public interface IGeocodificadorService {
+
+    /**
+     * @param endereco endereço (pode ser null)
+     * @param cidade cidade (pode ser null)
+     * @param estado UF ou nome do estado (pode ser null)
+     * @return coordenadas do local, ou vazio se não for possível localizá-lo
+     */
+    Optional<Coordenadas> geocodificar(String endereco, String cidade, String estado);
+}
@@ -1,6 +1,7 @@
 package br.com.eventsports.minha_inscricao.service.Interfaces;
 
 import br.com.eventsports.minha_inscricao.dto.inscricao.*;
+import br.com.eventsports.minha_inscricao.dto.paginacao.PaginaCursorDTO;
 import br.com.eventsports.minha_inscricao.enums.StatusInscricao;
 
 import java.util.List;
@@ -9,26 +10,30 @@ public interface IInscricaoService {
     
     InscricaoResponseDTO findById(Long id);
     
-    List<InscricaoSummaryDTO> findAll();
+    /**
+     * Métodos de listagem paginados por cursor, em ordem de data de inscrição.
+     * O parâmetro after é o cursor opaco da página anterior (null para a primeira página).
+     */
+    PaginaCursorDTO<InscricaoSummaryDTO> findAll(String after, Integer limit);
     
     
     InscricaoResponseDTO update(Long id, InscricaoUpdateDTO inscricaoUpdateDTO);
     
     void deleteById(Long id);
     
-    List<InscricaoSummaryDTO> findByEventoId(Long eventoId);
+    PaginaCursorDTO<InscricaoSummaryDTO> findByEventoId(Long eventoId, String after, Integer limit);
     
-    List<InscricaoSummaryDTO> findByCategoriaId(Long categoriaId);
+    PaginaCursorDTO<InscricaoSummaryDTO> findByCategoriaId(Long categoriaId, String after, Integer limit);
     
     List<InscricaoSummaryDTO> findByEquipeId(Long equipeId);
     
-    List<InscricaoSummaryDTO> findByStatus(StatusInscricao status);
+    PaginaCursorDTO<InscricaoSummaryDTO> findByStatus(StatusInscricao status, String after, Integer limit);
     
-    List<InscricaoSummaryDTO> findInscricoesConfirmadas();
+    PaginaCursorDTO<InscricaoSummaryDTO> findInscricoesConfirmadas(String after, Integer limit);
     
-    List<InscricaoSummaryDTO> findInscricoesPendentes();
+    PaginaCursorDTO<InscricaoSummaryDTO> findInscricoesPendentes(String after, Integer limit);
     
-    List<InscricaoSummaryDTO> findInscricoesCanceladas();
+    PaginaCursorDTO<InscricaoSummaryDTO> findInscricoesCanceladas(String after, Integer limit);
     
     InscricaoResponseDTO confirmar(Long id);
     
@@ -36,6 +41,11 @@ public interface IInscricaoService {
     
     InscricaoResponseDTO colocarEmListaEspera(Long id);
     
+    /**
+     * Posição da inscrição na lista de espera da categoria (por ordem de inscrição)
+     */
+    PosicaoListaEsperaDTO posicaoNaListaEspera(Long id);
+    
     long countByEventoIdAndStatus(Long eventoId, StatusInscricao status);
     
     long countByCategoriaIdAndStatus(Long categoriaId, StatusInscricao status);
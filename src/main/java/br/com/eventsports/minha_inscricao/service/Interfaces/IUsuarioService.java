@@ -1,5 +1,6 @@
 package br.com.eventsports.minha_inscricao.service.Interfaces;
 
+import br.com.eventsports.minha_inscricao.dto.paginacao.PaginaCursorDTO;
 import br.com.eventsports.minha_inscricao.dto.usuario.*;
 import br.com.eventsports.minha_inscricao.entity.UsuarioEntity;
 import br.com.eventsports.minha_inscricao.enums.TipoUsuario;
@@ -19,7 +20,12 @@ public interface IUsuarioService {
     
     Page<UsuarioSummaryDTO> listarAtivos(Pageable pageable);
     
-    List<UsuarioSummaryDTO> listarPorTipo(TipoUsuario tipo);
+    /**
+     * Lista usuários ativos de um tipo paginados por cursor (ordem de nome)
+     * @param after cursor opaco retornado pela página anterior (null para a primeira página)
+     * @param limit quantidade máxima de itens
+     */
+    PaginaCursorDTO<UsuarioSummaryDTO> listarPorTipo(TipoUsuario tipo, String after, Integer limit);
     
     Page<UsuarioSummaryDTO> buscarPorNome(String nome, Pageable pageable);
     
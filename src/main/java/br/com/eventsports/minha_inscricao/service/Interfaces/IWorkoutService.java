@@ -1,6 +1,7 @@
 package br.com.eventsports.minha_inscricao.service.Interfaces;
 
 import br.com.eventsports.minha_inscricao.dto.workout.*;
+import br.com.eventsports.minha_inscricao.dto.paginacao.PaginaCursorDTO;
 
 import java.util.List;
 
@@ -8,7 +9,12 @@ public interface IWorkoutService {
     
     WorkoutResponseDTO findById(Long id);
     
-    List<WorkoutSummaryDTO> findAll();
+    /**
+     * Lista workouts paginados por cursor (ordem de nome)
+     * @param after cursor opaco retornado pela página anterior (null para a primeira página)
+     * @param limit quantidade máxima de itens
+     */
+    PaginaCursorDTO<WorkoutSummaryDTO> findAll(String after, Integer limit);
     
     WorkoutResponseDTO save(WorkoutCreateDTO workoutCreateDTO);
     
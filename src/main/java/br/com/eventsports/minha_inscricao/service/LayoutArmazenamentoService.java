@@ -0,0 +1,106 @@
+package br.com.eventsports.minha_inscricao.service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+
+import br.com.eventsports.minha_inscricao.config.ArmazenamentoConfig;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Define onde os arquivos enviados ficam em disco.
+ * No layout fragmentado cada arquivo vai para subdiretórios derivados do hash do seu nome
+ * (ex.: base/3f/a2/nome.ext), evitando diretórios com centenas de milhares de entradas.
+ * A leitura aceita tanto o layout fragmentado quanto o layout plano antigo (base/nome.ext).
+ */
+@Service
+@RequiredArgsConstructor
+public class LayoutArmazenamentoService {
+
+    private final ArmazenamentoConfig armazenamentoConfig;
+
+    /**
+     * Retorna o caminho onde um novo arquivo deve ser gravado, criando os subdiretórios necessários
+     */
+    public Path resolverParaGravacao(Path diretorioBase, String nomeArquivo) throws IOException {
+        Path caminho = caminhoNoLayoutAtual(diretorioBase, nomeArquivo);
+        Files.createDirectories(caminho.getParent());
+        return caminho;
+    }
+
+    /**
+     * Localiza um arquivo existente, procurando primeiro no layout fragmentado e depois no plano
+     */
+    public Optional<Path> localizar(Path diretorioBase, String nomeArquivo) {
+        validarNome(nomeArquivo);
+
+        Path fragmentado = fragmentar(diretorioBase, nomeArquivo);
+        if (Files.exists(fragmentado)) {
+            return Optional.of(fragmentado);
+        }
+
+        Path plano = diretorioBase.resolve(nomeArquivo);
+        if (Files.exists(plano)) {
+            return Optional.of(plano);
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Caminho do arquivo no layout configurado (fragmentado ou plano)
+     */
+    public Path caminhoNoLayoutAtual(Path diretorioBase, String nomeArquivo) {
+        validarNome(nomeArquivo);
+        if (!armazenamentoConfig.isLayoutFragmentado()) {
+            return diretorioBase.resolve(nomeArquivo);
+        }
+        return fragmentar(diretorioBase, nomeArquivo);
+    }
+
+    /**
+     * Verifica se o arquivo já está na posição definida pelo layout configurado
+     */
+    public boolean estaNoLayoutAtual(Path diretorioBase, Path arquivo) {
+        Path esperado = caminhoNoLayoutAtual(diretorioBase, arquivo.getFileName().toString());
+        return esperado.toAbsolutePath().normalize().equals(arquivo.toAbsolutePath().normalize());
+    }
+
+    private Path fragmentar(Path diretorioBase, String nomeArquivo) {
+        String hash = hashHex(nomeArquivo);
+        int caracteres = armazenamentoConfig.getCaracteresPorNivel();
+
+        Path caminho = diretorioBase;
+        for (int nivel = 0; nivel < armazenamentoConfig.getNiveis(); nivel++) {
+            caminho = caminho.resolve(hash.substring(nivel * caracteres, (nivel + 1) * caracteres));
+        }
+        return caminho.resolve(nomeArquivo);
+    }
+
+    private void validarNome(String nomeArquivo) {
+        if (nomeArquivo == null || nomeArquivo.isBlank()
+                || nomeArquivo.contains("/") || nomeArquivo.contains("\\") || nomeArquivo.contains("..")) {
+            throw new IllegalArgumentException("Nome de arquivo inválido: " + nomeArquivo);
+        }
+    }
+
+    private String hashHex(String valor) {
+        try {
+            // MD5 apenas para distribuição uniforme entre diretórios (não é uso criptográfico)
+            byte[] hash = MessageDigest.getInstance("MD5").digest(valor.getBytes(StandardCharsets.UTF_8));
+            StringBuilder sb = new StringBuilder();
+            for (byte b : hash) {
+                sb.append(String.format("%02x", b));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Algoritmo MD5 indisponível", e);
+        }
+    }
+}
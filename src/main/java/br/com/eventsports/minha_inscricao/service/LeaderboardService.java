@@ -12,6 +12,7 @@ import br.com.eventsports.minha_inscricao.repository.EventoRepository;
 import br.com.eventsports.minha_inscricao.repository.LeaderboardRepository;
 import br.com.eventsports.minha_inscricao.repository.WorkoutRepository;
 import br.com.eventsports.minha_inscricao.service.Interfaces.ILeaderboardService;
+import br.com.eventsports.minha_inscricao.util.CamposUtil;
 import br.com.eventsports.minha_inscricao.service.Interfaces.IPontuacaoService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.Cacheable;
@@ -100,23 +101,28 @@ public class LeaderboardService implements ILeaderboardService {
 
     // Métodos de conversão
 
+    /**
+     * Evento, categoria, workout e participante só são carregados se pedidos em ?fields= (ver CamposUtil)
+     */
     private LeaderboardResponseDTO convertToResponseDTO(LeaderboardEntity leaderboard) {
         return LeaderboardResponseDTO.builder()
                 .id(leaderboard.getId())
                 .posicaoWorkout(leaderboard.getPosicaoWorkout())
                 .finalizado(leaderboard.getFinalizado())
-                .evento(convertEventoToSimpleDTO(leaderboard.getEvento()))
-                .categoria(convertCategoriaToSimpleDTO(leaderboard.getCategoria()))
-                .workout(convertWorkoutToSimpleDTO(leaderboard.getWorkout()))
-                .equipe(leaderboard.getEquipe() != null ? convertEquipeToSimpleDTO(leaderboard.getEquipe()) : null)
-                .atleta(leaderboard.getAtleta() != null ? convertAtletaToSimpleDTO(leaderboard.getAtleta()) : null)
+                .evento(CamposUtil.seSolicitado("evento", () -> convertEventoToSimpleDTO(leaderboard.getEvento())))
+                .categoria(CamposUtil.seSolicitado("categoria", () -> convertCategoriaToSimpleDTO(leaderboard.getCategoria())))
+                .workout(CamposUtil.seSolicitado("workout", () -> convertWorkoutToSimpleDTO(leaderboard.getWorkout())))
+                .equipe(CamposUtil.seSolicitado("equipe",
+                        () -> leaderboard.getEquipe() != null ? convertEquipeToSimpleDTO(leaderboard.getEquipe()) : null))
+                .atleta(CamposUtil.seSolicitado("atleta",
+                        () -> leaderboard.getAtleta() != null ? convertAtletaToSimpleDTO(leaderboard.getAtleta()) : null))
                 .resultadoReps(leaderboard.getResultadoReps())
                 .resultadoPeso(leaderboard.getResultadoPeso())
                 .resultadoTempo(leaderboard.formatarTempo(leaderboard.getResultadoTempoSegundos()))
                 .resultadoTempoSegundos(leaderboard.getResultadoTempoSegundos())
-                .resultadoFormatado(leaderboard.getResultadoFormatado())
-                .nomeParticipante(leaderboard.getNomeParticipante())
-                .isCategoriaEquipe(leaderboard.isCategoriaEquipe())
+                .resultadoFormatado(CamposUtil.seSolicitado("resultadoFormatado", leaderboard::getResultadoFormatado))
+                .nomeParticipante(CamposUtil.seSolicitado("nomeParticipante", leaderboard::getNomeParticipante))
+                .isCategoriaEquipe(CamposUtil.seSolicitado("isCategoriaEquipe", leaderboard::isCategoriaEquipe))
                 .temResultado(leaderboard.temResultado())
                 .isPodioWorkout(leaderboard.isPodioWorkout())
                 .medalhaWorkout(leaderboard.getMedalhaWorkout())
@@ -0,0 +1,208 @@
+package br.com.eventsports.minha_inscricao.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.eventsports.minha_inscricao.config.ArmazenamentoConfig;
+import br.com.eventsports.minha_inscricao.config.ArquivoConfig;
+import br.com.eventsports.minha_inscricao.config.ImagemConfig;
+import br.com.eventsports.minha_inscricao.entity.AnexoBlobEntity;
+import br.com.eventsports.minha_inscricao.entity.AnexoEntity;
+import br.com.eventsports.minha_inscricao.repository.AnexoBlobRepository;
+import br.com.eventsports.minha_inscricao.repository.AnexoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Migração online dos arquivos do layout plano para o layout fragmentado.
+ * Processa em lotes, cada um na sua transação; o arquivo é vinculado (ou copiado) no novo
+ * caminho antes de o banco ser atualizado e o original só é removido após o commit, de modo
+ * que os dois layouts permanecem legíveis durante toda a execução. Pode ser reexecutada.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MigracaoLayoutArmazenamentoService {
+
+    private final AnexoBlobRepository anexoBlobRepository;
+    private final AnexoRepository anexoRepository;
+    private final ArquivoConfig arquivoConfig;
+    private final ImagemConfig imagemConfig;
+    private final ArmazenamentoConfig armazenamentoConfig;
+    private final LayoutArmazenamentoService layoutArmazenamento;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Migra blobs, anexos antigos e imagens de eventos para o layout configurado
+     */
+    public RelatorioMigracaoLayout migrar() throws IOException {
+        log.info("Iniciando migração de layout de armazenamento");
+        RelatorioMigracaoLayout relatorio = new RelatorioMigracaoLayout();
+
+        migrarBlobs(relatorio);
+        migrarAnexosSemBlob(relatorio);
+        migrarImagens(relatorio);
+
+        log.info("Migração de layout concluída: {}", relatorio);
+        return relatorio;
+    }
+
+    private void migrarBlobs(RelatorioMigracaoLayout relatorio) {
+        Path base = Paths.get(arquivoConfig.getDiretorioUpload());
+        long ultimoId = 0L;
+
+        while (true) {
+            long aPartirDe = ultimoId;
+            List<Path> arquivosAntigos = new ArrayList<>();
+
+            List<AnexoBlobEntity> lote = transactionTemplate.execute(status -> {
+                List<AnexoBlobEntity> blobs = anexoBlobRepository.findByIdGreaterThanOrderByIdAsc(
+                        aPartirDe, PageRequest.of(0, armazenamentoConfig.getTamanhoLoteMigracao()));
+
+                for (AnexoBlobEntity blob : blobs) {
+                    Path novoCaminho = moverParaLayoutAtual(base, Paths.get(blob.getCaminhoArquivo()),
+                            arquivosAntigos, relatorio);
+                    if (novoCaminho != null) {
+                        anexoBlobRepository.updateCaminhoArquivo(blob.getId(), novoCaminho.toString());
+                        anexoRepository.updateCaminhoArquivoByBlobId(blob.getId(), novoCaminho.toString());
+                        relatorio.blobsMigrados++;
+                    }
+                }
+                return blobs;
+            });
+
+            removerArquivosAntigos(arquivosAntigos);
+
+            if (lote == null || lote.isEmpty()) {
+                return;
+            }
+            ultimoId = lote.get(lote.size() - 1).getId();
+        }
+    }
+
+    private void migrarAnexosSemBlob(RelatorioMigracaoLayout relatorio) {
+        Path base = Paths.get(arquivoConfig.getDiretorioUpload());
+        long ultimoId = 0L;
+
+        while (true) {
+            long aPartirDe = ultimoId;
+            List<Path> arquivosAntigos = new ArrayList<>();
+
+            List<AnexoEntity> lote = transactionTemplate.execute(status -> {
+                List<AnexoEntity> anexos = anexoRepository.findSemBlobAposId(
+                        aPartirDe, PageRequest.of(0, armazenamentoConfig.getTamanhoLoteMigracao()));
+
+                for (AnexoEntity anexo : anexos) {
+                    Path novoCaminho = moverParaLayoutAtual(base, Paths.get(anexo.getCaminhoArquivo()),
+                            arquivosAntigos, relatorio);
+                    if (novoCaminho != null) {
+                        anexoRepository.updateCaminhoArquivo(anexo.getId(), novoCaminho.toString());
+                        relatorio.anexosMigrados++;
+                    }
+                }
+                return anexos;
+            });
+
+            removerArquivosAntigos(arquivosAntigos);
+
+            if (lote == null || lote.isEmpty()) {
+                return;
+            }
+            ultimoId = lote.get(lote.size() - 1).getId();
+        }
+    }
+
+    /**
+     * Imagens de eventos: a URL gravada em imagemUrl contém só o nome do arquivo e o subdiretório
+     * é derivado dele, então basta mover os arquivos do diretório raiz
+     */
+    private void migrarImagens(RelatorioMigracaoLayout relatorio) throws IOException {
+        Path base = Paths.get(imagemConfig.getDiretorioUpload()).toAbsolutePath().normalize();
+        if (!Files.isDirectory(base)) {
+            return;
+        }
+
+        List<Path> arquivosRaiz;
+        try (Stream<Path> arquivos = Files.list(base)) {
+            arquivosRaiz = arquivos.filter(Files::isRegularFile).toList();
+        }
+
+        for (Path origem : arquivosRaiz) {
+            if (layoutArmazenamento.estaNoLayoutAtual(base, origem)) {
+                continue;
+            }
+            Path destino = layoutArmazenamento.resolverParaGravacao(base, origem.getFileName().toString());
+            if (!Files.exists(destino)) {
+                vincularOuCopiar(origem, destino);
+            }
+            Files.deleteIfExists(origem);
+            relatorio.imagensMigradas++;
+        }
+    }
+
+    /**
+     * Disponibiliza o arquivo no caminho do layout atual e retorna o novo caminho,
+     * ou null se não houver nada a migrar
+     */
+    private Path moverParaLayoutAtual(Path base, Path atual, List<Path> arquivosAntigos,
+            RelatorioMigracaoLayout relatorio) {
+        if (layoutArmazenamento.estaNoLayoutAtual(base, atual)) {
+            return null;
+        }
+
+        try {
+            Path destino = layoutArmazenamento.resolverParaGravacao(base, atual.getFileName().toString());
+            if (!Files.exists(destino)) {
+                if (!Files.exists(atual)) {
+                    log.warn("Arquivo não encontrado durante migração de layout: {}", atual);
+                    relatorio.arquivosAusentes++;
+                    return null;
+                }
+                vincularOuCopiar(atual, destino);
+            }
+            arquivosAntigos.add(atual);
+            return destino;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erro ao migrar arquivo " + atual, e);
+        }
+    }
+
+    private void vincularOuCopiar(Path origem, Path destino) throws IOException {
+        try {
+            // Hard link: instantâneo e sem duplicar bytes quando origem e destino estão no mesmo volume
+            Files.createLink(destino, origem);
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(origem, destino, StandardCopyOption.COPY_ATTRIBUTES);
+        }
+    }
+
+    private void removerArquivosAntigos(List<Path> arquivosAntigos) {
+        for (Path arquivo : arquivosAntigos) {
+            try {
+                Files.deleteIfExists(arquivo);
+            } catch (IOException e) {
+                log.warn("Não foi possível remover arquivo antigo {}: {}", arquivo, e.getMessage());
+            }
+        }
+    }
+
+    // Classe interna para o resultado da migração
+    @lombok.Data
+    public static class RelatorioMigracaoLayout {
+        private long blobsMigrados;
+        private long anexosMigrados;
+        private long imagensMigradas;
+        private long arquivosAusentes;
+    }
+}
@@ -0,0 +1,78 @@
+package br.com.eventsports.minha_inscricao.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.eventsports.minha_inscricao.config.InscricaoAssincronaConfig;
+import br.com.eventsports.minha_inscricao.entity.OutboxEventoEntity;
+import br.com.eventsports.minha_inscricao.enums.TipoEventoOutbox;
+import br.com.eventsports.minha_inscricao.repository.OutboxEventoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Outbox transacional: o evento é gravado na transação da mudança (se ela não confirmar, o evento
+ * não existe) e publicado depois, em ordem, para os @EventListener de OutboxEventoEntity.
+ * A entrega é "pelo menos uma vez": se um listener falhar, o lote volta e é republicado.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxService {
+
+    private final OutboxEventoRepository outboxEventoRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final InscricaoAssincronaConfig inscricaoAssincronaConfig;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Registra o evento na transação corrente
+     */
+    public void registrar(TipoEventoOutbox tipo, Long agregadoId, Long eventoId, Map<String, ?> dados) {
+        try {
+            outboxEventoRepository.save(OutboxEventoEntity.builder()
+                    .tipo(tipo)
+                    .agregadoId(agregadoId)
+                    .eventoId(eventoId)
+                    .payload(dados != null ? objectMapper.writeValueAsString(dados) : null)
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Erro ao serializar evento do outbox " + tipo + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.inscricao-assincrona.intervalo-outbox-ms:2000}")
+    public void publicar() {
+        List<OutboxEventoEntity> pendentes = outboxEventoRepository.findPendentesParaPublicar(
+                inscricaoAssincronaConfig.getTamanhoLoteOutbox());
+        if (pendentes.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime agora = LocalDateTime.now();
+        for (OutboxEventoEntity evento : pendentes) {
+            applicationEventPublisher.publishEvent(evento);
+            evento.setProcessadoEm(agora);
+        }
+        log.debug("{} evento(s) do outbox publicado(s)", pendentes.size());
+    }
+
+    @Scheduled(cron = "${app.inscricao-assincrona.cron-limpeza:0 45 3 * * *}")
+    public void removerProcessados() {
+        int removidos = outboxEventoRepository.removerProcessadosAntesDe(
+                LocalDateTime.now().minusDays(inscricaoAssincronaConfig.getDiasRetencao()));
+        if (removidos > 0) {
+            log.info("{} evento(s) do outbox já publicado(s) removido(s)", removidos);
+        }
+    }
+}
@@ -0,0 +1,319 @@
+package br.com.eventsports.minha_inscricao.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import br.com.eventsports.minha_inscricao.config.ArmazenamentoConfig;
+import br.com.eventsports.minha_inscricao.config.ArquivoConfig;
+import br.com.eventsports.minha_inscricao.config.ImagemConfig;
+import br.com.eventsports.minha_inscricao.entity.AnexoEntity;
+import br.com.eventsports.minha_inscricao.entity.EventoEntity;
+import br.com.eventsports.minha_inscricao.repository.AnexoBlobRepository;
+import br.com.eventsports.minha_inscricao.repository.AnexoRepository;
+import br.com.eventsports.minha_inscricao.repository.EventoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reconcilia os diretórios de upload com o banco:
+ * - arquivos em disco sem referência em anexos/anexo_blobs/eventos.imagem_url (órfãos)
+ *   são movidos para quarentena, removidos ou apenas reportados, conforme configuração;
+ * - registros que apontam para arquivos inexistentes (referências pendentes) são reportados.
+ * Os diretórios são percorridos em streaming e consultados no banco em lotes, com pausa entre
+ * lotes, sem carregar a lista completa de arquivos em memória.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReconciliacaoArmazenamentoService {
+
+    private final AnexoRepository anexoRepository;
+    private final AnexoBlobRepository anexoBlobRepository;
+    private final EventoRepository eventoRepository;
+    private final ArquivoConfig arquivoConfig;
+    private final ImagemConfig imagemConfig;
+    private final ArmazenamentoConfig armazenamentoConfig;
+    private final LayoutArmazenamentoService layoutArmazenamento;
+
+    private final AtomicBoolean emExecucao = new AtomicBoolean(false);
+    private volatile RelatorioReconciliacao ultimoRelatorio;
+
+    /**
+     * Executa a reconciliação completa (agendada e sob demanda)
+     */
+    @Scheduled(cron = "${app.armazenamento.cron-reconciliacao:0 0 4 * * *}")
+    public RelatorioReconciliacao reconciliar() {
+        if (!emExecucao.compareAndSet(false, true)) {
+            throw new IllegalStateException("Reconciliação de armazenamento já está em execução");
+        }
+
+        try {
+            log.info("Iniciando reconciliação de armazenamento (ação para órfãos: {})",
+                    armazenamentoConfig.getAcaoOrfaos());
+            RelatorioReconciliacao relatorio = new RelatorioReconciliacao();
+            relatorio.setInicio(LocalDateTime.now());
+
+            Path quarentena = Paths.get(armazenamentoConfig.getDiretorioQuarentena()).toAbsolutePath().normalize();
+            varrerDiretorio(Paths.get(arquivoConfig.getDiretorioUpload()), "anexos",
+                    this::filtrarAnexosReferenciados, quarentena, relatorio);
+            varrerDiretorio(Paths.get(imagemConfig.getDiretorioUpload()), "imagens",
+                    this::filtrarImagensReferenciadas, quarentena, relatorio);
+
+            verificarAnexosSemArquivo(relatorio);
+            verificarEventosSemImagem(relatorio);
+
+            relatorio.setFim(LocalDateTime.now());
+            ultimoRelatorio = relatorio;
+            log.info("Reconciliação concluída: {} arquivo(s) verificado(s), {} órfão(s), {} anexo(s) e {} evento(s) com arquivo ausente",
+                    relatorio.getArquivosVerificados(), relatorio.getOrfaosEncontrados(),
+                    relatorio.getAnexosSemArquivo(), relatorio.getEventosSemImagem());
+            return relatorio;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erro ao percorrer diretórios de upload", e);
+        } finally {
+            emExecucao.set(false);
+        }
+    }
+
+    /**
+     * Retorna o relatório da última reconciliação concluída, se houver
+     */
+    public RelatorioReconciliacao getUltimoRelatorio() {
+        return ultimoRelatorio;
+    }
+
+    private void varrerDiretorio(Path base, String area, Function<List<Path>, Set<Path>> filtroReferenciados,
+            Path quarentena, RelatorioReconciliacao relatorio) throws IOException {
+        if (!Files.isDirectory(base)) {
+            return;
+        }
+
+        Instant limiteIdade = Instant.now().minus(Duration.ofMinutes(armazenamentoConfig.getIdadeMinimaOrfaoMinutos()));
+        List<Path> lote = new ArrayList<>();
+
+        Files.walkFileTree(base, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path diretorio, BasicFileAttributes atributos) {
+                return diretorio.toAbsolutePath().normalize().startsWith(quarentena)
+                        ? FileVisitResult.SKIP_SUBTREE
+                        : FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path arquivo, BasicFileAttributes atributos) {
+                relatorio.arquivosVerificados++;
+                // Arquivos recentes podem pertencer a um upload cuja transação ainda não terminou
+                if (atributos.isRegularFile() && atributos.lastModifiedTime().toInstant().isBefore(limiteIdade)) {
+                    lote.add(arquivo);
+                }
+                if (lote.size() >= armazenamentoConfig.getTamanhoLoteReconciliacao()) {
+                    processarLote(base, area, lote, filtroReferenciados, quarentena, relatorio);
+                    lote.clear();
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path arquivo, IOException e) {
+                log.warn("Não foi possível ler {} durante a reconciliação: {}", arquivo, e.getMessage());
+                return FileVisitResult.CONTINUE;
+            }
+        });
+
+        if (!lote.isEmpty()) {
+            processarLote(base, area, lote, filtroReferenciados, quarentena, relatorio);
+        }
+    }
+
+    private void processarLote(Path base, String area, List<Path> lote,
+            Function<List<Path>, Set<Path>> filtroReferenciados, Path quarentena, RelatorioReconciliacao relatorio) {
+        Set<Path> referenciados = filtroReferenciados.apply(lote);
+
+        for (Path arquivo : lote) {
+            if (referenciados.contains(arquivo)) {
+                continue;
+            }
+            relatorio.orfaosEncontrados++;
+            adicionarLimitado(relatorio.getArquivosOrfaos(), arquivo.toString());
+            tratarOrfao(base, area, arquivo, quarentena, relatorio);
+        }
+
+        pausarEntreLotes();
+    }
+
+    /**
+     * Consulta em lote quais arquivos do diretório de anexos estão gravados em anexos ou blobs
+     */
+    private Set<Path> filtrarAnexosReferenciados(List<Path> lote) {
+        // O caminho pode ter sido gravado relativo (como configurado) ou absoluto
+        Map<String, Path> porCaminho = new HashMap<>();
+        for (Path arquivo : lote) {
+            porCaminho.put(arquivo.toString(), arquivo);
+            porCaminho.put(arquivo.toAbsolutePath().normalize().toString(), arquivo);
+        }
+
+        Set<Path> referenciados = new HashSet<>();
+        anexoRepository.findCaminhosReferenciados(porCaminho.keySet())
+                .forEach(caminho -> referenciados.add(porCaminho.get(caminho)));
+        anexoBlobRepository.findCaminhosReferenciados(porCaminho.keySet())
+                .forEach(caminho -> referenciados.add(porCaminho.get(caminho)));
+        return referenciados;
+    }
+
+    /**
+     * Consulta em lote quais arquivos do diretório de imagens estão gravados em eventos.imagem_url
+     */
+    private Set<Path> filtrarImagensReferenciadas(List<Path> lote) {
+        Map<String, Path> porUrl = new HashMap<>();
+        for (Path arquivo : lote) {
+            porUrl.put(imagemConfig.getUrlBase() + arquivo.getFileName(), arquivo);
+        }
+
+        Set<Path> referenciados = new HashSet<>();
+        eventoRepository.findImagemUrlsReferenciadas(porUrl.keySet())
+                .forEach(url -> referenciados.add(porUrl.get(url)));
+        return referenciados;
+    }
+
+    private void tratarOrfao(Path base, String area, Path arquivo, Path quarentena, RelatorioReconciliacao relatorio) {
+        try {
+            switch (armazenamentoConfig.getAcaoOrfaos()) {
+                case QUARENTENA -> {
+                    Path destino = quarentena.resolve(area).resolve(base.relativize(arquivo));
+                    Files.createDirectories(destino.getParent());
+                    Files.move(arquivo, destino, StandardCopyOption.REPLACE_EXISTING);
+                    relatorio.orfaosEmQuarentena++;
+                }
+                case REMOVER -> {
+                    Files.deleteIfExists(arquivo);
+                    relatorio.orfaosRemovidos++;
+                }
+                case RELATORIO -> {
+                    // Apenas reportado
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Não foi possível tratar arquivo órfão {}: {}", arquivo, e.getMessage());
+            relatorio.falhas++;
+        }
+    }
+
+    private void verificarAnexosSemArquivo(RelatorioReconciliacao relatorio) {
+        Path base = Paths.get(arquivoConfig.getDiretorioUpload());
+        long ultimoId = 0L;
+
+        while (true) {
+            List<AnexoEntity> lote = anexoRepository.findByIdGreaterThanOrderByIdAsc(
+                    ultimoId, PageRequest.of(0, armazenamentoConfig.getTamanhoLoteReconciliacao()));
+            if (lote.isEmpty()) {
+                return;
+            }
+
+            for (AnexoEntity anexo : lote) {
+                if (!arquivoExiste(base, Paths.get(anexo.getCaminhoArquivo()))) {
+                    relatorio.anexosSemArquivo++;
+                    adicionarLimitado(relatorio.getIdsAnexosSemArquivo(), anexo.getId());
+                }
+            }
+
+            ultimoId = lote.get(lote.size() - 1).getId();
+            pausarEntreLotes();
+        }
+    }
+
+    private void verificarEventosSemImagem(RelatorioReconciliacao relatorio) {
+        Path base = Paths.get(imagemConfig.getDiretorioUpload()).toAbsolutePath().normalize();
+        String urlBase = imagemConfig.getUrlBase();
+        long ultimoId = 0L;
+
+        while (true) {
+            List<EventoEntity> lote = eventoRepository.findComImagemAposId(
+                    ultimoId, PageRequest.of(0, armazenamentoConfig.getTamanhoLoteReconciliacao()));
+            if (lote.isEmpty()) {
+                return;
+            }
+
+            for (EventoEntity evento : lote) {
+                String imagemUrl = evento.getImagemUrl();
+                // URLs externas não são de responsabilidade do armazenamento local
+                if (imagemUrl.startsWith(urlBase)
+                        && !arquivoExiste(base, base.resolve(imagemUrl.substring(urlBase.length())))) {
+                    relatorio.eventosSemImagem++;
+                    adicionarLimitado(relatorio.getIdsEventosSemImagem(), evento.getId());
+                }
+            }
+
+            ultimoId = lote.get(lote.size() - 1).getId();
+            pausarEntreLotes();
+        }
+    }
+
+    private boolean arquivoExiste(Path base, Path caminho) {
+        if (Files.exists(caminho)) {
+            return true;
+        }
+        try {
+            return layoutArmazenamento.localizar(base, caminho.getFileName().toString()).isPresent();
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private <T> void adicionarLimitado(List<T> lista, T item) {
+        if (lista.size() < armazenamentoConfig.getLimiteItensRelatorio()) {
+            lista.add(item);
+        }
+    }
+
+    private void pausarEntreLotes() {
+        long pausa = armazenamentoConfig.getPausaEntreLotesMs();
+        if (pausa <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pausa);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Reconciliação de armazenamento interrompida", e);
+        }
+    }
+
+    // Classe interna para o resultado da reconciliação
+    @lombok.Data
+    public static class RelatorioReconciliacao {
+        private LocalDateTime inicio;
+        private LocalDateTime fim;
+        private long arquivosVerificados;
+        private long orfaosEncontrados;
+        private long orfaosEmQuarentena;
+        private long orfaosRemovidos;
+        private long falhas;
+        private long anexosSemArquivo;
+        private long eventosSemImagem;
+        private List<String> arquivosOrfaos = new ArrayList<>();
+        private List<Long> idsAnexosSemArquivo = new ArrayList<>();
+        private List<Long> idsEventosSemImagem = new ArrayList<>();
+    }
+}
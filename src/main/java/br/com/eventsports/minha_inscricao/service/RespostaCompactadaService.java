@@ -0,0 +1,181 @@
+package br.com.eventsports.minha_inscricao.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.eventsports.minha_inscricao.config.CamposResponseBodyAdvice;
+import br.com.eventsports.minha_inscricao.config.CompressaoConfig;
+import br.com.eventsports.minha_inscricao.config.FormatosBinariosConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Monta respostas grandes (ex.: ranking da categoria) já serializadas e compactadas.
+ * O formato vem do Accept (JSON, CBOR ou Smile) e o gzip do Accept-Encoding, a partir do limiar configurado.
+ * O ETag é o hash do corpo serializado: If-None-Match igual recebe 304 e o corpo compactado fica em cache
+ * por ETag, então um ranking que não mudou é compactado uma única vez (sem precisar de invalidação).
+ * Com Content-Encoding já definido, a compressão do servidor não compacta o corpo de novo.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RespostaCompactadaService {
+
+    private static final String GZIP = "gzip";
+
+    private final ObjectMapper objectMapper;
+    private final MappingJackson2CborHttpMessageConverter cborHttpMessageConverter;
+    private final MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter;
+    private final CamposResponseBodyAdvice camposResponseBodyAdvice;
+    private final CompressaoConfig compressaoConfig;
+
+    private final Map<String, byte[]> compactados = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, byte[]> maisAntigo) {
+                    return size() > compressaoConfig.getMaxCorposEmCache();
+                }
+            });
+
+    private enum Formato {
+        JSON(MediaType.APPLICATION_JSON),
+        CBOR(MediaType.APPLICATION_CBOR),
+        SMILE(FormatosBinariosConfig.APPLICATION_SMILE);
+
+        private final MediaType tipo;
+
+        Formato(MediaType tipo) {
+            this.tipo = tipo;
+        }
+    }
+
+    public ResponseEntity<byte[]> responder(Object corpo, HttpHeaders requisicao) {
+        Formato formato = negociar(requisicao.getAccept());
+        byte[] serializado = serializar(formato, camposResponseBodyAdvice.aplicarSelecao(corpo));
+        String etag = "W/\"" + formato.name().toLowerCase() + "-" + resumo(serializado) + "\"";
+
+        if (requisicao.getIfNoneMatch().stream().anyMatch(valor -> valor.equals(etag) || valor.equals("*"))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder resposta = ResponseEntity.ok()
+                .contentType(formato.tipo)
+                .eTag(etag)
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+
+        if (serializado.length < compressaoConfig.getLimiarBytes() || !aceitaGzip(requisicao)) {
+            return resposta.body(serializado);
+        }
+
+        byte[] compactado = compactados.get(etag);
+        if (compactado == null) {
+            compactado = compactar(serializado);
+            compactados.put(etag, compactado);
+            log.debug("Corpo {} compactado: {} -> {} bytes", etag, serializado.length, compactado.length);
+        }
+        return resposta.header(HttpHeaders.CONTENT_ENCODING, GZIP).body(compactado);
+    }
+
+    /**
+     * Primeiro formato suportado na ordem de preferência do Accept; JSON quando nenhum casa
+     */
+    private static Formato negociar(List<MediaType> aceitos) {
+        List<MediaType> ordenados = new ArrayList<>(aceitos);
+        ordenados.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType aceito : ordenados) {
+            for (Formato formato : Formato.values()) {
+                if (aceito.getQualityValue() > 0 && aceito.includes(formato.tipo)) {
+                    return formato;
+                }
+            }
+        }
+        return Formato.JSON;
+    }
+
+    private byte[] serializar(Formato formato, Object corpo) {
+        ObjectMapper mapper = switch (formato) {
+            case JSON -> objectMapper;
+            case CBOR -> cborHttpMessageConverter.getObjectMapper();
+            case SMILE -> smileHttpMessageConverter.getObjectMapper();
+        };
+        try {
+            return mapper.writeValueAsBytes(corpo);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Erro ao serializar resposta em " + formato + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Aceita gzip se listado (ou por "*") sem q=0
+     */
+    private static boolean aceitaGzip(HttpHeaders requisicao) {
+        for (String valor : requisicao.getOrEmpty(HttpHeaders.ACCEPT_ENCODING)) {
+            for (String codificacao : valor.split(",")) {
+                String[] partes = codificacao.trim().split(";");
+                String nome = partes[0].trim();
+                if ((nome.equalsIgnoreCase(GZIP) || nome.equals("*")) && !qualidadeZero(partes)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean qualidadeZero(String[] partes) {
+        for (int i = 1; i < partes.length; i++) {
+            String parametro = partes[i].trim().replace(" ", "");
+            if (parametro.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parametro.substring(2)) == 0;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static byte[] compactar(byte[] dados) {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream(Math.max(64, dados.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(saida)) {
+            gzip.write(dados);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return saida.toByteArray();
+    }
+
+    private static String resumo(byte[] dados) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(dados);
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+}
@@ -0,0 +1,310 @@
+package br.com.eventsports.minha_inscricao.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import br.com.eventsports.minha_inscricao.config.SalaEsperaConfig;
+import br.com.eventsports.minha_inscricao.dto.salaespera.StatusSalaEsperaDTO;
+import br.com.eventsports.minha_inscricao.enums.SituacaoSalaEspera;
+import br.com.eventsports.minha_inscricao.exception.AdmissaoNegadaException;
+import br.com.eventsports.minha_inscricao.repository.BuscaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sala de espera (controle de admissão) das inscrições.
+ * Cada cliente recebe um ticket na fila FIFO do evento e é admitido quando há vaga no orçamento global de
+ * admissões simultâneas; admitido, recebe um token de curta duração exigido pelos endpoints de inscrição.
+ * O orçamento soma todos os eventos e sai do pool de conexões, então as transações de inscrição ficam
+ * limitadas ao que o banco sustenta mesmo com vários eventos abertos ao mesmo tempo. Entre eventos, a
+ * próxima vaga vai para o ticket mais antigo.
+ * A fila fica em memória (uma instância da aplicação); consultar a situação não acessa o banco.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SalaEsperaService {
+
+    public static final String HEADER_TOKEN_ADMISSAO = "X-Token-Admissao";
+
+    private static final int CONSULTA_MINIMA_SEGUNDOS = 2;
+    private static final int CONSULTA_MAXIMA_SEGUNDOS = 30;
+
+    private final SalaEsperaConfig config;
+    private final BuscaRepository buscaRepository;
+
+    @Value("${spring.datasource.hikari.maximum-pool-size:10}")
+    private int tamanhoPool;
+
+    /**
+     * Todas as filas sob o mesmo lock: o orçamento é compartilhado e as operações são só em memória
+     */
+    private final Object lock = new Object();
+    private final Map<Long, FilaEvento> filas = new HashMap<>();
+    private long proximaChegada = 1;
+
+    /**
+     * Entra na fila do evento; o mesmo usuário mantém o ticket que já tem
+     */
+    public StatusSalaEsperaDTO entrar(Long eventoId, String usuario) {
+        synchronized (lock) {
+            if (filas.containsKey(eventoId)) {
+                return entrarNaFila(eventoId, usuario);
+            }
+        }
+        if (buscaRepository.findStatusEvento(eventoId).isEmpty()) {
+            throw new IllegalArgumentException("Evento não encontrado com ID: " + eventoId);
+        }
+        synchronized (lock) {
+            return entrarNaFila(eventoId, usuario);
+        }
+    }
+
+    private StatusSalaEsperaDTO entrarNaFila(Long eventoId, String usuario) {
+        LocalDateTime agora = LocalDateTime.now();
+        FilaEvento fila = filas.computeIfAbsent(eventoId, id -> new FilaEvento());
+        Ticket ticket = fila.entrar(usuario, agora, proximaChegada++);
+        admitir(agora);
+        return status(eventoId, fila, ticket);
+    }
+
+    /**
+     * Situação do ticket; cada consulta também mantém o ticket vivo na fila
+     */
+    public StatusSalaEsperaDTO consultar(Long eventoId, String ticketId) {
+        synchronized (lock) {
+            FilaEvento fila = filas.get(eventoId);
+            Ticket ticket = fila != null ? fila.porId.get(ticketId) : null;
+            if (ticket == null) {
+                throw new IllegalArgumentException("Ticket não encontrado ou expirado; entre novamente na sala de espera");
+            }
+            LocalDateTime agora = LocalDateTime.now();
+            ticket.ultimaConsulta = agora;
+            admitir(agora);
+            return status(eventoId, fila, ticket);
+        }
+    }
+
+    /**
+     * Valida o token de admissão e o marca em uso (um pedido de inscrição por vez por token)
+     */
+    public void exigirAdmissao(Long eventoId, String tokenAdmissao) {
+        if (!config.isHabilitada()) {
+            return;
+        }
+        if (tokenAdmissao == null) {
+            throw new AdmissaoNegadaException("Inscrição exige token de admissão; entre na sala de espera do evento");
+        }
+        synchronized (lock) {
+            FilaEvento fila = filas.get(eventoId);
+            Ticket ticket = fila != null ? fila.admitidos.get(tokenAdmissao) : null;
+            if (ticket == null || ticket.admissaoExpiraEm.isBefore(LocalDateTime.now())) {
+                throw new AdmissaoNegadaException("Token de admissão inválido ou expirado; entre na sala de espera do evento");
+            }
+            if (ticket.emUso) {
+                throw new AdmissaoNegadaException("Já existe uma inscrição em andamento com este token de admissão");
+            }
+            ticket.emUso = true;
+        }
+    }
+
+    /**
+     * Fim do pedido de inscrição: concluída, a admissão é consumida e passa para o próximo da fila;
+     * com erro, o token continua válido até expirar para o cliente corrigir e tentar de novo
+     */
+    public void finalizarUso(Long eventoId, String tokenAdmissao, boolean concluida) {
+        if (!config.isHabilitada() || tokenAdmissao == null) {
+            return;
+        }
+        synchronized (lock) {
+            FilaEvento fila = filas.get(eventoId);
+            Ticket ticket = fila != null ? fila.admitidos.get(tokenAdmissao) : null;
+            if (ticket == null) {
+                return;
+            }
+            ticket.emUso = false;
+            if (concluida) {
+                fila.remover(ticket);
+                admitir(LocalDateTime.now());
+            }
+        }
+    }
+
+    /**
+     * Devolve admissões vencidas, admite os próximos e descarta filas vazias
+     */
+    @Scheduled(fixedDelayString = "${app.sala-espera.intervalo-manutencao-ms:5000}")
+    public void manter() {
+        synchronized (lock) {
+            admitir(LocalDateTime.now());
+            filas.values().removeIf(FilaEvento::vazia);
+        }
+    }
+
+    /**
+     * Admissões simultâneas somando todos os eventos: o configurado ou, sem configuração,
+     * o pool de conexões menos as reservadas para o restante da aplicação
+     */
+    private int orcamentoAdmissoes() {
+        if (config.getAdmissoesSimultaneas() > 0) {
+            return config.getAdmissoesSimultaneas();
+        }
+        return Math.max(1, tamanhoPool - config.getConexoesReservadas());
+    }
+
+    /**
+     * Libera admissões vencidas em todas as filas e, enquanto houver orçamento, admite o ticket que chegou
+     * primeiro entre as cabeças das filas. Tickets abandonados são pulados sem consumir admissão.
+     * Chamado sempre sob o lock.
+     */
+    private void admitir(LocalDateTime agora) {
+        int emAdmissao = 0;
+        for (FilaEvento fila : filas.values()) {
+            fila.liberarVencidas(agora);
+            emAdmissao += fila.admitidos.size();
+        }
+
+        LocalDateTime limiteAbandono = agora.minusSeconds(config.getAbandonoSegundos());
+        int orcamento = orcamentoAdmissoes();
+        while (emAdmissao < orcamento) {
+            FilaEvento proxima = null;
+            Ticket maisAntigo = null;
+            for (FilaEvento fila : filas.values()) {
+                Ticket primeiro = fila.primeiroAtivo(limiteAbandono);
+                if (primeiro != null && (maisAntigo == null || primeiro.chegada < maisAntigo.chegada)) {
+                    proxima = fila;
+                    maisAntigo = primeiro;
+                }
+            }
+            if (proxima == null) {
+                return;
+            }
+            proxima.admitirPrimeiro(agora, config.getValidadeAdmissaoSegundos());
+            emAdmissao++;
+        }
+    }
+
+    private StatusSalaEsperaDTO status(Long eventoId, FilaEvento fila, Ticket ticket) {
+        StatusSalaEsperaDTO.StatusSalaEsperaDTOBuilder status = StatusSalaEsperaDTO.builder()
+                .eventoId(eventoId)
+                .ticket(ticket.id);
+
+        if (ticket.tokenAdmissao != null) {
+            return status.situacao(SituacaoSalaEspera.ADMITIDO)
+                    .tokenAdmissao(ticket.tokenAdmissao)
+                    .admissaoExpiraEm(ticket.admissaoExpiraEm)
+                    .build();
+        }
+
+        long posicao = fila.posicao(ticket);
+        // Quem está longe da vez consulta com menos frequência
+        long rodadas = posicao / orcamentoAdmissoes();
+        int intervalo = (int) Math.min(CONSULTA_MAXIMA_SEGUNDOS, CONSULTA_MINIMA_SEGUNDOS + rodadas);
+        return status.situacao(SituacaoSalaEspera.AGUARDANDO)
+                .posicao(posicao)
+                .consultarNovamenteEmSegundos(intervalo)
+                .build();
+    }
+
+    private static final class Ticket {
+        private final String id = UUID.randomUUID().toString();
+        private final long numero;
+        private final long chegada;
+        private final String usuario;
+        private LocalDateTime ultimaConsulta;
+        private String tokenAdmissao;
+        private LocalDateTime admissaoExpiraEm;
+        private boolean emUso;
+
+        private Ticket(long numero, long chegada, String usuario, LocalDateTime agora) {
+            this.numero = numero;
+            this.chegada = chegada;
+            this.usuario = usuario;
+            this.ultimaConsulta = agora;
+        }
+    }
+
+    /**
+     * Fila de um evento; todo acesso acontece sob o lock do serviço
+     */
+    private static final class FilaEvento {
+        private final Deque<Ticket> aguardando = new ArrayDeque<>();
+        private final Map<String, Ticket> porId = new HashMap<>();
+        private final Map<String, Ticket> porUsuario = new HashMap<>();
+        private final Map<String, Ticket> admitidos = new HashMap<>();
+        private long proximoNumero = 1;
+
+        Ticket entrar(String usuario, LocalDateTime agora, long chegada) {
+            Ticket existente = porUsuario.get(usuario);
+            if (existente != null) {
+                existente.ultimaConsulta = agora;
+                return existente;
+            }
+            Ticket ticket = new Ticket(proximoNumero++, chegada, usuario, agora);
+            aguardando.addLast(ticket);
+            porId.put(ticket.id, ticket);
+            porUsuario.put(usuario, ticket);
+            return ticket;
+        }
+
+        void liberarVencidas(LocalDateTime agora) {
+            Iterator<Ticket> vencidos = admitidos.values().iterator();
+            while (vencidos.hasNext()) {
+                Ticket ticket = vencidos.next();
+                if (!ticket.emUso && ticket.admissaoExpiraEm.isBefore(agora)) {
+                    vencidos.remove();
+                    porId.remove(ticket.id);
+                    porUsuario.remove(ticket.usuario, ticket);
+                }
+            }
+        }
+
+        /**
+         * Primeiro da fila que ainda consulta; os abandonados à frente são descartados
+         */
+        Ticket primeiroAtivo(LocalDateTime limiteAbandono) {
+            Ticket primeiro = aguardando.peekFirst();
+            while (primeiro != null && primeiro.ultimaConsulta.isBefore(limiteAbandono)) {
+                aguardando.pollFirst();
+                porId.remove(primeiro.id);
+                porUsuario.remove(primeiro.usuario, primeiro);
+                primeiro = aguardando.peekFirst();
+            }
+            return primeiro;
+        }
+
+        void admitirPrimeiro(LocalDateTime agora, int validadeSegundos) {
+            Ticket ticket = aguardando.pollFirst();
+            ticket.tokenAdmissao = UUID.randomUUID().toString();
+            ticket.admissaoExpiraEm = agora.plusSeconds(validadeSegundos);
+            admitidos.put(ticket.tokenAdmissao, ticket);
+        }
+
+        void remover(Ticket ticket) {
+            admitidos.remove(ticket.tokenAdmissao);
+            porId.remove(ticket.id);
+            porUsuario.remove(ticket.usuario, ticket);
+        }
+
+        /**
+         * Posição a partir do primeiro da fila do evento (aproximada: abandonados à frente ainda contam)
+         */
+        long posicao(Ticket ticket) {
+            Ticket primeiro = aguardando.peekFirst();
+            return primeiro == null ? 1 : ticket.numero - primeiro.numero + 1;
+        }
+
+        boolean vazia() {
+            return aguardando.isEmpty() && admitidos.isEmpty();
+        }
+    }
+}
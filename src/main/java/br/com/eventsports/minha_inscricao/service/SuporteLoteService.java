@@ -0,0 +1,100 @@
+package br.com.eventsports.minha_inscricao.service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import br.com.eventsports.minha_inscricao.util.RelatorioCsv;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Apoio comum aos processamentos em lote (importação, conciliação, inscrições assíncronas): relatórios CSV
+ * das linhas recusadas, com download pelo id e retenção limitada, e limpeza dos caches que o lote
+ * deixou desatualizados. O arquivo do relatório é {prefixo}-{id}.csv no diretório de cada processamento
+ * (só {id}.csv sem prefixo); o id é um UUID, validado antes de virar caminho.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SuporteLoteService {
+
+    private final CacheManager cacheManager;
+
+    /**
+     * Relatório novo, com id aleatório; o arquivo só é criado na primeira linha
+     */
+    public RelatorioCsv novoRelatorio(String diretorio, String prefixo, String cabecalho) {
+        String relatorioId = UUID.randomUUID().toString();
+        return new RelatorioCsv(relatorioId, arquivo(diretorio, prefixo, relatorioId), cabecalho);
+    }
+
+    /**
+     * Arquivo do relatório, se o id for um UUID e o arquivo ainda existir
+     */
+    public Optional<Path> buscarRelatorio(String diretorio, String prefixo, String relatorioId) {
+        try {
+            if (!UUID.fromString(relatorioId).toString().equals(relatorioId)) {
+                return Optional.empty();
+            }
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        Path arquivo = arquivo(diretorio, prefixo, relatorioId);
+        return Files.isRegularFile(arquivo) ? Optional.of(arquivo) : Optional.empty();
+    }
+
+    /**
+     * Remove do diretório os relatórios mais antigos que a retenção
+     */
+    public void removerRelatoriosAntigos(String diretorio, int horasRetencao) {
+        Path caminho = Paths.get(diretorio);
+        if (!Files.isDirectory(caminho)) {
+            return;
+        }
+        Instant limite = Instant.now().minus(Duration.ofHours(horasRetencao));
+        try (Stream<Path> arquivos = Files.list(caminho)) {
+            arquivos.filter(arquivo -> modificadoAntesDe(arquivo, limite)).forEach(arquivo -> {
+                try {
+                    Files.deleteIfExists(arquivo);
+                } catch (IOException e) {
+                    log.warn("Não foi possível remover o relatório {}: {}", arquivo, e.getMessage());
+                }
+            });
+        } catch (IOException e) {
+            log.warn("Erro ao limpar relatórios de {}: {}", diretorio, e.getMessage());
+        }
+    }
+
+    public void limparCaches(String... nomes) {
+        for (String nome : nomes) {
+            Cache cache = cacheManager.getCache(nome);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+    }
+
+    private static Path arquivo(String diretorio, String prefixo, String relatorioId) {
+        String nome = prefixo != null ? prefixo + "-" + relatorioId : relatorioId;
+        return Paths.get(diretorio).resolve(nome + ".csv");
+    }
+
+    private static boolean modificadoAntesDe(Path arquivo, Instant limite) {
+        try {
+            return Files.getLastModifiedTime(arquivo).toInstant().isBefore(limite);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
@@ -1,24 +1,26 @@
 package br.com.eventsports.minha_inscricao.service;
 
 import br.com.eventsports.minha_inscricao.dto.organizador.OrganizadorResponseDTO;
+import br.com.eventsports.minha_inscricao.dto.paginacao.PaginaCursorDTO;
 import br.com.eventsports.minha_inscricao.dto.usuario.*;
 import br.com.eventsports.minha_inscricao.entity.UsuarioEntity;
 import br.com.eventsports.minha_inscricao.enums.TipoUsuario;
 import br.com.eventsports.minha_inscricao.repository.UsuarioRepository;
 import br.com.eventsports.minha_inscricao.service.Interfaces.IUsuarioService;
+import br.com.eventsports.minha_inscricao.util.PaginacaoUtil;
 import br.com.eventsports.minha_inscricao.util.PasswordUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -170,20 +172,23 @@ public class UsuarioService implements IUsuarioService {
     }
 
     /**
-     * Lista usuários por tipo
+     * Lista usuários ativos por tipo, paginados por cursor (ordem de nome)
      */
     @Transactional(readOnly = true)
-    public List<UsuarioSummaryDTO> listarPorTipo(TipoUsuario tipo) {
+    public PaginaCursorDTO<UsuarioSummaryDTO> listarPorTipo(TipoUsuario tipo, String after, Integer limit) {
         log.debug("Listando usuários por tipo: {}", tipo);
         
-        return usuarioRepository.findByAtivoTrue()
-                .stream()
-                .filter(usuario -> {
-                    TipoUsuario tipoUsuario = usuario.getTipoUsuario();
-                    return tipoUsuario.equals(tipo);
-                })
-                .map(this::mapToSummaryDTO)
-                .collect(Collectors.toList());
+        int limite = PaginacaoUtil.normalizarLimite(limit);
+        PageRequest pagina = PageRequest.of(0, limite + 1);
+        List<UsuarioEntity> usuarios;
+        if (after == null) {
+            usuarios = usuarioRepository.findPrimeiraPaginaPorTipo(tipo, pagina);
+        } else {
+            PaginacaoUtil.Cursor cursor = PaginacaoUtil.decodificarCursor(after);
+            usuarios = usuarioRepository.findPaginaPorTipoApos(tipo, cursor.chave(), cursor.id(), pagina);
+        }
+        return PaginacaoUtil.montarPagina(usuarios, limite, this::mapToSummaryDTO,
+                usuario -> PaginacaoUtil.codificarCursor(usuario.getNome(), usuario.getId()));
     }
 
     /**
@@ -299,25 +304,29 @@ public class UsuarioService implements IUsuarioService {
     public UsuarioEstatisticasDTO obterEstatisticas() {
         log.debug("Obtendo estatísticas de usuários");
         
-        // Contar usuários por tipo usando lógica dinâmica
-        List<UsuarioEntity> usuariosAtivos = usuarioRepository.findByAtivoTrue();
-        Long totalAtletas = usuariosAtivos.stream()
-                .filter(usuario -> usuario.getTipoUsuario() == TipoUsuario.ATLETA)
-                .count();
-        Long totalOrganizadores = usuariosAtivos.stream()
-                .filter(usuario -> usuario.getTipoUsuario() == TipoUsuario.ORGANIZADOR)
-                .count();
-        Long totalGeral = totalAtletas + totalOrganizadores;
+        // Contar usuários ativos por tipo persistido (COUNT ... GROUP BY no banco)
+        long totalAtletas = 0;
+        long totalOrganizadores = 0;
+        for (Object[] linha : usuarioRepository.countAtivosPorTipo()) {
+            TipoUsuario tipo = (TipoUsuario) linha[0];
+            long total = ((Number) linha[1]).longValue();
+            if (tipo == TipoUsuario.ATLETA) {
+                totalAtletas = total;
+            } else if (tipo == TipoUsuario.ORGANIZADOR) {
+                totalOrganizadores = total;
+            }
+        }
+        long totalGeral = totalAtletas + totalOrganizadores;
         
         // Usuários com login recente (últimos 30 dias)
         LocalDateTime dataLimite = LocalDateTime.now().minusDays(30);
-        List<UsuarioEntity> usuariosRecentes = usuarioRepository.findUsuariosComLoginRecente(dataLimite);
+        long usuariosRecentes = usuarioRepository.countByUltimoLoginGreaterThanEqual(dataLimite);
         
         return UsuarioEstatisticasDTO.builder()
                 .totalUsuarios(totalGeral)
                 .totalAtletas(totalAtletas)
                 .totalOrganizadores(totalOrganizadores)
-                .usuariosAtivosUltimos30Dias((long) usuariosRecentes.size())
+                .usuariosAtivosUltimos30Dias(usuariosRecentes)
                 .build();
     }
 
@@ -371,7 +380,7 @@ public class UsuarioService implements IUsuarioService {
     // Métodos auxiliares de mapeamento
     private UsuarioResponseDTO mapToResponseDTO(UsuarioEntity usuario) {
         // Determinar características dinâmicas
-        boolean temEventos = usuario.getEventosOrganizados() != null && !usuario.getEventosOrganizados().isEmpty();
+        boolean temEventos = usuario.isOrganizador();
         boolean temInscricoes = usuario.getInscricoesCriadas() != null && !usuario.getInscricoesCriadas().isEmpty();
         int totalEventos = usuario.getEventosOrganizados() != null ? usuario.getEventosOrganizados().size() : 0;
         int totalInscricoes = usuario.getInscricoesCriadas() != null ? usuario.getInscricoesCriadas().size() : 0;
@@ -0,0 +1,217 @@
+package br.com.eventsports.minha_inscricao.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.com.eventsports.minha_inscricao.config.VagasConfig;
+import br.com.eventsports.minha_inscricao.entity.InscricaoEntity;
+import br.com.eventsports.minha_inscricao.enums.StatusInscricao;
+import br.com.eventsports.minha_inscricao.exception.VagasEsgotadasException;
+import br.com.eventsports.minha_inscricao.repository.CategoriaRepository;
+import br.com.eventsports.minha_inscricao.repository.ContadorCategoriaRepository;
+import br.com.eventsports.minha_inscricao.repository.InscricaoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Controla as vagas das categorias com limite.
+ * A reserva é um UPDATE condicional na linha de contadores da categoria (ocupa se houver vaga), na mesma
+ * transação da inscrição: não há "contar e depois inserir", então não há venda acima do limite, e a linha
+ * fica bloqueada só até o commit. Inscrições pendentes seguram a vaga até reservaExpiraEm; a expiração
+ * periódica marca as vencidas como EXPIRADA e devolve a vaga.
+ * Toda vaga devolvida (cancelamento, expiração, remoção, troca de categoria) promove, na mesma transação,
+ * a primeira inscrição da lista de espera da categoria, que passa a PENDENTE com novo prazo. Promoções que
+ * não acontecem nessa hora (candidata bloqueada por outra transação, vaga ocupada por outra inscrição) e
+ * vagas abertas pelo aumento do limite são preenchidas por preencherVagas, chamado pela edição da
+ * categoria e pela execução agendada.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+@Slf4j
+public class VagaService {
+
+    private final CategoriaRepository categoriaRepository;
+    private final ContadorCategoriaRepository contadorCategoriaRepository;
+    private final InscricaoRepository inscricaoRepository;
+    private final ContadorService contadorService;
+    private final VagasConfig vagasConfig;
+    private final CacheManager cacheManager;
+
+    /**
+     * Reserva a vaga de uma inscrição nova; chamar antes de salvá-la
+     */
+    public void reservar(InscricaoEntity inscricao) {
+        if (inscricao.getStatus() == null || inscricao.getStatus().ocupaVaga()) {
+            ocupar(inscricao.getCategoria().getId());
+        }
+        definirPrazo(inscricao, null);
+    }
+
+    /**
+     * Reserva as vagas de inscrições novas da mesma categoria (importação em lote), todas com status que
+     * ocupa vaga. Tenta o lote inteiro num único UPDATE; se não couber, ocupa uma a uma até lotar.
+     * Retorna as inscrições que conseguiram vaga, na ordem recebida.
+     */
+    public List<InscricaoEntity> reservarEmLote(Long categoriaId, List<InscricaoEntity> inscricoes) {
+        int quantidade = inscricoes.size();
+        int reservadas = 0;
+        if (contadorCategoriaRepository.reservarVagas(categoriaId, quantidade) > 0) {
+            reservadas = quantidade;
+        } else {
+            while (reservadas < quantidade && contadorCategoriaRepository.reservarVaga(categoriaId) > 0) {
+                reservadas++;
+            }
+        }
+
+        List<InscricaoEntity> aceitas = inscricoes.subList(0, reservadas);
+        aceitas.forEach(inscricao -> definirPrazo(inscricao, null));
+        return aceitas;
+    }
+
+    /**
+     * Mudança de status e/ou categoria de uma inscrição existente
+     */
+    public void inscricaoAlterada(InscricaoEntity inscricao, Long categoriaAnteriorId, StatusInscricao statusAnterior) {
+        Long categoriaId = inscricao.getCategoria().getId();
+        boolean mesmaCategoria = Objects.equals(categoriaAnteriorId, categoriaId);
+        boolean ocupavaAntes = statusAnterior != null && statusAnterior.ocupaVaga();
+        boolean ocupaAgora = inscricao.getStatus().ocupaVaga();
+
+        // Ocupa a nova vaga antes de liberar a anterior: se a categoria nova estiver lotada, nada muda
+        if (ocupaAgora && (!ocupavaAntes || !mesmaCategoria)) {
+            ocupar(categoriaId);
+        }
+        if (ocupavaAntes && (!ocupaAgora || !mesmaCategoria)) {
+            liberar(categoriaAnteriorId, inscricao.getId());
+        }
+        definirPrazo(inscricao, statusAnterior);
+    }
+
+    public void inscricaoRemovida(Long inscricaoId, Long categoriaId, StatusInscricao status) {
+        if (status != null && status.ocupaVaga()) {
+            liberar(categoriaId, inscricaoId);
+        }
+    }
+
+    /**
+     * Expira as reservas pendentes vencidas (execução agendada, um lote por vez)
+     */
+    @Scheduled(cron = "${app.vagas.cron-expiracao:0 * * * * *}")
+    public void expirarReservas() {
+        List<InscricaoEntity> vencidas = inscricaoRepository.findReservasExpiradasParaProcessar(
+                LocalDateTime.now(), vagasConfig.getTamanhoLoteExpiracao());
+        if (vencidas.isEmpty()) {
+            return;
+        }
+
+        for (InscricaoEntity inscricao : vencidas) {
+            StatusInscricao statusAnterior = inscricao.getStatus();
+            Long categoriaId = inscricao.getCategoria().getId();
+            inscricao.expirar();
+            inscricaoAlterada(inscricao, categoriaId, statusAnterior);
+            contadorService.inscricaoAlterada(inscricao.getEvento().getId(), categoriaId, statusAnterior,
+                    categoriaId, inscricao.getStatus());
+        }
+        inscricaoRepository.saveAll(vencidas);
+
+        limparCacheInscricoes();
+        log.info("{} reserva(s) de vaga expirada(s)", vencidas.size());
+    }
+
+    /**
+     * Promove a lista de espera das categorias com vaga livre (execução agendada, um lote por vez)
+     */
+    @Scheduled(cron = "${app.vagas.cron-expiracao:0 * * * * *}")
+    public void promoverListasEspera() {
+        int restantes = vagasConfig.getTamanhoLoteExpiracao();
+        int promovidas = 0;
+        for (Long categoriaId : categoriaRepository.findIdsComVagaEListaEspera(restantes)) {
+            int daCategoria = preencherVagas(categoriaId, restantes - promovidas);
+            promovidas += daCategoria;
+            if (promovidas >= restantes) {
+                break;
+            }
+        }
+        if (promovidas > 0) {
+            log.info("{} inscrição(ões) promovida(s) da lista de espera pela execução agendada", promovidas);
+        }
+    }
+
+    /**
+     * Ocupa as vagas livres da categoria com a lista de espera, em ordem de inscrição, até lotar, a fila
+     * acabar ou atingir o máximo. Retorna quantas inscrições foram promovidas.
+     */
+    public int preencherVagas(Long categoriaId, int maximo) {
+        int promovidas = 0;
+        while (promovidas < maximo && promoverDaListaEspera(categoriaId, 0L)) {
+            promovidas++;
+        }
+        if (promovidas > 0) {
+            limparCacheInscricoes();
+        }
+        return promovidas;
+    }
+
+    /**
+     * Devolve a vaga e a repassa à primeira da lista de espera. A inscrição que liberou a vaga é ignorada
+     * (quem sai da vaga para a lista de espera não volta na mesma hora).
+     */
+    private void liberar(Long categoriaId, Long inscricaoId) {
+        contadorCategoriaRepository.liberarVaga(categoriaId);
+        if (promoverDaListaEspera(categoriaId, inscricaoId != null ? inscricaoId : 0L)) {
+            limparCacheInscricoes();
+        }
+    }
+
+    private boolean promoverDaListaEspera(Long categoriaId, Long ignorarId) {
+        InscricaoEntity proxima = inscricaoRepository.findProximaDaListaEsperaParaPromover(categoriaId, ignorarId)
+                .orElse(null);
+        // Sem fila, ou a vaga já foi ocupada por outra inscrição na mesma hora: a execução agendada tenta de novo
+        if (proxima == null || contadorCategoriaRepository.reservarVaga(categoriaId) == 0) {
+            return false;
+        }
+
+        StatusInscricao statusAnterior = proxima.getStatus();
+        proxima.promoverDaListaEspera();
+        definirPrazo(proxima, statusAnterior);
+        inscricaoRepository.save(proxima);
+        contadorService.inscricaoAlterada(proxima.getEvento().getId(), categoriaId, statusAnterior,
+                categoriaId, proxima.getStatus());
+        log.info("Inscrição {} promovida da lista de espera da categoria {}", proxima.getId(), categoriaId);
+        return true;
+    }
+
+    private void limparCacheInscricoes() {
+        Cache inscricoes = cacheManager.getCache("inscricoes");
+        if (inscricoes != null) {
+            inscricoes.clear();
+        }
+    }
+
+    private void ocupar(Long categoriaId) {
+        if (contadorCategoriaRepository.reservarVaga(categoriaId) == 0) {
+            throw new VagasEsgotadasException("Não há vagas disponíveis na categoria com ID: " + categoriaId);
+        }
+    }
+
+    /**
+     * Inscrição que passa a ficar pendente recebe novo prazo; fora de PENDENTE não há prazo
+     */
+    private void definirPrazo(InscricaoEntity inscricao, StatusInscricao statusAnterior) {
+        StatusInscricao status = inscricao.getStatus() != null ? inscricao.getStatus() : StatusInscricao.PENDENTE;
+        if (status != StatusInscricao.PENDENTE) {
+            inscricao.setReservaExpiraEm(null);
+        } else if (statusAnterior != StatusInscricao.PENDENTE) {
+            int minutos = vagasConfig.getMinutosReserva();
+            inscricao.setReservaExpiraEm(minutos > 0 ? LocalDateTime.now().plusMinutes(minutos) : null);
+        }
+    }
+}
@@ -16,6 +16,7 @@ import br.com.eventsports.minha_inscricao.dto.workout.WorkoutCreateDTO;
 import br.com.eventsports.minha_inscricao.dto.workout.WorkoutResponseDTO;
 import br.com.eventsports.minha_inscricao.dto.workout.WorkoutSummaryDTO;
 import br.com.eventsports.minha_inscricao.dto.workout.WorkoutUpdateDTO;
+import br.com.eventsports.minha_inscricao.dto.paginacao.PaginaCursorDTO;
 import br.com.eventsports.minha_inscricao.entity.CategoriaEntity;
 import br.com.eventsports.minha_inscricao.entity.EventoEntity;
 import br.com.eventsports.minha_inscricao.entity.WorkoutEntity;
@@ -23,6 +24,7 @@ import br.com.eventsports.minha_inscricao.repository.CategoriaRepository;
 import br.com.eventsports.minha_inscricao.repository.EventoRepository;
 import br.com.eventsports.minha_inscricao.repository.WorkoutRepository;
 import br.com.eventsports.minha_inscricao.service.Interfaces.IWorkoutService;
+import br.com.eventsports.minha_inscricao.util.PaginacaoUtil;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -33,6 +35,7 @@ public class WorkoutService implements IWorkoutService {
     private final WorkoutRepository workoutRepository;
     private final EventoRepository eventoRepository;
     private final CategoriaRepository categoriaRepository;
+    private final ContadorService contadorService;
 
     @Cacheable(value = "workouts", key = "#id")
     @Transactional(readOnly = true)
@@ -42,13 +45,18 @@ public class WorkoutService implements IWorkoutService {
         return convertToResponseDTO(workout);
     }
 
-    @Cacheable(value = "workouts", key = "'all'")
     @Transactional(readOnly = true)
-    public List<WorkoutSummaryDTO> findAll() {
-        List<WorkoutEntity> workouts = workoutRepository.findAll();
-        return workouts.stream()
-                .map(this::convertToSummaryDTO)
-                .collect(Collectors.toList());
+    public PaginaCursorDTO<WorkoutSummaryDTO> findAll(String after, Integer limit) {
+        int limite = PaginacaoUtil.normalizarLimite(limit);
+        List<WorkoutEntity> workouts;
+        if (after == null) {
+            workouts = workoutRepository.findPrimeiraPaginaPorNome(limite + 1);
+        } else {
+            PaginacaoUtil.Cursor cursor = PaginacaoUtil.decodificarCursor(after);
+            workouts = workoutRepository.findPaginaPorNomeApos(cursor.chave(), cursor.id(), limite + 1);
+        }
+        return PaginacaoUtil.montarPagina(workouts, limite, this::convertToSummaryDTO,
+                item -> PaginacaoUtil.codificarCursor(item.getNome(), item.getId()));
     }
 
     @CachePut(value = "workouts", key = "#result.id")
@@ -57,6 +65,7 @@ public class WorkoutService implements IWorkoutService {
         validateWorkoutData(workoutCreateDTO);
         WorkoutEntity workout = convertCreateDTOToEntity(workoutCreateDTO);
         WorkoutEntity savedWorkout = workoutRepository.save(workout);
+        contadorService.workoutAlterado(savedWorkout.getEvento().getId(), false, savedWorkout.getAtivo());
         return convertToResponseDTO(savedWorkout);
     }
 
@@ -67,8 +76,10 @@ public class WorkoutService implements IWorkoutService {
                 .orElseThrow(() -> new RuntimeException("Workout não encontrado com ID: " + id));
 
         validateWorkoutUpdateData(id, workoutUpdateDTO);
+        Boolean ativoAnterior = existingWorkout.getAtivo();
         updateWorkoutFromDTO(existingWorkout, workoutUpdateDTO);
         WorkoutEntity updatedWorkout = workoutRepository.save(existingWorkout);
+        contadorService.workoutAlterado(updatedWorkout.getEvento().getId(), ativoAnterior, updatedWorkout.getAtivo());
         return convertToResponseDTO(updatedWorkout);
     }
 
@@ -77,6 +88,7 @@ public class WorkoutService implements IWorkoutService {
         WorkoutEntity workout = workoutRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Workout não encontrado com ID: " + id));
         workoutRepository.delete(workout);
+        contadorService.workoutAlterado(workout.getEvento().getId(), workout.getAtivo(), false);
     }
 
     @Transactional(readOnly = true)
@@ -117,8 +129,10 @@ public class WorkoutService implements IWorkoutService {
     public WorkoutResponseDTO ativar(Long id) {
         WorkoutEntity workout = workoutRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Workout não encontrado com ID: " + id));
+        Boolean ativoAnterior = workout.getAtivo();
         workout.ativar();
         WorkoutEntity updatedWorkout = workoutRepository.save(workout);
+        contadorService.workoutAlterado(updatedWorkout.getEvento().getId(), ativoAnterior, updatedWorkout.getAtivo());
         return convertToResponseDTO(updatedWorkout);
     }
 
@@ -126,8 +140,10 @@ public class WorkoutService implements IWorkoutService {
     public WorkoutResponseDTO desativar(Long id) {
         WorkoutEntity workout = workoutRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Workout não encontrado com ID: " + id));
+        Boolean ativoAnterior = workout.getAtivo();
         workout.desativar();
         WorkoutEntity updatedWorkout = workoutRepository.save(workout);
+        contadorService.workoutAlterado(updatedWorkout.getEvento().getId(), ativoAnterior, updatedWorkout.getAtivo());
         return convertToResponseDTO(updatedWorkout);
     }
 
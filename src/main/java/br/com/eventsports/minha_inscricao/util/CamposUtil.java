@@ -0,0 +1,85 @@
+package br.com.eventsports.minha_inscricao.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Classe utilitária para seleção de campos da resposta (?fields=id,nome,evento.nome).
+ * A serialização é filtrada por CamposResponseBodyAdvice; os serviços usam solicitado/seSolicitado
+ * para não calcular (nem consultar) campos derivados que o cliente não pediu.
+ * Fora de uma requisição HTTP, ou sem o parâmetro, todos os campos são considerados solicitados.
+ */
+public class CamposUtil {
+
+    public static final String PARAMETRO = "fields";
+
+    /**
+     * Condição SpEL para não guardar em cache respostas calculadas só com parte dos campos
+     */
+    public static final String RESULTADO_PARCIAL = "T(br.com.eventsports.minha_inscricao.util.CamposUtil).selecaoAtiva()";
+
+    private static final String ATRIBUTO = CamposUtil.class.getName() + ".campos";
+
+    private CamposUtil() {
+        // Classe utilitária - construtor privado
+    }
+
+    /**
+     * Campos pedidos na requisição atual; vazio quando não há seleção
+     */
+    @SuppressWarnings("unchecked")
+    public static Optional<Set<String>> selecionados() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes atributos)) {
+            return Optional.empty();
+        }
+        HttpServletRequest request = atributos.getRequest();
+        Set<String> campos = (Set<String>) request.getAttribute(ATRIBUTO);
+        if (campos == null) {
+            String valor = request.getParameter(PARAMETRO);
+            campos = valor == null ? Collections.emptySet() : Arrays.stream(valor.split(","))
+                    .map(String::trim)
+                    .filter(campo -> !campo.isEmpty())
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            request.setAttribute(ATRIBUTO, campos);
+        }
+        return campos.isEmpty() ? Optional.empty() : Optional.of(campos);
+    }
+
+    public static boolean selecaoAtiva() {
+        return selecionados().isPresent();
+    }
+
+    /**
+     * Verifica se algum dos campos (ou um subcampo dele, ex.: "evento.nome" para "evento") foi pedido
+     */
+    public static boolean solicitado(String... campos) {
+        Optional<Set<String>> selecao = selecionados();
+        if (selecao.isEmpty()) {
+            return true;
+        }
+        for (String campo : campos) {
+            for (String pedido : selecao.get()) {
+                if (pedido.equals(campo) || pedido.startsWith(campo + ".")) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Calcula o valor apenas se o campo foi pedido (caso contrário retorna null)
+     */
+    public static <T> T seSolicitado(String campo, Supplier<T> valor) {
+        return solicitado(campo) ? valor.get() : null;
+    }
+}
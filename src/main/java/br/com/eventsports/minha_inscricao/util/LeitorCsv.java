@@ -0,0 +1,126 @@
+package br.com.eventsports.minha_inscricao.util;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Leitor de CSV em streaming: lê um registro por vez, sem carregar o arquivo em memória.
+ * O separador (vírgula ou ponto e vírgula, padrão das planilhas em português) é detectado no cabeçalho.
+ * Aceita campos entre aspas, com separador, aspas duplicadas e quebras de linha dentro deles.
+ */
+public class LeitorCsv implements Closeable {
+
+    /**
+     * Datas no formato das planilhas em português, aceitas ao lado do ISO (aaaa-MM-dd)
+     */
+    public static final DateTimeFormatter DATA_BR = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    private static final char BOM = '\uFEFF';
+
+    private final BufferedReader reader;
+    private char separador = ',';
+    private long linhaAtual = 1;
+    private long linhaRegistro;
+
+    public LeitorCsv(Reader reader) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+    }
+
+    /**
+     * Lê o cabeçalho e define o separador; null se o arquivo estiver vazio
+     */
+    public List<String> lerCabecalho() throws IOException {
+        String primeiraLinha = reader.readLine();
+        if (primeiraLinha == null) {
+            return null;
+        }
+        if (!primeiraLinha.isEmpty() && primeiraLinha.charAt(0) == BOM) {
+            primeiraLinha = primeiraLinha.substring(1);
+        }
+        long pontoEVirgula = primeiraLinha.chars().filter(c -> c == ';').count();
+        long virgulas = primeiraLinha.chars().filter(c -> c == ',').count();
+        separador = pontoEVirgula > virgulas ? ';' : ',';
+
+        linhaRegistro = linhaAtual;
+        linhaAtual++;
+        List<String> campos = new ArrayList<>();
+        for (String campo : primeiraLinha.split(String.valueOf(separador), -1)) {
+            campos.add(campo.replace("\"", "").trim());
+        }
+        return campos;
+    }
+
+    /**
+     * Próximo registro; null no fim do arquivo
+     */
+    public List<String> proximo() throws IOException {
+        List<String> campos = new ArrayList<>();
+        StringBuilder campo = new StringBuilder();
+        boolean entreAspas = false;
+        boolean leuAlgo = false;
+        linhaRegistro = linhaAtual;
+
+        int c;
+        while ((c = reader.read()) != -1) {
+            leuAlgo = true;
+            char caractere = (char) c;
+            if (entreAspas) {
+                if (caractere == '"') {
+                    reader.mark(1);
+                    int seguinte = reader.read();
+                    if (seguinte == '"') {
+                        campo.append('"');
+                    } else {
+                        entreAspas = false;
+                        if (seguinte != -1) {
+                            reader.reset();
+                        }
+                    }
+                } else {
+                    if (caractere == '\n') {
+                        linhaAtual++;
+                    }
+                    campo.append(caractere);
+                }
+            } else if (caractere == '"') {
+                entreAspas = true;
+            } else if (caractere == separador) {
+                campos.add(campo.toString());
+                campo.setLength(0);
+            } else if (caractere == '\n') {
+                linhaAtual++;
+                campos.add(campo.toString());
+                return campos;
+            } else if (caractere != '\r') {
+                campo.append(caractere);
+            }
+        }
+
+        if (!leuAlgo) {
+            return null;
+        }
+        campos.add(campo.toString());
+        return campos;
+    }
+
+    /**
+     * Número da linha do arquivo onde começa o último registro lido (o cabeçalho é a linha 1)
+     */
+    public long getLinhaRegistro() {
+        return linhaRegistro;
+    }
+
+    public static boolean registroVazio(List<String> registro) {
+        return registro.stream().allMatch(campo -> campo == null || campo.isBlank());
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
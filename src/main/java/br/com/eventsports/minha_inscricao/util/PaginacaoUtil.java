@@ -0,0 +1,109 @@
+package br.com.eventsports.minha_inscricao.util;
+
+import br.com.eventsports.minha_inscricao.dto.paginacao.PaginaCursorDTO;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Classe utilitária para paginação por cursor (keyset).
+ * O cursor é a chave de ordenação do último item entregue (ex.: nome ou data + ID),
+ * codificada em Base64 para que o cliente o trate como valor opaco.
+ */
+public class PaginacaoUtil {
+
+    public static final int LIMITE_PADRAO = 50;
+    public static final int LIMITE_MAXIMO = 200;
+    public static final String HEADER_PROXIMO_CURSOR = "X-Proximo-Cursor";
+
+    private static final String SEPARADOR = "|";
+
+    private PaginacaoUtil() {
+        // Classe utilitária - construtor privado
+    }
+
+    /**
+     * Posição decodificada de um cursor: chave de ordenação (opcional) e ID de desempate
+     */
+    public record Cursor(String chave, Long id) {
+
+        public LocalDateTime chaveComoData() {
+            try {
+                return LocalDateTime.parse(chave);
+            } catch (DateTimeParseException | NullPointerException e) {
+                throw new IllegalArgumentException("Cursor inválido");
+            }
+        }
+    }
+
+    /**
+     * Aplica o padrão e o máximo ao limite informado pelo cliente
+     */
+    public static int normalizarLimite(Integer limite) {
+        if (limite == null) {
+            return LIMITE_PADRAO;
+        }
+        if (limite < 1) {
+            throw new IllegalArgumentException("O limite deve ser maior que zero");
+        }
+        return Math.min(limite, LIMITE_MAXIMO);
+    }
+
+    public static String codificarCursor(Object chave, Long id) {
+        String valor = (chave != null ? chave.toString() : "") + SEPARADOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Cursor decodificarCursor(String cursor) {
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separador = valor.lastIndexOf(SEPARADOR);
+            String chave = valor.substring(0, separador);
+            Long id = Long.valueOf(valor.substring(separador + 1));
+            return new Cursor(chave.isEmpty() ? null : chave, id);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Cursor inválido");
+        }
+    }
+
+    /**
+     * Monta a página a partir de uma consulta que buscou limite + 1 registros:
+     * o registro excedente só indica que existe próxima página
+     */
+    public static <E, T> PaginaCursorDTO<T> montarPagina(List<E> registros, int limite,
+            Function<E, T> conversor, Function<E, String> cursorDoRegistro) {
+        boolean temMais = registros.size() > limite;
+        List<E> pagina = temMais ? registros.subList(0, limite) : registros;
+
+        return PaginaCursorDTO.<T>builder()
+                .itens(pagina.stream().map(conversor).toList())
+                .proximoCursor(temMais ? cursorDoRegistro.apply(pagina.get(pagina.size() - 1)) : null)
+                .limite(limite)
+                .build();
+    }
+
+    /**
+     * Resposta de listagem paginada: o corpo continua sendo a lista de itens (compatível com
+     * clientes existentes) e o próximo cursor vai nos headers X-Proximo-Cursor e Link (rel="next")
+     */
+    public static <T> ResponseEntity<List<T>> responder(PaginaCursorDTO<T> pagina) {
+        ResponseEntity.BodyBuilder resposta = ResponseEntity.ok();
+        if (pagina.isTemMais()) {
+            String proximaUrl = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("after", pagina.getProximoCursor())
+                    .replaceQueryParam("limit", pagina.getLimite())
+                    .build()
+                    .toUriString();
+            resposta.header(HEADER_PROXIMO_CURSOR, pagina.getProximoCursor())
+                    .header(HttpHeaders.LINK, "<" + proximaUrl + ">; rel=\"next\"");
+        }
+        return resposta.body(pagina.getItens());
+    }
+}
@@ -0,0 +1,77 @@
+package br.com.eventsports.minha_inscricao.util;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Relatório CSV (separado por ponto e vírgula) das linhas recusadas de um processamento em lote.
+ * O arquivo só é criado na primeira linha: processamento sem recusas não deixa arquivo.
+ */
+public class RelatorioCsv implements Closeable {
+
+    private final String id;
+    private final Path arquivo;
+    private final String cabecalho;
+    private BufferedWriter escritor;
+    private long linhas;
+
+    public RelatorioCsv(String id, Path arquivo, String cabecalho) {
+        this.id = id;
+        this.arquivo = arquivo;
+        this.cabecalho = cabecalho;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public long getLinhas() {
+        return linhas;
+    }
+
+    /**
+     * Grava uma linha com os campos entre aspas quando necessário
+     */
+    public void linha(String... campos) {
+        try {
+            if (escritor == null) {
+                Files.createDirectories(arquivo.getParent());
+                escritor = Files.newBufferedWriter(arquivo, StandardCharsets.UTF_8);
+                escritor.write(cabecalho);
+                escritor.newLine();
+            }
+            for (int i = 0; i < campos.length; i++) {
+                if (i > 0) {
+                    escritor.write(';');
+                }
+                escritor.write(campo(campos[i]));
+            }
+            escritor.newLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erro ao gravar o relatório " + arquivo.getFileName(), e);
+        }
+        linhas++;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (escritor != null) {
+            escritor.close();
+        }
+    }
+
+    private static String campo(String valor) {
+        if (valor == null) {
+            return "";
+        }
+        if (valor.contains(";") || valor.contains("\"") || valor.contains("\n")) {
+            return "\"" + valor.replace("\"", "\"\"") + "\"";
+        }
+        return valor;
+    }
+}
@@ -0,0 +1,38 @@
+package br.com.eventsports.minha_inscricao.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Classe utilitária para normalização de textos usados em buscas
+ */
+public class TextoUtil {
+
+    private static final Pattern MARCAS_DIACRITICAS = Pattern.compile("\\p{M}+");
+    private static final Pattern ESPACOS = Pattern.compile("\\s+");
+    private static final Pattern NAO_DIGITOS = Pattern.compile("\\D");
+
+    private TextoUtil() {
+        // Classe utilitária - construtor privado
+    }
+
+    /**
+     * Remove acentos, converte para minúsculas e colapsa espaços ("  João  Conceição" -> "joao conceicao"),
+     * equivalente em Java a f_unaccent(lower(...)) do banco
+     */
+    public static String normalizar(String texto) {
+        if (texto == null) {
+            return "";
+        }
+        String semAcentos = MARCAS_DIACRITICAS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD)).replaceAll("");
+        return ESPACOS.matcher(semAcentos.toLowerCase(Locale.ROOT).trim()).replaceAll(" ");
+    }
+
+    /**
+     * Mantém apenas os dígitos (ex.: CPF "123.456.789-00" -> "12345678900")
+     */
+    public static String somenteDigitos(String texto) {
+        return texto == null ? "" : NAO_DIGITOS.matcher(texto).replaceAll("");
+    }
+}
@@ -4,7 +4,7 @@ import br.com.eventsports.minha_inscricao.entity.UsuarioEntity;
 import br.com.eventsports.minha_inscricao.enums.TipoUsuario;
 
 /**
- * Classe utilitária para determinar o tipo de usuário baseado em seus relacionamentos
+ * Classe utilitária para determinar o tipo e as permissões de um usuário
  */
 public class TipoUsuarioUtil {
 
@@ -13,28 +13,19 @@ public class TipoUsuarioUtil {
     }
 
     /**
-     * Determina o tipo de usuário baseado em seus relacionamentos
+     * Determina o tipo de usuário
+     * O tipo é persistido em usuarios.tipo_usuario e recalculado (UsuarioRepository.recalcularTipo)
+     * quando o usuário passa a organizar ou deixa de organizar eventos, sem carregar eventosOrganizados
      * NOTA: ADMIN é reservado exclusivamente para desenvolvedores/sistema
      * 
      * @param usuario o usuário a ser analisado
      * @return o tipo de usuário determinado
      */
     public static TipoUsuario determinarTipo(UsuarioEntity usuario) {
-        if (usuario == null) {
+        if (usuario == null || usuario.getTipoUsuario() == null) {
             return TipoUsuario.ATLETA; // Padrão
         }
-
-        // ADMIN é determinado apenas por configuração manual/sistema, não por relacionamentos
-        // Usuários da aplicação nunca recebem tipo ADMIN automaticamente
-        
-        boolean temEventos = usuario.getEventosOrganizados() != null && 
-                            !usuario.getEventosOrganizados().isEmpty();
-        
-        if (temEventos) {
-            return TipoUsuario.ORGANIZADOR; // Usuário que organiza eventos
-        } else {
-            return TipoUsuario.ATLETA; // Padrão (inclui quem só se inscreve)
-        }
+        return usuario.getTipoUsuario();
     }
 
     /**
@@ -0,0 +1,29 @@
+-- Migração para armazenamento endereçado por conteúdo dos anexos
+-- Versão: V16
+-- Descrição: Cria a tabela anexo_blobs (arquivos físicos únicos por SHA-256 com contagem de referências)
+--            e vincula cada anexo ao seu blob
+
+-- Tabela de blobs: cada conteúdo distinto é gravado uma única vez em disco
+CREATE TABLE IF NOT EXISTS anexo_blobs (
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    sha256 varchar(64) NOT NULL,
+    caminho_arquivo varchar(1000) NOT NULL,
+    tamanho_bytes bigint NOT NULL,
+    referencias integer NOT NULL DEFAULT 0,
+    created_at timestamp(6) NOT NULL,
+    updated_at timestamp(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_anexo_blobs_sha256 UNIQUE (sha256)
+);
+
+-- Vincular anexos ao blob (anexos antigos permanecem sem blob e apontam direto para o arquivo)
+ALTER TABLE anexos ADD COLUMN IF NOT EXISTS blob_id bigint;
+
+ALTER TABLE anexos
+ADD CONSTRAINT fk_anexos_blob
+FOREIGN KEY (blob_id) REFERENCES anexo_blobs(id);
+
+CREATE INDEX IF NOT EXISTS idx_anexos_blob_id ON anexos(blob_id);
+
+COMMENT ON TABLE anexo_blobs IS 'Arquivos físicos de anexos, armazenados uma única vez por hash SHA-256';
+COMMENT ON COLUMN anexo_blobs.referencias IS 'Quantidade de anexos que apontam para este blob; blobs sem referências são coletados';
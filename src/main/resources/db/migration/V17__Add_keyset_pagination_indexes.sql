@@ -0,0 +1,16 @@
+-- Migração para índices da paginação por cursor (keyset)
+-- Versão: V17
+-- Descrição: Índices compostos na mesma ordem usada pelas listagens paginadas, de modo que
+--            cada página seja uma busca por intervalo no índice, independente da posição
+
+-- Atletas, equipes e workouts: ordenados por (nome, id)
+CREATE INDEX IF NOT EXISTS idx_atletas_nome_id ON atletas(nome, id);
+CREATE INDEX IF NOT EXISTS idx_equipes_nome_id ON equipes(nome, id);
+CREATE INDEX IF NOT EXISTS idx_workouts_nome_id ON workouts(nome, id);
+
+-- Inscrições: ordenadas por (data_inscricao, id), com ou sem filtro de evento/status
+CREATE INDEX IF NOT EXISTS idx_inscricoes_data_inscricao_id ON inscricoes(data_inscricao, id);
+CREATE INDEX IF NOT EXISTS idx_inscricoes_evento_data_inscricao_id ON inscricoes(evento_id, data_inscricao, id);
+CREATE INDEX IF NOT EXISTS idx_inscricoes_status_data_inscricao_id ON inscricoes(status, data_inscricao, id);
+
+-- Eventos são paginados pela chave primária, que já é indexada
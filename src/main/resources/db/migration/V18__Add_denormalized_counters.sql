@@ -0,0 +1,39 @@
+-- Migração para contadores desnormalizados de eventos e categorias
+-- Versão: V18
+-- Descrição: Colunas de contagem mantidas pelos fluxos de escrita (UPDATE atômico com delta)
+--            e reconstruídas periodicamente a partir das tabelas de origem
+
+-- Eventos
+ALTER TABLE eventos ADD COLUMN IF NOT EXISTS total_categorias integer NOT NULL DEFAULT 0;
+ALTER TABLE eventos ADD COLUMN IF NOT EXISTS total_inscricoes integer NOT NULL DEFAULT 0;
+ALTER TABLE eventos ADD COLUMN IF NOT EXISTS inscricoes_ativas integer NOT NULL DEFAULT 0;
+ALTER TABLE eventos ADD COLUMN IF NOT EXISTS total_workouts_ativos integer NOT NULL DEFAULT 0;
+ALTER TABLE eventos ADD COLUMN IF NOT EXISTS total_anexos_ativos integer NOT NULL DEFAULT 0;
+
+-- Categorias
+ALTER TABLE categorias ADD COLUMN IF NOT EXISTS inscricoes_ativas integer NOT NULL DEFAULT 0;
+ALTER TABLE categorias ADD COLUMN IF NOT EXISTS equipes_ativas integer NOT NULL DEFAULT 0;
+ALTER TABLE categorias ADD COLUMN IF NOT EXISTS total_equipes integer NOT NULL DEFAULT 0;
+
+-- Carga inicial a partir das tabelas de origem (inscrição ativa = CONFIRMADA, como em StatusInscricao.isAtiva)
+UPDATE eventos e SET
+    total_categorias = (SELECT COUNT(*) FROM categorias c WHERE c.evento_id = e.id),
+    total_inscricoes = (SELECT COUNT(*) FROM inscricoes i WHERE i.evento_id = e.id),
+    inscricoes_ativas = (SELECT COUNT(*) FROM inscricoes i WHERE i.evento_id = e.id AND i.status = 'CONFIRMADA'),
+    total_workouts_ativos = (SELECT COUNT(*) FROM workouts w WHERE w.evento_id = e.id AND w.ativo = true),
+    total_anexos_ativos = (SELECT COUNT(*) FROM anexos a WHERE a.evento_id = e.id AND a.ativo = true);
+
+UPDATE categorias c SET
+    inscricoes_ativas = (SELECT COUNT(*) FROM inscricoes i WHERE i.categoria_id = c.id AND i.status = 'CONFIRMADA'),
+    equipes_ativas = (SELECT COUNT(*) FROM equipes eq WHERE eq.categoria_id = c.id AND eq.ativa = true),
+    total_equipes = (SELECT COUNT(*) FROM equipes eq WHERE eq.categoria_id = c.id);
+
+-- Índices usados pela carga acima e pela reconciliação periódica
+CREATE INDEX IF NOT EXISTS idx_categorias_evento_id ON categorias(evento_id);
+CREATE INDEX IF NOT EXISTS idx_inscricoes_categoria_status ON inscricoes(categoria_id, status);
+CREATE INDEX IF NOT EXISTS idx_equipes_categoria_ativa ON equipes(categoria_id, ativa);
+CREATE INDEX IF NOT EXISTS idx_workouts_evento_ativo ON workouts(evento_id, ativo);
+CREATE INDEX IF NOT EXISTS idx_anexos_evento_ativo ON anexos(evento_id, ativo);
+
+COMMENT ON COLUMN eventos.inscricoes_ativas IS 'Inscrições confirmadas do evento; mantido por ContadorService e reconciliado periodicamente';
+COMMENT ON COLUMN categorias.inscricoes_ativas IS 'Inscrições confirmadas da categoria; mantido por ContadorService e reconciliado periodicamente';
@@ -0,0 +1,19 @@
+-- Migração para persistir o tipo do usuário
+-- Versão: V19
+-- Descrição: Coluna tipo_usuario mantida na criação, transferência e remoção de eventos,
+--            substituindo a verificação da coleção eventosOrganizados a cada acesso
+
+ALTER TABLE usuarios ADD COLUMN IF NOT EXISTS tipo_usuario varchar(20) NOT NULL DEFAULT 'ATLETA';
+
+-- Carga inicial: quem organiza ao menos um evento é ORGANIZADOR (ADMIN nunca é atribuído automaticamente)
+UPDATE usuarios u SET tipo_usuario = 'ORGANIZADOR'
+WHERE u.tipo_usuario = 'ATLETA'
+  AND EXISTS (SELECT 1 FROM eventos e WHERE e.organizador_id = u.id);
+
+-- Estatísticas (COUNT ... GROUP BY tipo) e listagem paginada por tipo ordenada por (nome, id)
+CREATE INDEX IF NOT EXISTS idx_usuarios_tipo_ativo_nome_id ON usuarios(tipo_usuario, ativo, nome, id);
+
+-- Recalcular o tipo após criar/transferir/remover eventos
+CREATE INDEX IF NOT EXISTS idx_eventos_organizador_id ON eventos(organizador_id);
+
+COMMENT ON COLUMN usuarios.tipo_usuario IS 'ATLETA ou ORGANIZADOR (mantido pela aplicação); ADMIN apenas por atribuição manual';
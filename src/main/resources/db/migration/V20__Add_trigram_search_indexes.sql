@@ -0,0 +1,22 @@
+-- Migração para busca por nome com índices de trigramas
+-- Versão: V20
+-- Descrição: Extensões pg_trgm e unaccent, função imutável f_unaccent e índices GIN de trigramas
+--            sobre f_unaccent(lower(nome)), usados pela busca unificada (/api/search)
+--            e pelas buscas por nome de cada entidade
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+-- unaccent() é STABLE e não pode ser usada em índice; o wrapper fixa o dicionário e é IMMUTABLE
+CREATE OR REPLACE FUNCTION f_unaccent(text) RETURNS text
+    LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT
+AS $$ SELECT public.unaccent('public.unaccent'::regdictionary, $1) $$;
+
+CREATE INDEX IF NOT EXISTS idx_eventos_nome_trgm ON eventos USING gin (f_unaccent(lower(nome)) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_atletas_nome_trgm ON atletas USING gin (f_unaccent(lower(nome)) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_equipes_nome_trgm ON equipes USING gin (f_unaccent(lower(nome)) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_categorias_nome_trgm ON categorias USING gin (f_unaccent(lower(nome)) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_workouts_nome_trgm ON workouts USING gin (f_unaccent(lower(nome)) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_usuarios_nome_trgm ON usuarios USING gin (f_unaccent(lower(nome)) gin_trgm_ops);
+
+COMMENT ON FUNCTION f_unaccent(text) IS 'unaccent imutável para índices de busca por nome sem acentos';
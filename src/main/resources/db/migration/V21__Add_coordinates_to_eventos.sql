@@ -0,0 +1,17 @@
+-- Migração para coordenadas geográficas dos eventos
+-- Versão: V21
+-- Descrição: Latitude/longitude do evento (informadas pelo organizador ou obtidas pelo geocodificador)
+--            e índices para a busca de eventos próximos (caixa delimitadora + próximos por data)
+
+ALTER TABLE eventos ADD COLUMN IF NOT EXISTS latitude double precision;
+ALTER TABLE eventos ADD COLUMN IF NOT EXISTS longitude double precision;
+
+-- Caixa delimitadora: faixa de latitude com a longitude resolvida no próprio índice
+CREATE INDEX IF NOT EXISTS idx_eventos_latitude_longitude ON eventos(latitude, longitude)
+    WHERE latitude IS NOT NULL AND longitude IS NOT NULL;
+
+-- Ordenação por data de início (usada quando o raio cobre muitos eventos)
+CREATE INDEX IF NOT EXISTS idx_eventos_data_inicio ON eventos(data_inicio_evento, id);
+
+COMMENT ON COLUMN eventos.latitude IS 'Latitude em graus decimais (WGS 84); NULL enquanto não geocodificado';
+COMMENT ON COLUMN eventos.longitude IS 'Longitude em graus decimais (WGS 84); NULL enquanto não geocodificado';
@@ -0,0 +1,22 @@
+-- Migração para limite de vagas por categoria
+-- Versão: V22
+-- Descrição: Vagas da categoria (NULL = sem limite) e vagas ocupadas, reservadas por UPDATE condicional
+--            na linha da categoria; inscrições pendentes seguram a vaga até reserva_expira_em
+
+ALTER TABLE categorias ADD COLUMN IF NOT EXISTS vagas integer;
+ALTER TABLE categorias ADD COLUMN IF NOT EXISTS vagas_ocupadas integer NOT NULL DEFAULT 0;
+
+ALTER TABLE inscricoes ADD COLUMN IF NOT EXISTS reserva_expira_em timestamp;
+
+-- Carga inicial: inscrições pendentes e confirmadas ocupam vaga (StatusInscricao.ocupaVaga)
+UPDATE categorias c SET
+    vagas_ocupadas = (SELECT COUNT(*) FROM inscricoes i
+                      WHERE i.categoria_id = c.id AND i.status IN ('PENDENTE', 'CONFIRMADA'));
+
+-- Expiração periódica das reservas pendentes
+CREATE INDEX IF NOT EXISTS idx_inscricoes_reserva_pendente ON inscricoes(reserva_expira_em)
+    WHERE status = 'PENDENTE' AND reserva_expira_em IS NOT NULL;
+
+COMMENT ON COLUMN categorias.vagas IS 'Limite de inscrições da categoria; NULL = sem limite';
+COMMENT ON COLUMN categorias.vagas_ocupadas IS 'Inscrições pendentes e confirmadas; mantido por VagaService e reconciliado periodicamente';
+COMMENT ON COLUMN inscricoes.reserva_expira_em IS 'Fim da reserva da vaga de uma inscrição pendente (sem pagamento, expira)';
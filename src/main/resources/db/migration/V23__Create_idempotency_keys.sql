@@ -0,0 +1,18 @@
+-- Migração para chaves de idempotência
+-- Versão: V23
+-- Descrição: Respostas guardadas por Idempotency-Key (hash de usuário, rota e chave) para repetir o POST
+--            sem reexecutar o serviço; status_http NULL indica requisição ainda em processamento
+
+CREATE TABLE IF NOT EXISTS chaves_idempotencia (
+    chave varchar(64) PRIMARY KEY,
+    status_http integer,
+    content_type varchar(150),
+    corpo bytea,
+    criada_em timestamp NOT NULL,
+    expira_em timestamp NOT NULL
+);
+
+-- Limpeza periódica das chaves vencidas
+CREATE INDEX IF NOT EXISTS idx_chaves_idempotencia_expira_em ON chaves_idempotencia(expira_em);
+
+COMMENT ON TABLE chaves_idempotencia IS 'Respostas de POSTs com Idempotency-Key, servidas nas repetições até expira_em';
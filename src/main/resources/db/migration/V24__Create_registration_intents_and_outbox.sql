@@ -0,0 +1,42 @@
+-- Migração para inscrições assíncronas com outbox transacional
+-- Versão: V24
+-- Descrição: Intenções de inscrição (pedido compacto, processado depois por evento, em ordem de chegada)
+--            e eventos de outbox gravados na mesma transação da mudança que os originou
+
+CREATE TABLE IF NOT EXISTS intencoes_inscricao (
+    id bigserial PRIMARY KEY,
+    evento_id bigint NOT NULL,
+    tipo varchar(20) NOT NULL,
+    solicitante varchar(150) NOT NULL,
+    usuario_id bigint,
+    payload text NOT NULL,
+    status varchar(20) NOT NULL,
+    recurso_id bigint,
+    erro varchar(500),
+    criada_em timestamp NOT NULL,
+    atualizada_em timestamp NOT NULL
+);
+
+-- Próxima intenção pendente de cada evento (ordem de chegada)
+CREATE INDEX IF NOT EXISTS idx_intencoes_inscricao_pendentes ON intencoes_inscricao(evento_id, id)
+    WHERE status = 'RECEBIDA';
+
+-- Retomada de intenções presas em processamento
+CREATE INDEX IF NOT EXISTS idx_intencoes_inscricao_processando ON intencoes_inscricao(atualizada_em)
+    WHERE status = 'PROCESSANDO';
+
+CREATE TABLE IF NOT EXISTS outbox_eventos (
+    id bigserial PRIMARY KEY,
+    tipo varchar(50) NOT NULL,
+    agregado_id bigint NOT NULL,
+    evento_id bigint,
+    payload text,
+    criado_em timestamp NOT NULL,
+    processado_em timestamp
+);
+
+-- Publicação: eventos ainda não processados, em ordem
+CREATE INDEX IF NOT EXISTS idx_outbox_eventos_pendentes ON outbox_eventos(id) WHERE processado_em IS NULL;
+
+COMMENT ON TABLE intencoes_inscricao IS 'Pedidos de inscrição aceitos com 202 e processados em segundo plano';
+COMMENT ON TABLE outbox_eventos IS 'Eventos gravados na transação de origem e publicados depois (pelo menos uma vez)';
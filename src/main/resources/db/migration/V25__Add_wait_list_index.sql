@@ -0,0 +1,7 @@
+-- Migração para a lista de espera por categoria
+-- Versão: V25
+-- Descrição: Fila FIFO (data_inscricao, id) das inscrições em lista de espera de cada categoria, usada
+--            na promoção automática quando uma vaga é liberada e na consulta de posição na fila
+
+CREATE INDEX IF NOT EXISTS idx_inscricoes_lista_espera ON inscricoes(categoria_id, data_inscricao, id)
+    WHERE status = 'LISTA_ESPERA';
@@ -0,0 +1,33 @@
+-- Migração das chaves primárias de IDENTITY para sequences
+-- Versão: V26
+-- Descrição: Uma sequence por tabela com INCREMENT BY 50, igual ao allocationSize das entidades: o
+--            otimizador pooled do Hibernate reserva 50 IDs por nextval e os INSERTs podem ir em lote JDBC
+--            (com IDENTITY cada INSERT é executado na hora para obter o ID). A coluna id passa a usar a
+--            sequence como default, para que INSERTs fora do Hibernate continuem funcionando.
+
+DO $$
+DECLARE
+    tabela text;
+    sequencia text;
+    maximo bigint;
+BEGIN
+    FOREACH tabela IN ARRAY ARRAY[
+        'usuarios', 'eventos', 'categorias', 'atletas', 'equipes', 'inscricoes', 'pagamentos',
+        'workouts', 'leaderboards', 'timelines', 'anexos', 'anexo_blobs',
+        'intencoes_inscricao', 'outbox_eventos']
+    LOOP
+        sequencia := tabela || '_seq';
+        EXECUTE format('CREATE SEQUENCE IF NOT EXISTS %I INCREMENT BY 50', sequencia);
+
+        -- Colunas IDENTITY (V1) perdem a identidade; colunas bigserial perdem a sequence antiga
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN id DROP IDENTITY IF EXISTS', tabela);
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN id SET DEFAULT nextval(%L)', tabela, sequencia);
+        EXECUTE format('ALTER SEQUENCE %I OWNED BY %I.id', sequencia, tabela);
+        EXECUTE format('DROP SEQUENCE IF EXISTS %I', tabela || '_id_seq');
+
+        -- O pooled usa o valor da sequence como fim da faixa: o próximo nextval (maximo + 50)
+        -- libera os IDs maximo + 1 .. maximo + 50
+        EXECUTE format('SELECT COALESCE(MAX(id), 0) FROM %I', tabela) INTO maximo;
+        PERFORM setval(sequencia, maximo + 50, false);
+    END LOOP;
+END $$;
@@ -0,0 +1,29 @@
+-- Migração para índices das consultas mais frequentes de leaderboards e inscrições
+-- Versão: V27
+-- Descrição: Índices compostos na ordem dos filtros (e da ordenação) dos repositórios; os de participante
+--            são parciais (só linhas de equipe ou de atleta) e incluem posicao_workout e finalizado, para
+--            que contagens de finalizados e somas de posições sejam lidas só do índice.
+--            A UNIQUE (categoria_id, workout_id, equipe_id, atleta_id) da V1 continua atendendo as buscas
+--            do resultado de um participante em um workout da categoria.
+
+-- Leaderboards: ranking da categoria, geral e por workout, já na ordem de posicao_workout
+CREATE INDEX IF NOT EXISTS idx_leaderboards_categoria_posicao ON leaderboards(categoria_id, posicao_workout);
+CREATE INDEX IF NOT EXISTS idx_leaderboards_categoria_workout_posicao
+    ON leaderboards(categoria_id, workout_id, posicao_workout);
+
+-- Leaderboards: finalizados e soma de posições do participante na categoria
+CREATE INDEX IF NOT EXISTS idx_leaderboards_categoria_equipe ON leaderboards(categoria_id, equipe_id)
+    INCLUDE (posicao_workout, finalizado) WHERE equipe_id IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_leaderboards_categoria_atleta ON leaderboards(categoria_id, atleta_id)
+    INCLUDE (posicao_workout, finalizado) WHERE atleta_id IS NOT NULL;
+
+-- Leaderboards: resultados do participante (todos ou de um workout) e do evento
+CREATE INDEX IF NOT EXISTS idx_leaderboards_equipe_workout ON leaderboards(equipe_id, workout_id)
+    WHERE equipe_id IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_leaderboards_atleta_workout ON leaderboards(atleta_id, workout_id)
+    WHERE atleta_id IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_leaderboards_evento ON leaderboards(evento_id);
+
+-- Inscrições: listagens e contagens por evento e status (categoria e status já tem índice na V18)
+CREATE INDEX IF NOT EXISTS idx_inscricoes_evento_status ON inscricoes(evento_id, status);
+CREATE INDEX IF NOT EXISTS idx_inscricoes_equipe_id ON inscricoes(equipe_id) WHERE equipe_id IS NOT NULL;
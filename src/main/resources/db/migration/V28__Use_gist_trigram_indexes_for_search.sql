@@ -0,0 +1,20 @@
+-- Migração dos índices de trigramas da busca por nome de GIN para GiST
+-- Versão: V28
+-- Descrição: A busca unificada ordena por semelhança de palavra; o GIN só filtra, e o Postgres calculava
+--            word_similarity para todas as linhas que passavam no filtro antes de ordenar. O GiST atende
+--            ORDER BY nome <->> termo (distância = 1 - word_similarity) como busca KNN, que para no LIMIT.
+--            O GiST também atende os LIKE '%termo%' das buscas por nome de cada entidade.
+
+DROP INDEX IF EXISTS idx_eventos_nome_trgm;
+DROP INDEX IF EXISTS idx_atletas_nome_trgm;
+DROP INDEX IF EXISTS idx_equipes_nome_trgm;
+DROP INDEX IF EXISTS idx_categorias_nome_trgm;
+DROP INDEX IF EXISTS idx_workouts_nome_trgm;
+DROP INDEX IF EXISTS idx_usuarios_nome_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_eventos_nome_trgm ON eventos USING gist (f_unaccent(lower(nome)) gist_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_atletas_nome_trgm ON atletas USING gist (f_unaccent(lower(nome)) gist_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_equipes_nome_trgm ON equipes USING gist (f_unaccent(lower(nome)) gist_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_categorias_nome_trgm ON categorias USING gist (f_unaccent(lower(nome)) gist_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_workouts_nome_trgm ON workouts USING gist (f_unaccent(lower(nome)) gist_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_usuarios_nome_trgm ON usuarios USING gist (f_unaccent(lower(nome)) gist_trgm_ops);
@@ -0,0 +1,9 @@
+-- Migração do hash da requisição nas chaves de idempotência
+-- Versão: V29
+-- Descrição: Guarda o SHA-256 da query string e do corpo do POST que reservou a chave; a mesma
+--            Idempotency-Key reaproveitada com outra requisição recebe 422 em vez da resposta guardada.
+--            Chaves anteriores à migração ficam sem hash e continuam sendo repetidas normalmente.
+
+ALTER TABLE chaves_idempotencia ADD COLUMN IF NOT EXISTS hash_requisicao varchar(64);
+
+COMMENT ON COLUMN chaves_idempotencia.hash_requisicao IS 'SHA-256 da query string e do corpo da requisição original';
@@ -0,0 +1,53 @@
+-- Migração dos contadores desnormalizados de eventos e categorias para tabelas próprias
+-- Versão: V30
+-- Descrição: eventos e categorias estão no cache de segundo nível e os contadores mudam a cada inscrição.
+--            Um UPDATE nativo declara a tabela como query space, e o Hibernate então invalida a região
+--            inteira da entidade e todas as consultas em cache que leem a tabela (ex.: workouts ativos por
+--            categoria). Com os contadores em tabelas próprias, fora do cache, os UPDATEs de contador não
+--            invalidam nada; eventos e categorias só saem do cache quando são editados.
+
+CREATE TABLE IF NOT EXISTS contadores_eventos (
+    evento_id bigint PRIMARY KEY REFERENCES eventos(id) ON DELETE CASCADE,
+    total_categorias integer NOT NULL DEFAULT 0,
+    total_inscricoes integer NOT NULL DEFAULT 0,
+    inscricoes_ativas integer NOT NULL DEFAULT 0,
+    total_workouts_ativos integer NOT NULL DEFAULT 0,
+    total_anexos_ativos integer NOT NULL DEFAULT 0
+);
+
+CREATE TABLE IF NOT EXISTS contadores_categorias (
+    categoria_id bigint PRIMARY KEY REFERENCES categorias(id) ON DELETE CASCADE,
+    inscricoes_ativas integer NOT NULL DEFAULT 0,
+    equipes_ativas integer NOT NULL DEFAULT 0,
+    total_equipes integer NOT NULL DEFAULT 0,
+    vagas_ocupadas integer NOT NULL DEFAULT 0
+);
+
+-- Carga a partir das colunas atuais (a reconciliação periódica corrige qualquer divergência)
+INSERT INTO contadores_eventos (evento_id, total_categorias, total_inscricoes, inscricoes_ativas,
+                                total_workouts_ativos, total_anexos_ativos)
+SELECT id, total_categorias, total_inscricoes, inscricoes_ativas, total_workouts_ativos, total_anexos_ativos
+FROM eventos
+ON CONFLICT (evento_id) DO NOTHING;
+
+INSERT INTO contadores_categorias (categoria_id, inscricoes_ativas, equipes_ativas, total_equipes, vagas_ocupadas)
+SELECT id, inscricoes_ativas, equipes_ativas, total_equipes, vagas_ocupadas
+FROM categorias
+ON CONFLICT (categoria_id) DO NOTHING;
+
+ALTER TABLE eventos
+    DROP COLUMN IF EXISTS total_categorias,
+    DROP COLUMN IF EXISTS total_inscricoes,
+    DROP COLUMN IF EXISTS inscricoes_ativas,
+    DROP COLUMN IF EXISTS total_workouts_ativos,
+    DROP COLUMN IF EXISTS total_anexos_ativos;
+
+ALTER TABLE categorias
+    DROP COLUMN IF EXISTS inscricoes_ativas,
+    DROP COLUMN IF EXISTS equipes_ativas,
+    DROP COLUMN IF EXISTS total_equipes,
+    DROP COLUMN IF EXISTS vagas_ocupadas;
+
+COMMENT ON TABLE contadores_eventos IS 'Contadores do evento; mantidos por ContadorService (delta) e reconciliados periodicamente';
+COMMENT ON TABLE contadores_categorias IS 'Contadores e vagas ocupadas da categoria; mantidos por ContadorService e VagaService e reconciliados periodicamente';
+COMMENT ON COLUMN contadores_categorias.vagas_ocupadas IS 'Inscrições pendentes e confirmadas; o limite continua em categorias.vagas';
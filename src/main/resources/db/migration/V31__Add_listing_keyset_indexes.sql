@@ -0,0 +1,7 @@
+-- Migração para índices das listagens que passaram a ser paginadas
+-- Versão: V31
+-- Descrição: Inscrições por categoria ordenadas por (data_inscricao, id) e eventos encerrados ordenados por
+--            (data_fim_evento, id) decrescente; eventos futuros já usam idx_eventos_data_inicio (V21)
+
+CREATE INDEX IF NOT EXISTS idx_inscricoes_categoria_data_inscricao_id ON inscricoes(categoria_id, data_inscricao, id);
+CREATE INDEX IF NOT EXISTS idx_eventos_data_fim ON eventos(data_fim_evento, id);
@@ -0,0 +1,7 @@
+-- Migração para novas tentativas das inscrições assíncronas
+-- Versão: V32
+-- Descrição: Falha transitória de banco (deadlock, pool esgotado) mantém a intenção RECEBIDA e a agenda
+--            para depois, com espera crescente; só erro de negócio ou validação a recusa
+
+ALTER TABLE intencoes_inscricao ADD COLUMN IF NOT EXISTS tentativas integer NOT NULL DEFAULT 0;
+ALTER TABLE intencoes_inscricao ADD COLUMN IF NOT EXISTS proxima_tentativa_em timestamp;
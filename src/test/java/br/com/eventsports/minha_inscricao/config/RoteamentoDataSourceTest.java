@@ -0,0 +1,147 @@
+package br.com.eventsports.minha_inscricao.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.eventsports.minha_inscricao.IntegracaoPostgres;
+
+/**
+ * Roteamento de leitura com app.replicas.habilitado=true. A "réplica" é outro banco no mesmo contêiner
+ * (current_database() diz para onde a transação foi) e a segunda fonte aponta para um banco inexistente,
+ * que nunca entra no rodízio. Um primário usado como réplica tem atraso 0 (SQL_ATRASO), como em desenvolvimento.
+ */
+class RoteamentoDataSourceTest extends IntegracaoPostgres {
+
+    private static final String BANCO_REPLICA = "replica_teste";
+
+    @Autowired
+    private RoteamentoDataSource roteamentoDataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    static {
+        executarNoPrimario("DROP DATABASE IF EXISTS " + BANCO_REPLICA + " WITH (FORCE)");
+        executarNoPrimario("CREATE DATABASE " + BANCO_REPLICA);
+    }
+
+    @DynamicPropertySource
+    static void propriedadesReplicas(DynamicPropertyRegistry registry) {
+        registry.add("app.replicas.habilitado", () -> "true");
+        registry.add("app.replicas.fontes[0].url", () -> urlDoBanco(BANCO_REPLICA));
+        registry.add("app.replicas.fontes[1].url", () -> urlDoBanco("replica_inexistente"));
+        registry.add("app.replicas.segundos-aderencia-primario", () -> "5");
+        registry.add("app.replicas.timeout-conexao-ms", () -> "1000");
+        // Verificação só quando o teste pede, para o estado das réplicas não mudar no meio de uma asserção
+        registry.add("app.replicas.intervalo-verificacao-ms", () -> "3600000");
+    }
+
+    @BeforeEach
+    void verificarReplicas() {
+        roteamentoDataSource.verificarReplicas();
+    }
+
+    @AfterEach
+    void limparUsuario() {
+        SecurityContextHolder.clearContext();
+        executarNoPrimario("ALTER DATABASE " + BANCO_REPLICA + " ALLOW_CONNECTIONS true");
+    }
+
+    @Test
+    void leituraVaiParaReplicaSaudavelEEscritaParaPrimario() {
+        // Rodízio entre as duas fontes: a inexistente está fora, então toda leitura cai na réplica
+        for (int i = 0; i < 4; i++) {
+            assertEquals(BANCO_REPLICA, bancoDaTransacao(true));
+        }
+        assertEquals("on", emTransacao(true, "SHOW transaction_read_only"));
+        assertEquals(POSTGRES.getDatabaseName(), bancoDaTransacao(false));
+    }
+
+    @Test
+    void leituraDoUsuarioQueAcabouDeEscreverFicaNoPrimario() {
+        autenticar("juiz@teste.com");
+        assertEquals(BANCO_REPLICA, bancoDaTransacao(true));
+
+        assertEquals(POSTGRES.getDatabaseName(), bancoDaTransacao(false));
+        assertEquals(POSTGRES.getDatabaseName(), bancoDaTransacao(true));
+
+        // Outro usuário, e leitura sem usuário, continuam na réplica
+        autenticar("atleta@teste.com");
+        assertEquals(BANCO_REPLICA, bancoDaTransacao(true));
+        SecurityContextHolder.clearContext();
+        assertEquals(BANCO_REPLICA, bancoDaTransacao(true));
+    }
+
+    @Test
+    void leituraQueDecideEscritaFicaNoPrimarioSemAderencia() {
+        autenticar("organizador@teste.com");
+        try (RoteamentoDataSource.Escopo escopo = RoteamentoDataSource.noPrimario()) {
+            assertEquals(POSTGRES.getDatabaseName(), bancoDaTransacao(true));
+        }
+        // Fora do escopo volta para a réplica: a leitura no primário não conta como escrita do usuário
+        assertEquals(BANCO_REPLICA, bancoDaTransacao(true));
+    }
+
+    @Test
+    void leituraVoltaAoPrimarioQuandoReplicaCai() {
+        assertEquals(BANCO_REPLICA, bancoDaTransacao(true));
+
+        // Derruba a réplica: recusa conexões novas e encerra as do pool
+        executarNoPrimario("ALTER DATABASE " + BANCO_REPLICA + " ALLOW_CONNECTIONS false");
+        executarNoPrimario("SELECT pg_terminate_backend(pid) FROM pg_stat_activity WHERE datname = '" + BANCO_REPLICA + "'");
+        roteamentoDataSource.verificarReplicas();
+        assertEquals(POSTGRES.getDatabaseName(), bancoDaTransacao(true));
+
+        executarNoPrimario("ALTER DATABASE " + BANCO_REPLICA + " ALLOW_CONNECTIONS true");
+        roteamentoDataSource.verificarReplicas();
+        assertEquals(BANCO_REPLICA, bancoDaTransacao(true));
+    }
+
+    private String bancoDaTransacao(boolean somenteLeitura) {
+        return emTransacao(somenteLeitura, "SELECT current_database()");
+    }
+
+    private String emTransacao(boolean somenteLeitura, String sql) {
+        TransactionTemplate transacao = new TransactionTemplate(transactionManager);
+        transacao.setReadOnly(somenteLeitura);
+        return transacao.execute(status -> jdbcTemplate.queryForObject(sql, String.class));
+    }
+
+    private static void autenticar(String usuario) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(usuario, null, List.of()));
+    }
+
+    private static String urlDoBanco(String banco) {
+        return "jdbc:postgresql://" + POSTGRES.getHost() + ":" + POSTGRES.getFirstMappedPort() + "/" + banco;
+    }
+
+    private static void executarNoPrimario(String sql) {
+        try (Connection conexao = DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(),
+                POSTGRES.getPassword()); Statement statement = conexao.createStatement()) {
+            statement.execute(sql);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Erro ao executar no primário: " + sql, e);
+        }
+    }
+}
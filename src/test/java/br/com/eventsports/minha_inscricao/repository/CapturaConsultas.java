@@ -0,0 +1,120 @@
+package br.com.eventsports.minha_inscricao.repository;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Registra o SQL e os parâmetros de cada consulta que a aplicação executa pelo DataSource, enquanto
+ * a captura estiver ligada: é o SQL gerado de fato pelos repositórios (JPQL, derivadas e nativas).
+ */
+public class CapturaConsultas {
+
+    public record Consulta(String sql, List<Object> parametros) {
+    }
+
+    private final List<Consulta> consultas = new CopyOnWriteArrayList<>();
+    private volatile boolean ligada;
+
+    /**
+     * Executa a ação e retorna as consultas feitas por ela, na ordem
+     */
+    public List<Consulta> capturar(Runnable acao) {
+        consultas.clear();
+        ligada = true;
+        try {
+            acao.run();
+        } finally {
+            ligada = false;
+        }
+        return List.copyOf(consultas);
+    }
+
+    DataSource envolver(DataSource dataSource) {
+        return new DelegatingDataSource(dataSource) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return conexao(super.getConnection());
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                return conexao(super.getConnection(username, password));
+            }
+        };
+    }
+
+    private Connection conexao(Connection conexao) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Connection.class },
+                (proxy, metodo, args) -> {
+                    Object resultado = invocar(conexao, metodo, args);
+                    if (resultado instanceof PreparedStatement comando && metodo.getName().equals("prepareStatement")) {
+                        return comando(comando, (String) args[0]);
+                    }
+                    return resultado;
+                });
+    }
+
+    private PreparedStatement comando(PreparedStatement comando, String sql) {
+        Map<Integer, Object> parametros = new TreeMap<>();
+        return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { PreparedStatement.class }, (proxy, metodo, args) -> {
+                    String nome = metodo.getName();
+                    if (nome.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer indice) {
+                        parametros.put(indice, nome.equals("setNull") ? null : args[1]);
+                    } else if (nome.equals("clearParameters")) {
+                        parametros.clear();
+                    } else if (ligada && (nome.equals("executeQuery") || nome.equals("execute")) && args == null) {
+                        consultas.add(new Consulta(sql, new ArrayList<>(parametros.values())));
+                    }
+                    return invocar(comando, metodo, args);
+                });
+    }
+
+    private static Object invocar(Object alvo, Method metodo, Object[] args) throws Throwable {
+        try {
+            return metodo.invoke(alvo, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Envolve o DataSource da aplicação; importar nos testes que usam a captura
+     */
+    @TestConfiguration(proxyBeanMethods = false)
+    public static class Configuracao {
+
+        @Bean
+        public static CapturaConsultas capturaConsultas() {
+            return new CapturaConsultas();
+        }
+
+        @Bean
+        public static BeanPostProcessor envolverDataSource(CapturaConsultas capturaConsultas) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource && beanName.equals("dataSource")
+                            ? capturaConsultas.envolver(dataSource)
+                            : bean;
+                }
+            };
+        }
+    }
+}
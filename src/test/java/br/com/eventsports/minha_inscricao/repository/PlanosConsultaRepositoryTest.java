@@ -0,0 +1,163 @@
+package br.com.eventsports.minha_inscricao.repository;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.eventsports.minha_inscricao.IntegracaoPostgres;
+import br.com.eventsports.minha_inscricao.enums.StatusInscricao;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Regressão dos planos das consultas mais frequentes de LeaderboardRepository e InscricaoRepository.
+ * Cada método do repositório é chamado de verdade; o SQL gerado (com os parâmetros usados) é capturado
+ * no DataSource e passa por EXPLAIN sobre uma massa com volume realista (massa/planos-consulta.sql),
+ * com as configurações padrão do planejador. A tabela principal tem de ser lida por índice.
+ */
+@Slf4j
+@Import(CapturaConsultas.Configuracao.class)
+@Sql(scripts = "/massa/planos-consulta.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_CLASS)
+class PlanosConsultaRepositoryTest extends IntegracaoPostgres {
+
+    private static final Set<String> ACESSOS_POR_INDICE = Set.of("Index Scan", "Index Only Scan", "Bitmap Heap Scan");
+
+    // Amostras da massa: evento 1, categoria individual 1 e de equipe 4 do evento, primeiro workout,
+    // primeiro atleta e primeira equipe
+    private static final long EVENTO = 1000001L;
+    private static final long CATEGORIA_INDIVIDUAL = 1000001L;
+    private static final long CATEGORIA_EQUIPE = 1000004L;
+    private static final long WORKOUT = 1000001L;
+    private static final long ATLETA = 1000001L;
+    private static final long EQUIPE = 1000016L;
+
+    @Autowired
+    private LeaderboardRepository leaderboardRepository;
+
+    @Autowired
+    private InscricaoRepository inscricaoRepository;
+
+    @Autowired
+    private CapturaConsultas capturaConsultas;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @TestFactory
+    Stream<DynamicTest> consultasDeLeaderboardUsamIndice() {
+        LeaderboardRepository repositorio = leaderboardRepository;
+        return Stream.of(
+                verificar("findByCategoriaIdOrderByPosicaoWorkoutAsc", "leaderboards",
+                        () -> repositorio.findByCategoriaIdOrderByPosicaoWorkoutAsc(CATEGORIA_INDIVIDUAL)),
+                verificar("findByCategoriaIdAndWorkoutIdOrderByPosicaoWorkoutAsc", "leaderboards",
+                        () -> repositorio.findByCategoriaIdAndWorkoutIdOrderByPosicaoWorkoutAsc(CATEGORIA_INDIVIDUAL, WORKOUT)),
+                verificar("findByCategoriaIdAndWorkoutIdAndEquipeId", "leaderboards",
+                        () -> repositorio.findByCategoriaIdAndWorkoutIdAndEquipeId(CATEGORIA_EQUIPE, WORKOUT, EQUIPE)),
+                verificar("findByCategoriaIdAndWorkoutIdAndAtletaId", "leaderboards",
+                        () -> repositorio.findByCategoriaIdAndWorkoutIdAndAtletaId(CATEGORIA_INDIVIDUAL, WORKOUT, ATLETA)),
+                verificar("countWorkoutsFinalizadosByEquipe", "leaderboards",
+                        () -> repositorio.countWorkoutsFinalizadosByEquipe(CATEGORIA_EQUIPE, EQUIPE)),
+                verificar("countWorkoutsFinalizadosByAtleta", "leaderboards",
+                        () -> repositorio.countWorkoutsFinalizadosByAtleta(CATEGORIA_INDIVIDUAL, ATLETA)),
+                verificar("sumPosicoesByEquipe", "leaderboards",
+                        () -> repositorio.sumPosicoesByEquipe(CATEGORIA_EQUIPE, EQUIPE)),
+                verificar("sumPosicoesByAtleta", "leaderboards",
+                        () -> repositorio.sumPosicoesByAtleta(CATEGORIA_INDIVIDUAL, ATLETA)),
+                verificar("findByWorkoutIdAndEquipeId", "leaderboards",
+                        () -> repositorio.findByWorkoutIdAndEquipeId(WORKOUT, EQUIPE)),
+                verificar("findByWorkoutIdAndAtletaId", "leaderboards",
+                        () -> repositorio.findByWorkoutIdAndAtletaId(WORKOUT, ATLETA)),
+                verificar("findByEquipeIdOrderByWorkoutNomeAsc", "leaderboards",
+                        () -> repositorio.findByEquipeIdOrderByWorkoutNomeAsc(EQUIPE)),
+                verificar("findByAtletaIdOrderByWorkoutNomeAsc", "leaderboards",
+                        () -> repositorio.findByAtletaIdOrderByWorkoutNomeAsc(ATLETA)),
+                verificar("findByEventoIdOrderByCategoriaNomeAscPosicaoWorkoutAsc", "leaderboards",
+                        () -> repositorio.findByEventoIdOrderByCategoriaNomeAscPosicaoWorkoutAsc(EVENTO)),
+                verificar("countFinalizadosByWorkout", "leaderboards",
+                        () -> repositorio.countFinalizadosByWorkout(CATEGORIA_INDIVIDUAL, WORKOUT)));
+    }
+
+    @TestFactory
+    Stream<DynamicTest> consultasDeInscricaoUsamIndice() {
+        InscricaoRepository repositorio = inscricaoRepository;
+        return Stream.of(
+                verificar("findByEventoIdAndStatus", "inscricoes",
+                        () -> repositorio.findByEventoIdAndStatus(EVENTO, StatusInscricao.CONFIRMADA)),
+                verificar("countByEventoIdAndStatus", "inscricoes",
+                        () -> repositorio.countByEventoIdAndStatus(EVENTO, StatusInscricao.CONFIRMADA)),
+                verificar("findByCategoriaIdAndStatus", "inscricoes",
+                        () -> repositorio.findByCategoriaIdAndStatus(CATEGORIA_INDIVIDUAL, StatusInscricao.CONFIRMADA)),
+                verificar("countByCategoriaIdAndStatus", "inscricoes",
+                        () -> repositorio.countByCategoriaIdAndStatus(CATEGORIA_INDIVIDUAL, StatusInscricao.CONFIRMADA)),
+                verificar("countByEventoId", "inscricoes",
+                        () -> repositorio.countByEventoId(EVENTO)),
+                verificar("findByEquipeId", "inscricoes",
+                        () -> repositorio.findByEquipeId(EQUIPE)));
+    }
+
+    private DynamicTest verificar(String metodo, String tabela, Runnable chamada) {
+        return DynamicTest.dynamicTest(metodo, () -> {
+            List<CapturaConsultas.Consulta> consultas = capturaConsultas.capturar(chamada);
+            assertFalse(consultas.isEmpty(), metodo + " não executou nenhuma consulta");
+
+            // A primeira consulta é a do método; as seguintes seriam carregamentos de associações
+            CapturaConsultas.Consulta consulta = consultas.get(0);
+            String json = jdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON) " + consulta.sql(), String.class,
+                    consulta.parametros().toArray());
+            JsonNode plano = objectMapper.readTree(json).path(0).path("Plan");
+
+            List<String> acessos = new ArrayList<>();
+            List<String> indices = new ArrayList<>();
+            coletarAcessos(plano, tabela, acessos, indices);
+            log.info("{}: acessos={} indices={} custo={}", metodo, acessos, indices, plano.path("Total Cost").asDouble());
+
+            assertFalse(acessos.isEmpty(), metodo + " não lê " + tabela + ":\n" + plano.toPrettyString());
+            assertTrue(ACESSOS_POR_INDICE.containsAll(acessos),
+                    metodo + " lê " + tabela + " sem índice " + acessos + ":\n" + consulta.sql() + "\n" + plano.toPrettyString());
+        });
+    }
+
+    /**
+     * Tipos de acesso à tabela em todo o plano; no Bitmap Heap Scan, os índices vêm dos filhos
+     */
+    private static void coletarAcessos(JsonNode no, String tabela, List<String> acessos, List<String> indices) {
+        if (tabela.equals(no.path("Relation Name").asText())) {
+            String tipo = no.path("Node Type").asText();
+            acessos.add(tipo);
+            if (no.hasNonNull("Index Name")) {
+                indices.add(no.path("Index Name").asText());
+            }
+            if ("Bitmap Heap Scan".equals(tipo)) {
+                coletarIndicesBitmap(no.path("Plans"), indices);
+            }
+        }
+        for (JsonNode filho : no.path("Plans")) {
+            coletarAcessos(filho, tabela, acessos, indices);
+        }
+    }
+
+    private static void coletarIndicesBitmap(JsonNode planos, List<String> indices) {
+        for (JsonNode filho : planos) {
+            if (filho.hasNonNull("Index Name")) {
+                indices.add(filho.path("Index Name").asText());
+            }
+            coletarIndicesBitmap(filho.path("Plans"), indices);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package br.com.eventsports.minha_inscricao.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.eventsports.minha_inscricao.IntegracaoPostgres;
+import br.com.eventsports.minha_inscricao.dto.importacao.ResultadoImportacaoDTO;
+import br.com.eventsports.minha_inscricao.entity.AtletaEntity;
+import br.com.eventsports.minha_inscricao.entity.CategoriaEntity;
+import br.com.eventsports.minha_inscricao.entity.EventoEntity;
+import br.com.eventsports.minha_inscricao.enums.Genero;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Escrita em lote com IDs de sequences pooled (V26): a importação grava atletas e inscrições em lotes JDBC,
+ * com IDs reservados de 50 em 50. Vazão (linhas/s) e comandos preparados vão para o log do teste; as
+ * asserções usam a contagem de comandos do Hibernate, que não depende da máquina.
+ */
+@Slf4j
+@Sql(scripts = "/massa/importacao.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_CLASS)
+class ImportacaoServiceTest extends IntegracaoPostgres {
+
+    private static final long EVENTO = 2000001L;
+    private static final long CATEGORIA = 2000001L;
+    private static final int LINHAS_IMPORTACAO = 5000;
+    private static final int ATLETAS_COMPARACAO = 2000;
+
+    @Autowired
+    private ImportacaoService importacaoService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void importacaoGravaEmLoteComIdsDaSequence() throws IOException {
+        Statistics estatisticas = estatisticas();
+        long preparadosAntes = estatisticas.getPrepareStatementCount();
+
+        ResultadoImportacaoDTO resultado = importacaoService.importar(EVENTO, csv("1", LINHAS_IMPORTACAO));
+
+        long preparados = estatisticas.getPrepareStatementCount() - preparadosAntes;
+        log.info("Importação de {} linha(s): {} ms, {} linhas/s, {} comando(s) preparado(s)",
+                LINHAS_IMPORTACAO, resultado.getDuracaoMs(), vazao(LINHAS_IMPORTACAO, resultado.getDuracaoMs()), preparados);
+
+        assertEquals(LINHAS_IMPORTACAO, resultado.getInscricoesCriadas());
+        assertEquals(0, resultado.getLinhasComErro());
+        // Sem lote seriam ao menos 2 INSERTs por linha (atleta e inscrição); com lotes de 50, 2 por 50 linhas
+        // mais os nextval (um a cada 50 IDs) e as consultas de cada lote da importação
+        assertTrue(preparados < LINHAS_IMPORTACAO / 5,
+                "Importação preparou " + preparados + " comandos para " + LINHAS_IMPORTACAO + " linhas; o lote JDBC não foi usado");
+
+        // Uma única thread consumindo a sequence: os IDs saem contíguos dos blocos de 50 reservados
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM atletas WHERE evento_id = ? AND cpf LIKE '1%' ORDER BY id", Long.class, EVENTO);
+        assertEquals(LINHAS_IMPORTACAO, ids.size());
+        assertEquals(LINHAS_IMPORTACAO - 1, ids.get(ids.size() - 1) - ids.get(0),
+                "IDs dos atletas importados não são contíguos: " + ids.get(0) + ".." + ids.get(ids.size() - 1));
+    }
+
+    @Test
+    void loteJdbcReduzComandosNaGravacaoDeAtletas() {
+        Statistics estatisticas = estatisticas();
+
+        long preparadosAntes = estatisticas.getPrepareStatementCount();
+        long semLoteMs = gravarAtletas("2", 1);
+        long preparadosSemLote = estatisticas.getPrepareStatementCount() - preparadosAntes;
+
+        preparadosAntes = estatisticas.getPrepareStatementCount();
+        long emLoteMs = gravarAtletas("3", null);
+        long preparadosEmLote = estatisticas.getPrepareStatementCount() - preparadosAntes;
+
+        log.info("{} atleta(s) sem lote JDBC: {} ms, {} linhas/s, {} comando(s) preparado(s)",
+                ATLETAS_COMPARACAO, semLoteMs, vazao(ATLETAS_COMPARACAO, semLoteMs), preparadosSemLote);
+        log.info("{} atleta(s) com lote JDBC: {} ms, {} linhas/s, {} comando(s) preparado(s)",
+                ATLETAS_COMPARACAO, emLoteMs, vazao(ATLETAS_COMPARACAO, emLoteMs), preparadosEmLote);
+
+        assertTrue(preparadosSemLote >= ATLETAS_COMPARACAO,
+                "Sem lote, cada atleta deveria ter o próprio INSERT: " + preparadosSemLote);
+        assertTrue(preparadosEmLote * 10 < preparadosSemLote,
+                "Com lote: " + preparadosEmLote + " comandos; sem lote: " + preparadosSemLote);
+    }
+
+    /**
+     * Persiste os atletas numa transação; tamanhoLote 1 desliga o lote JDBC só nesta sessão, null usa o configurado
+     */
+    private long gravarAtletas(String prefixoCpf, Integer tamanhoLote) {
+        long inicio = System.currentTimeMillis();
+        transactionTemplate.executeWithoutResult(status -> {
+            if (tamanhoLote != null) {
+                entityManager.unwrap(Session.class).setJdbcBatchSize(tamanhoLote);
+            }
+            EventoEntity evento = entityManager.getReference(EventoEntity.class, EVENTO);
+            CategoriaEntity categoria = entityManager.getReference(CategoriaEntity.class, CATEGORIA);
+            for (int i = 1; i <= ATLETAS_COMPARACAO; i++) {
+                entityManager.persist(AtletaEntity.builder()
+                        .nome("Atleta Lote " + i)
+                        .cpf(cpf(prefixoCpf, i))
+                        .dataNascimento(LocalDate.of(1995, 1, 1))
+                        .genero(Genero.MASCULINO)
+                        .aceitaTermos(true)
+                        .evento(evento)
+                        .categoria(categoria)
+                        .build());
+            }
+            entityManager.flush();
+        });
+        return System.currentTimeMillis() - inicio;
+    }
+
+    private Statistics estatisticas() {
+        Statistics estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        assertTrue(estatisticas.isStatisticsEnabled(), "hibernate.generate_statistics deveria estar ligado");
+        return estatisticas;
+    }
+
+    private static ByteArrayInputStream csv(String prefixoCpf, int linhas) {
+        StringBuilder csv = new StringBuilder("nome;cpf;data_nascimento;genero;categoria_id\n");
+        for (int i = 1; i <= linhas; i++) {
+            csv.append("Atleta Importação ").append(i).append(';').append(cpf(prefixoCpf, i))
+                    .append(";1995-01-01;M;").append(CATEGORIA).append('\n');
+        }
+        return new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String cpf(String prefixo, int numero) {
+        return prefixo + String.format("%010d", numero);
+    }
+
+    private static long vazao(int linhas, long duracaoMs) {
+        return duracaoMs > 0 ? linhas * 1000L / duracaoMs : linhas;
+    }
+}
@@ -0,0 +1,129 @@
+package br.com.eventsports.minha_inscricao.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+import br.com.eventsports.minha_inscricao.IntegracaoPostgres;
+import br.com.eventsports.minha_inscricao.dto.evento.EventoSummaryDTO;
+import br.com.eventsports.minha_inscricao.dto.inscricao.InscricaoSummaryDTO;
+import br.com.eventsports.minha_inscricao.dto.paginacao.PaginaCursorDTO;
+import br.com.eventsports.minha_inscricao.enums.StatusInscricao;
+import br.com.eventsports.minha_inscricao.util.PaginacaoUtil;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Listagens paginadas por cursor sobre uma massa grande (massa/listagens.sql): nenhuma página passa do limite
+ * padrão, o percurso completo entrega cada registro uma vez e a latência das páginas do fim é a mesma das do
+ * começo. Latências (p50/p95/máx) vão para o log, ao lado da leitura da categoria inteira de uma vez.
+ */
+@Slf4j
+@Sql(scripts = "/massa/listagens.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_CLASS)
+class ListagensPaginadasTest extends IntegracaoPostgres {
+
+    private static final long CATEGORIA = 3000001L;
+    private static final int INSCRICOES_CATEGORIA = 50000;
+    private static final int EVENTOS_POR_LISTA = 1000;
+
+    @Autowired
+    private InscricaoService inscricaoService;
+
+    @Autowired
+    private EventoService eventoService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void inscricoesDaCategoriaPercorremTodasAsPaginas() {
+        Percurso<InscricaoSummaryDTO> percurso = percorrer("inscrições da categoria",
+                after -> inscricaoService.findByCategoriaId(CATEGORIA, after, null), InscricaoSummaryDTO::getId);
+        assertEquals(INSCRICOES_CATEGORIA, percurso.ids().size());
+
+        long inicio = System.nanoTime();
+        List<Long> todas = jdbcTemplate.queryForList("SELECT id FROM inscricoes WHERE categoria_id = ?", Long.class, CATEGORIA);
+        log.info("Categoria inteira de uma vez (sem paginação): {} linhas em {} ms", todas.size(),
+                (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+    @Test
+    void listagensPorStatusSaoPaginadas() {
+        for (StatusInscricao status : List.of(StatusInscricao.CONFIRMADA, StatusInscricao.PENDENTE, StatusInscricao.CANCELADA)) {
+            Function<String, PaginaCursorDTO<InscricaoSummaryDTO>> listagem = switch (status) {
+                case CONFIRMADA -> after -> inscricaoService.findInscricoesConfirmadas(after, null);
+                case PENDENTE -> after -> inscricaoService.findInscricoesPendentes(after, null);
+                default -> after -> inscricaoService.findInscricoesCanceladas(after, null);
+            };
+            Percurso<InscricaoSummaryDTO> percurso = percorrer("inscrições " + status, listagem, InscricaoSummaryDTO::getId);
+            assertTrue(percurso.ids().size() >= INSCRICOES_CATEGORIA / 10, "Poucas inscrições " + status);
+        }
+    }
+
+    @Test
+    void eventosFuturosEEncerradosSaoPaginados() {
+        Percurso<EventoSummaryDTO> futuros = percorrer("eventos futuros",
+                after -> eventoService.findEventosUpcoming(after, null), EventoSummaryDTO::getId);
+        Percurso<EventoSummaryDTO> encerrados = percorrer("eventos encerrados",
+                after -> eventoService.findEventosPast(after, null), EventoSummaryDTO::getId);
+
+        assertTrue(futuros.ids().size() >= EVENTOS_POR_LISTA);
+        assertTrue(encerrados.ids().size() >= EVENTOS_POR_LISTA);
+        for (int i = 1; i < encerrados.itens().size(); i++) {
+            assertTrue(!encerrados.itens().get(i).getDataFimDoEvento().isAfter(encerrados.itens().get(i - 1).getDataFimDoEvento()),
+                    "Eventos encerrados fora de ordem na posição " + i);
+        }
+    }
+
+    private record Percurso<T>(List<T> itens, Set<Long> ids) {
+    }
+
+    /**
+     * Segue os cursores até a última página, medindo cada uma; sem limit, vale o padrão
+     */
+    private <T> Percurso<T> percorrer(String nome, Function<String, PaginaCursorDTO<T>> listagem, ToLongFunction<T> id) {
+        List<T> itens = new ArrayList<>();
+        Set<Long> ids = new HashSet<>();
+        List<Long> latencias = new ArrayList<>();
+        String cursor = null;
+        do {
+            long inicio = System.nanoTime();
+            PaginaCursorDTO<T> pagina = listagem.apply(cursor);
+            latencias.add((System.nanoTime() - inicio) / 1000);
+
+            assertTrue(pagina.getItens().size() <= PaginacaoUtil.LIMITE_PADRAO,
+                    nome + ": página com " + pagina.getItens().size() + " itens");
+            for (T item : pagina.getItens()) {
+                assertTrue(ids.add(id.applyAsLong(item)), nome + ": item repetido entre páginas: " + id.applyAsLong(item));
+            }
+            itens.addAll(pagina.getItens());
+            cursor = pagina.getProximoCursor();
+        } while (cursor != null);
+
+        int fatia = Math.max(1, latencias.size() / 10);
+        log.info("{}: {} itens em {} páginas; µs por página primeiras {} [{}], últimas {} [{}]", nome, itens.size(),
+                latencias.size(), fatia, resumo(latencias.subList(0, fatia)), fatia,
+                resumo(latencias.subList(latencias.size() - fatia, latencias.size())));
+        return new Percurso<>(itens, ids);
+    }
+
+    private static String resumo(List<Long> latencias) {
+        List<Long> ordenadas = latencias.stream().sorted().toList();
+        return "p50=" + percentil(ordenadas, 50) + " p95=" + percentil(ordenadas, 95) + " máx=" + ordenadas.get(ordenadas.size() - 1);
+    }
+
+    private static long percentil(List<Long> ordenadas, int percentil) {
+        int indice = (int) Math.ceil(percentil / 100.0 * ordenadas.size()) - 1;
+        return ordenadas.get(Math.max(0, indice));
+    }
+}
@@ -0,0 +1,208 @@
+package br.com.eventsports.minha_inscricao.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import br.com.eventsports.minha_inscricao.config.CamposResponseBodyAdvice;
+import br.com.eventsports.minha_inscricao.config.CompressaoConfig;
+import br.com.eventsports.minha_inscricao.config.FormatosBinariosConfig;
+import br.com.eventsports.minha_inscricao.dto.leaderboard.LeaderboardRankingDTO;
+import br.com.eventsports.minha_inscricao.dto.leaderboard.WorkoutPosicaoDTO;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Ranking de 1.000 participantes nos três formatos: bytes sem e com gzip e CPU de serialização.
+ * Teste de unidade, sem contexto Spring nem banco: os ObjectMappers saem do Jackson2ObjectMapperBuilder
+ * com as opções spring.jackson.* do application.properties e os conversores binários de
+ * FormatosBinariosConfig, como na aplicação. Os números vão para o log do teste; as asserções cobrem a
+ * negociação, o ETag e o cache do corpo compactado.
+ */
+@Slf4j
+class RespostaCompactadaServiceTest {
+
+    private static final int PARTICIPANTES = 1000;
+    private static final int AQUECIMENTO = 200;
+    private static final int MEDICOES = 500;
+
+    private static List<LeaderboardRankingDTO> ranking;
+
+    private ObjectMapper objectMapper;
+    private MappingJackson2CborHttpMessageConverter cborHttpMessageConverter;
+    private MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter;
+    private RespostaCompactadaService respostaCompactadaService;
+
+    private enum Formato {
+        JSON(MediaType.APPLICATION_JSON),
+        CBOR(MediaType.APPLICATION_CBOR),
+        SMILE(FormatosBinariosConfig.APPLICATION_SMILE);
+
+        private final MediaType tipo;
+
+        Formato(MediaType tipo) {
+            this.tipo = tipo;
+        }
+    }
+
+    @BeforeAll
+    static void montarRanking() {
+        ranking = IntStream.rangeClosed(1, PARTICIPANTES)
+                .mapToObj(posicao -> LeaderboardRankingDTO.builder()
+                        .posicao(posicao)
+                        .nomeParticipante("Atleta " + posicao)
+                        .pontuacaoTotal(posicao * 4)
+                        .isEquipe(false)
+                        .participanteId(100000L + posicao)
+                        .nomeCategoria("RX Masculino")
+                        .workoutsCompletados(4L)
+                        .posicoesWorkouts(IntStream.rangeClosed(1, 4)
+                                .mapToObj(workout -> WorkoutPosicaoDTO.builder()
+                                        .workoutId((long) workout)
+                                        .nomeWorkout("Workout " + workout)
+                                        .posicaoWorkout(posicao)
+                                        .resultadoFormatado((200 - posicao % 200) + " reps")
+                                        .build())
+                                .toList())
+                        .build())
+                .toList();
+    }
+
+    @BeforeEach
+    void montarServico() {
+        FormatosBinariosConfig formatosBinariosConfig = new FormatosBinariosConfig();
+        objectMapper = construtorObjectMapper().build();
+        cborHttpMessageConverter = formatosBinariosConfig.cborHttpMessageConverter(construtorObjectMapper());
+        smileHttpMessageConverter = formatosBinariosConfig.smileHttpMessageConverter(construtorObjectMapper());
+        respostaCompactadaService = new RespostaCompactadaService(objectMapper, cborHttpMessageConverter,
+                smileHttpMessageConverter, new CamposResponseBodyAdvice(objectMapper), new CompressaoConfig());
+    }
+
+    @Test
+    void comparaBytesECpuDosFormatos() {
+        Map<Formato, Integer> bytes = new EnumMap<>(Formato.class);
+        Map<Formato, Integer> bytesGzip = new EnumMap<>(Formato.class);
+
+        for (Formato formato : Formato.values()) {
+            ResponseEntity<byte[]> semGzip = respostaCompactadaService.responder(ranking, cabecalhos(formato, false));
+            ResponseEntity<byte[]> comGzip = respostaCompactadaService.responder(ranking, cabecalhos(formato, true));
+
+            assertEquals(formato.tipo, semGzip.getHeaders().getContentType());
+            assertNull(semGzip.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+            assertEquals("gzip", comGzip.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+            assertArrayEquals(semGzip.getBody(), descompactar(comGzip.getBody()));
+
+            bytes.put(formato, semGzip.getBody().length);
+            bytesGzip.put(formato, comGzip.getBody().length);
+            log.info("Ranking de {} linhas em {}: {} bytes, {} bytes com gzip, {} µs de CPU por serialização",
+                    PARTICIPANTES, formato, semGzip.getBody().length, comGzip.getBody().length,
+                    String.format("%.1f", microssegundosDeCpu(formato)));
+        }
+
+        assertTrue(bytes.get(Formato.CBOR) < bytes.get(Formato.JSON), "CBOR deveria ser menor que JSON: " + bytes);
+        assertTrue(bytes.get(Formato.SMILE) < bytes.get(Formato.JSON), "Smile deveria ser menor que JSON: " + bytes);
+        bytes.forEach((formato, tamanho) -> assertTrue(bytesGzip.get(formato) < tamanho,
+                "gzip deveria reduzir " + formato + ": " + tamanho + " -> " + bytesGzip.get(formato)));
+    }
+
+    @Test
+    void respondeNaoModificadoEReaproveitaCorpoCompactado() {
+        HttpHeaders cabecalhos = cabecalhos(Formato.CBOR, true);
+        ResponseEntity<byte[]> primeira = respostaCompactadaService.responder(ranking, cabecalhos);
+        ResponseEntity<byte[]> segunda = respostaCompactadaService.responder(ranking, cabecalhos);
+
+        // Mesmo ranking, mesmo ETag: o corpo compactado sai do cache, sem compactar de novo
+        assertEquals(primeira.getHeaders().getETag(), segunda.getHeaders().getETag());
+        assertSame(primeira.getBody(), segunda.getBody());
+
+        HttpHeaders condicional = cabecalhos(Formato.CBOR, true);
+        condicional.setIfNoneMatch(primeira.getHeaders().getETag());
+        ResponseEntity<byte[]> naoModificado = respostaCompactadaService.responder(ranking, condicional);
+        assertEquals(HttpStatus.NOT_MODIFIED, naoModificado.getStatusCode());
+        assertNull(naoModificado.getBody());
+    }
+
+    @Test
+    void usaJsonQuandoAcceptNaoPedeFormatoBinario() {
+        HttpHeaders cabecalhos = new HttpHeaders();
+        cabecalhos.setAccept(List.of(MediaType.TEXT_HTML, MediaType.ALL));
+        ResponseEntity<byte[]> resposta = respostaCompactadaService.responder(ranking, cabecalhos);
+        assertEquals(MediaType.APPLICATION_JSON, resposta.getHeaders().getContentType());
+    }
+
+    /**
+     * CPU da thread por serialização (ThreadMXBean), depois do aquecimento do JIT
+     */
+    private double microssegundosDeCpu(Formato formato) {
+        ObjectMapper mapper = switch (formato) {
+            case JSON -> objectMapper;
+            case CBOR -> cborHttpMessageConverter.getObjectMapper();
+            case SMILE -> smileHttpMessageConverter.getObjectMapper();
+        };
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        try {
+            for (int i = 0; i < AQUECIMENTO; i++) {
+                mapper.writeValueAsBytes(ranking);
+            }
+            long inicio = threads.getCurrentThreadCpuTime();
+            for (int i = 0; i < MEDICOES; i++) {
+                mapper.writeValueAsBytes(ranking);
+            }
+            return (threads.getCurrentThreadCpuTime() - inicio) / 1000.0 / MEDICOES;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Um builder por mapper (o factory() altera o builder), como o bean prototype do Spring Boot
+     */
+    private static Jackson2ObjectMapperBuilder construtorObjectMapper() {
+        return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .timeZone(TimeZone.getTimeZone("America/Sao_Paulo"));
+    }
+
+    private static HttpHeaders cabecalhos(Formato formato, boolean gzip) {
+        HttpHeaders cabecalhos = new HttpHeaders();
+        cabecalhos.setAccept(List.of(formato.tipo));
+        if (gzip) {
+            cabecalhos.set(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate");
+        }
+        return cabecalhos;
+    }
+
+    private static byte[] descompactar(byte[] dados) {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(dados))) {
+            return gzip.readAllBytes();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+-- Massa para os testes de importação: um evento com uma categoria individual aberta, sem limite de vagas,
+-- gênero ou idade. IDs a partir de 2000000, para não colidir com as outras massas.
+
+INSERT INTO usuarios (id, nome, email, senha, aceita_termos, verificado, ativo, tipo_usuario, created_at)
+VALUES (2000001, 'Organizador Importação', 'organizador.importacao@teste.com', 'x', true, true, true, 'ORGANIZADOR', now());
+
+INSERT INTO eventos (id, nome, data_inicio_evento, data_fim_evento, status, cidade, estado, organizador_id,
+                     created_at, updated_at)
+VALUES (2000001, 'Evento Importação', now() + interval '30 days', now() + interval '32 days', 'ABERTO',
+        'São Paulo', 'SP', 2000001, now(), now());
+
+INSERT INTO categorias (id, evento_id, nome, tipo_participacao, quantidade_atletas_por_equipe, valor_inscricao,
+                        ativa, created_at, updated_at)
+VALUES (2000001, 2000001, 'Individual Aberta', 'INDIVIDUAL', 1, 150.00, true, now(), now());
+
+INSERT INTO contadores_eventos (evento_id) VALUES (2000001);
+INSERT INTO contadores_categorias (categoria_id) VALUES (2000001);
@@ -0,0 +1,34 @@
+-- Massa para o teste de latência das listagens paginadas: 1.000 eventos futuros e 1.000 encerrados, e uma
+-- categoria com 50.000 inscrições (sem atleta, que a listagem não exige). IDs a partir de 3000000, para não
+-- colidir com as outras massas.
+
+INSERT INTO usuarios (id, nome, email, senha, aceita_termos, verificado, ativo, tipo_usuario, created_at)
+VALUES (3000001, 'Organizador Listagens', 'organizador.listagens@teste.com', 'x', true, true, true, 'ORGANIZADOR', now());
+
+INSERT INTO eventos (id, nome, data_inicio_evento, data_fim_evento, status, cidade, estado, organizador_id,
+                     created_at, updated_at)
+SELECT 3000000 + e, 'Evento Futuro ' || e, now() + e * interval '1 hour', now() + e * interval '1 hour' + interval '2 days',
+       'ABERTO', 'Curitiba', 'PR', 3000001, now(), now()
+FROM generate_series(1, 1000) e;
+
+INSERT INTO eventos (id, nome, data_inicio_evento, data_fim_evento, status, cidade, estado, organizador_id,
+                     created_at, updated_at)
+SELECT 3001000 + e, 'Evento Encerrado ' || e, now() - e * interval '1 hour' - interval '2 days', now() - e * interval '1 hour',
+       'FINALIZADO', 'Curitiba', 'PR', 3000001, now(), now()
+FROM generate_series(1, 1000) e;
+
+INSERT INTO categorias (id, evento_id, nome, tipo_participacao, quantidade_atletas_por_equipe, valor_inscricao,
+                        ativa, created_at, updated_at)
+VALUES (3000001, 3000001, 'Categoria Lotada', 'INDIVIDUAL', 1, 150.00, true, now(), now());
+
+INSERT INTO inscricoes (id, categoria_id, evento_id, usuario_inscricao_id, status, valor, data_inscricao,
+                        termos_aceitos, created_at)
+SELECT 3000000 + i, 3000001, 3000001, 3000001,
+       CASE WHEN i % 10 < 7 THEN 'CONFIRMADA' WHEN i % 10 < 9 THEN 'PENDENTE' ELSE 'CANCELADA' END,
+       150.00, now() - (50000 - i) * interval '1 minute', true, now()
+FROM generate_series(1, 50000) i;
+
+INSERT INTO contadores_eventos (evento_id) SELECT id FROM eventos WHERE id > 3000000 ON CONFLICT DO NOTHING;
+INSERT INTO contadores_categorias (categoria_id) VALUES (3000001) ON CONFLICT DO NOTHING;
+
+ANALYZE usuarios, eventos, categorias, inscricoes;
@@ -0,0 +1,71 @@
+-- Massa para os testes de plano de consulta: 200 eventos com 5 categorias (3 individuais, 2 de equipe) e
+-- 4 workouts cada, 20 atletas por categoria, 5 equipes por categoria de equipe, uma inscrição por atleta
+-- (70% confirmadas) e o resultado de cada participante em cada workout. IDs a partir de 1000000, para
+-- não colidir com os dados das migrações.
+
+INSERT INTO usuarios (id, nome, email, senha, aceita_termos, verificado, ativo, tipo_usuario, created_at)
+VALUES (1000001, 'Organizador Planos', 'organizador.planos@teste.com', 'x', true, true, true, 'ORGANIZADOR', now());
+
+INSERT INTO eventos (id, nome, data_inicio_evento, data_fim_evento, status, cidade, estado, organizador_id,
+                     created_at, updated_at)
+SELECT 1000000 + e, 'Evento ' || e, now() + e * interval '1 day', now() + e * interval '1 day' + interval '2 days',
+       'ABERTO', 'São Paulo', 'SP', 1000001, now(), now()
+FROM generate_series(1, 200) e;
+
+INSERT INTO categorias (id, evento_id, nome, tipo_participacao, quantidade_atletas_por_equipe, valor_inscricao,
+                        ativa, created_at, updated_at)
+SELECT 1000000 + (e - 1) * 5 + c, 1000000 + e, 'Categoria ' || c,
+       CASE WHEN c <= 3 THEN 'INDIVIDUAL' ELSE 'EQUIPE' END, CASE WHEN c <= 3 THEN 1 ELSE 4 END,
+       150.00, true, now(), now()
+FROM generate_series(1, 200) e, generate_series(1, 5) c;
+
+INSERT INTO workouts (id, evento_id, nome, tipo, ativo, created_at, updated_at)
+SELECT 1000000 + (e - 1) * 4 + w, 1000000 + e, 'Workout ' || w, 'REPS', true, now(), now()
+FROM generate_series(1, 200) e, generate_series(1, 4) w;
+
+INSERT INTO workout_categorias (workout_id, categoria_id)
+SELECT 1000000 + (e - 1) * 4 + w, 1000000 + (e - 1) * 5 + c
+FROM generate_series(1, 200) e, generate_series(1, 4) w, generate_series(1, 5) c;
+
+-- k = índice global da categoria (1..1000); o evento da categoria é (k - 1) / 5 + 1
+INSERT INTO atletas (id, nome, data_nascimento, genero, aceita_termos, evento_id, categoria_id, created_at)
+SELECT 1000000 + (k - 1) * 20 + a, 'Atleta ' || k || '-' || a, date '1985-01-01' + a * 200,
+       CASE WHEN a % 2 = 0 THEN 'MASCULINO' ELSE 'FEMININO' END, true,
+       1000000 + (k - 1) / 5 + 1, 1000000 + k, now()
+FROM generate_series(1, 1000) k, generate_series(1, 20) a;
+
+INSERT INTO equipes (id, nome, ativa, capitao_id, categoria_id, evento_id, created_at)
+SELECT 1000000 + (k - 1) * 5 + q, 'Equipe ' || k || '-' || q, true, 1000000 + (k - 1) * 20 + (q - 1) * 4 + 1,
+       1000000 + k, 1000000 + (k - 1) / 5 + 1, now()
+FROM generate_series(1, 1000) k, generate_series(1, 5) q
+WHERE (k - 1) % 5 >= 3;
+
+INSERT INTO inscricoes (id, atleta_id, categoria_id, evento_id, equipe_id, usuario_inscricao_id, status, valor,
+                        data_inscricao, termos_aceitos, created_at)
+SELECT 1000000 + (k - 1) * 20 + a, 1000000 + (k - 1) * 20 + a, 1000000 + k, 1000000 + (k - 1) / 5 + 1,
+       CASE WHEN (k - 1) % 5 >= 3 AND (a - 1) % 4 = 0 THEN 1000000 + (k - 1) * 5 + (a - 1) / 4 + 1 END,
+       1000001,
+       CASE WHEN a % 20 < 14 THEN 'CONFIRMADA' WHEN a % 20 < 17 THEN 'PENDENTE'
+            WHEN a % 20 < 19 THEN 'CANCELADA' ELSE 'LISTA_ESPERA' END,
+       150.00, now() - a * interval '1 hour', true, now()
+FROM generate_series(1, 1000) k, generate_series(1, 20) a;
+
+-- Resultados: atletas nas categorias individuais, equipes nas categorias de equipe; workout 4 ainda aberto
+INSERT INTO leaderboards (id, categoria_id, evento_id, workout_id, atleta_id, posicao_workout, resultado_reps,
+                          finalizado, created_at)
+SELECT 1000000 + ((k - 1) * 20 + (a - 1)) * 4 + w, 1000000 + k, 1000000 + (k - 1) / 5 + 1,
+       1000000 + ((k - 1) / 5) * 4 + w, 1000000 + (k - 1) * 20 + a, a, 200 - a, w <= 3, now()
+FROM generate_series(1, 1000) k, generate_series(1, 20) a, generate_series(1, 4) w
+WHERE (k - 1) % 5 < 3;
+
+INSERT INTO leaderboards (id, categoria_id, evento_id, workout_id, equipe_id, posicao_workout, resultado_reps,
+                          finalizado, created_at)
+SELECT 1100000 + ((k - 1) * 5 + (q - 1)) * 4 + w, 1000000 + k, 1000000 + (k - 1) / 5 + 1,
+       1000000 + ((k - 1) / 5) * 4 + w, 1000000 + (k - 1) * 5 + q, q, 200 - q, w <= 3, now()
+FROM generate_series(1, 1000) k, generate_series(1, 5) q, generate_series(1, 4) w
+WHERE (k - 1) % 5 >= 3;
+
+INSERT INTO contadores_eventos (evento_id) SELECT id FROM eventos WHERE id > 1000000 ON CONFLICT DO NOTHING;
+INSERT INTO contadores_categorias (categoria_id) SELECT id FROM categorias WHERE id > 1000000 ON CONFLICT DO NOTHING;
+
+ANALYZE usuarios, eventos, categorias, workouts, workout_categorias, atletas, equipes, inscricoes, leaderboards;